@@ -246,6 +246,29 @@ CREATE TABLE IF NOT EXISTS pnl_snapshot (
 
 CREATE INDEX IF NOT EXISTS ix_pnl_snapshot_owner_captured_at ON pnl_snapshot(owner_id, captured_at);
 
+-- 2.7.1 reconcile_cursor (closed order history resume position; composite PK)
+CREATE TABLE IF NOT EXISTS reconcile_cursor (
+  owner_id        bigint NOT NULL,
+  market          varchar(32) NOT NULL,
+  cursor_time     timestamptz NOT NULL,
+  boundary_uuids  text,
+  created_at      timestamptz NOT NULL DEFAULT now(),
+  updated_at      timestamptz NOT NULL DEFAULT now(),
+  PRIMARY KEY (owner_id, market)
+);
+
+-- 2.7.2 indicator_snapshot (indicator state snapshot, data-model §2.17; derived, composite PK)
+CREATE TABLE IF NOT EXISTS indicator_snapshot (
+  market      varchar(32) NOT NULL,
+  timeframe   varchar(16) NOT NULL,
+  spec_key    varchar(128) NOT NULL,
+  candle_time timestamptz NOT NULL,
+  state       bytea NOT NULL,
+  created_at  timestamptz NOT NULL DEFAULT now(),
+  updated_at  timestamptz NOT NULL DEFAULT now(),
+  PRIMARY KEY (market, timeframe)
+);
+
 -- -----------------------------------------------------------------------------
 -- 2.8) Candle cache (backtest canonical source; UNIQUE(market, timeframe, candle_time))
 -- -----------------------------------------------------------------------------
@@ -345,3 +368,16 @@ CREATE TABLE IF NOT EXISTS backtest_result (
   created_at        timestamptz NOT NULL DEFAULT now(),
   updated_at        timestamptz NOT NULL DEFAULT now()
 );
+
+-- candle_backfill_cursor (candle backfill resume position, data-model §5.3; composite PK)
+-- covered_ranges: big-endian int64 (from, to) epoch ms pairs; NULL means the single [covered_from, covered_to] range
+CREATE TABLE IF NOT EXISTS candle_backfill_cursor (
+  market         varchar(32) NOT NULL,
+  timeframe      varchar(16) NOT NULL,
+  covered_from   timestamptz NOT NULL,
+  covered_to     timestamptz NOT NULL CHECK (covered_to >= covered_from),
+  covered_ranges bytea,
+  created_at     timestamptz NOT NULL DEFAULT now(),
+  updated_at     timestamptz NOT NULL DEFAULT now(),
+  PRIMARY KEY (market, timeframe)
+);
@@ -0,0 +1,55 @@
+package com.everbit.everbit.integrations.upbit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 서명 경로 비교: 호출마다 Algorithm/MessageDigest 생성(UpbitJwtProvider) vs 캐시 서명기(UpbitJwtSigner).
+ * 실행: ./gradlew jmh  (결과: build/results/jmh/results.txt)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class UpbitJwtSigningBenchmark {
+
+	private static final String ACCESS_KEY = "xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx";
+	private static final String SECRET_KEY = "yyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyyy";
+	private static final String QUERY = "market=KRW-BTC&side=bid&volume=0.01&price=100000000&ord_type=limit";
+
+	private UpbitJwtSignerCache cache;
+
+	@Setup
+	public void setUp() {
+		cache = new UpbitJwtSignerCache();
+	}
+
+	@Benchmark
+	public String providerPerCall() {
+		return UpbitJwtProvider.createToken(ACCESS_KEY, SECRET_KEY, QUERY);
+	}
+
+	@Benchmark
+	public String cachedSigner() {
+		return cache.signerFor(ACCESS_KEY, SECRET_KEY).sign(QUERY);
+	}
+
+	@Benchmark
+	public String cachedSignerNoQuery() {
+		return cache.signerFor(ACCESS_KEY, SECRET_KEY).sign("");
+	}
+}
@@ -0,0 +1,121 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.OrderRequest;
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import com.everbit.everbit.integrations.upbit.sim.LatencyModel;
+import com.everbit.everbit.integrations.upbit.sim.UpbitSimulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 경로 부하/지연: UpbitExchangeClient → 로컬 시뮬레이터(src/test, §5.1.6). SoT: docs/integrations/upbit.md §5.1.7.
+ * 주문 생성 1스레드와 주문 조회 3스레드를 동시에 돌려 레이트리미터 대기·JWT 서명·전송·역직렬화를 포함한
+ * 호출 지연 분포(p50/p99)를 전송 계층과 응답 지연 분포별로 잰다. order 그룹(8/s)·default 그룹(30/s) 한도는 실제와 같다.
+ * 실패(429·5xx·회로 차단)는 측정을 멈추지 않고 세어 두었다가 끝날 때 출력한다. 빠른 실패가 지연 분포를 끌어내리므로 함께 본다.
+ * 실행: ./gradlew jmh  (결과: build/results/jmh/results.txt)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class UpbitOrderPathBenchmark {
+
+	@Param({"POOLED", "JDK", "SIMPLE"})
+	public UpbitHttpTransport transport;
+
+	/** 시뮬레이터 응답 지연 중앙값(ms). 0이면 지연 없음, 아니면 로그정규(sigma 0.5). */
+	@Param({"0", "30"})
+	public long medianLatencyMillis;
+
+	private final AtomicLong failures = new AtomicLong();
+
+	private UpbitSimulator simulator;
+	private ClientHttpRequestFactory requestFactory;
+	private UpbitExchangeClient client;
+	private String accessKey;
+	private String secretKey;
+	private volatile String lastUuid;
+
+	@Setup
+	public void setUp() {
+		UpbitSimulator.Builder builder = UpbitSimulator.builder()
+			.latency(medianLatencyMillis == 0 ? LatencyModel.none() : LatencyModel.logNormal(medianLatencyMillis, 0.5))
+			.fillStep(0.1)
+			.balance("KRW", "1000000000000");
+		accessKey = builder.accessKey();
+		secretKey = builder.secretKey();
+		simulator = builder.start();
+
+		UpbitProperties properties = new UpbitProperties(simulator.baseUrl(), 0, 0, 0, transport,
+			0, 0, 0, 0, 0, 0, 0, 0, 0);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		requestFactory = new UpbitRestTemplateConfig().upbitClientHttpRequestFactory(properties, registry);
+		client = new UpbitExchangeClient(properties, new RestTemplate(requestFactory),
+			new UpbitRateLimiter(properties, registry), new UpbitJwtSignerCache(), new UpbitReadCoalescer(registry),
+			new UpbitCircuitBreaker(properties, Clock.systemUTC(), event -> { }, registry));
+		lastUuid = client.createOrder(accessKey, secretKey, limitBid()).uuid();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		System.out.printf("%n[%s, latency=%dms] failures=%d, requests=%d%n",
+			transport, medianLatencyMillis, failures.get(), simulator.requestCount());
+		simulator.close();
+		if (requestFactory instanceof DisposableBean disposable) {
+			disposable.destroy();
+		}
+	}
+
+	@Benchmark
+	@Group("orderPath")
+	@GroupThreads(1)
+	public OrderResponse createOrder() {
+		try {
+			OrderResponse created = client.createOrder(accessKey, secretKey, limitBid());
+			lastUuid = created.uuid();
+			return created;
+		} catch (UpbitException e) {
+			failures.incrementAndGet();
+			return null;
+		}
+	}
+
+	@Benchmark
+	@Group("orderPath")
+	@GroupThreads(3)
+	public OrderResponse getOrder() {
+		try {
+			return client.getOrder(accessKey, secretKey, lastUuid, null);
+		} catch (UpbitException e) {
+			failures.incrementAndGet();
+			return null;
+		}
+	}
+
+	private static OrderRequest limitBid() {
+		return OrderRequest.createLimit("KRW-BTC", OrderRequest.SIDE_BID, "0.0001", "50000000", UUID.randomUUID().toString());
+	}
+}
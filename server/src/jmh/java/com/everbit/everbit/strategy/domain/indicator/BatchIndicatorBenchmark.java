@@ -0,0 +1,104 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100만 캔들 지표 계산 비교: O(1) 지표를 캔들마다 갱신 vs 배치(스칼라) vs 배치(SIMD).
+ * 세 경우 모두 기본 IndicatorSpec 구성의 SMA(20)·표준편차(20)·EMA(50)·RSI(14)·ATR(14) 전체 시계열을 만든다.
+ * 실행: ./gradlew jmh  (결과: build/results/jmh/results.txt)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class BatchIndicatorBenchmark {
+
+	@Param("1000000")
+	private int candles;
+
+	private double[] high;
+	private double[] low;
+	private double[] close;
+	private double[] sma;
+	private double[] std;
+	private double[] ema;
+	private double[] rsi;
+	private double[] atr;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		high = new double[candles];
+		low = new double[candles];
+		close = new double[candles];
+		sma = new double[candles];
+		std = new double[candles];
+		ema = new double[candles];
+		rsi = new double[candles];
+		atr = new double[candles];
+		double price = 50_000_000;
+		for (int i = 0; i < candles; i++) {
+			price = Math.max(1_000_000, price + random.nextGaussian() * 50_000);
+			close[i] = Math.round(price);
+			high[i] = close[i] + Math.round(random.nextDouble() * 30_000);
+			low[i] = close[i] - Math.round(random.nextDouble() * 30_000);
+		}
+		if (!BatchIndicators.get().isVectorized()) {
+			throw new IllegalStateException("Vector API not available for the SIMD benchmark");
+		}
+	}
+
+	@Benchmark
+	public void incremental(Blackhole blackhole) {
+		Bollinger bollinger = new Bollinger(20, 2.0);
+		Ema e = new Ema(50);
+		WilderRsi r = new WilderRsi(14);
+		Atr a = new Atr(14);
+		for (int i = 0; i < candles; i++) {
+			bollinger.update(close[i]);
+			e.update(close[i]);
+			r.update(close[i]);
+			a.update(high[i], low[i], close[i]);
+			sma[i] = bollinger.middle();
+			std[i] = bollinger.standardDeviation();
+			ema[i] = e.value();
+			rsi[i] = r.value();
+			atr[i] = a.value();
+		}
+		blackhole.consume(sma);
+		blackhole.consume(std);
+		blackhole.consume(ema);
+		blackhole.consume(rsi);
+		blackhole.consume(atr);
+	}
+
+	@Benchmark
+	public void batchScalar(Blackhole blackhole) {
+		batch(BatchIndicators.scalar(), blackhole);
+	}
+
+	@Benchmark
+	public void batchVector(Blackhole blackhole) {
+		batch(BatchIndicators.get(), blackhole);
+	}
+
+	private void batch(BatchIndicators batch, Blackhole blackhole) {
+		blackhole.consume(batch.series(high, low, close, IndicatorSpec.defaults()));
+	}
+}
@@ -0,0 +1,20 @@
+package com.everbit.everbit.backtest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 열 단위 캔들 저장소 설정. SoT: docs/architecture/data-model.md §5.4.
+ * directory: 시리즈별 열 파일을 두는 루트(로컬 디스크, 지워도 candle_cache에서 다시 만든다).
+ */
+@ConfigurationProperties(prefix = "backtest.candle-store")
+public record CandleStoreProperties(
+	String directory
+) {
+	public static final String DEFAULT_DIRECTORY = "data/candle-store";
+
+	public CandleStoreProperties {
+		if (directory == null || directory.isBlank()) {
+			directory = DEFAULT_DIRECTORY;
+		}
+	}
+}
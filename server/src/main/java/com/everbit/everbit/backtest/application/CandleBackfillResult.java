@@ -0,0 +1,21 @@
+package com.everbit.everbit.backtest.application;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캔들 백필 1회 결과.
+ *
+ * @param series       요청한 (market, timeframe) 조합 수
+ * @param failedSeries 실패한 조합("KRW-BTC/15"). 다음 실행이 진행 위치부터 이어 받는다
+ * @param requests     Upbit 캔들 조회 호출 수
+ * @param written      candle_cache에 쓴 캔들 수
+ * @param elapsed      걸린 시간
+ */
+public record CandleBackfillResult(int series, List<String> failedSeries, long requests, long written, Duration elapsed) {
+
+	public double candlesPerSecond() {
+		long millis = elapsed.toMillis();
+		return millis == 0 ? 0 : written * 1000d / millis;
+	}
+}
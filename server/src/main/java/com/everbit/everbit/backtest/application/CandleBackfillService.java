@@ -0,0 +1,257 @@
+package com.everbit.everbit.backtest.application;
+
+import com.everbit.everbit.backtest.domain.CandleBackfillCursor;
+import com.everbit.everbit.backtest.domain.CandleBackfillCursorId;
+import com.everbit.everbit.backtest.domain.CandleCache;
+import com.everbit.everbit.backtest.repository.CandleBackfillCursorRepository;
+import com.everbit.everbit.backtest.repository.CandleCacheRepository;
+import com.everbit.everbit.integrations.upbit.UpbitApiException;
+import com.everbit.everbit.integrations.upbit.UpbitQuotationClient;
+import com.everbit.everbit.integrations.upbit.UpbitRateLimitException;
+import com.everbit.everbit.integrations.upbit.dto.CandleResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Upbit 캔들 → candle_cache 대량 백필. SoT: docs/integrations/upbit.md §2.1, docs/architecture/data-model.md §5.0, §5.3.
+ * (market, timeframe) 조합마다 작업 하나를 CONCURRENCY개 스레드에서 동시에 돌린다. 호출 속도는 CANDLE 그룹 레이트리미터가 맞춘다.
+ * 구간을 200개(조회 1회 상한) 단위 조각으로 나눠 오래된 쪽부터 진행하고, 조각마다
+ * 이미 있는 candle_time(종료 시각)을 빼서 빠진 캔들이 있을 때만 조회한 뒤 빠진 것만 JDBC batch upsert로 쓴다.
+ * 조각을 끝낼 때마다 candle_backfill_cursor에 받은 구간을 남기므로 중단돼도 다음 실행이 이어 받는다.
+ * 백필 스레드는 서비스가 들고 있고, 구멍 재적재({@link CandleGapScanner})도 같은 스레드에서 돈다(공용 스케줄러를 잡지 않음).
+ */
+@Slf4j
+@Service
+public class CandleBackfillService {
+
+	private static final int CONCURRENCY = 4;
+	private static final int MAX_ATTEMPTS = 5;
+	private static final long RETRY_BACKOFF_MILLIS = 500;
+
+	private final UpbitQuotationClient quotationClient;
+	private final CandleCacheRepository candleCacheRepository;
+	private final CandleBackfillCursorRepository cursorRepository;
+	private final Clock clock;
+	private final Counter written;
+	private final Counter requests;
+	private final Counter failures;
+	/** 마지막(또는 진행 중) 실행의 초당 적재 캔들 수. */
+	private final AtomicLong lastRateBits = new AtomicLong(Double.doubleToLongBits(0));
+	private final ExecutorService executor;
+
+	public CandleBackfillService(UpbitQuotationClient quotationClient, CandleCacheRepository candleCacheRepository,
+		CandleBackfillCursorRepository cursorRepository, Clock clock, MeterRegistry meterRegistry) {
+		this.quotationClient = quotationClient;
+		this.candleCacheRepository = candleCacheRepository;
+		this.cursorRepository = cursorRepository;
+		this.clock = clock;
+		this.written = Counter.builder("candle.backfill.written")
+			.description("백필로 candle_cache에 쓴 캔들 수")
+			.register(meterRegistry);
+		this.requests = Counter.builder("candle.backfill.requests")
+			.description("백필 캔들 조회 호출 수")
+			.register(meterRegistry);
+		this.failures = Counter.builder("candle.backfill.failures")
+			.description("실패한 (market, timeframe) 백필 작업 수")
+			.register(meterRegistry);
+		Gauge.builder("candle.backfill.rate", lastRateBits, bits -> Double.longBitsToDouble(bits.get()))
+			.description("마지막 백필의 초당 적재 캔들 수")
+			.baseUnit("candles/s")
+			.register(meterRegistry);
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(CONCURRENCY, r -> {
+			Thread t = new Thread(r, "candle-backfill-" + threadIndex.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 백필 스레드에서 작업 하나를 돌린다. 끝나기를 기다리지 않는다.
+	 */
+	void submit(Runnable task) {
+		executor.execute(task);
+	}
+
+	/**
+	 * markets × timeframes 전부를 [from, to] 구간(캔들 종료 시각 기준)으로 채운다. 끝날 때까지 블록한다.
+	 * to가 현재보다 뒤면 현재까지(확정된 캔들만).
+	 *
+	 * @param timeframes 분 단위(1, 3, 5, 10, 15, 30, 60, 240, 1440)
+	 */
+	public CandleBackfillResult backfill(List<String> markets, List<Integer> timeframes, Instant from, Instant to) {
+		Instant now = clock.instant();
+		Instant until = to.isAfter(now) ? now : to;
+		long startedNanos = System.nanoTime();
+		Map<String, Future<SeriesResult>> futures = new LinkedHashMap<>();
+		try {
+			for (String market : markets) {
+				for (int timeframe : timeframes) {
+					futures.put(market + "/" + timeframe, executor.submit(() -> backfillSeries(market, timeframe, from, until)));
+				}
+			}
+			List<String> failed = new ArrayList<>();
+			long totalWritten = 0;
+			long totalRequests = 0;
+			for (Map.Entry<String, Future<SeriesResult>> entry : futures.entrySet()) {
+				try {
+					SeriesResult result = entry.getValue().get();
+					totalWritten += result.written();
+					totalRequests += result.requests();
+				} catch (ExecutionException e) {
+					failures.increment();
+					failed.add(entry.getKey());
+					log.warn("Candle backfill failed: series={}", entry.getKey(), e.getCause());
+				}
+			}
+			Duration elapsed = Duration.ofNanos(System.nanoTime() - startedNanos);
+			CandleBackfillResult result = new CandleBackfillResult(futures.size(), failed, totalRequests, totalWritten, elapsed);
+			lastRateBits.set(Double.doubleToLongBits(result.candlesPerSecond()));
+			log.info("Candle backfill done: series={} failed={} requests={} written={} elapsed={}ms rate={}/s",
+				result.series(), failed.size(), totalRequests, totalWritten, elapsed.toMillis(),
+				String.format("%.1f", result.candlesPerSecond()));
+			return result;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Candle backfill interrupted", e);
+		} finally {
+			// 중단·실패로 빠져나오면 남은 작업을 거둔다(끝난 작업에는 영향 없음)
+			futures.values().forEach(future -> future.cancel(true));
+		}
+	}
+
+	record SeriesResult(long requests, long written) {}
+
+	/**
+	 * (market, timeframe) 하나. 조각 단위로 진행 위치를 저장하므로 실패해도 끝낸 조각은 다시 받지 않는다.
+	 */
+	SeriesResult backfillSeries(String market, int timeframeMinutes, Instant from, Instant to) {
+		Duration period = Duration.ofMinutes(timeframeMinutes);
+		long periodMillis = period.toMillis();
+		Instant first = Instant.ofEpochMilli(Math.floorDiv(from.toEpochMilli(), periodMillis) * periodMillis + periodMillis);
+		Instant last = Instant.ofEpochMilli(Math.floorDiv(to.toEpochMilli(), periodMillis) * periodMillis);
+		if (first.isAfter(last)) {
+			return new SeriesResult(0, 0);
+		}
+		String timeframe = Integer.toString(timeframeMinutes);
+		CandleBackfillCursor cursor = cursorRepository.findById(new CandleBackfillCursorId(market, timeframe)).orElse(null);
+		long seriesRequests = 0;
+		long seriesWritten = 0;
+		Duration chunkSpan = period.multipliedBy(UpbitQuotationClient.MAX_CANDLES_PER_REQUEST - 1L);
+		for (Instant chunkFrom = first; !chunkFrom.isAfter(last); ) {
+			Instant chunkTo = chunkFrom.plus(chunkSpan).isAfter(last) ? last : chunkFrom.plus(chunkSpan);
+			if (cursor == null || !cursor.covers(chunkFrom, chunkTo)) {
+				int buckets = (int) ((chunkTo.toEpochMilli() - chunkFrom.toEpochMilli()) / periodMillis) + 1;
+				// 조각 구간만 읽는다(긴 구간 전체를 한 번에 올리지 않음)
+				Set<Instant> existing = new HashSet<>(
+					candleCacheRepository.findCandleTimes(market, timeframe, chunkFrom, chunkTo));
+				if (hasMissing(existing, chunkFrom, buckets, period)) {
+					List<CandleCache> candles = fetchMissing(market, timeframeMinutes, chunkFrom, chunkTo, buckets, existing);
+					seriesRequests++;
+					if (!candles.isEmpty()) {
+						candleCacheRepository.upsertAll(candles);
+						seriesWritten += candles.size();
+						written.increment(candles.size());
+					}
+				}
+				cursor = saveProgress(cursor, market, timeframe, chunkFrom, chunkTo, period);
+			}
+			chunkFrom = chunkTo.plus(period);
+		}
+		return new SeriesResult(seriesRequests, seriesWritten);
+	}
+
+	private static boolean hasMissing(Set<Instant> existing, Instant chunkFrom, int buckets, Duration period) {
+		Instant end = chunkFrom;
+		for (int i = 0; i < buckets; i++, end = end.plus(period)) {
+			if (!existing.contains(end)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 종료 시각이 [chunkFrom, chunkTo]인 캔들을 한 번에 받는다. to는 시작 시각 기준 배타적이므로 chunkTo(마지막 캔들의 종료 = 다음 캔들의 시작)를 넘긴다.
+	 * 체결 없는 구간이 있으면 Upbit는 더 오래된 캔들로 count를 채우므로 구간 밖은 버린다.
+	 */
+	private List<CandleCache> fetchMissing(String market, int timeframeMinutes, Instant chunkFrom, Instant chunkTo,
+		int buckets, Set<Instant> existing) {
+		Duration period = Duration.ofMinutes(timeframeMinutes);
+		String timeframe = Integer.toString(timeframeMinutes);
+		List<CandleCache> candles = new ArrayList<>(buckets);
+		for (int attempt = 1; ; attempt++) {
+			candles.clear();
+			try {
+				requests.increment();
+				quotationClient.streamCandles(market, timeframeMinutes, chunkTo, buckets, candle -> {
+					CandleCache cache = toCandleCache(candle, timeframe, period);
+					Instant end = cache.getId().getCandleTime();
+					if (!end.isBefore(chunkFrom) && !end.isAfter(chunkTo) && !existing.contains(end)) {
+						candles.add(cache);
+					}
+				});
+				return candles;
+			} catch (UpbitRateLimitException e) {
+				if (attempt >= MAX_ATTEMPTS) {
+					throw e;
+				}
+			} catch (UpbitApiException e) {
+				if (!e.is429() || attempt >= MAX_ATTEMPTS) {
+					throw e;
+				}
+			}
+			sleep(RETRY_BACKOFF_MILLIS * attempt);
+		}
+	}
+
+	private static CandleCache toCandleCache(CandleResponse candle, String timeframe, Duration period) {
+		Instant end = candle.candleDateTimeUtc().toInstant(ZoneOffset.UTC).plus(period);
+		return CandleCache.create(candle.market(), timeframe, end, candle.openingPrice(), candle.highPrice(),
+			candle.lowPrice(), candle.tradePrice(), candle.candleAccTradeVolume());
+	}
+
+	private CandleBackfillCursor saveProgress(CandleBackfillCursor cursor, String market, String timeframe,
+		Instant chunkFrom, Instant chunkTo, Duration period) {
+		if (cursor == null) {
+			return cursorRepository.save(CandleBackfillCursor.create(market, timeframe, chunkFrom, chunkTo));
+		}
+		cursor.extend(chunkFrom, chunkTo, period);
+		return cursorRepository.save(cursor);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Candle backfill interrupted", e);
+		}
+	}
+}
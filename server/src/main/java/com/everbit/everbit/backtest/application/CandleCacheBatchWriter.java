@@ -0,0 +1,118 @@
+package com.everbit.everbit.backtest.application;
+
+import com.everbit.everbit.backtest.domain.CandleCache;
+import com.everbit.everbit.backtest.repository.CandleCacheRepository;
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 확정 캔들 → candle_cache 묶음 적재. SoT: docs/integrations/upbit.md §7.7, docs/architecture/data-model.md §5.0.
+ * {@link CandleClosedEvent}는 시세 소비자 스레드에서 동기 발행되므로 여기서는 큐에 넣기만 하고,
+ * FLUSH_INTERVAL마다(marketdata.enabled일 때) 또는 BATCH_SIZE가 차면 공용 {@link TaskScheduler} 스레드에서 JDBC batch upsert로 쓴다.
+ * 적재 실패분은 큐에 되돌려 다음 주기에 다시 쓰고, 큐가 MAX_PENDING을 넘으면 새 캔들을 버린다(백필로 복구).
+ */
+@Slf4j
+@Component
+public class CandleCacheBatchWriter {
+
+	private static final int BATCH_SIZE = 200;
+	private static final int MAX_PENDING = 20_000;
+	private static final long FLUSH_INTERVAL_MILLIS = 1000;
+
+	private final CandleCacheRepository candleCacheRepository;
+	private final TaskScheduler taskScheduler;
+	private final MarketDataProperties marketDataProperties;
+	private final ConcurrentLinkedQueue<CandleCache> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	private final Counter written;
+	private final Counter dropped;
+	private final Counter failures;
+
+	public CandleCacheBatchWriter(CandleCacheRepository candleCacheRepository, TaskScheduler taskScheduler,
+		MarketDataProperties marketDataProperties, MeterRegistry meterRegistry) {
+		this.candleCacheRepository = candleCacheRepository;
+		this.taskScheduler = taskScheduler;
+		this.marketDataProperties = marketDataProperties;
+		this.written = Counter.builder("candle.cache.written")
+			.description("candle_cache에 upsert된 실시간 캔들 수")
+			.register(meterRegistry);
+		this.dropped = Counter.builder("candle.cache.dropped")
+			.description("적재 대기 초과로 버린 실시간 캔들 수")
+			.register(meterRegistry);
+		this.failures = Counter.builder("candle.cache.write.failures")
+			.description("candle_cache 묶음 적재 실패 수")
+			.register(meterRegistry);
+	}
+
+	@EventListener
+	public void onCandleClosed(CandleClosedEvent event) {
+		if (event.replayed()) {
+			return;
+		}
+		if (pendingCount.incrementAndGet() > MAX_PENDING) {
+			pendingCount.decrementAndGet();
+			dropped.increment();
+			return;
+		}
+		pending.add(CandleCache.create(event.market(), event.timeframe(), event.candleTime(),
+			event.open(), event.high(), event.low(), event.close(), event.volume()));
+		if (pendingCount.get() >= BATCH_SIZE && flushRequested.compareAndSet(false, true)) {
+			taskScheduler.schedule(this::flush, taskScheduler.getClock().instant());
+		}
+	}
+
+	@Scheduled(initialDelay = FLUSH_INTERVAL_MILLIS, fixedDelay = FLUSH_INTERVAL_MILLIS)
+	void scheduledFlush() {
+		if (marketDataProperties.enabled()) {
+			flush();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		flush();
+	}
+
+	/**
+	 * 대기 중인 캔들을 BATCH_SIZE씩 끝까지 쓴다. 실패하면 그 묶음을 되돌리고 이번 주기는 멈춘다.
+	 */
+	synchronized void flush() {
+		flushRequested.set(false);
+		while (true) {
+			List<CandleCache> batch = new ArrayList<>(BATCH_SIZE);
+			CandleCache candle;
+			while (batch.size() < BATCH_SIZE && (candle = pending.poll()) != null) {
+				batch.add(candle);
+			}
+			if (batch.isEmpty()) {
+				return;
+			}
+			pendingCount.addAndGet(-batch.size());
+			try {
+				candleCacheRepository.upsertAll(batch);
+				written.increment(batch.size());
+			} catch (RuntimeException e) {
+				failures.increment();
+				log.warn("Failed to write candle batch: size={}", batch.size(), e);
+				pending.addAll(batch);
+				pendingCount.addAndGet(batch.size());
+				return;
+			}
+		}
+	}
+}
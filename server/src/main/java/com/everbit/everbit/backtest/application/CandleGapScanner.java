@@ -0,0 +1,202 @@
+package com.everbit.everbit.backtest.application;
+
+import com.everbit.everbit.backtest.domain.CandleBackfillCursor;
+import com.everbit.everbit.backtest.domain.CandleBackfillCursorId;
+import com.everbit.everbit.backtest.domain.CandleSlotIndex;
+import com.everbit.everbit.backtest.repository.CandleBackfillCursorRepository;
+import com.everbit.everbit.backtest.repository.CandleCacheRepository;
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * candle_cache 구멍 탐지·자가 복구. SoT: docs/integrations/upbit.md §7.9.
+ * 실시간 캔들이 닫힌 시리즈(market, timeframe)만 추적하고, 시리즈마다 마지막으로 검사한 종료 시각(watermark) 이후만 다시 본다.
+ * SCAN_INTERVAL마다(marketdata.enabled일 때) (watermark, 현재 - SETTLE_DELAY] 구간의 candle_time을 {@link CandleSlotIndex} 비트맵에 올려 빈 슬롯 연속 구간을 찾고,
+ * 구간마다 {@link CandleBackfillService}로 REST 재조회한다(레이트리미터·진행 위치 공유).
+ * 주기는 공용 스케줄러가 깨우지만 검사·재조회는 백필 스레드에서 돌고, 앞 검사가 끝나지 않았으면 이번 주기는 건너뛴다.
+ * 다시 받아도 없는 슬롯이 백필 진행 위치 안이면 체결 없는 구간으로 보고 넘어가며, 그 밖에 남은 빈 슬롯부터 다음 주기에 다시 본다.
+ * 시리즈별 완전성(있는 슬롯 + 체결 없음 확인 슬롯 / 전체 슬롯)을 candle.series.completeness로 보고한다.
+ */
+@Slf4j
+@Component
+public class CandleGapScanner {
+
+	private static final long SCAN_INTERVAL_SECONDS = 60;
+	/** 처음 보는 시리즈(부팅 직후 등)는 마지막 캔들부터 이만큼 거슬러 올라가 검사한다. */
+	private static final Duration INITIAL_LOOKBACK = Duration.ofDays(2);
+	/** 막 닫힌 캔들은 적재 큐(CandleCacheBatchWriter)를 지나는 중일 수 있어 이만큼 지난 슬롯까지만 본다. */
+	private static final Duration SETTLE_DELAY = Duration.ofMinutes(1);
+
+	private final CandleBackfillService backfillService;
+	private final CandleCacheRepository candleCacheRepository;
+	private final CandleBackfillCursorRepository cursorRepository;
+	private final MeterRegistry meterRegistry;
+	private final MarketDataProperties marketDataProperties;
+	private final Clock clock;
+	private final Map<Series, Instant> watermarks = new ConcurrentHashMap<>();
+	private final Map<Series, AtomicLong> completeness = new ConcurrentHashMap<>();
+	private final AtomicBoolean scanning = new AtomicBoolean();
+	private final Counter missingSlots;
+	private final Counter refills;
+
+	record Series(String market, int timeframeMinutes) {}
+
+	public CandleGapScanner(CandleBackfillService backfillService, CandleCacheRepository candleCacheRepository,
+		CandleBackfillCursorRepository cursorRepository, MeterRegistry meterRegistry,
+		MarketDataProperties marketDataProperties, Clock clock) {
+		this.backfillService = backfillService;
+		this.candleCacheRepository = candleCacheRepository;
+		this.cursorRepository = cursorRepository;
+		this.meterRegistry = meterRegistry;
+		this.marketDataProperties = marketDataProperties;
+		this.clock = clock;
+		this.missingSlots = Counter.builder("candle.gap.missing")
+			.description("검사에서 찾은 빈 캔들 슬롯 수")
+			.register(meterRegistry);
+		this.refills = Counter.builder("candle.gap.refills")
+			.description("빈 구간 REST 재조회 요청 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 실시간 캔들이 닫힌 시리즈를 추적 대상에 넣는다. 시세 소비자 스레드에서 동기 호출되므로 맵 갱신만 한다.
+	 */
+	@EventListener
+	public void onCandleClosed(CandleClosedEvent event) {
+		if (event.replayed()) {
+			return;
+		}
+		int minutes;
+		try {
+			minutes = Integer.parseInt(event.timeframe());
+		} catch (NumberFormatException e) {
+			return;
+		}
+		watermarks.putIfAbsent(new Series(event.market(), minutes), event.candleTime().minus(INITIAL_LOOKBACK));
+	}
+
+	/**
+	 * 검사 한 바퀴를 백필 스레드로 넘긴다. 재조회가 레이트리미터에서 오래 기다려도 공용 스케줄러 스레드는 바로 돌아온다.
+	 */
+	@Scheduled(initialDelay = SCAN_INTERVAL_SECONDS, fixedDelay = SCAN_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+	void scanAll() {
+		if (!marketDataProperties.enabled() || !scanning.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			backfillService.submit(this::scanSeries);
+		} catch (RuntimeException e) {
+			scanning.set(false);
+			throw e;
+		}
+	}
+
+	private void scanSeries() {
+		try {
+			for (Series series : List.copyOf(watermarks.keySet())) {
+				try {
+					scan(series);
+				} catch (RuntimeException e) {
+					log.warn("Candle gap scan failed: market={} timeframe={}", series.market(), series.timeframeMinutes(), e);
+				}
+			}
+		} finally {
+			scanning.set(false);
+		}
+	}
+
+	/**
+	 * 시리즈 하나의 watermark 이후 구간을 검사·복구하고 watermark를 옮긴다.
+	 */
+	void scan(Series series) {
+		Duration period = Duration.ofMinutes(series.timeframeMinutes());
+		long periodMillis = period.toMillis();
+		Instant watermark = watermarks.get(series);
+		long settled = clock.instant().minus(SETTLE_DELAY).toEpochMilli();
+		Instant firstEnd = Instant.ofEpochMilli(Math.floorDiv(watermark.toEpochMilli(), periodMillis) * periodMillis + periodMillis);
+		Instant lastEnd = Instant.ofEpochMilli(Math.floorDiv(settled, periodMillis) * periodMillis);
+		if (firstEnd.isAfter(lastEnd)) {
+			return;
+		}
+		String timeframe = Integer.toString(series.timeframeMinutes());
+
+		CandleSlotIndex index = load(series.market(), timeframe, firstEnd, lastEnd, period);
+		List<CandleSlotIndex.MissingRun> runs = index.missingRuns();
+		if (!runs.isEmpty()) {
+			missingSlots.increment(index.slots() - index.presentCount());
+			for (CandleSlotIndex.MissingRun run : runs) {
+				refills.increment();
+				backfillService.backfillSeries(series.market(), series.timeframeMinutes(), run.fromEnd().minus(period),
+					run.toEnd());
+			}
+			index = load(series.market(), timeframe, firstEnd, lastEnd, period);
+		}
+
+		// 다시 받아도 없는 슬롯 중 백필 진행 위치 안쪽은 체결 없는 구간(확인됨)
+		CandleBackfillCursor cursor = cursorRepository.findById(new CandleBackfillCursorId(series.market(), timeframe))
+			.orElse(null);
+		int unresolved = 0;
+		Instant firstUnresolved = null;
+		for (CandleSlotIndex.MissingRun run : index.missingRuns()) {
+			int outside = outsideCursor(run, cursor, period);
+			if (outside > 0 && firstUnresolved == null) {
+				firstUnresolved = run.fromEnd();
+			}
+			unresolved += outside;
+		}
+		double ratio = index.slots() == 0 ? 1d : 1d - (double) unresolved / index.slots();
+		completenessGauge(series).set(Double.doubleToLongBits(ratio));
+		watermarks.put(series, firstUnresolved != null ? firstUnresolved.minus(period) : lastEnd);
+		if (unresolved > 0) {
+			log.info("Candle gaps remain: market={} timeframe={} unresolved={} from={}",
+				series.market(), timeframe, unresolved, firstUnresolved);
+		}
+	}
+
+	private CandleSlotIndex load(String market, String timeframe, Instant firstEnd, Instant lastEnd, Duration period) {
+		CandleSlotIndex index = new CandleSlotIndex(firstEnd, lastEnd, period);
+		for (Instant candleTime : candleCacheRepository.findCandleTimes(market, timeframe, firstEnd, lastEnd)) {
+			index.mark(candleTime);
+		}
+		return index;
+	}
+
+	/**
+	 * run 중 백필 진행 위치가 기억하는 받아 본 구간들 밖인 슬롯 수.
+	 */
+	private static int outsideCursor(CandleSlotIndex.MissingRun run, CandleBackfillCursor cursor, Duration period) {
+		if (cursor == null) {
+			return run.slots();
+		}
+		return run.slots() - cursor.coveredSlots(run.fromEnd(), run.toEnd(), period);
+	}
+
+	private AtomicLong completenessGauge(Series series) {
+		return completeness.computeIfAbsent(series, s -> {
+			AtomicLong bits = new AtomicLong(Double.doubleToLongBits(1d));
+			Gauge.builder("candle.series.completeness", bits, b -> Double.longBitsToDouble(b.get()))
+				.description("최근 검사 구간에서 확인된 캔들 슬롯 비율")
+				.tag("market", s.market())
+				.tag("timeframe", Integer.toString(s.timeframeMinutes()))
+				.register(meterRegistry);
+			return bits;
+		});
+	}
+}
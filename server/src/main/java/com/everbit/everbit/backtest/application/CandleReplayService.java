@@ -0,0 +1,105 @@
+package com.everbit.everbit.backtest.application;
+
+import com.everbit.everbit.backtest.domain.CandleColumns;
+import com.everbit.everbit.global.replay.LatencyRecorder;
+import com.everbit.everbit.global.replay.ReplayPacer;
+import com.everbit.everbit.global.replay.ReplayReport;
+import com.everbit.everbit.marketdata.application.MarketDataIngestionService;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * candle_cache 봉 재생. SoT: docs/integrations/upbit.md §7.10.
+ * 열 저장소({@link CandleStoreService})에서 마켓별 시리즈를 읽어 candle_time 순으로 병합하고, 실시간 집계와 같은
+ * {@link CandleClosedEvent}(replayed=true)로 발행한다. 리스너는 발행 스레드에서 동기 호출되므로 발행 1건의 소요 시간이 곧 처리 지연이다.
+ * 속도·가상 시계 규칙은 시세 재생과 같다. 실시간 수집이 켜져 있으면 재생하지 않는다.
+ */
+@Slf4j
+@Service
+public class CandleReplayService {
+
+	private static final String CONSUMER = "candle-listeners";
+
+	private final CandleStoreService candleStoreService;
+	private final MarketDataIngestionService ingestionService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+
+	public CandleReplayService(CandleStoreService candleStoreService, MarketDataIngestionService ingestionService,
+		ApplicationEventPublisher eventPublisher, Clock clock) {
+		this.candleStoreService = candleStoreService;
+		this.ingestionService = ingestionService;
+		this.eventPublisher = eventPublisher;
+		this.clock = clock;
+	}
+
+	/**
+	 * markets의 timeframe 봉 중 candle_time이 [from, to]인 것을 재생한다. 끝날 때까지 블록한다.
+	 *
+	 * @param speed 배속. 0 이하면 최대 속도
+	 */
+	public synchronized ReplayReport replay(List<String> markets, String timeframe, Instant from, Instant to,
+		double speed) {
+		if (ingestionService.isRunning()) {
+			throw new IllegalStateException("Stop live market data ingestion before replay");
+		}
+		int n = markets.size();
+		CandleColumns[] series = new CandleColumns[n];
+		int[] cursor = new int[n];
+		int[] end = new int[n];
+		for (int m = 0; m < n; m++) {
+			series[m] = candleStoreService.load(markets.get(m), timeframe);
+			cursor[m] = series[m].lowerBound(from.toEpochMilli());
+			end[m] = series[m].lowerBound(to.toEpochMilli() + 1);
+		}
+
+		LatencyRecorder latencies = new LatencyRecorder();
+		Timer latency = latencies.timer(CONSUMER);
+		ReplayPacer pacer = new ReplayPacer(speed, clock);
+		long events = 0;
+		long startedNanos = System.nanoTime();
+		while (true) {
+			int next = -1;
+			long nextTime = Long.MAX_VALUE;
+			for (int m = 0; m < n; m++) {
+				if (cursor[m] < end[m] && series[m].timeMillis(cursor[m]) < nextTime) {
+					next = m;
+					nextTime = series[m].timeMillis(cursor[m]);
+				}
+			}
+			if (next < 0) {
+				break;
+			}
+			int i = cursor[next]++;
+			CandleColumns columns = series[next];
+			pacer.await(nextTime);
+			Instant candleTime = Instant.ofEpochMilli(nextTime);
+			CandleClosedEvent event = new CandleClosedEvent(markets.get(next), timeframe, candleTime,
+				decimal(columns.open(i)), decimal(columns.high(i)), decimal(columns.low(i)), decimal(columns.close(i)),
+				BigDecimal.valueOf(columns.volume(i)), candleTime, true);
+			long publishedNanos = System.nanoTime();
+			eventPublisher.publishEvent(event);
+			latency.record(System.nanoTime() - publishedNanos, TimeUnit.NANOSECONDS);
+			events++;
+		}
+		ReplayReport report = new ReplayReport(events, Duration.ofNanos(System.nanoTime() - startedNanos),
+			latencies.summarize());
+		log.info("Candle replay done: markets={} timeframe={} events={} elapsed={}ms rate={}/s speed={}", n, timeframe,
+			events, report.elapsed().toMillis(), String.format("%.0f", report.eventsPerSecond()), speed);
+		return report;
+	}
+
+	private static BigDecimal decimal(long fixedPoint) {
+		return BigDecimal.valueOf(fixedPoint, CandleColumns.PRICE_SCALE_DIGITS).stripTrailingZeros();
+	}
+}
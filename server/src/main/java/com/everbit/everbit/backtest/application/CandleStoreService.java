@@ -0,0 +1,108 @@
+package com.everbit.everbit.backtest.application;
+
+import com.everbit.everbit.backtest.CandleStoreProperties;
+import com.everbit.everbit.backtest.domain.CandleColumns;
+import com.everbit.everbit.backtest.infrastructure.ColumnarCandleFile;
+import com.everbit.everbit.backtest.repository.CandleCacheRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * candle_cache → 열 단위 mmap 캔들 저장소. SoT: docs/architecture/data-model.md §5.4.
+ * 백테스트·지표 워밍업은 JPA 엔티티 대신 {@link #load}가 돌려주는 {@link CandleColumns}를 읽는다(캔들당 할당 없음).
+ * load마다 저장소 마지막 시각 이후 행만 원시형으로 스트리밍해 붙인다. 저장소가 Postgres와 어긋나면
+ * (형식 버전·체크섬 불일치, 마지막 시각 이하 행 수가 다름 = 중간 구간이 나중에 백필됨) 지우고 처음부터 다시 만든다.
+ */
+@Slf4j
+@Service
+public class CandleStoreService {
+
+	private static final int APPEND_BATCH_ROWS = 4096;
+	private static final Pattern MARKET = Pattern.compile("[A-Z0-9]+-[A-Z0-9]+");
+	private static final Pattern TIMEFRAME = Pattern.compile("[0-9]+");
+
+	private final CandleCacheRepository candleCacheRepository;
+	private final Path root;
+	private final Map<String, ColumnarCandleFile> files = new ConcurrentHashMap<>();
+	private final Counter appended;
+	private final Counter rebuilds;
+
+	public CandleStoreService(CandleCacheRepository candleCacheRepository, CandleStoreProperties properties,
+		MeterRegistry meterRegistry) {
+		this.candleCacheRepository = candleCacheRepository;
+		this.root = Path.of(properties.directory());
+		this.appended = Counter.builder("candle.store.appended")
+			.description("열 저장소에 붙인 캔들 수")
+			.register(meterRegistry);
+		this.rebuilds = Counter.builder("candle.store.rebuilds")
+			.description("Postgres와 어긋나 다시 만든 열 저장소 시리즈 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * candle_cache와 맞춘 뒤 시리즈 전체 뷰를 돌려준다. 뷰는 호출 시점 행까지만 보인다.
+	 */
+	public CandleColumns load(String market, String timeframe) {
+		ColumnarCandleFile file = file(market, timeframe);
+		synchronized (file) {
+			if (!file.isValid()) {
+				reset(file, market, timeframe, "invalid");
+			} else if (file.count() > 0 && candleCacheRepository.countUpTo(market, timeframe,
+				Instant.ofEpochMilli(file.lastTimeMillis())) != file.count()) {
+				reset(file, market, timeframe, "behind");
+			}
+			appendNew(file, market, timeframe);
+			return file.columns();
+		}
+	}
+
+	/**
+	 * 시리즈를 지우고 candle_cache에서 다시 만든다.
+	 */
+	public CandleColumns rebuild(String market, String timeframe) {
+		ColumnarCandleFile file = file(market, timeframe);
+		synchronized (file) {
+			reset(file, market, timeframe, "requested");
+			appendNew(file, market, timeframe);
+			return file.columns();
+		}
+	}
+
+	private void appendNew(ColumnarCandleFile file, String market, String timeframe) {
+		Instant after = file.count() == 0 ? Instant.EPOCH : Instant.ofEpochMilli(file.lastTimeMillis());
+		ColumnarCandleFile.Batch batch = new ColumnarCandleFile.Batch(APPEND_BATCH_ROWS);
+		long before = file.count();
+		candleCacheRepository.streamScaled(market, timeframe, after, (time, open, high, low, close, volume) -> {
+			batch.add(time, open, high, low, close, volume);
+			if (batch.isFull()) {
+				file.append(batch);
+				batch.clear();
+			}
+		});
+		file.append(batch);
+		appended.increment(file.count() - before);
+	}
+
+	private void reset(ColumnarCandleFile file, String market, String timeframe, String reason) {
+		log.info("Rebuilding candle store: market={} timeframe={} reason={} rows={}", market, timeframe, reason,
+			file.count());
+		rebuilds.increment();
+		file.reset();
+	}
+
+	private ColumnarCandleFile file(String market, String timeframe) {
+		if (!MARKET.matcher(market).matches() || !TIMEFRAME.matcher(timeframe).matches()) {
+			throw new IllegalArgumentException("Invalid candle series: " + market + "/" + timeframe);
+		}
+		return files.computeIfAbsent(market + "/" + timeframe,
+			key -> ColumnarCandleFile.open(root.resolve(market).resolve(timeframe)));
+	}
+}
@@ -0,0 +1,150 @@
+package com.everbit.everbit.backtest.domain;
+
+import com.everbit.everbit.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * 캔들 백필 진행 위치(market, timeframe). SoT: docs/architecture/data-model.md §5.3.
+ * Upbit에서 이미 받아 본 구간(캔들 종료 시각, 양 끝 포함)을 서로 떨어진 여러 구간으로 기억한다.
+ * 체결이 없어 Upbit가 돌려주지 않는 캔들도 있으므로, 이 구간들 안의 빈 자리는 다시 요청하지 않는다.
+ * [covered_from, covered_to]는 전체 구간을 감싸는 범위이며, 실제 구간 목록은 covered_ranges에 있다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CandleBackfillCursor extends BaseEntity {
+
+	/** 기억하는 구간 수 상한. 넘으면 가장 오래된 구간부터 잊는다(그 구간은 다시 받아 볼 뿐이다). */
+	static final int MAX_RANGES = 4096;
+
+	@EmbeddedId
+	private CandleBackfillCursorId id;
+
+	@Column(nullable = false)
+	private Instant coveredFrom;
+
+	@Column(nullable = false)
+	private Instant coveredTo;
+
+	/** (from, to) epoch ms 쌍의 big-endian long 배열. 시작 시각 순이며 서로 겹치거나 붙지 않는다. null이면 [covered_from, covered_to] 하나. */
+	private byte[] coveredRanges;
+
+	private CandleBackfillCursor(String market, String timeframe, Instant coveredFrom, Instant coveredTo) {
+		this.id = new CandleBackfillCursorId(market, timeframe);
+		store(new long[] {coveredFrom.toEpochMilli(), coveredTo.toEpochMilli()});
+	}
+
+	public static CandleBackfillCursor create(String market, String timeframe, Instant coveredFrom, Instant coveredTo) {
+		return new CandleBackfillCursor(market, timeframe, coveredFrom, coveredTo);
+	}
+
+	/**
+	 * [from, to]가 받아 본 구간 하나 안에 모두 들어가는지.
+	 */
+	public boolean covers(Instant from, Instant to) {
+		long[] ranges = ranges();
+		long fromMillis = from.toEpochMilli();
+		long toMillis = to.toEpochMilli();
+		for (int i = 0; i < ranges.length; i += 2) {
+			if (ranges[i] <= fromMillis && toMillis <= ranges[i + 1]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * [from, to] 안의 슬롯(종료 시각이 from + k * period) 중 받아 본 구간에 든 슬롯 수.
+	 */
+	public int coveredSlots(Instant from, Instant to, Duration period) {
+		long[] ranges = ranges();
+		long fromMillis = from.toEpochMilli();
+		long toMillis = to.toEpochMilli();
+		long periodMillis = period.toMillis();
+		int covered = 0;
+		for (int i = 0; i < ranges.length; i += 2) {
+			long lo = Math.max(fromMillis, ranges[i]);
+			long hi = Math.min(toMillis, ranges[i + 1]);
+			if (lo > hi) {
+				continue;
+			}
+			// lo 이상 첫 슬롯 ~ hi 이하 마지막 슬롯
+			long first = -Math.floorDiv(fromMillis - lo, periodMillis);
+			long last = Math.floorDiv(hi - fromMillis, periodMillis);
+			if (last >= first) {
+				covered += (int) (last - first + 1);
+			}
+		}
+		return covered;
+	}
+
+	/**
+	 * 받은 구간을 더한다. 한 주기(period) 이내로 붙어 있거나 겹치는 구간과는 합치고, 떨어져 있으면 따로 기억한다.
+	 */
+	public void extend(Instant from, Instant to, Duration period) {
+		long[] ranges = ranges();
+		long periodMillis = period.toMillis();
+		long lo = from.toEpochMilli();
+		long hi = to.toEpochMilli();
+		long[] merged = new long[ranges.length + 2];
+		int size = 0;
+		boolean placed = false;
+		for (int i = 0; i < ranges.length; i += 2) {
+			long start = ranges[i];
+			long end = ranges[i + 1];
+			if (end + periodMillis < lo) {
+				merged[size++] = start;
+				merged[size++] = end;
+			} else if (hi + periodMillis < start) {
+				if (!placed) {
+					merged[size++] = lo;
+					merged[size++] = hi;
+					placed = true;
+				}
+				merged[size++] = start;
+				merged[size++] = end;
+			} else {
+				lo = Math.min(lo, start);
+				hi = Math.max(hi, end);
+			}
+		}
+		if (!placed) {
+			merged[size++] = lo;
+			merged[size++] = hi;
+		}
+		int keep = Math.min(size, MAX_RANGES * 2);
+		store(Arrays.copyOfRange(merged, size - keep, size));
+	}
+
+	/**
+	 * 받아 본 구간 수.
+	 */
+	public int rangeCount() {
+		return ranges().length / 2;
+	}
+
+	private long[] ranges() {
+		if (coveredRanges == null) {
+			return new long[] {coveredFrom.toEpochMilli(), coveredTo.toEpochMilli()};
+		}
+		long[] ranges = new long[coveredRanges.length / Long.BYTES];
+		ByteBuffer.wrap(coveredRanges).asLongBuffer().get(ranges);
+		return ranges;
+	}
+
+	private void store(long[] ranges) {
+		ByteBuffer buffer = ByteBuffer.allocate(ranges.length * Long.BYTES);
+		buffer.asLongBuffer().put(ranges);
+		this.coveredRanges = buffer.array();
+		this.coveredFrom = Instant.ofEpochMilli(ranges[0]);
+		this.coveredTo = Instant.ofEpochMilli(ranges[ranges.length - 1]);
+	}
+}
@@ -0,0 +1,31 @@
+package com.everbit.everbit.backtest.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * candle_backfill_cursor 복합 PK. SoT: docs/architecture/data-model.md §5.3.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class CandleBackfillCursorId implements Serializable {
+
+	@Column(nullable = false, length = 32)
+	private String market;
+
+	@Column(nullable = false, length = 16)
+	private String timeframe;
+
+	public CandleBackfillCursorId(String market, String timeframe) {
+		this.market = market;
+		this.timeframe = timeframe;
+	}
+}
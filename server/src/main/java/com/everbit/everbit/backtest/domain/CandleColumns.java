@@ -0,0 +1,90 @@
+package com.everbit.everbit.backtest.domain;
+
+import java.nio.LongBuffer;
+
+/**
+ * 캔들 시리즈 하나의 열 단위 읽기 전용 뷰. SoT: docs/architecture/data-model.md §5.4.
+ * 열마다 LongBuffer(보통 mmap된 파일) 하나이며 i번째 캔들은 각 열의 i번째 값이다. 조회는 절대 인덱스 get이라 할당이 없고,
+ * 여러 스레드에서 같은 인스턴스를 읽어도 된다. 시각은 candle_time(종료) epoch ms, 가격은 1e-8 고정소수, 거래량은 double 비트.
+ */
+public final class CandleColumns {
+
+	public static final int PRICE_SCALE_DIGITS = 8;
+	public static final double PRICE_SCALE = 100_000_000d;
+
+	private static final CandleColumns EMPTY = new CandleColumns(0, LongBuffer.allocate(0), LongBuffer.allocate(0),
+		LongBuffer.allocate(0), LongBuffer.allocate(0), LongBuffer.allocate(0), LongBuffer.allocate(0));
+
+	private final int size;
+	private final LongBuffer time;
+	private final LongBuffer open;
+	private final LongBuffer high;
+	private final LongBuffer low;
+	private final LongBuffer close;
+	private final LongBuffer volume;
+
+	public CandleColumns(int size, LongBuffer time, LongBuffer open, LongBuffer high, LongBuffer low, LongBuffer close,
+		LongBuffer volume) {
+		this.size = size;
+		this.time = time;
+		this.open = open;
+		this.high = high;
+		this.low = low;
+		this.close = close;
+		this.volume = volume;
+	}
+
+	public static CandleColumns empty() {
+		return EMPTY;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/** candle_time(종료 시각) epoch ms. */
+	public long timeMillis(int i) {
+		return time.get(i);
+	}
+
+	public long open(int i) {
+		return open.get(i);
+	}
+
+	public long high(int i) {
+		return high.get(i);
+	}
+
+	public long low(int i) {
+		return low.get(i);
+	}
+
+	public long close(int i) {
+		return close.get(i);
+	}
+
+	public double closePrice(int i) {
+		return close.get(i) / PRICE_SCALE;
+	}
+
+	public double volume(int i) {
+		return Double.longBitsToDouble(volume.get(i));
+	}
+
+	/**
+	 * @return candle_time이 timeMillis 이상인 첫 인덱스. 없으면 size()
+	 */
+	public int lowerBound(long timeMillis) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (time.get(mid) < timeMillis) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+}
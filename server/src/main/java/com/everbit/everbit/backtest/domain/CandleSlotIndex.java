@@ -0,0 +1,88 @@
+package com.everbit.everbit.backtest.domain;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 캔들 시리즈 하나의 구간 비트맵. SoT: docs/integrations/upbit.md §7.9.
+ * firstEnd부터 period 간격인 종료 시각(candle_time) 슬롯마다 1비트를 두고, 있는 캔들을 1로 표시한다.
+ * 30일 15분봉이 2,880비트(360바이트)라 구간 전체를 한 번에 들고 빈 슬롯을 연속 구간 단위로 뽑는다.
+ */
+public final class CandleSlotIndex {
+
+	/** 빈 슬롯 연속 구간 [fromEnd, toEnd](종료 시각, 포함). */
+	public record MissingRun(Instant fromEnd, Instant toEnd, int slots) {}
+
+	private final long firstEndMillis;
+	private final long periodMillis;
+	private final int slots;
+	private final BitSet present;
+
+	/**
+	 * @param firstEnd 첫 슬롯 종료 시각(period 정렬)
+	 * @param lastEnd  마지막 슬롯 종료 시각(포함)
+	 */
+	public CandleSlotIndex(Instant firstEnd, Instant lastEnd, Duration period) {
+		this.firstEndMillis = firstEnd.toEpochMilli();
+		this.periodMillis = period.toMillis();
+		long span = lastEnd.toEpochMilli() - firstEndMillis;
+		this.slots = span < 0 ? 0 : Math.toIntExact(span / periodMillis + 1);
+		this.present = new BitSet(slots);
+	}
+
+	/**
+	 * 구간 밖이거나 정렬되지 않은 시각은 무시한다.
+	 */
+	public void mark(Instant candleTime) {
+		long offset = candleTime.toEpochMilli() - firstEndMillis;
+		if (offset < 0 || offset % periodMillis != 0) {
+			return;
+		}
+		long slot = offset / periodMillis;
+		if (slot < slots) {
+			present.set((int) slot);
+		}
+	}
+
+	public int slots() {
+		return slots;
+	}
+
+	public int presentCount() {
+		return present.cardinality();
+	}
+
+	/**
+	 * @return 있는 슬롯 비율(0~1). 슬롯이 없으면 1
+	 */
+	public double completeness() {
+		return slots == 0 ? 1d : (double) presentCount() / slots;
+	}
+
+	public List<MissingRun> missingRuns() {
+		List<MissingRun> runs = new ArrayList<>();
+		int from = present.nextClearBit(0);
+		while (from < slots) {
+			int next = present.nextSetBit(from);
+			int to = (next < 0 ? slots : next) - 1;
+			runs.add(new MissingRun(endOf(from), endOf(to), to - from + 1));
+			from = present.nextClearBit(to + 1);
+		}
+		return runs;
+	}
+
+	/**
+	 * @return 첫 빈 슬롯 종료 시각, 없으면 null
+	 */
+	public Instant firstMissing() {
+		int slot = present.nextClearBit(0);
+		return slot < slots ? endOf(slot) : null;
+	}
+
+	private Instant endOf(int slot) {
+		return Instant.ofEpochMilli(firstEndMillis + slot * periodMillis);
+	}
+}
@@ -0,0 +1,285 @@
+package com.everbit.everbit.backtest.infrastructure;
+
+import com.everbit.everbit.backtest.domain.CandleColumns;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 캔들 시리즈 하나의 열 파일 묶음(추가 전용). SoT: docs/architecture/data-model.md §5.4.
+ * 디렉터리 하나에 열마다 little-endian int64 파일(time, open, high, low, close, volume)과 meta를 둔다.
+ * 추가는 열 파일 끝에 쓰고 force한 뒤 meta(행 수·마지막 시각·체크섬)를 임시 파일 + 원자적 이름 변경으로 바꾼다.
+ * meta가 커밋 지점이므로 중간에 죽어도 다음 open이 meta 행 수 뒤의 꼬리를 잘라낸다.
+ * 체크섬은 행 순서대로 열 값을 섞는 FNV-1a 64비트라 전체를 다시 읽지 않고 이어서 갱신할 수 있다.
+ * 인스턴스는 스레드 안전하지 않다(호출자가 시리즈마다 직렬화).
+ */
+public final class ColumnarCandleFile {
+
+	/** "EVCNDL01" */
+	static final long MAGIC = 0x4556434E444C3031L;
+	/** 열 구성·인코딩이 바뀌면 올린다. 다른 버전 파일은 검증 실패 → Postgres에서 재구성. */
+	static final int FORMAT_VERSION = 1;
+	static final String META_FILE = "meta";
+	private static final String[] COLUMNS = {"time", "open", "high", "low", "close", "volume"};
+	private static final int TIME = 0;
+	private static final int VOLUME = 5;
+	private static final int META_BYTES = 40;
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final Path dir;
+	private long count;
+	private long lastTimeMillis = Long.MIN_VALUE;
+	private long checksum = FNV_OFFSET;
+	private boolean valid = true;
+
+	private ColumnarCandleFile(Path dir) {
+		this.dir = dir;
+	}
+
+	/**
+	 * meta를 읽고 열 파일을 검증한다. 파일이 없으면 빈 시리즈. 검증 실패는 {@link #isValid()}로 알린다.
+	 */
+	public static ColumnarCandleFile open(Path dir) {
+		ColumnarCandleFile file = new ColumnarCandleFile(dir);
+		try {
+			Files.createDirectories(dir);
+			file.load();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to open candle store: " + dir, e);
+		}
+		return file;
+	}
+
+	/**
+	 * 형식 버전·열 길이·체크섬이 meta와 맞으면 true. false면 {@link #reset()} 후 다시 채워야 한다.
+	 */
+	public boolean isValid() {
+		return valid;
+	}
+
+	public long count() {
+		return count;
+	}
+
+	/** 마지막 candle_time epoch ms. 비었으면 Long.MIN_VALUE. */
+	public long lastTimeMillis() {
+		return lastTimeMillis;
+	}
+
+	public long checksum() {
+		return checksum;
+	}
+
+	/**
+	 * 열 파일과 meta를 지우고 빈 시리즈로 되돌린다.
+	 */
+	public void reset() {
+		try {
+			for (String column : COLUMNS) {
+				Files.deleteIfExists(dir.resolve(column));
+			}
+			Files.deleteIfExists(dir.resolve(META_FILE));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to reset candle store: " + dir, e);
+		}
+		count = 0;
+		lastTimeMillis = Long.MIN_VALUE;
+		checksum = FNV_OFFSET;
+		valid = true;
+	}
+
+	/**
+	 * batch를 끝에 붙인다. candle_time은 기존 마지막보다 크고 batch 안에서 증가해야 한다.
+	 */
+	public void append(Batch batch) {
+		if (!valid) {
+			throw new IllegalStateException("Candle store is not valid: " + dir);
+		}
+		int n = batch.size;
+		if (n == 0) {
+			return;
+		}
+		long previous = lastTimeMillis;
+		long nextChecksum = checksum;
+		for (int i = 0; i < n; i++) {
+			long time = batch.columns[TIME][i];
+			if (time <= previous) {
+				throw new IllegalArgumentException("Candle times must increase: " + time + " after " + previous);
+			}
+			previous = time;
+			for (long[] column : batch.columns) {
+				nextChecksum = mix(nextChecksum, column[i]);
+			}
+		}
+		try {
+			ByteBuffer buffer = ByteBuffer.allocate(n * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+			for (int c = 0; c < COLUMNS.length; c++) {
+				buffer.clear();
+				buffer.asLongBuffer().put(batch.columns[c], 0, n);
+				try (FileChannel channel = FileChannel.open(dir.resolve(COLUMNS[c]),
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+					long position = count * Long.BYTES;
+					while (buffer.hasRemaining()) {
+						position += channel.write(buffer, position);
+					}
+					channel.force(false);
+				}
+			}
+			writeMeta(count + n, previous, nextChecksum);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to append candle store: " + dir, e);
+		}
+		count += n;
+		lastTimeMillis = previous;
+		checksum = nextChecksum;
+	}
+
+	/**
+	 * 현재 행 수까지를 읽기 전용으로 mmap한 뷰. 이후 추가는 보이지 않는다(다시 호출).
+	 */
+	public CandleColumns columns() {
+		if (count == 0) {
+			return CandleColumns.empty();
+		}
+		try {
+			LongBuffer[] mapped = new LongBuffer[COLUMNS.length];
+			for (int c = 0; c < COLUMNS.length; c++) {
+				mapped[c] = map(dir.resolve(COLUMNS[c]), count);
+			}
+			return new CandleColumns(Math.toIntExact(count), mapped[0], mapped[1], mapped[2], mapped[3], mapped[4],
+				mapped[VOLUME]);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to map candle store: " + dir, e);
+		}
+	}
+
+	private void load() throws IOException {
+		Path meta = dir.resolve(META_FILE);
+		if (!Files.exists(meta)) {
+			return;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(meta)).order(ByteOrder.LITTLE_ENDIAN);
+		if (buffer.remaining() != META_BYTES || buffer.getLong() != MAGIC || buffer.getInt() != FORMAT_VERSION
+			|| buffer.getInt() != CandleColumns.PRICE_SCALE_DIGITS) {
+			valid = false;
+			return;
+		}
+		long storedCount = buffer.getLong();
+		long storedLastTime = buffer.getLong();
+		long storedChecksum = buffer.getLong();
+		long bytes = storedCount * Long.BYTES;
+		for (String column : COLUMNS) {
+			Path path = dir.resolve(column);
+			if (!Files.exists(path) || Files.size(path) < bytes) {
+				valid = false;
+				return;
+			}
+			if (Files.size(path) > bytes) {
+				// meta 커밋 전에 죽은 추가분
+				try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+					channel.truncate(bytes);
+				}
+			}
+		}
+		count = storedCount;
+		lastTimeMillis = storedLastTime;
+		checksum = storedChecksum;
+		valid = count == 0 || (verifyChecksum() && lastTimeMillis == columns().timeMillis((int) count - 1));
+	}
+
+	private boolean verifyChecksum() {
+		CandleColumns view = columns();
+		long h = FNV_OFFSET;
+		for (int i = 0; i < view.size(); i++) {
+			h = mix(h, view.timeMillis(i));
+			h = mix(h, view.open(i));
+			h = mix(h, view.high(i));
+			h = mix(h, view.low(i));
+			h = mix(h, view.close(i));
+			h = mix(h, Double.doubleToRawLongBits(view.volume(i)));
+		}
+		return h == checksum;
+	}
+
+	private void writeMeta(long newCount, long newLastTime, long newChecksum) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(META_BYTES).order(ByteOrder.LITTLE_ENDIAN)
+			.putLong(MAGIC)
+			.putInt(FORMAT_VERSION)
+			.putInt(CandleColumns.PRICE_SCALE_DIGITS)
+			.putLong(newCount)
+			.putLong(newLastTime)
+			.putLong(newChecksum)
+			.flip();
+		Path tmp = dir.resolve(META_FILE + ".tmp");
+		try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(tmp, dir.resolve(META_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	private static LongBuffer map(Path path, long rows) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, rows * Long.BYTES);
+			return mapped.order(ByteOrder.LITTLE_ENDIAN).asLongBuffer();
+		}
+	}
+
+	private static long mix(long h, long value) {
+		for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+			h = (h ^ ((value >>> shift) & 0xff)) * FNV_PRIME;
+		}
+		return h;
+	}
+
+	/**
+	 * 추가할 행 묶음. 재사용해서 행마다 객체를 만들지 않는다.
+	 */
+	public static final class Batch {
+
+		private final long[][] columns;
+		private int size;
+
+		public Batch(int capacity) {
+			this.columns = new long[COLUMNS.length][capacity];
+		}
+
+		/**
+		 * 가격은 1e-8 고정소수({@link CandleColumns#PRICE_SCALE}).
+		 */
+		public void add(long timeMillis, long open, long high, long low, long close, double volume) {
+			int i = size++;
+			columns[0][i] = timeMillis;
+			columns[1][i] = open;
+			columns[2][i] = high;
+			columns[3][i] = low;
+			columns[4][i] = close;
+			columns[VOLUME][i] = Double.doubleToRawLongBits(volume);
+		}
+
+		public int size() {
+			return size;
+		}
+
+		public boolean isFull() {
+			return size == columns[0].length;
+		}
+
+		public void clear() {
+			size = 0;
+		}
+	}
+}
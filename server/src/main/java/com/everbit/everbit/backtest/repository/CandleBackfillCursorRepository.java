@@ -0,0 +1,11 @@
+package com.everbit.everbit.backtest.repository;
+
+import com.everbit.everbit.backtest.domain.CandleBackfillCursor;
+import com.everbit.everbit.backtest.domain.CandleBackfillCursorId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 캔들 백필 진행 위치 저장소. SoT: docs/architecture/data-model.md §5.3.
+ */
+public interface CandleBackfillCursorRepository extends JpaRepository<CandleBackfillCursor, CandleBackfillCursorId> {
+}
@@ -0,0 +1,31 @@
+package com.everbit.everbit.backtest.repository;
+
+import com.everbit.everbit.backtest.domain.CandleCache;
+import com.everbit.everbit.backtest.domain.CandleCacheId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 캔들 캐시 저장소. SoT: docs/architecture/data-model.md §5.0.
+ */
+public interface CandleCacheRepository extends JpaRepository<CandleCache, CandleCacheId>, CandleCacheRepositoryCustom {
+
+	/**
+	 * 이미 있는 candle_time(종료 시각)만 읽는다. 백필 누락 구간 계산용(from, to 포함).
+	 */
+	@Query("select c.id.candleTime from CandleCache c where c.id.market = :market and c.id.timeframe = :timeframe"
+		+ " and c.id.candleTime between :from and :to")
+	List<Instant> findCandleTimes(@Param("market") String market, @Param("timeframe") String timeframe,
+		@Param("from") Instant from, @Param("to") Instant to);
+
+	/**
+	 * candle_time이 to 이하인 행 수. 열 저장소가 뒤처졌는지(중간에 백필된 행) 판단용.
+	 */
+	@Query("select count(c) from CandleCache c where c.id.market = :market and c.id.timeframe = :timeframe"
+		+ " and c.id.candleTime <= :to")
+	long countUpTo(@Param("market") String market, @Param("timeframe") String timeframe, @Param("to") Instant to);
+}
@@ -0,0 +1,30 @@
+package com.everbit.everbit.backtest.repository;
+
+import com.everbit.everbit.backtest.domain.CandleCache;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * candle_cache 대량 upsert. SoT: docs/architecture/data-model.md §5.0.
+ */
+public interface CandleCacheRepositoryCustom {
+
+	/**
+	 * (market, timeframe, candle_time)이 같으면 OHLCV를 덮어쓴다. 한 번의 JDBC batch로 보낸다.
+	 *
+	 * @return 반영된 행 수
+	 */
+	int upsertAll(List<CandleCache> candles);
+
+	/**
+	 * candle_time이 after보다 뒤인 캔들을 시각 순으로 원시형 값만 넘긴다(엔티티·BigDecimal 없이, 커서로 나눠 읽음).
+	 * 가격은 1e-8 고정소수로 반올림, 거래량은 double.
+	 */
+	void streamScaled(String market, String timeframe, Instant after, ScaledCandleHandler handler);
+
+	@FunctionalInterface
+	interface ScaledCandleHandler {
+		void accept(long candleTimeMillis, long open, long high, long low, long close, double volume);
+	}
+}
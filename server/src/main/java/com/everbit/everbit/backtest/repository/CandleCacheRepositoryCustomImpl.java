@@ -0,0 +1,97 @@
+package com.everbit.everbit.backtest.repository;
+
+import com.everbit.everbit.backtest.domain.CandleCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * JdbcTemplate 기반 candle_cache upsert 구현(INSERT ... ON CONFLICT DO UPDATE).
+ * JPA merge는 행마다 SELECT가 붙으므로 캔들 적재는 JDBC batch로 직접 보낸다.
+ * Spring Data JPA 커스텀 fragment 규칙: 인터페이스명이 *Custom 이면 구현체는 *CustomImpl.
+ * SoT: docs/architecture/spring-boot-conventions.md §8.1.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CandleCacheRepositoryCustomImpl implements CandleCacheRepositoryCustom {
+
+	private static final String UPSERT_SQL = """
+		insert into candle_cache (market, timeframe, candle_time, open, high, low, close, volume, created_at, updated_at)
+		values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		on conflict (market, timeframe, candle_time) do update set
+		  open = excluded.open,
+		  high = excluded.high,
+		  low = excluded.low,
+		  close = excluded.close,
+		  volume = excluded.volume,
+		  updated_at = excluded.updated_at
+		""";
+
+	private static final String STREAM_SCALED_SQL = """
+		select (extract(epoch from candle_time) * 1000)::bigint,
+		  round(open * 100000000)::bigint, round(high * 100000000)::bigint,
+		  round(low * 100000000)::bigint, round(close * 100000000)::bigint,
+		  volume::float8
+		from candle_cache
+		where market = ? and timeframe = ? and candle_time > ?
+		order by candle_time
+		""";
+	/** Postgres는 트랜잭션 안에서 fetch size를 주어야 결과를 커서로 나눠 받는다. */
+	private static final int STREAM_FETCH_SIZE = 10_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Clock clock;
+
+	@Override
+	@Transactional
+	public int upsertAll(List<CandleCache> candles) {
+		if (candles.isEmpty()) {
+			return 0;
+		}
+		OffsetDateTime now = OffsetDateTime.now(clock.withZone(ZoneOffset.UTC));
+		int[][] counts = jdbcTemplate.batchUpdate(UPSERT_SQL, candles, candles.size(), (ps, candle) -> {
+			ps.setString(1, candle.getId().getMarket());
+			ps.setString(2, candle.getId().getTimeframe());
+			ps.setObject(3, candle.getId().getCandleTime().atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+			ps.setBigDecimal(4, candle.getOpen());
+			ps.setBigDecimal(5, candle.getHigh());
+			ps.setBigDecimal(6, candle.getLow());
+			ps.setBigDecimal(7, candle.getClose());
+			ps.setBigDecimal(8, candle.getVolume());
+			ps.setObject(9, now, Types.TIMESTAMP_WITH_TIMEZONE);
+			ps.setObject(10, now, Types.TIMESTAMP_WITH_TIMEZONE);
+		});
+		int total = 0;
+		for (int[] batch : counts) {
+			for (int count : batch) {
+				total += count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+			}
+		}
+		return total;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void streamScaled(String market, String timeframe, Instant after, ScaledCandleHandler handler) {
+		jdbcTemplate.query(con -> {
+			PreparedStatement ps = con.prepareStatement(STREAM_SCALED_SQL);
+			ps.setFetchSize(STREAM_FETCH_SIZE);
+			ps.setString(1, market);
+			ps.setString(2, timeframe);
+			ps.setObject(3, after.atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+			return ps;
+		}, (RowCallbackHandler) rs -> handler.accept(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4),
+			rs.getLong(5), rs.getDouble(6)));
+	}
+}
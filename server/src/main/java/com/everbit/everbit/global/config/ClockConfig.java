@@ -1,13 +1,17 @@
 package com.everbit.everbit.global.config;
 
+import com.everbit.everbit.global.replay.VirtualClock;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 
 import java.time.Clock;
+import java.time.Instant;
 
 /**
  * Clock 제공. 테스트에서 Clock.fixed() 주입 가능.
+ * clock.virtual=true면 재생기가 이벤트 시각으로 옮기는 {@link VirtualClock}(docs/integrations/upbit.md §7.10).
  * SoT: docs/prompt-pack/server/00_source_map_and_decisions.md §D.
  */
 @Configuration
@@ -15,7 +19,7 @@ public class ClockConfig {
 
 	@Bean
 	@Primary
-	public Clock clock() {
-		return Clock.systemUTC();
+	public Clock clock(@Value("${clock.virtual:false}") boolean virtual) {
+		return virtual ? new VirtualClock(Instant.now()) : Clock.systemUTC();
 	}
 }
@@ -0,0 +1,15 @@
+package com.everbit.everbit.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 공용 스케줄러. SoT: docs/operations/environments.md §3.6.2.
+ * {@code @Scheduled} 메서드와 {@link org.springframework.scheduling.TaskScheduler}를 주입받는 컴포넌트가
+ * Spring Boot가 만드는 taskScheduler 하나(spring.task.scheduling.*)를 함께 쓴다. 컴포넌트마다 스레드를 만들지 않는다.
+ * {@code @Scheduled} 작업은 컨텍스트 refresh가 끝난 뒤에 시작된다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
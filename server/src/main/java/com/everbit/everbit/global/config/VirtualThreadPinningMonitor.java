@@ -0,0 +1,95 @@
+package com.everbit.everbit.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 감시. SoT: docs/operations/environments.md §3.6.1.
+ * spring.threads.virtual.enabled=true일 때만 뜬다. JFR 이벤트 스트림으로
+ * jdk.VirtualThreadPinned(synchronized/네이티브 프레임 안에서 블로킹)와 jdk.VirtualThreadSubmitFailed를 받아 메트릭으로 내보낸다.
+ * 임계치(everbit.virtual-threads.pinned-threshold-millis, 기본 20ms) 이상 고정된 경우만 기록하고, 첫 애플리케이션 프레임을 WARN으로 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+	static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	static final String SUBMIT_FAILED_EVENT = "jdk.VirtualThreadSubmitFailed";
+	private static final String APP_PACKAGE = "com.everbit.";
+
+	private final Duration threshold;
+	private final Timer pinned;
+	private final Counter submitFailed;
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+		@Value("${everbit.virtual-threads.pinned-threshold-millis:20}") long thresholdMillis) {
+		this.threshold = Duration.ofMillis(thresholdMillis);
+		this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+			.description("캐리어 스레드에 고정된 채 블로킹된 시간")
+			.register(meterRegistry);
+		this.submitFailed = Counter.builder("jvm.threads.virtual.submit.failed")
+			.description("가상 스레드 스케줄러 제출 실패 수")
+			.register(meterRegistry);
+	}
+
+	@PostConstruct
+	void start() {
+		RecordingStream rs = new RecordingStream();
+		rs.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		rs.enable(SUBMIT_FAILED_EVENT);
+		rs.onEvent(PINNED_EVENT, this::onPinned);
+		rs.onEvent(SUBMIT_FAILED_EVENT, event -> submitFailed.increment());
+		rs.startAsync();
+		this.stream = rs;
+		log.info("Virtual thread pinning monitor started: threshold={}ms", threshold.toMillis());
+	}
+
+	@PreDestroy
+	void stop() {
+		if (stream != null) {
+			stream.close();
+		}
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinned.record(event.getDuration().toNanos(), TimeUnit.NANOSECONDS);
+		log.warn("Virtual thread pinned: duration={}ms at={}", event.getDuration().toMillis(), firstAppFrame(event));
+	}
+
+	/**
+	 * 고정 원인을 찾기 쉽도록 첫 애플리케이션 프레임을, 없으면 최상단 프레임을 돌려준다.
+	 */
+	static String firstAppFrame(RecordedEvent event) {
+		RecordedStackTrace stackTrace = event.getStackTrace();
+		if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+			return "unknown";
+		}
+		for (RecordedFrame frame : stackTrace.getFrames()) {
+			if (frame.isJavaFrame() && frame.getMethod().getType().getName().startsWith(APP_PACKAGE)) {
+				return describe(frame);
+			}
+		}
+		return describe(stackTrace.getFrames().get(0));
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+	}
+}
@@ -0,0 +1,57 @@
+package com.everbit.everbit.global.replay;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재생 1회 동안의 소비자별 지연 기록. SoT: docs/integrations/upbit.md §7.10.
+ * 재생마다 새로 만드는 전용 레지스트리의 Timer라 운영 메트릭과 섞이지 않고, 재생 전체 구간의 백분위를 낸다.
+ */
+public final class LatencyRecorder {
+
+	private static final double P50 = 0.5;
+	private static final double P99 = 0.99;
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+	/**
+	 * 소비자 이름별 Timer. 여러 스레드에서 기록해도 된다.
+	 */
+	public Timer timer(String consumer) {
+		return timers.computeIfAbsent(consumer, name -> Timer.builder("replay.latency")
+			.tag("consumer", name)
+			.publishPercentiles(P50, P99)
+			.distributionStatisticExpiry(Duration.ofDays(1))
+			.distributionStatisticBufferLength(1)
+			.register(registry));
+	}
+
+	public List<ReplayReport.ConsumerLatency> summarize() {
+		List<ReplayReport.ConsumerLatency> result = new ArrayList<>(timers.size());
+		timers.forEach((name, timer) -> {
+			HistogramSnapshot snapshot = timer.takeSnapshot();
+			double p50 = 0;
+			double p99 = 0;
+			for (ValueAtPercentile value : snapshot.percentileValues()) {
+				if (value.percentile() == P50) {
+					p50 = value.value(TimeUnit.MICROSECONDS);
+				} else if (value.percentile() == P99) {
+					p99 = value.value(TimeUnit.MICROSECONDS);
+				}
+			}
+			result.add(new ReplayReport.ConsumerLatency(name, snapshot.count(), snapshot.mean(TimeUnit.MICROSECONDS),
+				p50, p99, snapshot.max(TimeUnit.MICROSECONDS)));
+		});
+		return result;
+	}
+}
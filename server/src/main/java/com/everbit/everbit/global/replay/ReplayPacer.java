@@ -0,0 +1,49 @@
+package com.everbit.everbit.global.replay;
+
+import java.time.Clock;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 재생 속도 조절. SoT: docs/integrations/upbit.md §7.10.
+ * 첫 이벤트 시각을 기준으로 (이벤트 시각 - 첫 시각) / speed 만큼의 실제 시간이 지날 때까지 재생 스레드를 재운다.
+ * speed가 0 이하면 기다리지 않는다(최대 속도). 시계가 {@link VirtualClock}이면 이벤트 시각으로 옮긴다.
+ * 재생 스레드 하나에서만 쓴다.
+ */
+public final class ReplayPacer {
+
+	/** 기다리지 않음. */
+	public static final double MAX_SPEED = 0;
+
+	private final double speed;
+	private final VirtualClock virtualClock;
+	private long firstEventMillis = Long.MIN_VALUE;
+	private long startNanos;
+
+	public ReplayPacer(double speed, Clock clock) {
+		this.speed = speed;
+		this.virtualClock = clock instanceof VirtualClock virtual ? virtual : null;
+	}
+
+	/**
+	 * eventMillis 이벤트를 내보낼 때까지 기다린다.
+	 *
+	 * @throws IllegalStateException 기다리는 중 인터럽트
+	 */
+	public void await(long eventMillis) {
+		if (firstEventMillis == Long.MIN_VALUE) {
+			firstEventMillis = eventMillis;
+			startNanos = System.nanoTime();
+		} else if (speed > 0) {
+			long target = startNanos + (long) ((eventMillis - firstEventMillis) * 1_000_000d / speed);
+			for (long remaining; (remaining = target - System.nanoTime()) > 0; ) {
+				LockSupport.parkNanos(remaining);
+				if (Thread.currentThread().isInterrupted()) {
+					throw new IllegalStateException("Replay interrupted");
+				}
+			}
+		}
+		if (virtualClock != null) {
+			virtualClock.advanceTo(eventMillis);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.everbit.everbit.global.replay;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 재생 1회 결과. SoT: docs/integrations/upbit.md §7.10.
+ *
+ * @param events    내보낸 이벤트 수
+ * @param elapsed   첫 이벤트부터 모든 소비자가 처리를 끝낼 때까지 걸린 실제 시간
+ * @param consumers 소비자별 지연(내보낸 시각 → 소비자 처리 완료)
+ */
+public record ReplayReport(long events, Duration elapsed, List<ConsumerLatency> consumers) {
+
+	public double eventsPerSecond() {
+		long nanos = elapsed.toNanos();
+		return nanos == 0 ? 0 : events * 1e9 / nanos;
+	}
+
+	/**
+	 * @param count 소비자가 처리한 이벤트 수
+	 */
+	public record ConsumerLatency(String name, long count, double meanMicros, double p50Micros, double p99Micros,
+		double maxMicros) {
+	}
+}
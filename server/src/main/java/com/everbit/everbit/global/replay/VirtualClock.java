@@ -0,0 +1,54 @@
+package com.everbit.everbit.global.replay;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재생(replay)용 가상 시계. SoT: docs/integrations/upbit.md §7.10.
+ * 스스로 흐르지 않고 재생기가 이벤트 시각으로 {@link #advanceTo}할 때만 앞으로 간다(뒤로는 가지 않는다).
+ * withZone으로 만든 시계도 같은 시각을 공유한다. clock.virtual=true면 ClockConfig가 기본 Clock 빈으로 등록한다.
+ */
+public final class VirtualClock extends Clock {
+
+	private final AtomicLong millis;
+	private final ZoneId zone;
+
+	public VirtualClock(Instant start) {
+		this(new AtomicLong(start.toEpochMilli()), ZoneOffset.UTC);
+	}
+
+	private VirtualClock(AtomicLong millis, ZoneId zone) {
+		this.millis = millis;
+		this.zone = zone;
+	}
+
+	/**
+	 * epochMillis가 현재보다 뒤일 때만 옮긴다.
+	 */
+	public void advanceTo(long epochMillis) {
+		millis.accumulateAndGet(epochMillis, Math::max);
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		return zone.equals(this.zone) ? this : new VirtualClock(millis, zone);
+	}
+
+	@Override
+	public long millis() {
+		return millis.get();
+	}
+
+	@Override
+	public Instant instant() {
+		return Instant.ofEpochMilli(millis.get());
+	}
+}
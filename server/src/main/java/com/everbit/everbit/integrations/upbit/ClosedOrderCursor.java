@@ -0,0 +1,165 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.ClosedOrdersQuery;
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 종료 주문 이력(GET /v1/orders/closed)을 오래된 순으로 지연 순회하는 커서. SoT: docs/integrations/upbit.md §5.1.3.
+ * Upbit 제약(조회 기간 최대 7일, limit 최대 1000)에 맞춰 기간 창과 페이지를 나눠 요청하며, 메모리에는 한 페이지만 둔다.
+ * 가득 찬 페이지 뒤에는 마지막 created_at부터 다시 조회하고, 같은 초에 이미 넘긴 uuid는 건너뛴다.
+ * created_at이 초 단위이므로 창 끝(end_time, 포함)도 초 단위로 자르고, 창을 다 읽은 뒤 다음 창으로 넘어갈 때
+ * 창 끝과 같은 시각에 넘긴 uuid는 그대로 둔다(다음 창 start_time도 포함이므로 그 주문이 다시 온다).
+ * 요청은 UpbitExchangeClient를 거치므로 DEFAULT 그룹 레이트리밋을 따른다.
+ * 스레드 안전하지 않다.
+ */
+@Slf4j
+public final class ClosedOrderCursor implements Iterator<OrderResponse> {
+
+	public static final Duration MAX_WINDOW = Duration.ofDays(7);
+
+	/**
+	 * 재개 위치. from 이후(포함) 주문 중 boundaryUuids는 이미 소비됨.
+	 */
+	public record Position(Instant from, Set<String> boundaryUuids) {
+
+		public Position {
+			boundaryUuids = Set.copyOf(boundaryUuids);
+		}
+
+		public static Position startingAt(Instant from) {
+			return new Position(from, Set.of());
+		}
+	}
+
+	@FunctionalInterface
+	interface PageSource {
+		/**
+		 * @return 응답에 담긴 주문 수(경계 중복 제거 전)
+		 */
+		int fetch(ClosedOrdersQuery query, Consumer<? super OrderResponse> sink);
+	}
+
+	private final PageSource source;
+	private final String market;
+	private final Instant until;
+	private final int pageSize;
+	private final Consumer<Position> checkpoint;
+	private final ArrayDeque<OrderResponse> page = new ArrayDeque<>();
+
+	private Instant from;
+	private Set<String> boundaryUuids;
+	/** 다 읽은 창의 끝. 페이지를 모두 넘긴 뒤 from을 여기로 옮긴다. */
+	private Instant drainedTo;
+	private boolean exhausted;
+
+	ClosedOrderCursor(PageSource source, String market, Position start, Instant until, Consumer<Position> checkpoint) {
+		this(source, market, start, until, ClosedOrdersQuery.MAX_LIMIT, checkpoint);
+	}
+
+	ClosedOrderCursor(PageSource source, String market, Position start, Instant until, int pageSize,
+		Consumer<Position> checkpoint) {
+		this.source = source;
+		this.market = market;
+		this.until = until;
+		this.pageSize = pageSize;
+		this.checkpoint = checkpoint;
+		this.from = start.from();
+		this.boundaryUuids = new HashSet<>(start.boundaryUuids());
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (page.isEmpty() && !exhausted) {
+			fetchNextPage();
+		}
+		return !page.isEmpty();
+	}
+
+	@Override
+	public OrderResponse next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		OrderResponse order = page.poll();
+		advancePast(order);
+		return order;
+	}
+
+	/**
+	 * 지금까지 next()로 넘긴 주문 바로 뒤의 위치.
+	 */
+	public Position position() {
+		return new Position(from, boundaryUuids);
+	}
+
+	public Stream<OrderResponse> stream() {
+		return StreamSupport.stream(
+			Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false);
+	}
+
+	private void fetchNextPage() {
+		if (drainedTo != null) {
+			if (drainedTo.isAfter(from)) {
+				moveTo(drainedTo);
+			}
+			drainedTo = null;
+		}
+		checkpoint.accept(position());
+		Instant windowEnd = from.plus(MAX_WINDOW);
+		if (windowEnd.isAfter(until)) {
+			windowEnd = until;
+		}
+		windowEnd = windowEnd.truncatedTo(ChronoUnit.SECONDS);
+		if (!windowEnd.isAfter(from)) {
+			exhausted = true;
+			return;
+		}
+		ClosedOrdersQuery query = new ClosedOrdersQuery(market, from, windowEnd, pageSize, ClosedOrdersQuery.ORDER_BY_ASC);
+		int fetched = source.fetch(query, order -> {
+			if (order.uuid() != null && !boundaryUuids.contains(order.uuid())) {
+				page.add(order);
+			}
+		});
+		if (fetched < pageSize) {
+			// 창을 다 읽음. 페이지를 다 넘긴 뒤 windowEnd로 옮긴다(그 시각에 넘긴 uuid는 boundary에 남음)
+			drainedTo = windowEnd;
+		} else if (page.isEmpty()) {
+			// 한 초에 pageSize 이상이 몰려 경계 중복만 돌아옴. 진행 보장을 위해 1초 건너뛴다.
+			log.warn("Closed order page stuck at boundary, skipping 1s: market={}, from={}", market, from);
+			moveTo(from.plusSeconds(1));
+		}
+	}
+
+	private void advancePast(OrderResponse order) {
+		if (order.createdAt() == null) {
+			return;
+		}
+		Instant createdAt = order.createdAt().toInstant();
+		if (createdAt.isAfter(from)) {
+			moveTo(createdAt);
+		}
+		if (createdAt.equals(from)) {
+			boundaryUuids.add(order.uuid());
+		}
+	}
+
+	private void moveTo(Instant newFrom) {
+		from = newFrom;
+		boundaryUuids = new HashSet<>();
+	}
+}
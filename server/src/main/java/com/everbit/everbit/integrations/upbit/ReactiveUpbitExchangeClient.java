@@ -0,0 +1,179 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Upbit Exchange REST API 논블로킹 클라이언트. SoT: docs/integrations/upbit.md.
+ * UpbitExchangeClient와 같은 파라미터 조립(UpbitRequests), JWT 서명(UpbitJwtSignerCache), 레이트리밋(UpbitRateLimiter),
+ * 회로 차단(UpbitCircuitBreaker), 오류 매핑(4xx/5xx → UpbitApiException, 그 외 → UpbitException)을 공유한다.
+ * 레이트리밋 대기는 스레드를 재우지 않고 Mono.delay로 처리하므로 reconcile에서 다수 주문 조회를 fan-out할 때 사용한다.
+ * 모든 호출은 Mono.defer로 감싸 파라미터 조립·토큰 예약·nonce/JWT 서명이 구독마다 새로 일어난다(retry·재구독에 같은 토큰을 재사용하지 않음).
+ */
+@Component
+public class ReactiveUpbitExchangeClient {
+
+	private final WebClient webClient;
+	private final UpbitProperties properties;
+	private final UpbitRateLimiter rateLimiter;
+	private final UpbitJwtSignerCache signerCache;
+	private final UpbitCircuitBreaker circuitBreaker;
+
+	public ReactiveUpbitExchangeClient(UpbitProperties properties, WebClient.Builder webClientBuilder,
+		UpbitRateLimiter rateLimiter, UpbitJwtSignerCache signerCache, UpbitCircuitBreaker circuitBreaker) {
+		this.properties = properties;
+		this.rateLimiter = rateLimiter;
+		this.signerCache = signerCache;
+		this.circuitBreaker = circuitBreaker;
+		ObjectMapper objectMapper = UpbitRequests.newObjectMapper();
+		HttpClient httpClient = HttpClient.create()
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) Duration.ofSeconds(properties.connectTimeoutSeconds()).toMillis())
+			.responseTimeout(Duration.ofSeconds(properties.readTimeoutSeconds()));
+		this.webClient = webClientBuilder.clone()
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.codecs(codecs -> {
+				codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+				codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+			})
+			.build();
+	}
+
+	public Flux<AccountResponse> getAccounts(String accessKey, String secretKey) {
+		return requestFlux(accessKey, secretKey, UpbitRateLimitGroup.DEFAULT, HttpMethod.GET,
+			UpbitRequests.V1_ACCOUNTS, UpbitRequests.noParams(), AccountResponse.class, "Failed to get accounts");
+	}
+
+	public Mono<OrderResponse> getOrder(String accessKey, String secretKey, String uuid, String identifier) {
+		return Mono.defer(() -> requestMono(accessKey, secretKey, UpbitRateLimitGroup.DEFAULT, HttpMethod.GET,
+			UpbitRequests.V1_ORDER, UpbitRequests.orderIdParams(uuid, identifier), OrderResponse.class, "Failed to get order"));
+	}
+
+	public Flux<OrderResponse> getOpenOrders(String accessKey, String secretKey, String market, List<String> states) {
+		return requestFlux(accessKey, secretKey, UpbitRateLimitGroup.DEFAULT, HttpMethod.GET,
+			UpbitRequests.V1_ORDERS_OPEN, UpbitRequests.orderListParams(market, states), OrderResponse.class,
+			"Failed to get open orders");
+	}
+
+	public Mono<OrderResponse> createOrder(String accessKey, String secretKey, OrderRequest request) {
+		return Mono.defer(() -> requestMono(accessKey, secretKey, UpbitRateLimitGroup.ORDER, HttpMethod.POST,
+			UpbitRequests.V1_ORDERS, UpbitRequests.createOrderParams(request), OrderResponse.class, "Failed to create order"));
+	}
+
+	public Mono<OrderResponse> cancelOrder(String accessKey, String secretKey, String uuid, String identifier) {
+		return Mono.defer(() -> requestMono(accessKey, secretKey, UpbitRateLimitGroup.DEFAULT, HttpMethod.DELETE,
+			UpbitRequests.V1_ORDER, UpbitRequests.orderIdParams(uuid, identifier), OrderResponse.class, "Failed to cancel order"));
+	}
+
+	public Mono<ReplaceOrderResponse> replaceOrder(String accessKey, String secretKey, ReplaceOrderRequest request) {
+		return Mono.defer(() -> requestMono(accessKey, secretKey, UpbitRateLimitGroup.ORDER, HttpMethod.POST,
+			UpbitRequests.V1_ORDERS_CANCEL_AND_NEW, UpbitRequests.replaceOrderParams(request), ReplaceOrderResponse.class,
+			"Failed to replace order"));
+	}
+
+	// --- private ---
+
+	private <T> Mono<T> requestMono(String accessKey, String secretKey, UpbitRateLimitGroup group, HttpMethod method,
+		String path, MultiValueMap<String, String> params, Class<T> responseType, String errorMessage) {
+		return awaitPermit(group)
+			.then(Mono.defer(() -> prepare(accessKey, secretKey, method, path, params)
+				.exchangeToMono(response -> handleResponse(group, response).then(response.bodyToMono(responseType)))
+				.doOnError(e -> onTransportError(group, e))))
+			.switchIfEmpty(Mono.error(() -> new UpbitException(errorMessage + ": empty body")))
+			.onErrorMap(e -> !(e instanceof UpbitException), e -> new UpbitException(errorMessage, e));
+	}
+
+	private <T> Flux<T> requestFlux(String accessKey, String secretKey, UpbitRateLimitGroup group, HttpMethod method,
+		String path, MultiValueMap<String, String> params, Class<T> elementType, String errorMessage) {
+		return awaitPermit(group)
+			.thenMany(Flux.defer(() -> prepare(accessKey, secretKey, method, path, params)
+				.exchangeToFlux(response -> handleResponse(group, response).thenMany(response.bodyToFlux(elementType)))
+				.doOnError(e -> onTransportError(group, e))))
+			.onErrorMap(e -> !(e instanceof UpbitException), e -> new UpbitException(errorMessage, e));
+	}
+
+	/**
+	 * 회로를 확인하고 토큰을 예약한 뒤 필요한 만큼 Mono.delay로 기다린다.
+	 * 차단 중이면 UpbitCircuitOpenException, 대기 상한 초과 시 UpbitRateLimitException으로 종료.
+	 */
+	private Mono<Void> awaitPermit(UpbitRateLimitGroup group) {
+		return Mono.defer(() -> {
+			circuitBreaker.beforeCall(group);
+			Duration wait;
+			try {
+				wait = rateLimiter.reserve(group);
+			} catch (UpbitRateLimitException e) {
+				circuitBreaker.onNotSent(group);
+				throw e;
+			}
+			return wait.isZero() ? Mono.empty() : Mono.delay(wait).then();
+		});
+	}
+
+	/**
+	 * 연결 실패/타임아웃은 회로 실패로 센다. 응답을 받은 뒤의 오류는 handleResponse에서 이미 기록됨.
+	 */
+	private void onTransportError(UpbitRateLimitGroup group, Throwable e) {
+		if (e instanceof WebClientRequestException || e instanceof TimeoutException
+			|| e.getCause() instanceof TimeoutException) {
+			circuitBreaker.onFailure(group);
+		}
+	}
+
+	/**
+	 * 서명된 요청을 만든다. 구독 시점에 호출되므로 재구독마다 nonce/JWT가 새로 생성된다.
+	 * GET/DELETE는 query string, POST는 JSON body로 보내며 query_hash는 둘 다 같은 문자열로 계산한다.
+	 */
+	private WebClient.RequestHeadersSpec<?> prepare(String accessKey, String secretKey, HttpMethod method,
+		String path, MultiValueMap<String, String> params) {
+		String queryString = UpbitRequests.buildQueryString(params);
+		boolean jsonBody = HttpMethod.POST.equals(method);
+		URI uri = UpbitRequests.buildUri(properties.baseUrl(), path, jsonBody ? "" : queryString);
+		String token = signerCache.signerFor(accessKey, secretKey).sign(queryString);
+		WebClient.RequestBodySpec spec = webClient.method(method)
+			.uri(Objects.requireNonNull(uri))
+			.headers(headers -> {
+				headers.setContentType(MediaType.APPLICATION_JSON);
+				headers.setBearerAuth(Objects.requireNonNull(token));
+			});
+		return jsonBody ? spec.bodyValue(params.toSingleValueMap()) : spec;
+	}
+
+	/**
+	 * Remaining-Req 반영. 오류 상태면 본문을 읽어 UpbitApiException으로 종료한다(429면 그룹 백오프).
+	 */
+	private Mono<Void> handleResponse(UpbitRateLimitGroup group, ClientResponse response) {
+		rateLimiter.onResponse(group, response.headers().asHttpHeaders().getFirst(UpbitRateLimiter.REMAINING_REQ_HEADER));
+		circuitBreaker.onResponse(group, response.statusCode().value(),
+			response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+		if (!response.statusCode().isError()) {
+			return Mono.empty();
+		}
+		if (response.statusCode().value() == 429) {
+			rateLimiter.onThrottled(group);
+		}
+		return response.bodyToMono(String.class)
+			.defaultIfEmpty("")
+			.flatMap(body -> Mono.error(new UpbitApiException(response.statusCode(), body)));
+	}
+}
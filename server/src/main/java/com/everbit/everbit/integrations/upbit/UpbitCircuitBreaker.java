@@ -0,0 +1,225 @@
+package com.everbit.everbit.integrations.upbit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Upbit 호출 차단기. SoT: docs/integrations/upbit.md §4.3, §4.5.
+ * - 그룹별 회로: 연속 실패(5xx·네트워크/타임아웃)가 임계치에 닿으면 OPEN, 열림 시간 뒤 HALF_OPEN에서 시험 호출 1건,
+ *   성공하면 CLOSED, 실패하면 다시 OPEN. 4xx/429는 서버가 응답한 것이므로 실패로 세지 않는다.
+ * - 418 전역 차단: 모든 그룹 호출을 로컬에서 즉시 실패시킨다. 차단 시각(Retry-After, 없으면 upbit.api.halt-seconds)이
+ *   지나도 풀리지 않고 {@link #clearHalt()}로만 해제한다(§4.3 재개는 수동).
+ * 상태가 바뀌면 UpbitCircuitStateChangedEvent / UpbitHaltChangedEvent를 발행한다.
+ */
+@Slf4j
+@Component
+public class UpbitCircuitBreaker {
+
+	private final int failureThreshold;
+	private final Duration openDuration;
+	private final Duration defaultHaltDuration;
+	private final Clock clock;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Map<UpbitRateLimitGroup, Circuit> circuits = new EnumMap<>(UpbitRateLimitGroup.class);
+	private final AtomicReference<Instant> haltedUntil = new AtomicReference<>();
+
+	public UpbitCircuitBreaker(UpbitProperties properties, Clock clock, ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry) {
+		this.failureThreshold = properties.circuitFailureThreshold();
+		this.openDuration = Duration.ofSeconds(properties.circuitOpenSeconds());
+		this.defaultHaltDuration = Duration.ofSeconds(properties.haltSeconds());
+		this.clock = clock;
+		this.eventPublisher = eventPublisher;
+		for (UpbitRateLimitGroup group : UpbitRateLimitGroup.values()) {
+			Circuit circuit = new Circuit();
+			circuits.put(group, circuit);
+			Gauge.builder("upbit.circuit.state", circuit, c -> c.state.ordinal())
+				.description("회로 상태(0=CLOSED, 1=HALF_OPEN, 2=OPEN)")
+				.tag("group", group.headerName())
+				.register(meterRegistry);
+		}
+		Gauge.builder("upbit.halted", this, b -> b.haltedUntil().isPresent() ? 1 : 0)
+			.description("418 전역 차단 여부")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 전송 직전 호출. 차단 중이면 UpbitCircuitOpenException. HALF_OPEN이면 시험 호출 1건만 통과시킨다.
+	 * 통과한 호출은 반드시 onSuccess/onFailure/onBlocked/onNotSent 중 하나로 끝내야 한다.
+	 */
+	public void beforeCall(UpbitRateLimitGroup group) {
+		Instant now = clock.instant();
+		Instant until = haltedUntil.get();
+		if (until != null) {
+			throw new UpbitCircuitOpenException(group, now.isBefore(until) ? Duration.between(now, until) : Duration.ZERO, true);
+		}
+		Circuit circuit = circuits.get(group);
+		UpbitCircuitState from;
+		synchronized (circuit) {
+			from = circuit.state;
+			switch (circuit.state) {
+				case CLOSED -> {
+					return;
+				}
+				case OPEN -> {
+					if (now.isBefore(circuit.openUntil)) {
+						throw new UpbitCircuitOpenException(group, Duration.between(now, circuit.openUntil), false);
+					}
+					circuit.state = UpbitCircuitState.HALF_OPEN;
+					circuit.startProbe(now);
+				}
+				case HALF_OPEN -> {
+					// 결과가 기록되지 않은 시험 호출(취소 등)이 열림 시간보다 오래되면 새 시험 호출을 허용
+					if (circuit.probeInFlight && now.isBefore(circuit.probeStartedAt.plus(openDuration))) {
+						throw new UpbitCircuitOpenException(group, Duration.ZERO, false);
+					}
+					circuit.startProbe(now);
+					return;
+				}
+			}
+		}
+		publish(group, from, UpbitCircuitState.HALF_OPEN);
+	}
+
+	/**
+	 * 응답 상태로 결과를 기록한다. 418 → 전역 차단, 5xx → 실패, 그 외(2xx/4xx/429) → 성공.
+	 *
+	 * @param retryAfterHeader 418 응답의 Retry-After(초). 없거나 형식이 다르면 기본 차단 시간.
+	 */
+	public void onResponse(UpbitRateLimitGroup group, int status, String retryAfterHeader) {
+		if (status == 418) {
+			onNotSent(group);
+			onBlocked(parseRetryAfter(retryAfterHeader));
+		} else if (status >= 500) {
+			onFailure(group);
+		} else {
+			onSuccess(group);
+		}
+	}
+
+	/**
+	 * Upbit가 응답함(2xx 또는 5xx·418이 아닌 오류).
+	 */
+	public void onSuccess(UpbitRateLimitGroup group) {
+		Circuit circuit = circuits.get(group);
+		UpbitCircuitState from;
+		synchronized (circuit) {
+			circuit.consecutiveFailures = 0;
+			circuit.probeInFlight = false;
+			from = circuit.state;
+			if (from == UpbitCircuitState.CLOSED) {
+				return;
+			}
+			circuit.state = UpbitCircuitState.CLOSED;
+		}
+		publish(group, from, UpbitCircuitState.CLOSED);
+	}
+
+	/**
+	 * 5xx, 네트워크 오류, 타임아웃.
+	 */
+	public void onFailure(UpbitRateLimitGroup group) {
+		Circuit circuit = circuits.get(group);
+		UpbitCircuitState from;
+		int failures;
+		synchronized (circuit) {
+			circuit.probeInFlight = false;
+			failures = ++circuit.consecutiveFailures;
+			from = circuit.state;
+			if (from == UpbitCircuitState.OPEN
+				|| (from == UpbitCircuitState.CLOSED && failures < failureThreshold)) {
+				return;
+			}
+			circuit.state = UpbitCircuitState.OPEN;
+			circuit.openUntil = clock.instant().plus(openDuration);
+		}
+		log.warn("Upbit circuit opened: group={}, failures={}", group.headerName(), failures);
+		publish(group, from, UpbitCircuitState.OPEN);
+	}
+
+	/**
+	 * 통과했지만 전송하지 않은 호출(로컬 레이트리밋 거절, 서명 실패 등). 시험 호출 자리를 돌려준다.
+	 */
+	public void onNotSent(UpbitRateLimitGroup group) {
+		Circuit circuit = circuits.get(group);
+		synchronized (circuit) {
+			circuit.probeInFlight = false;
+		}
+	}
+
+	/**
+	 * 418 수신. 모든 호출을 retryAfter(없으면 기본 차단 시간) 동안 막는다. 이미 더 긴 차단 중이면 유지.
+	 */
+	public void onBlocked(Duration retryAfter) {
+		Instant until = clock.instant().plus(retryAfter != null && !retryAfter.isNegative() && !retryAfter.isZero()
+			? retryAfter : defaultHaltDuration);
+		Instant previous = haltedUntil.getAndUpdate(current -> current != null && current.isAfter(until) ? current : until);
+		if (previous == null || previous.isBefore(until)) {
+			log.error("Upbit 418 received, halting all Upbit calls until {}", until);
+			eventPublisher.publishEvent(new UpbitHaltChangedEvent(haltedUntil.get(), clock.instant()));
+		}
+	}
+
+	/**
+	 * 418 차단 수동 해제(§4.3 재개는 수동). 차단 시각이 지났는지와 무관하게 이 호출 전까지 차단이 유지된다.
+	 */
+	public void clearHalt() {
+		if (haltedUntil.getAndSet(null) != null) {
+			log.info("Upbit halt cleared manually");
+			eventPublisher.publishEvent(new UpbitHaltChangedEvent(null, clock.instant()));
+		}
+	}
+
+	/**
+	 * 차단 중이면 Upbit가 알려 준 차단 종료 시각. 그 시각이 지나도 {@link #clearHalt()} 전까지 유지된다.
+	 */
+	public Optional<Instant> haltedUntil() {
+		return Optional.ofNullable(haltedUntil.get());
+	}
+
+	public UpbitCircuitState state(UpbitRateLimitGroup group) {
+		Circuit circuit = circuits.get(group);
+		synchronized (circuit) {
+			return circuit.state;
+		}
+	}
+
+	private static Duration parseRetryAfter(String header) {
+		if (header == null || header.isBlank()) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Long.parseLong(header.trim()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private void publish(UpbitRateLimitGroup group, UpbitCircuitState from, UpbitCircuitState to) {
+		eventPublisher.publishEvent(new UpbitCircuitStateChangedEvent(group, from, to, clock.instant()));
+	}
+
+	private static final class Circuit {
+		private volatile UpbitCircuitState state = UpbitCircuitState.CLOSED;
+		private int consecutiveFailures;
+		private Instant openUntil = Instant.MIN;
+		private boolean probeInFlight;
+		private Instant probeStartedAt = Instant.MIN;
+
+		void startProbe(Instant now) {
+			probeInFlight = true;
+			probeStartedAt = now;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.everbit.everbit.integrations.upbit;
+
+import java.time.Duration;
+
+/**
+ * 회로가 열려 있거나 418 전역 차단 중이라 전송하지 않은 호출. Upbit까지 요청이 나가지 않았으므로 주문 생성도 재시도 안전.
+ * SoT: docs/integrations/upbit.md §4.3, §4.5.
+ */
+public class UpbitCircuitOpenException extends UpbitException {
+
+	private final UpbitRateLimitGroup group;
+	private final Duration retryAfter;
+	private final boolean halted;
+
+	public UpbitCircuitOpenException(UpbitRateLimitGroup group, Duration retryAfter, boolean halted) {
+		super((halted ? "Upbit calls halted after 418" : "Upbit circuit open: group=" + group.headerName())
+			+ ", retryAfter=" + retryAfter.toMillis() + "ms");
+		this.group = group;
+		this.retryAfter = retryAfter;
+		this.halted = halted;
+	}
+
+	public UpbitRateLimitGroup getGroup() {
+		return group;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+
+	/**
+	 * true면 418 전역 차단, false면 그룹 회로 열림.
+	 */
+	public boolean isHalted() {
+		return halted;
+	}
+}
@@ -0,0 +1,13 @@
+package com.everbit.everbit.integrations.upbit;
+
+/**
+ * 그룹별 회로 상태. SoT: docs/integrations/upbit.md §4.5.
+ */
+public enum UpbitCircuitState {
+	/** 정상 호출. */
+	CLOSED,
+	/** 열림 시간이 지나 시험 호출 1건만 허용. */
+	HALF_OPEN,
+	/** 로컬에서 즉시 실패. */
+	OPEN
+}
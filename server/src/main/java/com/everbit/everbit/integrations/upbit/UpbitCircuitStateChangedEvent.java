@@ -0,0 +1,13 @@
+package com.everbit.everbit.integrations.upbit;
+
+import java.time.Instant;
+
+/**
+ * 회로 상태 전이 이벤트(ApplicationEventPublisher로 발행).
+ */
+public record UpbitCircuitStateChangedEvent(
+	UpbitRateLimitGroup group,
+	UpbitCircuitState from,
+	UpbitCircuitState to,
+	Instant occurredAt
+) {}
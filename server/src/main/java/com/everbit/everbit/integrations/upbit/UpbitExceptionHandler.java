@@ -9,6 +9,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.util.Map;
+
 /**
  * Upbit 연동 도메인 예외 전용 핸들러.
  * 업비트 관련 예외 처리를 integrations/upbit 패키지에 응집하여 유지보수성을 높인다.
@@ -32,6 +34,23 @@ public class UpbitExceptionHandler {
 			.body(ApiErrorBody.of(ErrorCode.UPBIT_ERROR, "Upbit API 오류가 발생했습니다.", "UPBIT_API_ERROR"));
 	}
 
+	@ExceptionHandler(UpbitRateLimitException.class)
+	public ResponseEntity<ApiErrorBody> handleUpbitRateLimit(UpbitRateLimitException ex) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.body(ApiErrorBody.of(ErrorCode.RATE_LIMIT_EXCEEDED, "Upbit 요청 제한 초과. 잠시 후 재시도해 주세요.", "RATE_LIMIT_429"));
+	}
+
+	@ExceptionHandler(UpbitCircuitOpenException.class)
+	public ResponseEntity<ApiErrorBody> handleUpbitCircuitOpen(UpbitCircuitOpenException ex) {
+		Map<String, Object> details = Map.of("retryAfter", ex.getRetryAfter().toSeconds());
+		if (ex.isHalted()) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.body(ApiErrorBody.of(ErrorCode.SERVICE_UNAVAILABLE.name(), "Upbit API 접근이 일시적으로 제한되었습니다.", "UPBIT_BLOCKED_418", details));
+		}
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+			.body(ApiErrorBody.of(ErrorCode.SERVICE_UNAVAILABLE.name(), "Upbit 연동이 일시적으로 중단되었습니다. 잠시 후 재시도해 주세요.", "UPBIT_CIRCUIT_OPEN", details));
+	}
+
 	@ExceptionHandler(UpbitException.class)
 	public ResponseEntity<ApiErrorBody> handleUpbit(UpbitException ex) {
 		return ResponseEntity.status(HttpStatus.BAD_GATEWAY)
@@ -1,277 +1,309 @@
 package com.everbit.everbit.integrations.upbit;
 
 import com.everbit.everbit.integrations.upbit.dto.*;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Upbit Exchange REST API 클라이언트. SoT: docs/integrations/upbit.md.
  * 호출 측에서 키를 복호화해 전달하며, 브라우저에서는 Upbit 직접 호출 금지.
- * 429/418 시 UpbitApiException으로 상태 코드 전달.
+ * 429/418 시 UpbitApiException으로 상태 코드 전달. 418·연속 5xx 이후 호출은 UpbitCircuitBreaker가 로컬에서 막는다.
+ * 모든 호출은 전송 전 UpbitRateLimiter에서 그룹 토큰을 받고, 응답의 Remaining-Req로 버킷을 보정한다.
+ * 응답은 RestTemplate 메시지 컨버터를 거치지 않고 응답 InputStream을 JsonParser로 직접 디코딩한다(중간 String/버퍼 없음).
+ * 계정/주문 가능 정보/단건 주문 조회는 UpbitReadCoalescer로 동일 요청을 합치고, 계정/주문 가능 정보는 짧게 캐시한다.
  */
-@Slf4j
 @Component
 public class UpbitExchangeClient {
 
-	private static final String V1_ACCOUNTS = "/v1/accounts";
-	private static final String V1_ORDERS_CHANCE = "/v1/orders/chance";
-	private static final String V1_ORDER = "/v1/order";
-	private static final String V1_ORDERS = "/v1/orders";
-	private static final String V1_ORDERS_OPEN = "/v1/orders/open";
-	private static final String V1_ORDERS_CLOSED = "/v1/orders/closed";
-	private static final String V1_ORDERS_CANCEL_AND_NEW = "/v1/orders/cancel_and_new";
-
 	private final UpbitProperties properties;
-	private final RestTemplate restTemplate;
+	private final UpbitRestExecutor restExecutor;
+	private final UpbitJwtSignerCache signerCache;
+	private final UpbitReadCoalescer readCoalescer;
+	private final Duration accountsTtl;
+	private final Duration orderChanceTtl;
 	private final ObjectMapper objectMapper;
+	private final ObjectReader accountReader;
+	private final ObjectReader orderChanceReader;
+	private final ObjectReader orderReader;
+	private final ObjectReader replaceOrderReader;
 
 	public UpbitExchangeClient(UpbitProperties properties,
-		@Qualifier("upbitRestTemplate") RestTemplate upbitRestTemplate) {
+		@Qualifier("upbitRestTemplate") RestTemplate upbitRestTemplate,
+		UpbitRateLimiter rateLimiter,
+		UpbitJwtSignerCache signerCache,
+		UpbitReadCoalescer readCoalescer,
+		UpbitCircuitBreaker circuitBreaker) {
 		this.properties = properties;
-		this.restTemplate = upbitRestTemplate;
-		this.objectMapper = new ObjectMapper()
-			.registerModule(new JavaTimeModule())
-			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		this.restExecutor = new UpbitRestExecutor(upbitRestTemplate, rateLimiter, circuitBreaker);
+		this.signerCache = signerCache;
+		this.readCoalescer = readCoalescer;
+		this.accountsTtl = Duration.ofMillis(properties.accountsCacheTtlMillis());
+		this.orderChanceTtl = Duration.ofMillis(properties.orderChanceCacheTtlMillis());
+		this.objectMapper = UpbitRequests.newObjectMapper();
+		this.accountReader = objectMapper.readerFor(AccountResponse.class);
+		this.orderChanceReader = objectMapper.readerFor(OrderChanceResponse.class);
+		this.orderReader = objectMapper.readerFor(OrderResponse.class);
+		this.replaceOrderReader = objectMapper.readerFor(ReplaceOrderResponse.class);
 	}
 
+	/**
+	 * 잔고 목록. 불변 리스트이며 accounts-cache-ttl-millis 동안 재사용된다.
+	 */
 	public List<AccountResponse> getAccounts(String accessKey, String secretKey) {
-		return executeGet(
-			accessKey, secretKey,
-			V1_ACCOUNTS,
-			Collections.emptyMap(),
-			new ParameterizedTypeReference<>() {},
-			"Failed to get accounts"
-		);
+		MultiValueMap<String, String> params = UpbitRequests.noParams();
+		return coalesce(accessKey, UpbitRequests.V1_ACCOUNTS, params, accountsTtl, () -> {
+			List<AccountResponse> accounts = new ArrayList<>();
+			execute(
+				accessKey, secretKey,
+				UpbitRateLimitGroup.DEFAULT,
+				HttpMethod.GET,
+				UpbitRequests.V1_ACCOUNTS,
+				params,
+				parser -> readArray(parser, accountReader, accounts::add),
+				"Failed to get accounts"
+			);
+			return List.copyOf(accounts);
+		});
 	}
 
 	public OrderChanceResponse getOrderChance(String accessKey, String secretKey, String market) {
-		Map<String, String> params = Collections.singletonMap("market", market);
-		return executeGet(
+		MultiValueMap<String, String> params = UpbitRequests.marketParams(market);
+		return coalesce(accessKey, UpbitRequests.V1_ORDERS_CHANCE, params, orderChanceTtl, () -> execute(
 			accessKey, secretKey,
-			V1_ORDERS_CHANCE,
+			UpbitRateLimitGroup.DEFAULT,
+			HttpMethod.GET,
+			UpbitRequests.V1_ORDERS_CHANCE,
 			params,
-			OrderChanceResponse.class,
+			orderChanceReader::readValue,
 			"Failed to get order chance"
-		);
+		));
 	}
 
 	public OrderResponse getOrder(String accessKey, String secretKey, String uuid, String identifier) {
-		if (uuid == null && identifier == null) {
-			throw new UpbitException("Either uuid or identifier must be provided");
-		}
-		Map<String, String> params = new HashMap<>();
-		if (uuid != null) params.put("uuid", uuid);
-		if (identifier != null) params.put("identifier", identifier);
-		return executeGet(
+		MultiValueMap<String, String> params = UpbitRequests.orderIdParams(uuid, identifier);
+		return coalesce(accessKey, UpbitRequests.V1_ORDER, params, Duration.ZERO, () -> execute(
 			accessKey, secretKey,
-			V1_ORDER,
+			UpbitRateLimitGroup.DEFAULT,
+			HttpMethod.GET,
+			UpbitRequests.V1_ORDER,
 			params,
-			OrderResponse.class,
+			orderReader::readValue,
 			"Failed to get order"
-		);
+		));
+	}
+
+	/**
+	 * 체결·주문으로 잔고/주문 가능 정보가 바뀌었을 때 캐시를 버린다.
+	 */
+	public void invalidateCachedReads(String accessKey) {
+		readCoalescer.invalidate(accessKey);
+	}
+
+	/**
+	 * GET /v1/orders/uuids. 여러 주문을 한 번(토큰 1개)에 조회한다. 없는 uuid는 결과에서 빠진다.
+	 *
+	 * @param uuids 1~100개
+	 */
+	public List<OrderResponse> getOrdersByUuids(String accessKey, String secretKey, String market, List<String> uuids) {
+		List<OrderResponse> orders = new ArrayList<>();
+		streamOrderList(accessKey, secretKey, UpbitRequests.V1_ORDERS_UUIDS,
+			UpbitRequests.orderUuidsParams(market, uuids), orders::add, "Failed to get orders by uuids");
+		return orders;
 	}
 
 	public List<OrderResponse> getOpenOrders(String accessKey, String secretKey, String market, List<String> states) {
-		return executeOrderList(accessKey, secretKey, V1_ORDERS_OPEN, market, states, "Failed to get open orders");
+		List<OrderResponse> orders = new ArrayList<>();
+		streamOpenOrders(accessKey, secretKey, market, states, orders::add);
+		return orders;
 	}
 
 	public List<OrderResponse> getClosedOrders(String accessKey, String secretKey, String market, List<String> states) {
-		return executeOrderList(accessKey, secretKey, V1_ORDERS_CLOSED, market, states, "Failed to get closed orders");
+		List<OrderResponse> orders = new ArrayList<>();
+		streamClosedOrders(accessKey, secretKey, market, states, orders::add);
+		return orders;
 	}
 
-	public OrderResponse createOrder(String accessKey, String secretKey, OrderRequest request) {
-		Map<String, String> params = new HashMap<>();
-		params.put("market", request.market());
-		params.put("side", request.side());
-		if (request.volume() != null) params.put("volume", request.volume());
-		if (request.price() != null) params.put("price", request.price());
-		params.put("ord_type", request.ordType());
-		if (request.identifier() != null) params.put("identifier", request.identifier());
-		if (request.timeInForce() != null) params.put("time_in_force", request.timeInForce());
-		if (request.smpType() != null) params.put("smp_type", request.smpType());
+	/**
+	 * 대기 주문을 한 건씩 디코딩해 consumer에 전달한다. 응답 배열 전체를 메모리에 올리지 않는다.
+	 *
+	 * @return 전달한 주문 수
+	 */
+	public int streamOpenOrders(String accessKey, String secretKey, String market, List<String> states,
+		Consumer<? super OrderResponse> consumer) {
+		return streamOrderList(accessKey, secretKey, UpbitRequests.V1_ORDERS_OPEN,
+			UpbitRequests.orderListParams(market, states), consumer, "Failed to get open orders");
+	}
 
-		String queryString = buildQueryString(params);
-		URI uri = buildUri(V1_ORDERS, "");
-		HttpHeaders headers = createHeaders(accessKey, secretKey, queryString);
-		HttpEntity<Map<String, String>> entity = new HttpEntity<>(params, Objects.requireNonNull(headers));
+	/**
+	 * 종료 주문을 한 건씩 디코딩해 consumer에 전달한다. 대량 이력 조회 시 List 적재 비용을 피한다.
+	 *
+	 * @return 전달한 주문 수
+	 */
+	public int streamClosedOrders(String accessKey, String secretKey, String market, List<String> states,
+		Consumer<? super OrderResponse> consumer) {
+		return streamOrderList(accessKey, secretKey, UpbitRequests.V1_ORDERS_CLOSED,
+			UpbitRequests.orderListParams(market, states), consumer, "Failed to get closed orders");
+	}
 
+	/**
+	 * 기간·건수 조건으로 종료 주문을 스트리밍 조회한다. 페이지 순회는 {@link #closedOrderCursor}를 사용.
+	 *
+	 * @return 전달한 주문 수(limit과 같으면 같은 기간에 남은 주문이 더 있을 수 있음)
+	 */
+	public int streamClosedOrders(String accessKey, String secretKey, ClosedOrdersQuery query,
+		Consumer<? super OrderResponse> consumer) {
+		return streamOrderList(accessKey, secretKey, UpbitRequests.V1_ORDERS_CLOSED,
+			UpbitRequests.closedOrderParams(query), consumer, "Failed to get closed orders");
+	}
+
+	/**
+	 * start 위치부터 until까지 종료 주문 이력을 지연 페이지 순회하는 커서를 연다.
+	 * 페이지를 새로 받기 직전마다 소비 완료 위치를 checkpoint로 넘기므로 호출 측이 저장해 두면 재시작 시 이어서 읽을 수 있다.
+	 */
+	public ClosedOrderCursor closedOrderCursor(String accessKey, String secretKey, String market,
+		ClosedOrderCursor.Position start, Instant until, Consumer<ClosedOrderCursor.Position> checkpoint) {
+		return new ClosedOrderCursor(
+			(query, page) -> streamClosedOrders(accessKey, secretKey, query, page),
+			market, start, until, checkpoint);
+	}
+
+	public OrderResponse createOrder(String accessKey, String secretKey, OrderRequest request) {
 		try {
-			ResponseEntity<String> response = restTemplate.exchange(Objects.requireNonNull(uri), Objects.requireNonNull(HttpMethod.POST), entity, String.class);
-			if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-				return objectMapper.readValue(response.getBody(), OrderResponse.class);
-			}
-			throw new UpbitException("Create order failed: " + response.getStatusCode());
-		} catch (HttpStatusCodeException e) {
-			throw toUpbitApiException(e);
-		} catch (Exception e) {
-			if (e instanceof UpbitException u) throw u;
-			log.warn("Create order error (no body logged)", e);
-			throw new UpbitException("Failed to create order: " + e.getMessage(), e);
+			return execute(
+				accessKey, secretKey,
+				UpbitRateLimitGroup.ORDER,
+				HttpMethod.POST,
+				UpbitRequests.V1_ORDERS,
+				UpbitRequests.createOrderParams(request),
+				orderReader::readValue,
+				"Failed to create order"
+			);
+		} finally {
+			readCoalescer.invalidate(accessKey);
 		}
 	}
 
 	public OrderResponse cancelOrder(String accessKey, String secretKey, String uuid, String identifier) {
-		if (uuid == null && identifier == null) {
-			throw new UpbitException("Either uuid or identifier must be provided");
-		}
-		Map<String, String> params = new HashMap<>();
-		if (uuid != null) params.put("uuid", uuid);
-		if (identifier != null) params.put("identifier", identifier);
-		String queryString = buildQueryString(params);
-		URI uri = buildUri(V1_ORDER, queryString);
-		HttpHeaders headers = createHeaders(accessKey, secretKey, queryString);
-
 		try {
-			ResponseEntity<String> response = restTemplate.exchange(
-				Objects.requireNonNull(uri), Objects.requireNonNull(HttpMethod.DELETE), new HttpEntity<>(Objects.requireNonNull(headers)), String.class);
-			if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-				return objectMapper.readValue(response.getBody(), OrderResponse.class);
-			}
-			throw new UpbitException("Cancel order failed: " + response.getStatusCode());
-		} catch (HttpStatusCodeException e) {
-			throw toUpbitApiException(e);
-		} catch (Exception e) {
-			if (e instanceof UpbitException u) throw u;
-			log.warn("Cancel order error (no body logged)", e);
-			throw new UpbitException("Failed to cancel order: " + e.getMessage(), e);
+			return execute(
+				accessKey, secretKey,
+				UpbitRateLimitGroup.DEFAULT,
+				HttpMethod.DELETE,
+				UpbitRequests.V1_ORDER,
+				UpbitRequests.orderIdParams(uuid, identifier),
+				orderReader::readValue,
+				"Failed to cancel order"
+			);
+		} finally {
+			readCoalescer.invalidate(accessKey);
 		}
 	}
 
 	public ReplaceOrderResponse replaceOrder(String accessKey, String secretKey, ReplaceOrderRequest request) {
-		Map<String, String> params = new HashMap<>();
-		if (request.prevOrderUuid() != null) params.put("prev_order_uuid", request.prevOrderUuid());
-		if (request.prevOrderIdentifier() != null) params.put("prev_order_identifier", request.prevOrderIdentifier());
-		params.put("new_ord_type", request.newOrdType());
-		if (request.newVolume() != null) params.put("new_volume", request.newVolume());
-		if (request.newPrice() != null) params.put("new_price", request.newPrice());
-		if (request.newSmpType() != null) params.put("new_smp_type", request.newSmpType());
-		if (request.newIdentifier() != null) params.put("new_identifier", request.newIdentifier());
-		if (request.newTimeInForce() != null) params.put("new_time_in_force", request.newTimeInForce());
-
-		String queryString = buildQueryString(params);
-		URI uri = buildUri(V1_ORDERS_CANCEL_AND_NEW, "");
-		HttpHeaders headers = createHeaders(accessKey, secretKey, queryString);
-		HttpEntity<Map<String, String>> entity = new HttpEntity<>(params, Objects.requireNonNull(headers));
-
 		try {
-			ResponseEntity<String> response = restTemplate.exchange(Objects.requireNonNull(uri), Objects.requireNonNull(HttpMethod.POST), entity, String.class);
-			if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-				return objectMapper.readValue(response.getBody(), ReplaceOrderResponse.class);
-			}
-			throw new UpbitException("Replace order failed: " + response.getStatusCode());
-		} catch (HttpStatusCodeException e) {
-			throw toUpbitApiException(e);
-		} catch (Exception e) {
-			if (e instanceof UpbitException u) throw u;
-			log.warn("Replace order error (no body logged)", e);
-			throw new UpbitException("Failed to replace order: " + e.getMessage(), e);
+			return execute(
+				accessKey, secretKey,
+				UpbitRateLimitGroup.ORDER,
+				HttpMethod.POST,
+				UpbitRequests.V1_ORDERS_CANCEL_AND_NEW,
+				UpbitRequests.replaceOrderParams(request),
+				replaceOrderReader::readValue,
+				"Failed to replace order"
+			);
+		} finally {
+			readCoalescer.invalidate(accessKey);
 		}
 	}
 
 	// --- private ---
 
-	private <T> T executeGet(String accessKey, String secretKey, String path, Map<String, String> params,
-		Class<T> responseType, String errorMessage) {
-		try {
-			String queryString = buildQueryString(params);
-			URI uri = buildUri(path, queryString);
-			HttpHeaders headers = createHeaders(accessKey, secretKey, queryString);
-			ResponseEntity<T> response = restTemplate.exchange(
-				Objects.requireNonNull(uri), Objects.requireNonNull(HttpMethod.GET), new HttpEntity<>(Objects.requireNonNull(headers)), Objects.requireNonNull(responseType));
-			return handleResponse(response, errorMessage);
-		} catch (HttpStatusCodeException e) {
-			throw toUpbitApiException(e);
-		} catch (Exception e) {
-			if (e instanceof UpbitException u) throw u;
-			throw new UpbitException(errorMessage, e);
-		}
+	@FunctionalInterface
+	private interface BodyReader<T> {
+		/**
+		 * @param parser 첫 토큰(START_OBJECT/START_ARRAY)에 위치한 파서
+		 */
+		T read(JsonParser parser) throws IOException;
 	}
 
-	private <T> T executeGet(String accessKey, String secretKey, String path, Map<String, String> params,
-		ParameterizedTypeReference<T> responseType, String errorMessage) {
-		try {
-			String queryString = buildQueryString(params);
-			URI uri = buildUri(path, queryString);
+	private int streamOrderList(String accessKey, String secretKey, String path, MultiValueMap<String, String> params,
+		Consumer<? super OrderResponse> consumer, String errorMessage) {
+		return execute(
+			accessKey, secretKey,
+			UpbitRateLimitGroup.DEFAULT,
+			HttpMethod.GET,
+			path, params,
+			parser -> readArray(parser, orderReader, consumer),
+			errorMessage
+		);
+	}
+
+	/**
+	 * 서명·레이트리밋·오류 매핑을 거쳐 한 번 호출하고, 응답 본문을 스트림에서 바로 읽는다.
+	 * GET/DELETE는 query string, POST는 JSON body로 보내며 query_hash는 둘 다 같은 문자열로 계산한다.
+	 * 429면 그룹 백오프, 오류 응답의 Remaining-Req도 반영한다.
+	 * 회로가 열렸거나 418 차단 중이면 서명·전송 없이 UpbitCircuitOpenException으로 실패한다.
+	 */
+	private <T> T execute(String accessKey, String secretKey, UpbitRateLimitGroup group, HttpMethod method,
+		String path, MultiValueMap<String, String> params, BodyReader<T> reader, String errorMessage) {
+		boolean jsonBody = HttpMethod.POST.equals(method);
+		T result = restExecutor.execute(group, method, () -> {
+			String queryString = UpbitRequests.buildQueryString(params);
 			HttpHeaders headers = createHeaders(accessKey, secretKey, queryString);
-			ResponseEntity<T> response = restTemplate.exchange(
-				Objects.requireNonNull(uri), Objects.requireNonNull(HttpMethod.GET), new HttpEntity<>(Objects.requireNonNull(headers)), Objects.requireNonNull(responseType));
-			return handleResponse(response, errorMessage);
-		} catch (HttpStatusCodeException e) {
-			throw toUpbitApiException(e);
-		} catch (Exception e) {
-			if (e instanceof UpbitException u) throw u;
-			throw new UpbitException(errorMessage, e);
+			return new UpbitRestExecutor.Prepared(buildUri(path, jsonBody ? "" : queryString),
+				jsonBody ? new HttpEntity<>(params.toSingleValueMap(), headers) : new HttpEntity<>(headers));
+		}, body -> {
+			try (JsonParser parser = objectMapper.createParser(body)) {
+				return parser.nextToken() == null ? null : reader.read(parser);
+			}
+		}, errorMessage, jsonBody || HttpMethod.DELETE.equals(method));
+		if (result == null) {
+			throw new UpbitException(errorMessage + ": empty body");
 		}
+		return result;
 	}
 
-	private List<OrderResponse> executeOrderList(String accessKey, String secretKey, String path,
-		String market, List<String> states, String errorMessage) {
-		Map<String, String> params = new HashMap<>();
-		if (market != null && !market.isEmpty()) params.put("market", market);
-		if (states != null && !states.isEmpty()) {
-			// Upbit expects states[]=wait&states[]=done etc.
-			for (String state : states) {
-				params.put("states[]", state);
-			}
+	private static <T> int readArray(JsonParser parser, ObjectReader reader, Consumer<? super T> consumer) throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			throw new UpbitException("Unexpected Upbit response: expected JSON array");
 		}
-		return executeGet(
-			accessKey, secretKey,
-			path, params,
-			new ParameterizedTypeReference<>() {},
-			errorMessage
-		);
+		int count = 0;
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			consumer.accept(reader.readValue(parser));
+			count++;
+		}
+		return count;
 	}
 
-	private static String buildQueryString(Map<String, String> params) {
-		if (params.isEmpty()) return "";
-		return params.entrySet().stream()
-			.map(e -> e.getKey() + "=" + e.getValue())
-			.collect(Collectors.joining("&"));
+	private <T> T coalesce(String accessKey, String path, MultiValueMap<String, String> params, Duration ttl,
+		Supplier<T> loader) {
+		UpbitReadCoalescer.Key key = new UpbitReadCoalescer.Key(accessKey, path, UpbitRequests.buildQueryString(params));
+		return readCoalescer.get(key, ttl, loader);
 	}
 
 	private URI buildUri(String path, String queryString) {
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(Objects.requireNonNull(properties.baseUrl())).path(Objects.requireNonNull(path));
-		if (queryString != null && !queryString.isEmpty()) {
-			builder.query(Objects.requireNonNull(queryString));
-		}
-		return builder.build().toUri();
+		return UpbitRequests.buildUri(properties.baseUrl(), path, queryString);
 	}
 
 	private HttpHeaders createHeaders(String accessKey, String secretKey, String queryString) {
-		String token = UpbitJwtProvider.createToken(accessKey, secretKey, queryString);
+		String token = signerCache.signerFor(accessKey, secretKey).sign(queryString);
 		HttpHeaders headers = new HttpHeaders();
 		headers.setContentType(MediaType.APPLICATION_JSON);
 		headers.setBearerAuth(Objects.requireNonNull(token));
 		return headers;
 	}
-
-	private static <T> T handleResponse(ResponseEntity<T> response, String errorMessage) {
-		if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-			return response.getBody();
-		}
-		throw new UpbitException(errorMessage + ": " + response.getStatusCode());
-	}
-
-	private static UpbitApiException toUpbitApiException(HttpStatusCodeException e) {
-		String body = null;
-		try {
-			body = e.getResponseBodyAsString();
-		} catch (Exception ignored) {}
-		return new UpbitApiException(e.getStatusCode(), body);
-	}
 }
@@ -0,0 +1,15 @@
+package com.everbit.everbit.integrations.upbit;
+
+import java.time.Instant;
+
+/**
+ * 418 전역 차단 시작/해제 이벤트. haltedUntil이 null이면 해제(UpbitCircuitBreaker.clearHalt 호출 시에만).
+ */
+public record UpbitHaltChangedEvent(
+	Instant haltedUntil,
+	Instant occurredAt
+) {
+	public boolean halted() {
+		return haltedUntil != null;
+	}
+}
@@ -0,0 +1,13 @@
+package com.everbit.everbit.integrations.upbit;
+
+/**
+ * Upbit REST 전송 계층 선택. SoT: docs/integrations/upbit.md §5.
+ * POOLED: Apache HttpClient 5 커넥션 풀(HTTP/1.1 keep-alive, 풀 메트릭).
+ * JDK: JDK HttpClient(HTTP/2 우선, 내부 풀). 풀 크기는 jdk.httpclient.connectionPoolSize 시스템 속성으로만 제어.
+ * SIMPLE: HttpURLConnection. 호출마다 연결을 맺으므로 디버깅 용도.
+ */
+public enum UpbitHttpTransport {
+	POOLED,
+	JDK,
+	SIMPLE
+}
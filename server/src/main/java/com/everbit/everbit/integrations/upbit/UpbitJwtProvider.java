@@ -12,6 +12,7 @@ import java.util.UUID;
 /**
  * Upbit REST API 인증용 JWT 생성. SoT: docs/integrations/upbit.md §3, Upbit 인증 문서.
  * Access/Secret은 호출 측에서 복호화 후 전달하며, 이 클래스는 로그에 남기지 않는다.
+ * 호출마다 Algorithm/MessageDigest를 새로 만든다. 클라이언트 경로는 UpbitJwtSigner(캐시된 서명기)를 쓴다.
  */
 public final class UpbitJwtProvider {
 
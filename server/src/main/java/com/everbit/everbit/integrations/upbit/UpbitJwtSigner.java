@@ -0,0 +1,156 @@
+package com.everbit.everbit.integrations.upbit;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Supplier;
+
+/**
+ * 자격 증명 하나에 묶인 Upbit JWT(HS256) 서명기. SoT: docs/integrations/upbit.md §3.1.
+ * UpbitJwtProvider.createToken과 같은 토큰을 만들되, 헤더와 payload 앞부분을 미리 인코딩해 두고
+ * 키 초기화가 끝난 Mac과 SHA-512 MessageDigest를 작은 풀에 두고 빌려 쓴다.
+ * ThreadLocal은 가상 스레드 모드에서 요청마다 새 스레드라 재사용되지 않으므로 쓰지 않는다.
+ * 인스턴스는 스레드 안전하며 UpbitJwtSignerCache가 access key 단위로 보관한다. 키 원문은 로그에 남기지 않는다.
+ */
+public final class UpbitJwtSigner {
+
+	private static final String HMAC_ALG = "HmacSHA256";
+	private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+	private static final HexFormat HEX = HexFormat.of();
+	/** {"alg":"HS256","typ":"JWT"} */
+	private static final String ENCODED_HEADER = BASE64_URL.encodeToString(
+		"{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+
+	/** 풀에 남겨 두는 최대 인스턴스 수. 동시 서명이 더 많으면 초과분은 새로 만들고 버린다. */
+	private static final int POOL_SIZE = 16;
+
+	private static final Pool<MessageDigest> SHA512 = new Pool<>(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-512");
+		} catch (NoSuchAlgorithmException e) {
+			throw new UpbitException("SHA-512 not available", e);
+		}
+	});
+
+	private final String accessKey;
+	private final byte[] secret;
+	private final String payloadPrefix;
+	private final Pool<Mac> macs;
+
+	private UpbitJwtSigner(String accessKey, String secretKey) {
+		this.accessKey = accessKey;
+		this.secret = secretKey.getBytes(StandardCharsets.UTF_8);
+		this.payloadPrefix = "{\"access_key\":\"" + escapeJson(accessKey) + "\",\"nonce\":\"";
+		SecretKeySpec keySpec = new SecretKeySpec(secret, HMAC_ALG);
+		this.macs = new Pool<>(() -> {
+			try {
+				Mac m = Mac.getInstance(HMAC_ALG);
+				m.init(keySpec);
+				return m;
+			} catch (GeneralSecurityException e) {
+				throw new UpbitException("HmacSHA256 init failed", e);
+			}
+		});
+	}
+
+	public static UpbitJwtSigner of(String accessKey, String secretKey) {
+		if (accessKey == null || secretKey == null) {
+			throw new UpbitException("Upbit credentials must not be null");
+		}
+		return new UpbitJwtSigner(accessKey, secretKey);
+	}
+
+	public String accessKey() {
+		return accessKey;
+	}
+
+	/**
+	 * 이 서명기가 주어진 secret으로 만들어졌는지(상수 시간 비교). 키 교체 감지용.
+	 */
+	public boolean matches(String secretKey) {
+		return secretKey != null && MessageDigest.isEqual(secret, secretKey.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param queryString GET이면 query string, POST/DELETE면 body를 query string 형태로. 없으면 "".
+	 */
+	public String sign(String queryString) {
+		StringBuilder payload = new StringBuilder(256)
+			.append(payloadPrefix)
+			.append(UUID.randomUUID())
+			.append('"');
+		if (queryString != null && !queryString.isEmpty()) {
+			payload.append(",\"query_hash\":\"")
+				.append(HEX.formatHex(sha512(queryString.getBytes(StandardCharsets.UTF_8))))
+				.append("\",\"query_hash_alg\":\"SHA512\"");
+		}
+		payload.append('}');
+
+		String signingInput = ENCODED_HEADER + '.'
+			+ BASE64_URL.encodeToString(payload.toString().getBytes(StandardCharsets.UTF_8));
+		Mac mac = macs.borrow();
+		byte[] signature;
+		try {
+			signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+		} finally {
+			macs.release(mac);
+		}
+		return signingInput + '.' + BASE64_URL.encodeToString(signature);
+	}
+
+	private static byte[] sha512(byte[] input) {
+		// digest()가 내부 상태를 초기화하므로 반납 후 그대로 재사용 가능
+		MessageDigest digest = SHA512.borrow();
+		try {
+			return digest.digest(input);
+		} finally {
+			SHA512.release(digest);
+		}
+	}
+
+	private static String escapeJson(String value) {
+		StringBuilder sb = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\').append(c);
+			} else if (c < 0x20) {
+				sb.append(String.format("\\u%04x", (int) c));
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 기다리지 않고(poll/offer) 빌리고 반납하는 고정 크기 풀. 비어 있으면 새로 만들고, 가득 차 있으면 반납분을 버린다.
+	 * doFinal/digest 이후 인스턴스 상태가 초기화되므로 반납 전 별도 reset은 필요 없다.
+	 */
+	private static final class Pool<T> {
+
+		private final BlockingQueue<T> idle = new ArrayBlockingQueue<>(POOL_SIZE);
+		private final Supplier<T> factory;
+
+		Pool(Supplier<T> factory) {
+			this.factory = factory;
+		}
+
+		T borrow() {
+			T instance = idle.poll();
+			return instance != null ? instance : factory.get();
+		}
+
+		void release(T instance) {
+			idle.offer(instance);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package com.everbit.everbit.integrations.upbit;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * access key별 UpbitJwtSigner 보관소. 호출마다 Mac 초기화/헤더 인코딩을 반복하지 않도록 한다.
+ * 같은 access key라도 secret이 바뀌었으면 서명기를 새로 만든다(다른 인스턴스에서 키를 교체한 경우 포함).
+ * UpbitKeyService가 키 등록(교체)/삭제 시 {@link #invalidate}로 이전 서명기를 버린다.
+ */
+@Component
+public class UpbitJwtSignerCache {
+
+	private final ConcurrentMap<String, UpbitJwtSigner> signers = new ConcurrentHashMap<>();
+
+	public UpbitJwtSigner signerFor(String accessKey, String secretKey) {
+		if (accessKey == null) {
+			throw new UpbitException("Upbit access key must not be null");
+		}
+		UpbitJwtSigner signer = signers.get(accessKey);
+		if (signer != null && signer.matches(secretKey)) {
+			return signer;
+		}
+		UpbitJwtSigner created = UpbitJwtSigner.of(accessKey, secretKey);
+		signers.put(accessKey, created);
+		return created;
+	}
+
+	public void invalidate(String accessKey) {
+		if (accessKey != null) {
+			signers.remove(accessKey);
+		}
+	}
+
+	int size() {
+		return signers.size();
+	}
+}
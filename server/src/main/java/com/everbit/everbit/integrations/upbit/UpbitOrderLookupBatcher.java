@@ -0,0 +1,189 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단건 주문 조회 묶음 처리. SoT: docs/integrations/upbit.md §5.1.4.
+ * 같은 access key로 짧은 창(order-lookup-batch-window-millis) 안에 들어온 조회를 모아
+ * GET /v1/orders/uuids 한 번(토큰 1개)으로 보내고, 결과를 uuid별로 각 호출자에게 돌려준다.
+ * 창이 끝나거나 uuid가 order-lookup-batch-size에 차면 즉시 보낸다. 같은 uuid 중복 조회는 한 자리만 차지한다.
+ * Upbit 응답에 없는 uuid는 Optional.empty(), 호출 실패는 묶음 전체가 같은 예외로 끝난다.
+ * 스케줄러는 창 타이머만 맡고, 블로킹 REST 전송은 늘 별도 실행기에서 한다(타이머가 전송에 막히지 않게).
+ * 전송 실행기는 가상 스레드 모드(spring.threads.virtual.enabled)면 가상 스레드, 아니면 DISPATCH_THREADS개 고정 풀이다.
+ */
+@Slf4j
+@Component
+public class UpbitOrderLookupBatcher {
+
+	/** 플랫폼 스레드 모드의 동시 전송 수. 전송은 어차피 DEFAULT 그룹 레이트리미터를 거친다. */
+	private static final int DISPATCH_THREADS = 4;
+
+	@FunctionalInterface
+	interface OrderLookup {
+		List<OrderResponse> fetch(String accessKey, String secretKey, List<String> uuids);
+	}
+
+	private final OrderLookup lookup;
+	private final long windowMillis;
+	private final int batchSize;
+	private final ScheduledExecutorService scheduler;
+	private final ExecutorService dispatcher;
+	private final DistributionSummary batchSizes;
+	private final ConcurrentMap<String, Batch> pending = new ConcurrentHashMap<>();
+
+	@Autowired
+	public UpbitOrderLookupBatcher(UpbitExchangeClient client, UpbitProperties properties, MeterRegistry meterRegistry,
+		Environment environment) {
+		this((accessKey, secretKey, uuids) -> client.getOrdersByUuids(accessKey, secretKey, null, uuids),
+			properties.orderLookupBatchWindowMillis(), properties.orderLookupBatchSize(), meterRegistry,
+			Executors.newSingleThreadScheduledExecutor(r -> {
+				Thread t = new Thread(r, "upbit-order-lookup-timer");
+				t.setDaemon(true);
+				return t;
+			}),
+			Threading.VIRTUAL.isActive(environment)
+				? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("upbit-order-lookup-", 0).factory())
+				: Executors.newFixedThreadPool(DISPATCH_THREADS, Thread.ofPlatform().daemon()
+					.name("upbit-order-lookup-", 0).factory()));
+	}
+
+	/**
+	 * @param scheduler  창 타이머 전용
+	 * @param dispatcher 묶음 전송(블로킹 REST) 실행기. scheduler와 달라야 한다.
+	 */
+	UpbitOrderLookupBatcher(OrderLookup lookup, long windowMillis, int batchSize, MeterRegistry meterRegistry,
+		ScheduledExecutorService scheduler, ExecutorService dispatcher) {
+		this.lookup = lookup;
+		this.windowMillis = windowMillis;
+		this.batchSize = batchSize;
+		this.scheduler = scheduler;
+		if (dispatcher == null || dispatcher == scheduler) {
+			throw new IllegalArgumentException("dispatcher must be a separate executor");
+		}
+		this.dispatcher = dispatcher;
+		this.batchSizes = DistributionSummary.builder("upbit.order.lookup.batch.size")
+			.description("/v1/orders/uuids 한 번에 묶인 uuid 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 조회를 현재 묶음에 넣는다. 블로킹 없이 반환하며 묶음 전송 후 완료된다.
+	 */
+	public CompletableFuture<Optional<OrderResponse>> lookup(String accessKey, String secretKey, String uuid) {
+		if (accessKey == null || uuid == null) {
+			return CompletableFuture.failedFuture(new UpbitException("accessKey and uuid must be provided"));
+		}
+		CompletableFuture<Optional<OrderResponse>> future = new CompletableFuture<>();
+		Batch[] full = new Batch[1];
+		pending.compute(accessKey, (key, batch) -> {
+			if (batch == null) {
+				Batch created = new Batch(key, secretKey);
+				scheduler.schedule(() -> flush(created), windowMillis, TimeUnit.MILLISECONDS);
+				batch = created;
+			}
+			batch.add(uuid, future);
+			if (batch.size() >= batchSize) {
+				full[0] = batch;
+				return null;
+			}
+			return batch;
+		});
+		if (full[0] != null) {
+			dispatcher.execute(() -> dispatch(full[0]));
+		}
+		return future;
+	}
+
+	/**
+	 * {@link #lookup}의 블로킹 버전. 실패 시 원래 UpbitException을 그대로 던진다.
+	 */
+	public Optional<OrderResponse> getOrder(String accessKey, String secretKey, String uuid) {
+		try {
+			return lookup(accessKey, secretKey, uuid).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof UpbitException upbitException) {
+				throw upbitException;
+			}
+			throw new UpbitException("Failed to get order: " + e.getMessage(), e);
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdownNow();
+		dispatcher.shutdownNow();
+	}
+
+	/**
+	 * 창 만료. 아직 대기 중이면 떼어내서 보낸다(이미 가득 차서 보낸 묶음이면 무시).
+	 */
+	private void flush(Batch batch) {
+		if (pending.remove(batch.accessKey, batch)) {
+			dispatcher.execute(() -> dispatch(batch));
+		}
+	}
+
+	private void dispatch(Batch batch) {
+		List<String> uuids = new ArrayList<>(batch.waiters.keySet());
+		batchSizes.record(uuids.size());
+		try {
+			Map<String, OrderResponse> byUuid = new HashMap<>();
+			for (OrderResponse order : lookup.fetch(batch.accessKey, batch.secretKey, uuids)) {
+				byUuid.put(order.uuid(), order);
+			}
+			batch.waiters.forEach((uuid, futures) -> {
+				Optional<OrderResponse> result = Optional.ofNullable(byUuid.get(uuid));
+				futures.forEach(f -> f.complete(result));
+			});
+		} catch (RuntimeException e) {
+			log.debug("Batched order lookup failed: uuids={}", uuids.size(), e);
+			batch.waiters.values().forEach(futures -> futures.forEach(f -> f.completeExceptionally(e)));
+		}
+	}
+
+	/**
+	 * access key 하나의 대기 묶음. pending.compute 안에서만 변경되고, 맵에서 떼어낸 뒤에만 읽힌다.
+	 */
+	private static final class Batch {
+
+		private final String accessKey;
+		private final String secretKey;
+		private final Map<String, List<CompletableFuture<Optional<OrderResponse>>>> waiters = new LinkedHashMap<>();
+
+		Batch(String accessKey, String secretKey) {
+			this.accessKey = accessKey;
+			this.secretKey = secretKey;
+		}
+
+		void add(String uuid, CompletableFuture<Optional<OrderResponse>> future) {
+			waiters.computeIfAbsent(uuid, k -> new ArrayList<>(1)).add(future);
+		}
+
+		int size() {
+			return waiters.size();
+		}
+	}
+}
@@ -5,12 +5,28 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 /**
  * Upbit API 설정. SoT: docs/integrations/upbit.md.
  * base-url만 설정, 키는 DB(UpbitKey)에서 암호문으로 보관.
+ * rate-limit-max-wait-millis: 로컬 레이트리미터 토큰 대기 상한. 넘으면 전송 없이 실패(§4).
+ * transport/max-connections/connection-idle-evict-seconds: REST 전송 계층과 커넥션 풀 설정(§5).
+ * order-lookup-batch-window-millis/order-lookup-batch-size: 단건 주문 조회를 /v1/orders/uuids로 묶는 대기 시간과 최대 uuid 수(§5.1.4).
+ * accounts-cache-ttl-millis/order-chance-cache-ttl-millis: /v1/accounts, /v1/orders/chance 응답 재사용 시간(§5.1.5).
+ * circuit-failure-threshold/circuit-open-seconds/halt-seconds: 그룹 회로 차단 임계치·열림 시간, 418 기본 차단 시간(§4.3, §4.5).
  */
 @ConfigurationProperties(prefix = "upbit.api")
 public record UpbitProperties(
 	String baseUrl,
 	int connectTimeoutSeconds,
-	int readTimeoutSeconds
+	int readTimeoutSeconds,
+	long rateLimitMaxWaitMillis,
+	UpbitHttpTransport transport,
+	int maxConnections,
+	int connectionIdleEvictSeconds,
+	long orderLookupBatchWindowMillis,
+	int orderLookupBatchSize,
+	long accountsCacheTtlMillis,
+	long orderChanceCacheTtlMillis,
+	int circuitFailureThreshold,
+	int circuitOpenSeconds,
+	int haltSeconds
 ) {
 	public static final String DEFAULT_BASE_URL = "https://api.upbit.com";
 
@@ -24,5 +40,38 @@ public record UpbitProperties(
 		if (readTimeoutSeconds <= 0) {
 			readTimeoutSeconds = 5;
 		}
+		if (rateLimitMaxWaitMillis <= 0) {
+			rateLimitMaxWaitMillis = 1000;
+		}
+		if (transport == null) {
+			transport = UpbitHttpTransport.POOLED;
+		}
+		if (maxConnections <= 0) {
+			maxConnections = 20;
+		}
+		if (connectionIdleEvictSeconds <= 0) {
+			connectionIdleEvictSeconds = 30;
+		}
+		if (orderLookupBatchWindowMillis <= 0) {
+			orderLookupBatchWindowMillis = 20;
+		}
+		if (orderLookupBatchSize <= 0 || orderLookupBatchSize > UpbitRequests.MAX_UUIDS_PER_LOOKUP) {
+			orderLookupBatchSize = UpbitRequests.MAX_UUIDS_PER_LOOKUP;
+		}
+		if (accountsCacheTtlMillis <= 0) {
+			accountsCacheTtlMillis = 1000;
+		}
+		if (orderChanceCacheTtlMillis <= 0) {
+			orderChanceCacheTtlMillis = 1000;
+		}
+		if (circuitFailureThreshold <= 0) {
+			circuitFailureThreshold = 5;
+		}
+		if (circuitOpenSeconds <= 0) {
+			circuitOpenSeconds = 10;
+		}
+		if (haltSeconds <= 0) {
+			haltSeconds = 600;
+		}
 	}
 }
@@ -0,0 +1,80 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.CandleResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Upbit Quotation REST API 클라이언트(인증 없음). SoT: docs/integrations/upbit.md §2.1.
+ * Exchange 클라이언트와 같은 호출 경로({@link UpbitRestExecutor}: 레이트리미터·회로 차단기·오류 매핑)를 쓰되 CANDLE 그룹 버킷을 소비한다.
+ * 응답은 스트림에서 바로 디코딩해 consumer로 넘긴다.
+ */
+@Component
+public class UpbitQuotationClient {
+
+	/** 캔들 조회 1회 최대 개수. */
+	public static final int MAX_CANDLES_PER_REQUEST = UpbitRequests.MAX_CANDLES_PER_REQUEST;
+
+	private final UpbitProperties properties;
+	private final UpbitRestExecutor restExecutor;
+	private final ObjectMapper objectMapper;
+	private final ObjectReader candleReader;
+
+	public UpbitQuotationClient(UpbitProperties properties,
+		@Qualifier("upbitRestTemplate") RestTemplate upbitRestTemplate,
+		UpbitRateLimiter rateLimiter,
+		UpbitCircuitBreaker circuitBreaker) {
+		this.properties = properties;
+		this.restExecutor = new UpbitRestExecutor(upbitRestTemplate, rateLimiter, circuitBreaker);
+		this.objectMapper = UpbitRequests.newObjectMapper();
+		this.candleReader = objectMapper.readerFor(CandleResponse.class);
+	}
+
+	/**
+	 * 시작 시각이 to 이전인 캔들을 최신순으로 최대 count개 넘긴다.
+	 *
+	 * @param timeframeMinutes 1, 3, 5, 10, 15, 30, 60, 240 또는 1440(일봉)
+	 * @param to               배타적 상한(캔들 시작 시각 기준). null이면 현재
+	 * @param count            1~{@link #MAX_CANDLES_PER_REQUEST}
+	 * @return 넘긴 캔들 수
+	 */
+	public int streamCandles(String market, int timeframeMinutes, Instant to, int count,
+		Consumer<? super CandleResponse> consumer) {
+		String path = UpbitRequests.candlePath(timeframeMinutes);
+		MultiValueMap<String, String> params = UpbitRequests.candleParams(market, to, count);
+		Integer delivered = restExecutor.execute(UpbitRateLimitGroup.CANDLE, HttpMethod.GET, () -> {
+			HttpHeaders headers = new HttpHeaders();
+			headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+			return new UpbitRestExecutor.Prepared(
+				UpbitRequests.buildUri(properties.baseUrl(), path, UpbitRequests.buildQueryString(params)),
+				new HttpEntity<>(headers));
+		}, body -> {
+			try (JsonParser parser = objectMapper.createParser(body)) {
+				if (parser.nextToken() != JsonToken.START_ARRAY) {
+					throw new UpbitException("Unexpected Upbit response: expected JSON array");
+				}
+				int n = 0;
+				while (parser.nextToken() == JsonToken.START_OBJECT) {
+					consumer.accept(candleReader.readValue(parser));
+					n++;
+				}
+				return n;
+			}
+		}, "Failed to get candles", false);
+		return delivered != null ? delivered : 0;
+	}
+}
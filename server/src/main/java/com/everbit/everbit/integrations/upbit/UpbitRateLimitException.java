@@ -0,0 +1,27 @@
+package com.everbit.everbit.integrations.upbit;
+
+import java.time.Duration;
+
+/**
+ * 로컬 레이트리미터가 전송 전에 거절한 호출. Upbit까지 요청이 나가지 않았으므로 주문 생성도 재시도 안전.
+ * 429와 동일하게 THROTTLED로 취급. SoT: docs/integrations/upbit.md §4.2.
+ */
+public class UpbitRateLimitException extends UpbitException {
+
+	private final UpbitRateLimitGroup group;
+	private final Duration retryAfter;
+
+	public UpbitRateLimitException(UpbitRateLimitGroup group, Duration retryAfter) {
+		super("Upbit rate limit exhausted locally: group=" + group.headerName() + ", retryAfter=" + retryAfter.toMillis() + "ms");
+		this.group = group;
+		this.retryAfter = retryAfter;
+	}
+
+	public UpbitRateLimitGroup getGroup() {
+		return group;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+}
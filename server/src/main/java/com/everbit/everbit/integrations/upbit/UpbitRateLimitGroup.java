@@ -0,0 +1,48 @@
+package com.everbit.everbit.integrations.upbit;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Upbit Rate Limit 그룹. SoT: docs/integrations/upbit.md §4, Upbit Rate Limit 문서.
+ * Remaining-Req 헤더의 group 값과 1:1 대응하며, 용량은 Upbit 공시 기준 기본값이다.
+ */
+public enum UpbitRateLimitGroup {
+	DEFAULT("default", 30, Duration.ofSeconds(1)),
+	ORDER("order", 8, Duration.ofSeconds(1)),
+	ORDER_TEST("order-test", 8, Duration.ofSeconds(1)),
+	ORDER_CANCEL_ALL("order-cancel-all", 1, Duration.ofSeconds(2)),
+	/** Quotation 캔들 조회(IP 단위). 인증 없는 시세 API라 Exchange 그룹과 버킷을 나눈다. */
+	CANDLE("candle", 10, Duration.ofSeconds(1));
+
+	private final String headerName;
+	private final int capacity;
+	private final Duration period;
+
+	UpbitRateLimitGroup(String headerName, int capacity, Duration period) {
+		this.headerName = headerName;
+		this.capacity = capacity;
+		this.period = period;
+	}
+
+	public String headerName() {
+		return headerName;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public Duration period() {
+		return period;
+	}
+
+	public static Optional<UpbitRateLimitGroup> fromHeaderName(String name) {
+		for (UpbitRateLimitGroup group : values()) {
+			if (group.headerName.equals(name)) {
+				return Optional.of(group);
+			}
+		}
+		return Optional.empty();
+	}
+}
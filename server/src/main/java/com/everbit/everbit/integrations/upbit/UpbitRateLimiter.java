@@ -0,0 +1,231 @@
+package com.everbit.everbit.integrations.upbit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Upbit 그룹별 토큰 버킷 레이트리미터. SoT: docs/integrations/upbit.md §4.
+ * 버킷은 GCRA(가상 도착 시각 TAT 하나를 CAS로 갱신)로 구현해 락이 없다.
+ * 전송 전 {@link #acquire}로 토큰을 예약하고, 응답마다 Remaining-Req의 sec 값으로 버킷을 보정한다.
+ * 대기 상한(rate-limit-max-wait-millis)을 넘는 호출은 보내지 않고 {@link UpbitRateLimitException}으로 즉시 실패한다.
+ */
+@Slf4j
+@Component
+public class UpbitRateLimiter {
+
+	public static final String REMAINING_REQ_HEADER = "Remaining-Req";
+
+	/** Remaining-Req 파싱 실패 시 보수적으로 가정하는 잔여 요청 수(§4.1). */
+	private static final int CONSERVATIVE_REMAINING = 1;
+	/** 429 수신 시 해당 그룹 호출을 멈추는 시간(§4.2). */
+	private static final Duration THROTTLE_BACKOFF = Duration.ofSeconds(1);
+
+	private final Map<UpbitRateLimitGroup, Bucket> buckets = new EnumMap<>(UpbitRateLimitGroup.class);
+	private final long maxWaitNanos;
+	private final LongSupplier nanoClock;
+
+	@Autowired
+	public UpbitRateLimiter(UpbitProperties properties, MeterRegistry meterRegistry) {
+		this(properties, meterRegistry, System::nanoTime);
+	}
+
+	UpbitRateLimiter(UpbitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+		this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(properties.rateLimitMaxWaitMillis());
+		this.nanoClock = nanoClock;
+		for (UpbitRateLimitGroup group : UpbitRateLimitGroup.values()) {
+			buckets.put(group, new Bucket(group, meterRegistry, nanoClock));
+		}
+	}
+
+	/**
+	 * 토큰 1개를 예약한다. 토큰이 없으면 대기 상한까지 잠들고, 상한을 넘으면 예약하지 않고 실패한다.
+	 */
+	public void acquire(UpbitRateLimitGroup group) {
+		Duration wait = reserve(group);
+		if (!wait.isZero()) {
+			try {
+				TimeUnit.NANOSECONDS.sleep(wait.toNanos());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new UpbitException("Interrupted while waiting for Upbit rate limit", e);
+			}
+		}
+	}
+
+	/**
+	 * 잠들지 않고 토큰만 예약한다. 반환된 시간만큼 지난 뒤 전송해야 한다(리액티브 경로는 Mono.delay로 대기).
+	 */
+	public Duration reserve(UpbitRateLimitGroup group) {
+		Bucket bucket = buckets.get(group);
+		long waitNanos = bucket.reserve(nanoClock.getAsLong(), maxWaitNanos);
+		if (waitNanos < 0) {
+			bucket.rejected.increment();
+			throw new UpbitRateLimitException(group, Duration.ofNanos(-waitNanos));
+		}
+		bucket.waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+		return Duration.ofNanos(waitNanos);
+	}
+
+	/**
+	 * 응답의 Remaining-Req 헤더로 버킷을 보정한다. 헤더에 group이 있으면 그 그룹을, 없으면 호출 그룹을 보정한다.
+	 * 헤더가 없으면(게이트웨이 오류 등) 무시하고, 형식이 깨졌으면 보수적으로 잔여 1회로 본다.
+	 */
+	public void onResponse(UpbitRateLimitGroup requestGroup, String remainingReqHeader) {
+		if (remainingReqHeader == null || remainingReqHeader.isBlank()) {
+			return;
+		}
+		RemainingReq parsed = RemainingReq.parse(remainingReqHeader);
+		if (parsed == null) {
+			log.debug("Unparseable Remaining-Req header, applying conservative limit: group={}", requestGroup.headerName());
+			buckets.get(requestGroup).observe(nanoClock.getAsLong(), CONSERVATIVE_REMAINING);
+			return;
+		}
+		UpbitRateLimitGroup group = UpbitRateLimitGroup.fromHeaderName(parsed.group()).orElse(requestGroup);
+		buckets.get(group).observe(nanoClock.getAsLong(), parsed.sec());
+	}
+
+	/**
+	 * 429 수신. 해당 그룹을 백오프 동안 비운다.
+	 */
+	public void onThrottled(UpbitRateLimitGroup group) {
+		Bucket bucket = buckets.get(group);
+		bucket.throttled.increment();
+		bucket.block(nanoClock.getAsLong(), THROTTLE_BACKOFF.toNanos());
+	}
+
+	public int availablePermits(UpbitRateLimitGroup group) {
+		return buckets.get(group).available(nanoClock.getAsLong());
+	}
+
+	record RemainingReq(String group, int min, int sec) {
+
+		static RemainingReq parse(String header) {
+			String group = null;
+			Integer min = null;
+			Integer sec = null;
+			for (String part : header.split(";")) {
+				int eq = part.indexOf('=');
+				if (eq < 0) {
+					continue;
+				}
+				String key = part.substring(0, eq).trim();
+				String value = part.substring(eq + 1).trim();
+				try {
+					switch (key) {
+						case "group" -> group = value;
+						case "min" -> min = Integer.parseInt(value);
+						case "sec" -> sec = Integer.parseInt(value);
+						default -> { }
+					}
+				} catch (NumberFormatException e) {
+					return null;
+				}
+			}
+			if (group == null || sec == null) {
+				return null;
+			}
+			return new RemainingReq(group, min != null ? min : -1, sec);
+		}
+	}
+
+	/**
+	 * 단일 그룹 버킷. tat(theoretical arrival time)만 상태로 가지며 모든 전이는 CAS 루프.
+	 * emission = period / capacity, tolerance = (capacity - 1) * emission.
+	 */
+	private static final class Bucket {
+
+		private final int capacity;
+		private final long emissionNanos;
+		private final long toleranceNanos;
+		private final AtomicLong tat;
+
+		private final Timer waitTimer;
+		private final Counter rejected;
+		private final Counter throttled;
+
+		Bucket(UpbitRateLimitGroup group, MeterRegistry registry, LongSupplier nanoClock) {
+			this.capacity = group.capacity();
+			this.emissionNanos = group.period().toNanos() / group.capacity();
+			this.toleranceNanos = (capacity - 1) * emissionNanos;
+			this.tat = new AtomicLong(Long.MIN_VALUE / 2);
+			String tag = group.headerName();
+			this.waitTimer = Timer.builder("upbit.ratelimit.wait")
+				.description("Upbit 호출 전 토큰 대기 시간")
+				.tag("group", tag)
+				.register(registry);
+			this.rejected = Counter.builder("upbit.ratelimit.rejected")
+				.description("대기 상한 초과로 전송 전 거절된 호출")
+				.tag("group", tag)
+				.register(registry);
+			this.throttled = Counter.builder("upbit.ratelimit.throttled")
+				.description("Upbit 429 응답 수")
+				.tag("group", tag)
+				.register(registry);
+			Gauge.builder("upbit.ratelimit.permits", this, b -> b.available(nanoClock.getAsLong()))
+				.description("현재 사용 가능한 토큰 수")
+				.tag("group", tag)
+				.register(registry);
+		}
+
+		/**
+		 * @return 예약 성공 시 대기해야 할 나노초(0 이상), 대기 상한 초과 시 -(필요 대기 시간)
+		 */
+		long reserve(long now, long maxWaitNanos) {
+			while (true) {
+				long current = tat.get();
+				long base = Math.max(current, now);
+				long wait = base - toleranceNanos - now;
+				if (wait > maxWaitNanos) {
+					return -wait;
+				}
+				if (tat.compareAndSet(current, base + emissionNanos)) {
+					return Math.max(wait, 0);
+				}
+			}
+		}
+
+		/**
+		 * 서버가 알려준 잔여 요청 수에 맞춰 버킷을 좁힌다. 응답 순서가 뒤섞여도 느슨해지지 않도록 max만 취한다.
+		 */
+		void observe(long now, int remaining) {
+			if (remaining >= capacity) {
+				return;
+			}
+			block(now, (long) (capacity - Math.max(remaining, 0)) * emissionNanos - toleranceNanos);
+		}
+
+		/**
+		 * now + delay 전까지 토큰이 없도록 tat를 밀어낸다.
+		 */
+		void block(long now, long delayNanos) {
+			long target = now + toleranceNanos + delayNanos;
+			while (true) {
+				long current = tat.get();
+				if (current >= target || tat.compareAndSet(current, target)) {
+					return;
+				}
+			}
+		}
+
+		int available(long now) {
+			long base = Math.max(tat.get(), now);
+			long headroom = now + toleranceNanos - base;
+			if (headroom < 0) {
+				return 0;
+			}
+			return (int) Math.min(capacity, headroom / emissionNanos + 1);
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.everbit.everbit.integrations.upbit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 동일 Upbit GET(같은 access key, path, query) 합치기와 짧은 TTL 캐시. SoT: docs/integrations/upbit.md §5.1.5.
+ * 진행 중인 같은 요청이 있으면 새로 보내지 않고 그 결과를 기다린다(single-flight).
+ * ttl이 0보다 크면 성공 결과를 ttl 동안 재사용하고, 실패는 캐시하지 않는다.
+ * 체결/주문 후 잔고가 바뀌면 {@link #invalidate}로 해당 키의 항목(진행 중 포함)을 버린다.
+ * 결과 객체는 호출자 사이에 공유되므로 불변이어야 한다.
+ */
+@Component
+public class UpbitReadCoalescer {
+
+	public record Key(String accessKey, String path, String queryString) {}
+
+	private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final LongSupplier nanoClock;
+	private final Counter hits;
+	private final Counter coalesced;
+	private final Counter misses;
+
+	@Autowired
+	public UpbitReadCoalescer(MeterRegistry meterRegistry) {
+		this(meterRegistry, System::nanoTime);
+	}
+
+	UpbitReadCoalescer(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+		this.nanoClock = nanoClock;
+		this.hits = counter(meterRegistry, "hit");
+		this.coalesced = counter(meterRegistry, "coalesced");
+		this.misses = counter(meterRegistry, "miss");
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T get(Key key, Duration ttl, Supplier<T> loader) {
+		while (true) {
+			Entry existing = entries.get(key);
+			if (existing != null) {
+				if (!existing.future.isDone()) {
+					coalesced.increment();
+					return (T) await(existing);
+				}
+				if (nanoClock.getAsLong() - existing.expiresAtNanos < 0) {
+					hits.increment();
+					return (T) await(existing);
+				}
+			}
+			Entry created = new Entry();
+			boolean won = existing == null
+				? entries.putIfAbsent(key, created) == null
+				: entries.replace(key, existing, created);
+			if (won) {
+				misses.increment();
+				return load(key, created, ttl, loader);
+			}
+		}
+	}
+
+	/**
+	 * access key의 모든 항목을 버린다. 이미 기다리는 호출자는 진행 중 결과를 받고, 이후 호출은 새로 보낸다.
+	 */
+	public void invalidate(String accessKey) {
+		entries.keySet().removeIf(key -> key.accessKey().equals(accessKey));
+	}
+
+	private <T> T load(Key key, Entry entry, Duration ttl, Supplier<T> loader) {
+		T value;
+		try {
+			value = loader.get();
+		} catch (RuntimeException e) {
+			entries.remove(key, entry);
+			entry.future.completeExceptionally(e);
+			throw e;
+		}
+		if (ttl.isZero() || ttl.isNegative()) {
+			entries.remove(key, entry);
+		} else {
+			entry.expiresAtNanos = nanoClock.getAsLong() + ttl.toNanos();
+		}
+		entry.future.complete(value);
+		return value;
+	}
+
+	private static Object await(Entry entry) {
+		try {
+			return entry.future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private static Counter counter(MeterRegistry registry, String result) {
+		return Counter.builder("upbit.read.coalescer")
+			.description("Upbit GET 합치기/캐시 결과")
+			.tag("result", result)
+			.register(registry);
+	}
+
+	private static final class Entry {
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+		/** 완료 전에는 의미 없음. future 완료 전에 기록되므로 isDone()이면 읽어도 된다. */
+		private volatile long expiresAtNanos;
+	}
+}
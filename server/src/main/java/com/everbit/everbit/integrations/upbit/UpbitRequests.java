@@ -0,0 +1,227 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.ClosedOrdersQuery;
+import com.everbit.everbit.integrations.upbit.dto.OrderRequest;
+import com.everbit.everbit.integrations.upbit.dto.ReplaceOrderRequest;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * Upbit Exchange/Quotation 요청 조립 공용부(경로, 파라미터, query string, URI, ObjectMapper).
+ * 블로킹(UpbitExchangeClient)·리액티브(ReactiveUpbitExchangeClient) 클라이언트가 같은 query string으로 JWT query_hash를 만들도록 한 곳에 둔다.
+ */
+final class UpbitRequests {
+
+	static final String V1_ACCOUNTS = "/v1/accounts";
+	static final String V1_ORDERS_CHANCE = "/v1/orders/chance";
+	static final String V1_ORDER = "/v1/order";
+	static final String V1_ORDERS = "/v1/orders";
+	static final String V1_ORDERS_OPEN = "/v1/orders/open";
+	static final String V1_ORDERS_CLOSED = "/v1/orders/closed";
+	static final String V1_ORDERS_UUIDS = "/v1/orders/uuids";
+	static final String V1_ORDERS_CANCEL_AND_NEW = "/v1/orders/cancel_and_new";
+	static final String V1_CANDLES_MINUTES = "/v1/candles/minutes/";
+	static final String V1_CANDLES_DAYS = "/v1/candles/days";
+
+	/** 캔들 조회 1회 최대 개수. */
+	static final int MAX_CANDLES_PER_REQUEST = 200;
+	/** /v1/candles/minutes/{unit}가 받는 분 단위. 1440은 /v1/candles/days. */
+	private static final Set<Integer> MINUTE_UNITS = Set.of(1, 3, 5, 10, 15, 30, 60, 240);
+	private static final int DAY_MINUTES = 1440;
+
+	/** /v1/orders/uuids 한 번에 조회 가능한 uuid 수. */
+	static final int MAX_UUIDS_PER_LOOKUP = 100;
+
+	private UpbitRequests() {}
+
+	static ObjectMapper newObjectMapper() {
+		return new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	}
+
+	static MultiValueMap<String, String> noParams() {
+		return new LinkedMultiValueMap<>();
+	}
+
+	static MultiValueMap<String, String> marketParams(String market) {
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		params.add("market", market);
+		return params;
+	}
+
+	static MultiValueMap<String, String> orderIdParams(String uuid, String identifier) {
+		if (uuid == null && identifier == null) {
+			throw new UpbitException("Either uuid or identifier must be provided");
+		}
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		if (uuid != null) {
+			params.add("uuid", uuid);
+		}
+		if (identifier != null) {
+			params.add("identifier", identifier);
+		}
+		return params;
+	}
+
+	static MultiValueMap<String, String> orderListParams(String market, List<String> states) {
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		if (market != null && !market.isEmpty()) {
+			params.add("market", market);
+		}
+		if (states != null && !states.isEmpty()) {
+			// Upbit expects states[]=wait&states[]=done etc.
+			params.put("states[]", List.copyOf(states));
+		}
+		return params;
+	}
+
+	/**
+	 * 시각은 epoch millis로 보낸다. ISO-8601 오프셋의 '+'가 query string에서 공백으로 해석되는 것을 피하기 위함.
+	 */
+	static MultiValueMap<String, String> closedOrderParams(ClosedOrdersQuery query) {
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		if (query.market() != null && !query.market().isEmpty()) {
+			params.add("market", query.market());
+		}
+		if (query.startTime() != null) {
+			params.add("start_time", Long.toString(query.startTime().toEpochMilli()));
+		}
+		if (query.endTime() != null) {
+			params.add("end_time", Long.toString(query.endTime().toEpochMilli()));
+		}
+		params.add("limit", Integer.toString(query.limit()));
+		if (query.orderBy() != null) {
+			params.add("order_by", query.orderBy());
+		}
+		return params;
+	}
+
+	/**
+	 * GET /v1/orders/uuids. uuids[]를 반복 키로 보낸다(최대 {@link #MAX_UUIDS_PER_LOOKUP}개).
+	 */
+	static MultiValueMap<String, String> orderUuidsParams(String market, List<String> uuids) {
+		if (uuids == null || uuids.isEmpty() || uuids.size() > MAX_UUIDS_PER_LOOKUP) {
+			throw new UpbitException("uuids must contain 1.." + MAX_UUIDS_PER_LOOKUP + " entries");
+		}
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		if (market != null && !market.isEmpty()) {
+			params.add("market", market);
+		}
+		params.put("uuids[]", List.copyOf(uuids));
+		return params;
+	}
+
+	/**
+	 * 캔들 경로. 분 단위는 {@link #MINUTE_UNITS}, 1440분은 일봉.
+	 */
+	static String candlePath(int timeframeMinutes) {
+		if (timeframeMinutes == DAY_MINUTES) {
+			return V1_CANDLES_DAYS;
+		}
+		if (!MINUTE_UNITS.contains(timeframeMinutes)) {
+			throw new UpbitException("Unsupported candle timeframe: " + timeframeMinutes);
+		}
+		return V1_CANDLES_MINUTES + timeframeMinutes;
+	}
+
+	/**
+	 * to는 마지막 캔들 시작 시각의 배타적 상한이다. 초 단위 UTC(Z)로 보내 '+' 인코딩 문제를 피한다.
+	 */
+	static MultiValueMap<String, String> candleParams(String market, Instant to, int count) {
+		if (count <= 0 || count > MAX_CANDLES_PER_REQUEST) {
+			throw new UpbitException("count must be 1.." + MAX_CANDLES_PER_REQUEST);
+		}
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		params.add("market", market);
+		if (to != null) {
+			params.add("to", to.truncatedTo(ChronoUnit.SECONDS).toString());
+		}
+		params.add("count", Integer.toString(count));
+		return params;
+	}
+
+	static MultiValueMap<String, String> createOrderParams(OrderRequest request) {
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		params.add("market", request.market());
+		params.add("side", request.side());
+		if (request.volume() != null) {
+			params.add("volume", request.volume());
+		}
+		if (request.price() != null) {
+			params.add("price", request.price());
+		}
+		params.add("ord_type", request.ordType());
+		if (request.identifier() != null) {
+			params.add("identifier", request.identifier());
+		}
+		if (request.timeInForce() != null) {
+			params.add("time_in_force", request.timeInForce());
+		}
+		if (request.smpType() != null) {
+			params.add("smp_type", request.smpType());
+		}
+		return params;
+	}
+
+	static MultiValueMap<String, String> replaceOrderParams(ReplaceOrderRequest request) {
+		MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+		if (request.prevOrderUuid() != null) {
+			params.add("prev_order_uuid", request.prevOrderUuid());
+		}
+		if (request.prevOrderIdentifier() != null) {
+			params.add("prev_order_identifier", request.prevOrderIdentifier());
+		}
+		params.add("new_ord_type", request.newOrdType());
+		if (request.newVolume() != null) {
+			params.add("new_volume", request.newVolume());
+		}
+		if (request.newPrice() != null) {
+			params.add("new_price", request.newPrice());
+		}
+		if (request.newSmpType() != null) {
+			params.add("new_smp_type", request.newSmpType());
+		}
+		if (request.newIdentifier() != null) {
+			params.add("new_identifier", request.newIdentifier());
+		}
+		if (request.newTimeInForce() != null) {
+			params.add("new_time_in_force", request.newTimeInForce());
+		}
+		return params;
+	}
+
+	/**
+	 * 배열 파라미터는 key[]=a&key[]=b로 펼친다. query_hash도 이 문자열로 계산한다.
+	 */
+	static String buildQueryString(MultiValueMap<String, String> params) {
+		if (params.isEmpty()) {
+			return "";
+		}
+		StringJoiner joiner = new StringJoiner("&");
+		params.forEach((key, values) -> values.forEach(value -> joiner.add(key + "=" + value)));
+		return joiner.toString();
+	}
+
+	static URI buildUri(String baseUrl, String path, String queryString) {
+		UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(Objects.requireNonNull(baseUrl)).path(Objects.requireNonNull(path));
+		if (queryString != null && !queryString.isEmpty()) {
+			builder.query(Objects.requireNonNull(queryString));
+		}
+		return builder.build().toUri();
+	}
+}
@@ -0,0 +1,138 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Upbit REST 호출 한 번의 공통 처리(Exchange·Quotation 클라이언트 공용). SoT: docs/integrations/upbit.md §4.
+ * 회로 검사 → 요청 준비(서명 포함) → 레이트리미터 토큰 → 전송 순서로 진행하고, 응답의 Remaining-Req로 버킷을 보정한다.
+ * 오류 응답은 {@link UpbitApiException}, 네트워크 오류는 {@link UpbitException}으로 바꾸며 회로 차단기에 결과를 알린다.
+ * 성공은 2xx 본문을 끝까지 해석한 뒤에 기록한다.
+ */
+@Slf4j
+final class UpbitRestExecutor {
+
+	/**
+	 * 전송할 요청. 서명이 회로 검사 뒤에 오도록 호출 직전에 만든다.
+	 */
+	record Prepared(URI uri, HttpEntity<?> entity) {}
+
+	@FunctionalInterface
+	interface ResponseReader<T> {
+		/**
+		 * 2xx 응답 본문. 반환 후 스트림은 닫힌다.
+		 */
+		T read(InputStream body) throws IOException;
+	}
+
+	private final RestTemplate restTemplate;
+	private final UpbitRateLimiter rateLimiter;
+	private final UpbitCircuitBreaker circuitBreaker;
+
+	UpbitRestExecutor(RestTemplate restTemplate, UpbitRateLimiter rateLimiter, UpbitCircuitBreaker circuitBreaker) {
+		this.restTemplate = restTemplate;
+		this.rateLimiter = rateLimiter;
+		this.circuitBreaker = circuitBreaker;
+	}
+
+	/**
+	 * @param logFailure 전송 여부가 불확실한 실패를 경고로 남길지(주문 생성·취소 등, 본문은 남기지 않는다)
+	 * @return reader 결과(null일 수 있음)
+	 */
+	<T> T execute(UpbitRateLimitGroup group, HttpMethod method, Supplier<Prepared> prepare, ResponseReader<T> reader,
+		String errorMessage, boolean logFailure) {
+		circuitBreaker.beforeCall(group);
+		try {
+			Prepared request = prepare.get();
+			rateLimiter.acquire(group);
+			return restTemplate.execute(Objects.requireNonNull(request.uri()), Objects.requireNonNull(method),
+				restTemplate.httpEntityCallback(request.entity()),
+				response -> {
+					rateLimiter.onResponse(group, response.getHeaders().getFirst(UpbitRateLimiter.REMAINING_REQ_HEADER));
+					T result = read(group, reader, response.getBody(), errorMessage);
+					circuitBreaker.onSuccess(group);
+					return result;
+				});
+		} catch (HttpStatusCodeException e) {
+			onErrorResponse(group, e);
+			throw toUpbitApiException(e);
+		} catch (UndecodableResponseException e) {
+			if (logFailure) {
+				log.warn("{} (no body logged)", errorMessage, e);
+			}
+			throw e;
+		} catch (UpbitException e) {
+			circuitBreaker.onNotSent(group);
+			throw e;
+		} catch (ResourceAccessException e) {
+			circuitBreaker.onFailure(group);
+			if (logFailure) {
+				log.warn("{} (no body logged)", errorMessage, e);
+			}
+			throw new UpbitException(errorMessage + ": " + e.getMessage(), e);
+		} catch (Exception e) {
+			circuitBreaker.onNotSent(group);
+			if (logFailure) {
+				log.warn("{} (no body logged)", errorMessage, e);
+			}
+			throw new UpbitException(errorMessage + ": " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * 본문을 끝까지 읽은 뒤에만 성공으로 기록한다. 읽는 중 끊긴 스트림(IOException)은 그대로 던져
+	 * ResourceAccessException → 회로 실패로 센다. 2xx를 받았지만 해석할 수 없는 본문(형식 오류, reader 예외)은
+	 * 전송·응답된 호출이므로 회로에는 응답으로 기록하고 {@link UndecodableResponseException}으로 끝낸다.
+	 */
+	private <T> T read(UpbitRateLimitGroup group, ResponseReader<T> reader, InputStream body, String errorMessage)
+		throws IOException {
+		try {
+			return reader.read(body);
+		} catch (JsonProcessingException | RuntimeException e) {
+			circuitBreaker.onSuccess(group);
+			throw new UndecodableResponseException(errorMessage + ": " + e.getMessage(), e);
+		}
+	}
+
+	private void onErrorResponse(UpbitRateLimitGroup group, HttpStatusCodeException e) {
+		HttpHeaders responseHeaders = e.getResponseHeaders();
+		if (responseHeaders != null) {
+			rateLimiter.onResponse(group, responseHeaders.getFirst(UpbitRateLimiter.REMAINING_REQ_HEADER));
+		}
+		if (e.getStatusCode().value() == 429) {
+			rateLimiter.onThrottled(group);
+		}
+		circuitBreaker.onResponse(group, e.getStatusCode().value(),
+			responseHeaders != null ? responseHeaders.getFirst(HttpHeaders.RETRY_AFTER) : null);
+	}
+
+	private static UpbitApiException toUpbitApiException(HttpStatusCodeException e) {
+		String body = null;
+		try {
+			body = e.getResponseBodyAsString();
+		} catch (Exception ignored) {}
+		return new UpbitApiException(e.getStatusCode(), body);
+	}
+
+	/**
+	 * 2xx 응답 본문 해석 실패. 회로에는 이미 응답으로 기록되었다.
+	 */
+	private static final class UndecodableResponseException extends UpbitException {
+
+		UndecodableResponseException(String message, Throwable cause) {
+			super(message, cause);
+		}
+	}
+}
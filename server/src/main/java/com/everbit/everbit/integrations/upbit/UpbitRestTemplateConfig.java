@@ -1,26 +1,95 @@
 package com.everbit.everbit.integrations.upbit;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 import java.util.Objects;
 
 /**
  * Upbit 전용 RestTemplate. SoT: docs/integrations/upbit.md §5 (timeout 3~5s).
+ * 기본은 keep-alive 커넥션 풀(POOLED)로 호출마다 TCP/TLS 핸드셰이크를 하지 않는다.
+ * 주문 생성은 자동 재시도 금지(§5.2)이므로 HttpClient 내장 재시도는 끈다.
  */
 @Configuration
 @EnableConfigurationProperties(UpbitProperties.class)
 public class UpbitRestTemplateConfig {
 
+	private static final String POOL_METRIC_NAME = "upbit";
+
+	@Bean
+	public RestTemplate upbitRestTemplate(
+		@Qualifier("upbitClientHttpRequestFactory") ClientHttpRequestFactory upbitClientHttpRequestFactory) {
+		return new RestTemplate(upbitClientHttpRequestFactory);
+	}
+
+	/**
+	 * 빈으로 등록해 종료 시 HttpComponentsClientHttpRequestFactory.destroy()로 풀을 닫는다.
+	 */
 	@Bean
-	public RestTemplate upbitRestTemplate(UpbitProperties properties) {
+	public ClientHttpRequestFactory upbitClientHttpRequestFactory(UpbitProperties properties, MeterRegistry meterRegistry) {
+		return switch (properties.transport()) {
+			case POOLED -> pooled(properties, meterRegistry);
+			case JDK -> jdk(properties);
+			case SIMPLE -> simple(properties);
+		};
+	}
+
+	private static ClientHttpRequestFactory pooled(UpbitProperties properties, MeterRegistry meterRegistry) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(properties.maxConnections())
+			.setMaxConnPerRoute(properties.maxConnections())
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.ofSeconds(properties.connectTimeoutSeconds()))
+				.setSocketTimeout(Timeout.ofSeconds(properties.readTimeoutSeconds()))
+				.setValidateAfterInactivity(TimeValue.ofSeconds(properties.connectionIdleEvictSeconds() / 2))
+				.build())
+			.build();
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_METRIC_NAME)
+			.bindTo(meterRegistry);
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofSeconds(properties.connectionIdleEvictSeconds()))
+			.disableAutomaticRetries()
+			.build();
+		HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
+		factory.setConnectionRequestTimeout(Objects.requireNonNull(Duration.ofSeconds(properties.connectTimeoutSeconds())));
+		return factory;
+	}
+
+	private static ClientHttpRequestFactory jdk(UpbitProperties properties) {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_2)
+			.connectTimeout(Objects.requireNonNull(Duration.ofSeconds(properties.connectTimeoutSeconds())))
+			.build();
+		JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+		factory.setReadTimeout(Objects.requireNonNull(Duration.ofSeconds(properties.readTimeoutSeconds())));
+		return factory;
+	}
+
+	private static ClientHttpRequestFactory simple(UpbitProperties properties) {
 		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
 		factory.setConnectTimeout(Objects.requireNonNull(Duration.ofSeconds(properties.connectTimeoutSeconds())));
 		factory.setReadTimeout(Objects.requireNonNull(Duration.ofSeconds(properties.readTimeoutSeconds())));
-		return new RestTemplate(factory);
+		return factory;
 	}
 }
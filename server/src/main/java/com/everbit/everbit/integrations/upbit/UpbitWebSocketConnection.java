@@ -0,0 +1,323 @@
+package com.everbit.everbit.integrations.upbit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 스스로 다시 연결하는 Upbit WebSocket 연결 하나(공개 시세·private 공통). SoT: docs/integrations/upbit.md §7.2.
+ * JDK HttpClient WebSocket을 쓰며 조각난 프레임은 재사용 버퍼에 이어 붙인 뒤 {@link FrameHandler}에 한 번에 넘긴다.
+ * ping-interval마다 ping을 보내고, 그 두 배 동안 아무 프레임도 없으면 끊긴 것으로 보고 다시 연결한다.
+ * 재연결은 1s→2s→5s→10s→30s(cap) 백오프이며, 연결 후 첫 프레임을 받으면 백오프를 처음으로 되돌린다.
+ * 재연결 전에 이전 소켓을 abort하고 현재 소켓이 아닌 콜백은 버리므로 FrameHandler는 항상 한 스레드에서 순서대로 호출된다.
+ * ping·재연결·연결 콜백은 공용 {@link TaskScheduler}(여러 스레드일 수 있음)에서 돌며, 상태는 이 객체의 락으로 지킨다.
+ * 하위 클래스는 핸드셰이크 헤더({@link #configure})와 구독 메시지({@link #sendSubscription})만 정한다.
+ */
+@Slf4j
+public abstract class UpbitWebSocketConnection implements AutoCloseable {
+
+	@FunctionalInterface
+	public interface FrameHandler {
+		/**
+		 * 완성된 프레임 1개. 배열은 반환 후 재사용되므로 보관하지 않는다.
+		 */
+		void onFrame(byte[] frame, int offset, int length);
+	}
+
+	private static final Duration[] BACKOFF = {
+		Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(30)
+	};
+	private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+
+	private final String name;
+	private final URI uri;
+	private final HttpClient httpClient;
+	private final TaskScheduler scheduler;
+	private final Duration pingInterval;
+	private final int initialBufferSize;
+	private final FrameHandler handler;
+
+	private final AtomicBoolean reconnectScheduled = new AtomicBoolean();
+	private volatile WebSocket socket;
+	private volatile boolean closed;
+	private volatile long lastFrameNanos;
+	private int attempt;
+	private boolean connecting;
+	private ScheduledFuture<?> pingTask;
+
+	/**
+	 * @param name 로그에 붙일 연결 이름
+	 * @param initialBufferSize 프레임 조립 버퍼 초기 크기(넘으면 두 배씩 늘린다)
+	 */
+	protected UpbitWebSocketConnection(String name, URI uri, HttpClient httpClient, TaskScheduler scheduler,
+		Duration pingInterval, int initialBufferSize, FrameHandler handler) {
+		this.name = name;
+		this.uri = uri;
+		this.httpClient = httpClient;
+		this.scheduler = scheduler;
+		this.pingInterval = pingInterval;
+		this.initialBufferSize = initialBufferSize;
+		this.handler = handler;
+	}
+
+	/**
+	 * 핸드셰이크 요청을 꾸민다(인증 헤더 등). 예외를 던지면 이번 시도는 실패로 보고 백오프 후 다시 시도한다.
+	 */
+	protected void configure(WebSocket.Builder builder) {
+	}
+
+	/**
+	 * 연결 직후(그리고 구독을 바꿀 때) 보낼 구독 메시지. 이 객체의 락을 잡은 채 호출된다.
+	 */
+	protected abstract void sendSubscription(WebSocket ws);
+
+	/**
+	 * 지금 연결해야 하는지(예: 구독 대상이 있는지). 아니면 연결을 열지 않고, 열리던 연결도 버린다.
+	 */
+	protected boolean shouldConnect() {
+		return true;
+	}
+
+	/**
+	 * 연결되고 구독을 보낸 뒤 스케줄러 스레드에서 호출된다. 수신 스레드를 막지 않으므로 REST 호출을 해도 된다.
+	 */
+	protected void onConnected() {
+	}
+
+	/**
+	 * 재연결을 예약할 때마다 호출된다(메트릭용).
+	 */
+	protected void onReconnectScheduled() {
+	}
+
+	/**
+	 * ping을 시작하고, 연결이 없으면 연다. 이미 열린 소켓이 있으면 그 소켓을 돌려준다(구독을 다시 보낼 때), 아니면 null.
+	 */
+	protected final synchronized WebSocket start() {
+		if (closed) {
+			return null;
+		}
+		if (pingTask == null) {
+			pingTask = scheduler.scheduleAtFixedRate(this::ping, scheduler.getClock().instant().plus(pingInterval),
+				pingInterval);
+		}
+		WebSocket current = socket;
+		if (current != null && !current.isOutputClosed()) {
+			return current;
+		}
+		if (!connecting && !reconnectScheduled.get()) {
+			open();
+		}
+		return null;
+	}
+
+	/**
+	 * 현재 연결을 끊고 다시 열지 않는다(다음 {@link #start}까지).
+	 */
+	protected final synchronized void abortConnection() {
+		WebSocket current = socket;
+		socket = null;
+		if (current != null) {
+			current.abort();
+		}
+	}
+
+	public boolean isConnected() {
+		WebSocket current = socket;
+		return current != null && !current.isInputClosed();
+	}
+
+	@Override
+	public synchronized void close() {
+		closed = true;
+		if (pingTask != null) {
+			pingTask.cancel(false);
+		}
+		WebSocket current = socket;
+		socket = null;
+		if (current != null) {
+			current.sendClose(WebSocket.NORMAL_CLOSURE, "shutdown")
+				.whenComplete((ws, e) -> current.abort());
+		}
+	}
+
+	private synchronized void open() {
+		reconnectScheduled.set(false);
+		if (closed || connecting || !shouldConnect()) {
+			return;
+		}
+		WebSocket.Builder builder = httpClient.newWebSocketBuilder().connectTimeout(CONNECT_TIMEOUT);
+		try {
+			configure(builder);
+		} catch (RuntimeException e) {
+			log.warn("{} WS handshake unavailable: {}", name, e.toString());
+			scheduleReconnect(null);
+			return;
+		}
+		connecting = true;
+		builder.buildAsync(uri, new Listener())
+			.whenComplete((ws, e) -> {
+				if (e != null) {
+					synchronized (this) {
+						connecting = false;
+					}
+					log.warn("{} WS connect failed: {}", name, e.toString());
+					scheduleReconnect(null);
+					return;
+				}
+				synchronized (this) {
+					connecting = false;
+					if (closed || !shouldConnect()) {
+						ws.abort();
+						return;
+					}
+					socket = ws;
+					lastFrameNanos = System.nanoTime();
+					sendSubscription(ws);
+				}
+				log.info("{} WS connected", name);
+				scheduler.schedule(this::notifyConnected, scheduler.getClock().instant());
+			});
+	}
+
+	private void notifyConnected() {
+		try {
+			onConnected();
+		} catch (RuntimeException e) {
+			log.warn("{} WS connect callback failed", name, e);
+		}
+	}
+
+	/**
+	 * 현재 소켓이 끊겼을 때만 재연결을 예약한다. 이미 예약돼 있거나 다른(이전) 소켓의 콜백이면 무시.
+	 */
+	private void scheduleReconnect(WebSocket failed) {
+		Duration delay;
+		synchronized (this) {
+			if (closed || (failed != null && failed != socket)) {
+				return;
+			}
+			if (!reconnectScheduled.compareAndSet(false, true)) {
+				return;
+			}
+			WebSocket current = socket;
+			socket = null;
+			if (current != null) {
+				current.abort();
+			}
+			delay = BACKOFF[Math.min(attempt, BACKOFF.length - 1)];
+			attempt++;
+		}
+		onReconnectScheduled();
+		log.info("{} WS reconnect scheduled: delay={}ms attempt={}", name, delay.toMillis(), attempt);
+		scheduler.schedule(this::open, scheduler.getClock().instant().plus(delay));
+	}
+
+	private void ping() {
+		WebSocket current = socket;
+		if (current == null) {
+			return;
+		}
+		if (System.nanoTime() - lastFrameNanos > pingInterval.toNanos() * 2) {
+			log.warn("{} WS idle for {}s, reconnecting", name, pingInterval.toSeconds() * 2);
+			scheduleReconnect(current);
+			return;
+		}
+		current.sendPing(ByteBuffer.allocate(0));
+	}
+
+	private synchronized void onFirstFrame() {
+		attempt = 0;
+	}
+
+	/**
+	 * 소켓 하나 전용 리스너. JDK WebSocket이 콜백을 순서대로 호출하므로 버퍼는 동기화하지 않는다.
+	 */
+	private final class Listener implements WebSocket.Listener {
+
+		private byte[] buffer = new byte[initialBufferSize];
+		private int length;
+		private boolean received;
+
+		@Override
+		public void onOpen(WebSocket webSocket) {
+			webSocket.request(1);
+		}
+
+		@Override
+		public CompletionStage<?> onBinary(WebSocket webSocket, ByteBuffer data, boolean last) {
+			append(data);
+			if (last) {
+				deliver(webSocket);
+			}
+			webSocket.request(1);
+			return null;
+		}
+
+		@Override
+		public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+			append(StandardCharsets.UTF_8.encode(CharBuffer.wrap(data)));
+			if (last) {
+				deliver(webSocket);
+			}
+			webSocket.request(1);
+			return null;
+		}
+
+		@Override
+		public CompletionStage<?> onPong(WebSocket webSocket, ByteBuffer message) {
+			lastFrameNanos = System.nanoTime();
+			webSocket.request(1);
+			return null;
+		}
+
+		@Override
+		public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+			log.info("{} WS closed: status={} reason={}", name, statusCode, reason);
+			scheduleReconnect(webSocket);
+			return null;
+		}
+
+		@Override
+		public void onError(WebSocket webSocket, Throwable error) {
+			log.warn("{} WS error: {}", name, error.toString());
+			scheduleReconnect(webSocket);
+		}
+
+		private void append(ByteBuffer data) {
+			int needed = length + data.remaining();
+			if (needed > buffer.length) {
+				byte[] grown = new byte[Math.max(needed, buffer.length * 2)];
+				System.arraycopy(buffer, 0, grown, 0, length);
+				buffer = grown;
+			}
+			int n = data.remaining();
+			data.get(buffer, length, n);
+			length += n;
+		}
+
+		private void deliver(WebSocket webSocket) {
+			int frameLength = length;
+			length = 0;
+			if (webSocket != socket) {
+				return;
+			}
+			lastFrameNanos = System.nanoTime();
+			if (!received) {
+				received = true;
+				onFirstFrame();
+			}
+			handler.onFrame(buffer, 0, frameLength);
+		}
+	}
+}
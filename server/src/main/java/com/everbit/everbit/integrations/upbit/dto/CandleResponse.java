@@ -0,0 +1,24 @@
+package com.everbit.everbit.integrations.upbit.dto;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Upbit GET /v1/candles/minutes/{unit}, /v1/candles/days 응답 DTO.
+ * candle_date_time_utc는 캔들 시작 시각(UTC, 오프셋 없음). 체결이 없던 구간은 응답에 없다.
+ * SoT: docs/integrations/upbit.md §2.1
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record CandleResponse(
+	String market,
+	LocalDateTime candleDateTimeUtc,
+	BigDecimal openingPrice,
+	BigDecimal highPrice,
+	BigDecimal lowPrice,
+	BigDecimal tradePrice,
+	Long timestamp,
+	BigDecimal candleAccTradeVolume
+) {}
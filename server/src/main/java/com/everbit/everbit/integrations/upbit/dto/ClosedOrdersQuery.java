@@ -0,0 +1,25 @@
+package com.everbit.everbit.integrations.upbit.dto;
+
+import java.time.Instant;
+
+/**
+ * Upbit GET /v1/orders/closed 기간 조회 조건.
+ * start_time~end_time 간격은 Upbit 제약상 최대 7일, limit 최대 1000. states 생략 시 done+cancel.
+ */
+public record ClosedOrdersQuery(
+	String market,
+	Instant startTime,
+	Instant endTime,
+	int limit,
+	String orderBy
+) {
+	public static final String ORDER_BY_ASC = "asc";
+	public static final String ORDER_BY_DESC = "desc";
+	public static final int MAX_LIMIT = 1000;
+
+	public ClosedOrdersQuery {
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new IllegalArgumentException("limit must be in 1.." + MAX_LIMIT);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.everbit.everbit.marketdata;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 공개 WS 원본 프레임 기록 설정. SoT: docs/integrations/upbit.md §7.11.
+ * enabled: 기록 on/off(기본 off). directory: 세그먼트 파일 위치.
+ * buffer-bytes: 수신 스레드 → 기록 스레드 전달용 off-heap 버퍼 크기(2의 거듭제곱으로 올림). 가득 차면 프레임을 버린다.
+ * block-bytes: 압축 단위(원본 기준). flush-interval-millis: 블록이 덜 차도 이 간격마다 압축해 쓴다.
+ * segment-bytes / segment-minutes: 둘 중 먼저 닿으면 새 세그먼트로 넘어간다. retention-bytes: 세그먼트 전체 상한(넘으면 오래된 것부터 삭제).
+ */
+@ConfigurationProperties(prefix = "marketdata.recorder")
+public record FrameRecorderProperties(
+	boolean enabled,
+	String directory,
+	int bufferBytes,
+	int blockBytes,
+	long flushIntervalMillis,
+	long segmentBytes,
+	int segmentMinutes,
+	long retentionBytes
+) {
+	public static final String DEFAULT_DIRECTORY = "data/frames";
+
+	public FrameRecorderProperties {
+		if (directory == null || directory.isBlank()) {
+			directory = DEFAULT_DIRECTORY;
+		}
+		if (bufferBytes <= 0) {
+			bufferBytes = 4 * 1024 * 1024;
+		}
+		if (blockBytes <= 0) {
+			blockBytes = 256 * 1024;
+		}
+		if (flushIntervalMillis <= 0) {
+			flushIntervalMillis = 1000;
+		}
+		if (segmentBytes <= 0) {
+			segmentBytes = 256L * 1024 * 1024;
+		}
+		if (segmentMinutes <= 0) {
+			segmentMinutes = 60;
+		}
+		if (retentionBytes <= 0) {
+			retentionBytes = 20L * 1024 * 1024 * 1024;
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.everbit.everbit.marketdata;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 시세 수집 설정. SoT: docs/integrations/upbit.md §7.6.
+ * enabled: 공개 WS 수집 on/off(기본 off, 테스트/로컬에서 외부 연결 방지).
+ * ring-buffer-size: 수신 이벤트 링 버퍼 슬롯 수(2의 거듭제곱으로 올림).
+ * ping-interval-seconds: WS ping 주기(§7.2, 30~60초). market-refresh-seconds: 활성 마켓 재조회 주기.
+ * candle-timeframes: 체결로 집계할 캔들 단위(분, candle_cache.timeframe 값). candle-close-grace-millis: 체결 없이 시간으로 닫을 때 늦은 체결 대기 시간(§7.7).
+ */
+@ConfigurationProperties(prefix = "marketdata")
+public record MarketDataProperties(
+	boolean enabled,
+	String quotationUrl,
+	int ringBufferSize,
+	int pingIntervalSeconds,
+	int marketRefreshSeconds,
+	List<Integer> candleTimeframes,
+	long candleCloseGraceMillis
+) {
+	public static final String DEFAULT_QUOTATION_URL = "wss://api.upbit.com/websocket/v1";
+	/** 15m, 1h, 4h, 1d */
+	public static final List<Integer> DEFAULT_CANDLE_TIMEFRAMES = List.of(15, 60, 240, 1440);
+
+	public MarketDataProperties {
+		if (quotationUrl == null || quotationUrl.isBlank()) {
+			quotationUrl = DEFAULT_QUOTATION_URL;
+		}
+		if (ringBufferSize <= 0) {
+			ringBufferSize = 8192;
+		}
+		if (pingIntervalSeconds <= 0) {
+			pingIntervalSeconds = 30;
+		}
+		if (marketRefreshSeconds <= 0) {
+			marketRefreshSeconds = 60;
+		}
+		if (candleTimeframes == null || candleTimeframes.isEmpty()) {
+			candleTimeframes = DEFAULT_CANDLE_TIMEFRAMES;
+		}
+		if (candleCloseGraceMillis <= 0) {
+			candleCloseGraceMillis = 2000;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체결 스트림 → 다중 타임프레임 캔들 증분 집계. SoT: docs/integrations/upbit.md §7.7.
+ * 마켓마다 설정된 타임프레임 전부의 OHLCV를 원시형 배열로 들고 체결 1건에 한 번씩 갱신한다(가격은 1e-8 고정소수 long, 거래량은 double).
+ * 구간 경계(epoch 기준 정렬, 1440분=00:00 UTC=09:00 KST)를 넘는 체결이 오거나, 체결 없이 서버 시각이 경계+유예를 지나면
+ * {@link CandleClosedEvent}를 정확히 한 번 발행한다. 이미 닫힌 구간에 늦게 온 체결은 버린다.
+ * 구독(재구독) 직후 SNAPSHOT 체결을 받으면 그 시각 이전에 시작한 구간은 체결 누락 가능성이 있어 발행하지 않는다.
+ * 링 버퍼 소비자 스레드 하나에서만 호출되므로 상태는 동기화하지 않는다.
+ */
+@Component
+public class CandleAggregator implements MarketDataListener {
+
+	static final int PRICE_SCALE_DIGITS = 8;
+	static final double PRICE_SCALE = 100_000_000d;
+	/** 시간 기반 마감 검사 주기(서버 시각 기준). */
+	private static final long SWEEP_INTERVAL_MILLIS = 100;
+	/** 중복 체결(sid) 검사에 기억하는 최근 체결 수. */
+	private static final int RECENT_TRADES = 64;
+
+	private final long[] periodMillis;
+	private final String[] timeframes;
+	private final long graceMillis;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Map<String, MarketCandles> markets = new HashMap<>();
+	private final Counter closed;
+	private final Counter skippedPartial;
+	private final Counter lateTrades;
+	private final Counter duplicateTrades;
+	private long lastSweepMillis;
+	/** 처리 중인 이벤트가 재생분인지. 닫히는 캔들에 그대로 싣는다. */
+	private boolean replaying;
+
+	public CandleAggregator(MarketDataProperties properties, ApplicationEventPublisher eventPublisher,
+		MeterRegistry meterRegistry) {
+		List<Integer> minutes = properties.candleTimeframes();
+		this.periodMillis = new long[minutes.size()];
+		this.timeframes = new String[minutes.size()];
+		for (int i = 0; i < minutes.size(); i++) {
+			periodMillis[i] = TimeUnit.MINUTES.toMillis(minutes.get(i));
+			timeframes[i] = Integer.toString(minutes.get(i));
+		}
+		this.graceMillis = properties.candleCloseGraceMillis();
+		this.eventPublisher = eventPublisher;
+		this.closed = Counter.builder("marketdata.candle.closed")
+			.description("확정 발행된 캔들 수")
+			.register(meterRegistry);
+		this.skippedPartial = Counter.builder("marketdata.candle.partial")
+			.description("구독 전부터 이어져 발행하지 않은 캔들 수")
+			.register(meterRegistry);
+		this.lateTrades = Counter.builder("marketdata.candle.late.trades")
+			.description("이미 닫힌 구간에 도착해 버린 체결 수")
+			.register(meterRegistry);
+		this.duplicateTrades = Counter.builder("marketdata.candle.duplicate.trades")
+			.description("sid 중복으로 버린 체결 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 체결은 집계하고, 모든 이벤트의 서버 시각(tms)으로 체결 없는 마켓의 구간을 닫는다.
+	 */
+	@Override
+	public void onEvent(MarketDataEvent event) {
+		replaying = event.isReplayed();
+		if (event.getType() == MarketDataEventType.TRADE) {
+			onTrade(event);
+		}
+		long now = event.getTimestamp() > 0 ? event.getTimestamp() : event.getTradeTimestamp();
+		if (now - lastSweepMillis >= SWEEP_INTERVAL_MILLIS) {
+			lastSweepMillis = now;
+			closeExpired(now);
+		}
+	}
+
+	/**
+	 * 서버 시각 now 기준으로 경계+유예가 지난 구간을 닫는다.
+	 */
+	void closeExpired(long now) {
+		for (MarketCandles candles : markets.values()) {
+			for (int i = 0; i < periodMillis.length; i++) {
+				if (candles.active[i] && now >= candles.start[i] + periodMillis[i] + graceMillis) {
+					close(candles, i, now);
+				}
+			}
+		}
+	}
+
+	private void onTrade(MarketDataEvent event) {
+		String market = event.getCode();
+		MarketCandles candles = markets.get(market);
+		if (candles == null) {
+			candles = new MarketCandles(market, periodMillis.length);
+			markets.put(market, candles);
+		}
+		if (!candles.rememberTrade(event.getSequentialId())) {
+			duplicateTrades.increment();
+			return;
+		}
+		long tradeTime = event.getTradeTimestamp();
+		if (!event.isRealtime()) {
+			// 재구독 SNAPSHOT: 구독 시각 전에 시작한 구간은 빠진 체결이 있을 수 있다
+			candles.since = Math.max(tradeTime, event.getTimestamp());
+		} else if (candles.since == Long.MAX_VALUE) {
+			candles.since = tradeTime;
+		}
+		long price = Math.round(event.getTradePrice() * PRICE_SCALE);
+		double volume = event.getTradeVolume();
+		for (int i = 0; i < periodMillis.length; i++) {
+			long bucket = tradeTime - Math.floorMod(tradeTime, periodMillis[i]);
+			if (bucket <= candles.lastClosedStart[i]) {
+				lateTrades.increment();
+				continue;
+			}
+			if (candles.active[i] && bucket > candles.start[i]) {
+				close(candles, i, tradeTime);
+			}
+			if (!candles.active[i]) {
+				candles.begin(i, bucket, price, volume);
+			} else {
+				candles.update(i, price, volume);
+			}
+		}
+	}
+
+	private void close(MarketCandles candles, int i, long closedAt) {
+		candles.active[i] = false;
+		candles.lastClosedStart[i] = candles.start[i];
+		if (candles.start[i] < candles.since) {
+			skippedPartial.increment();
+			return;
+		}
+		closed.increment();
+		eventPublisher.publishEvent(new CandleClosedEvent(
+			candles.market,
+			timeframes[i],
+			Instant.ofEpochMilli(candles.start[i] + periodMillis[i]),
+			toDecimal(candles.open[i]),
+			toDecimal(candles.high[i]),
+			toDecimal(candles.low[i]),
+			toDecimal(candles.close[i]),
+			BigDecimal.valueOf(candles.volume[i]).setScale(PRICE_SCALE_DIGITS, RoundingMode.HALF_UP).stripTrailingZeros(),
+			Instant.ofEpochMilli(closedAt),
+			replaying));
+	}
+
+	private static BigDecimal toDecimal(long fixedPoint) {
+		return BigDecimal.valueOf(fixedPoint, PRICE_SCALE_DIGITS).stripTrailingZeros();
+	}
+
+	/**
+	 * 마켓 하나의 타임프레임별 진행 중 캔들. 인덱스는 periodMillis와 같다.
+	 */
+	private static final class MarketCandles {
+
+		private final String market;
+		private final long[] start;
+		private final long[] open;
+		private final long[] high;
+		private final long[] low;
+		private final long[] close;
+		private final double[] volume;
+		private final boolean[] active;
+		private final long[] lastClosedStart;
+		private final long[] recentTrades = new long[RECENT_TRADES];
+		private int recentPosition;
+		/** 이 시각 이후 시작한 구간만 완전하다고 본다. */
+		private long since = Long.MAX_VALUE;
+
+		MarketCandles(String market, int timeframes) {
+			this.market = market;
+			this.start = new long[timeframes];
+			this.open = new long[timeframes];
+			this.high = new long[timeframes];
+			this.low = new long[timeframes];
+			this.close = new long[timeframes];
+			this.volume = new double[timeframes];
+			this.active = new boolean[timeframes];
+			this.lastClosedStart = new long[timeframes];
+			Arrays.fill(lastClosedStart, Long.MIN_VALUE);
+		}
+
+		void begin(int i, long bucket, long price, double tradeVolume) {
+			start[i] = bucket;
+			open[i] = price;
+			high[i] = price;
+			low[i] = price;
+			close[i] = price;
+			volume[i] = tradeVolume;
+			active[i] = true;
+		}
+
+		void update(int i, long price, double tradeVolume) {
+			if (price > high[i]) {
+				high[i] = price;
+			}
+			if (price < low[i]) {
+				low[i] = price;
+			}
+			close[i] = price;
+			volume[i] += tradeVolume;
+		}
+
+		/**
+		 * @return 처음 보는 체결이면 true(기억해 둠). sid가 없으면(0) 중복 검사하지 않는다.
+		 */
+		boolean rememberTrade(long sequentialId) {
+			if (sequentialId == 0) {
+				return true;
+			}
+			for (long seen : recentTrades) {
+				if (seen == sequentialId) {
+					return false;
+				}
+			}
+			recentTrades[recentPosition] = sequentialId;
+			recentPosition = (recentPosition + 1) % RECENT_TRADES;
+			return true;
+		}
+	}
+}
@@ -0,0 +1,190 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.infrastructure.FrameRecorder;
+import com.everbit.everbit.marketdata.infrastructure.UpbitQuotationFrameDecoder;
+import com.everbit.everbit.marketdata.infrastructure.UpbitQuotationWebSocket;
+import com.everbit.everbit.strategy.application.MarketConfigQueryService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 공개 시세 수집. SoT: docs/integrations/upbit.md §7.6.
+ * 활성 MarketConfig 마켓 전체를 공개 WS 연결 하나로 구독하고, 프레임을 링 버퍼 슬롯에 바로 디코딩해
+ * 등록된 {@link MarketDataListener}에게 전달한다. outbox를 거치지 않는 프로세스 내 경로다(시세는 유실을 허용한다).
+ * 원본 프레임 기록(§7.11)이 켜져 있으면 디코딩 전에 기록기 전달 버퍼로 복사한다.
+ * 활성 마켓은 market-refresh-seconds마다 다시 읽어 바뀌면 구독을 교체한다(공용 {@link TaskScheduler}, WS ping·재연결도 같은 스케줄러).
+ * marketdata.enabled=false면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Service
+public class MarketDataIngestionService implements SmartLifecycle {
+
+	private static final int POLL_BATCH = 256;
+	private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+	private final MarketDataProperties properties;
+	private final MarketConfigQueryService marketConfigQueryService;
+	private final FrameRecorder frameRecorder;
+	private final ObjectProvider<MarketDataListener> listeners;
+	private final MeterRegistry meterRegistry;
+	private final TaskScheduler taskScheduler;
+	private final boolean virtualThreads;
+	private final UpbitQuotationFrameDecoder decoder = new UpbitQuotationFrameDecoder();
+	private final Counter frames;
+	private final Counter decodeErrors;
+
+	private MarketDataRingBuffer ringBuffer;
+	private ScheduledFuture<?> refreshTask;
+	private UpbitQuotationWebSocket webSocket;
+	private final List<Thread> consumerThreads = new ArrayList<>();
+	private volatile List<String> markets = List.of();
+	private volatile boolean running;
+
+	public MarketDataIngestionService(MarketDataProperties properties, MarketConfigQueryService marketConfigQueryService,
+		FrameRecorder frameRecorder, ObjectProvider<MarketDataListener> listeners, MeterRegistry meterRegistry,
+		TaskScheduler taskScheduler, Environment environment) {
+		this.properties = properties;
+		this.marketConfigQueryService = marketConfigQueryService;
+		this.frameRecorder = frameRecorder;
+		this.listeners = listeners;
+		this.meterRegistry = meterRegistry;
+		this.taskScheduler = taskScheduler;
+		this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+		this.frames = Counter.builder("marketdata.ws.frames")
+			.description("수신한 공개 시세 프레임 수")
+			.register(meterRegistry);
+		this.decodeErrors = Counter.builder("marketdata.decode.errors")
+			.description("디코딩 실패 프레임 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public synchronized void start() {
+		if (!properties.enabled()) {
+			log.info("Market data ingestion disabled");
+			return;
+		}
+		ringBuffer = new MarketDataRingBuffer(properties.ringBufferSize(), meterRegistry);
+		running = true;
+		listeners.orderedStream().forEach(this::startConsumer);
+
+		webSocket = new UpbitQuotationWebSocket(URI.create(properties.quotationUrl()), HttpClient.newHttpClient(),
+			taskScheduler, Duration.ofSeconds(properties.pingIntervalSeconds()), this::onFrame, new ObjectMapper(),
+			meterRegistry);
+		refreshTask = taskScheduler.scheduleWithFixedDelay(this::refreshMarkets,
+			Duration.ofSeconds(properties.marketRefreshSeconds()));
+		log.info("Market data ingestion started: ringBuffer={} listeners={}", ringBuffer.capacity(), consumerThreads.size());
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		refreshTask.cancel(false);
+		webSocket.close();
+		for (Thread thread : consumerThreads) {
+			LockSupport.unpark(thread);
+		}
+		consumerThreads.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	public List<String> subscribedMarkets() {
+		return markets;
+	}
+
+	/**
+	 * WS 수신 스레드(생산자 하나)에서 호출. 슬롯을 예약해 그 자리에 디코딩하고, 유효할 때만 발행한다.
+	 */
+	void onFrame(byte[] frame, int offset, int length) {
+		frames.increment();
+		frameRecorder.record(frame, offset, length);
+		long sequence = ringBuffer.tryClaim();
+		if (sequence < 0) {
+			return;
+		}
+		MarketDataEvent slot = ringBuffer.slot(sequence);
+		slot.setReceivedNanos(System.nanoTime());
+		try {
+			if (decoder.decode(frame, offset, length, slot)) {
+				ringBuffer.publish(sequence);
+			}
+		} catch (IOException e) {
+			decodeErrors.increment();
+			log.debug("Failed to decode quotation frame: {}", e.getMessage());
+		}
+	}
+
+	private void refreshMarkets() {
+		try {
+			List<String> latest = marketConfigQueryService.findEnabledMarkets();
+			if (latest.equals(markets)) {
+				return;
+			}
+			log.info("Quotation markets changed: {} -> {}", markets.size(), latest.size());
+			markets = List.copyOf(latest);
+			decoder.setCodes(latest);
+			if (latest.isEmpty()) {
+				webSocket.disconnect();
+			} else {
+				webSocket.subscribe(latest);
+			}
+		} catch (RuntimeException e) {
+			log.warn("Failed to refresh quotation markets", e);
+		}
+	}
+
+	private void startConsumer(MarketDataListener listener) {
+		MarketDataRingBuffer.Subscriber subscriber = ringBuffer.subscribe(listener.name());
+		Consumer<MarketDataEvent> handler = event -> {
+			if (!listener.accepts(event.getType())) {
+				return;
+			}
+			try {
+				listener.onEvent(event);
+			} catch (RuntimeException e) {
+				log.warn("Market data listener failed: listener={} market={}", listener.name(), event.getCode(), e);
+			}
+		};
+		Runnable loop = () -> {
+			while (running) {
+				if (subscriber.poll(handler, POLL_BATCH) == 0) {
+					LockSupport.parkNanos(IDLE_PARK_NANOS);
+				}
+			}
+			ringBuffer.unsubscribe(subscriber);
+		};
+		String threadName = "marketdata-" + listener.name();
+		Thread thread = virtualThreads
+			? Thread.ofVirtual().name(threadName).start(loop)
+			: Thread.ofPlatform().name(threadName).daemon().start(loop);
+		consumerThreads.add(thread);
+	}
+}
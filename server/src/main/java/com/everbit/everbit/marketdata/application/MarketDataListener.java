@@ -0,0 +1,29 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+
+/**
+ * 공개 시세 이벤트 프로세스 내 소비자(포트 out). SoT: docs/integrations/upbit.md §7.6.
+ * 빈으로 등록하면 MarketDataIngestionService가 링 버퍼 구독자와 전용 스레드를 하나씩 붙인다.
+ * onEvent는 그 스레드에서만 순서대로 호출되며, event는 반환 후 재사용되므로 필요한 값만 복사해 둔다.
+ * 수신 스레드는 소비자를 기다리지 않는다. 가장 느린 소비자가 버퍼 한 바퀴만큼 밀리면 새 이벤트는 버려지므로(marketdata.ring.dropped) onEvent는 짧게 유지한다.
+ */
+public interface MarketDataListener {
+
+	void onEvent(MarketDataEvent event);
+
+	/**
+	 * 받을 이벤트 종류. 기본은 전부.
+	 */
+	default boolean accepts(MarketDataEventType type) {
+		return true;
+	}
+
+	/**
+	 * 메트릭 태그/스레드 이름.
+	 */
+	default String name() {
+		return getClass().getSimpleName();
+	}
+}
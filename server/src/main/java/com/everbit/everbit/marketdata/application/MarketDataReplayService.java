@@ -0,0 +1,162 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.global.replay.LatencyRecorder;
+import com.everbit.everbit.global.replay.ReplayPacer;
+import com.everbit.everbit.global.replay.ReplayReport;
+import com.everbit.everbit.marketdata.FrameRecorderProperties;
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.infrastructure.RecordedFrameReader;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 기록된 공개 시세 재생. SoT: docs/integrations/upbit.md §7.10.
+ * 실시간 수집과 같은 경로(링 버퍼 → {@link MarketDataListener}별 전용 스레드)로 이벤트를 흘리되, 생산자는 WS 대신 {@link MarketDataReplaySource}이고
+ * 버퍼가 차면 버리지 않고 기다린다. 속도는 1×(기록 간격 그대로), N×, 최대(0) 중 하나이고, 시계가 가상 시계(clock.virtual=true)면 이벤트 시각으로 옮긴다.
+ * 소비자별로 내보낸 시각 → onEvent 반환까지의 지연을 재며, 캔들 확정 이벤트 리스너는 CandleAggregator 안에서 동기 호출되므로 그 지연에 포함된다.
+ * 리스너는 단일 스레드 전제이므로 실시간 수집이 켜져 있으면 재생하지 않는다.
+ */
+@Slf4j
+@Service
+public class MarketDataReplayService {
+
+	private static final int POLL_BATCH = 256;
+	private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+	private final MarketDataProperties properties;
+	private final FrameRecorderProperties recorderProperties;
+	private final ObjectProvider<MarketDataListener> listeners;
+	private final MarketDataIngestionService ingestionService;
+	private final Clock clock;
+
+	public MarketDataReplayService(MarketDataProperties properties, FrameRecorderProperties recorderProperties,
+		ObjectProvider<MarketDataListener> listeners, MarketDataIngestionService ingestionService, Clock clock) {
+		this.properties = properties;
+		this.recorderProperties = recorderProperties;
+		this.listeners = listeners;
+		this.ingestionService = ingestionService;
+		this.clock = clock;
+	}
+
+	/**
+	 * 원본 프레임 기록(§7.11) 중 수신 시각이 [from, to]인 구간을 재생한다.
+	 *
+	 * @param markets 디코딩할 마켓(code). 나머지는 건너뛴다
+	 */
+	public ReplayReport replayRecorded(Instant from, Instant to, Collection<String> markets, double speed) {
+		try {
+			RecordedFrameReader reader = RecordedFrameReader.open(Path.of(recorderProperties.directory()), from, to);
+			return replay(new RecordedFrameReplaySource(reader, markets), speed);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to open recorded frames", e);
+		}
+	}
+
+	/**
+	 * source를 끝까지 재생하고 모든 소비자가 처리를 마칠 때까지 블록한다. source는 닫는다.
+	 *
+	 * @param speed 배속. 0 이하면 최대 속도({@link ReplayPacer#MAX_SPEED})
+	 */
+	public synchronized ReplayReport replay(MarketDataReplaySource source, double speed) {
+		if (ingestionService.isRunning()) {
+			throw new IllegalStateException("Stop live market data ingestion before replay");
+		}
+		// 재생 전용 버퍼: lag/drop 게이지가 실시간 버퍼 메트릭과 섞이지 않게 따로 둔다
+		MarketDataRingBuffer ringBuffer = new MarketDataRingBuffer(properties.ringBufferSize(), new SimpleMeterRegistry());
+		LatencyRecorder latencies = new LatencyRecorder();
+		Consumers consumers = new Consumers();
+		listeners.orderedStream().forEach(listener -> consumers.start(ringBuffer, listener, latencies.timer(listener.name())));
+
+		ReplayPacer pacer = new ReplayPacer(speed, clock);
+		long events = 0;
+		long startedNanos = System.nanoTime();
+		try (source) {
+			while (true) {
+				long sequence = ringBuffer.claim();
+				MarketDataEvent slot = ringBuffer.slot(sequence);
+				if (!source.next(slot)) {
+					break;
+				}
+				slot.setReplayed(true);
+				pacer.await(slot.getTimestamp() > 0 ? slot.getTimestamp() : slot.getTradeTimestamp());
+				slot.setReceivedNanos(System.nanoTime());
+				ringBuffer.publish(sequence);
+				events++;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read replay source", e);
+		} finally {
+			consumers.finish();
+		}
+		ReplayReport report = new ReplayReport(events, Duration.ofNanos(System.nanoTime() - startedNanos),
+			latencies.summarize());
+		log.info("Market data replay done: events={} elapsed={}ms rate={}/s speed={}", events,
+			report.elapsed().toMillis(), String.format("%.0f", report.eventsPerSecond()), speed);
+		return report;
+	}
+
+	/**
+	 * 재생 1회의 소비자 스레드들. finish는 남은 이벤트를 다 처리할 때까지 기다린다.
+	 */
+	private static final class Consumers {
+
+		private final List<Thread> threads = new ArrayList<>();
+		private volatile boolean producing = true;
+
+		void start(MarketDataRingBuffer ringBuffer, MarketDataListener listener, Timer latency) {
+			MarketDataRingBuffer.Subscriber subscriber = ringBuffer.subscribe(listener.name());
+			Runnable loop = () -> {
+				while (true) {
+					int polled = subscriber.poll(event -> {
+						if (!listener.accepts(event.getType())) {
+							return;
+						}
+						try {
+							listener.onEvent(event);
+						} catch (RuntimeException e) {
+							log.warn("Market data listener failed on replay: listener={} market={}", listener.name(),
+								event.getCode(), e);
+						}
+						latency.record(System.nanoTime() - event.getReceivedNanos(), TimeUnit.NANOSECONDS);
+					}, POLL_BATCH);
+					if (polled == 0) {
+						if (!producing && subscriber.lag() == 0) {
+							break;
+						}
+						LockSupport.parkNanos(IDLE_PARK_NANOS);
+					}
+				}
+				ringBuffer.unsubscribe(subscriber);
+			};
+			threads.add(Thread.ofPlatform().name("replay-" + listener.name()).daemon().start(loop));
+		}
+
+		void finish() {
+			producing = false;
+			for (Thread thread : threads) {
+				try {
+					thread.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("Interrupted while draining replay consumers", e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+
+import java.io.IOException;
+
+/**
+ * 재생할 공개 시세 이벤트 공급원(포트 in). SoT: docs/integrations/upbit.md §7.10.
+ * 이벤트는 서버 시각(tms) 순이어야 한다. 재생 스레드 하나에서만 호출된다.
+ */
+public interface MarketDataReplaySource extends AutoCloseable {
+
+	/**
+	 * 다음 이벤트를 slot(reset된 링 버퍼 슬롯)에 채운다.
+	 *
+	 * @return 더 없으면 false
+	 */
+	boolean next(MarketDataEvent slot) throws IOException;
+
+	@Override
+	default void close() throws IOException {
+	}
+}
@@ -0,0 +1,177 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 단일 생산자·다중 구독자 고정 크기 링 버퍼. SoT: docs/integrations/upbit.md §7.6.
+ * 슬롯({@link MarketDataEvent})은 생성 시 모두 만들어 두고 재사용하므로 이벤트마다 할당이 없다.
+ * 생산자(WS 수신 스레드 하나)는 {@link #tryClaim} → 슬롯 채우기 → {@link #publish} 순으로 쓰고,
+ * 구독자는 각자 시퀀스를 가지고 {@link Subscriber#poll}로 따라 읽는다. 락은 없고 시퀀스 두 종류(cursor, 구독자별)만 원자 변수다.
+ * 가장 느린 구독자가 한 바퀴 뒤처지면 생산자는 기다리지 않고 그 이벤트를 버린다(수신 스레드를 막지 않기 위함, marketdata.ring.dropped).
+ * 구독자는 생산 시작 전에 등록해야 한다.
+ */
+public class MarketDataRingBuffer {
+
+	private static final long CLAIM_PARK_NANOS = 10_000;
+
+	private final MarketDataEvent[] slots;
+	private final int mask;
+	/** 마지막으로 발행된 시퀀스. -1이면 아직 없음. */
+	private final AtomicLong cursor = new AtomicLong(-1);
+	private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+	private final MeterRegistry meterRegistry;
+	private final Counter dropped;
+	/** 생산자 전용 캐시. 매번 모든 구독자 시퀀스를 읽지 않도록 마지막으로 본 최소값을 둔다. */
+	private long cachedMinSequence = -1;
+
+	public MarketDataRingBuffer(int requestedCapacity, MeterRegistry meterRegistry) {
+		int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+		this.slots = new MarketDataEvent[capacity];
+		for (int i = 0; i < capacity; i++) {
+			slots[i] = new MarketDataEvent();
+		}
+		this.mask = capacity - 1;
+		this.meterRegistry = meterRegistry;
+		this.dropped = Counter.builder("marketdata.ring.dropped")
+			.description("구독자 지연으로 버려진 시세 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	public int capacity() {
+		return slots.length;
+	}
+
+	/**
+	 * 구독자를 등록한다. 등록 시점 이후 발행분부터 받는다.
+	 */
+	public Subscriber subscribe(String name) {
+		Subscriber subscriber = new Subscriber(name, cursor.get());
+		subscribers.add(subscriber);
+		Gauge.builder("marketdata.ring.lag", subscriber, s -> cursor.get() - s.sequence.get())
+			.description("구독자가 아직 읽지 않은 이벤트 수")
+			.tag("subscriber", name)
+			.register(meterRegistry);
+		return subscriber;
+	}
+
+	public void unsubscribe(Subscriber subscriber) {
+		subscribers.remove(subscriber);
+	}
+
+	/**
+	 * 다음 슬롯을 예약한다. 생산자 스레드에서만 호출한다.
+	 * 채우다가 포기하면 publish하지 않으면 되고, 다음 tryClaim이 같은 슬롯을 돌려준다.
+	 *
+	 * @return 시퀀스, 버퍼가 가득 찼으면 -1(버림 카운트 증가)
+	 */
+	public long tryClaim() {
+		long next = cursor.get() + 1;
+		long wrapPoint = next - slots.length;
+		if (wrapPoint > cachedMinSequence) {
+			cachedMinSequence = minSubscriberSequence(next - 1);
+			if (wrapPoint > cachedMinSequence) {
+				dropped.increment();
+				return -1;
+			}
+		}
+		MarketDataEvent slot = slots[(int) (next & mask)];
+		slot.reset();
+		return next;
+	}
+
+	/**
+	 * {@link #tryClaim}과 같되 가득 차면 버리지 않고 가장 느린 구독자가 비울 때까지 기다린다.
+	 * 재생(§7.10)처럼 생산자를 늦춰도 되는 경우에만 쓴다.
+	 *
+	 * @throws IllegalStateException 기다리는 중 인터럽트
+	 */
+	public long claim() {
+		long next = cursor.get() + 1;
+		long wrapPoint = next - slots.length;
+		while (wrapPoint > cachedMinSequence) {
+			cachedMinSequence = minSubscriberSequence(next - 1);
+			if (wrapPoint > cachedMinSequence) {
+				LockSupport.parkNanos(CLAIM_PARK_NANOS);
+				if (Thread.currentThread().isInterrupted()) {
+					throw new IllegalStateException("Interrupted while waiting for ring buffer space");
+				}
+			}
+		}
+		MarketDataEvent slot = slots[(int) (next & mask)];
+		slot.reset();
+		return next;
+	}
+
+	public MarketDataEvent slot(long sequence) {
+		return slots[(int) (sequence & mask)];
+	}
+
+	/**
+	 * 슬롯 쓰기를 끝내고 구독자에게 보이게 한다(release 쓰기).
+	 */
+	public void publish(long sequence) {
+		cursor.lazySet(sequence);
+	}
+
+	public long cursor() {
+		return cursor.get();
+	}
+
+	private long minSubscriberSequence(long fallback) {
+		long min = fallback;
+		for (Subscriber subscriber : subscribers) {
+			min = Math.min(min, subscriber.sequence.get());
+		}
+		return min;
+	}
+
+	/**
+	 * 구독자 한 명의 읽기 위치. poll은 그 구독자 전용 스레드 하나에서만 호출한다.
+	 */
+	public final class Subscriber {
+
+		private final String name;
+		private final AtomicLong sequence;
+
+		private Subscriber(String name, long start) {
+			this.name = name;
+			this.sequence = new AtomicLong(start);
+		}
+
+		public String name() {
+			return name;
+		}
+
+		/**
+		 * 발행된 이벤트를 최대 maxBatch개 handler에 넘긴다. 슬롯은 handler 반환 후 재사용될 수 있다.
+		 * handler는 예외를 던지지 않아야 한다. 던지면 그 이벤트부터 다음 poll에서 다시 전달된다.
+		 *
+		 * @return 처리한 이벤트 수(0이면 새 이벤트 없음)
+		 */
+		public int poll(Consumer<MarketDataEvent> handler, int maxBatch) {
+			long current = sequence.get();
+			long available = Math.min(cursor.get(), current + maxBatch);
+			if (available <= current) {
+				return 0;
+			}
+			for (long seq = current + 1; seq <= available; seq++) {
+				handler.accept(slots[(int) (seq & mask)]);
+				sequence.lazySet(seq);
+			}
+			return (int) (available - current);
+		}
+
+		public long lag() {
+			return cursor.get() - sequence.get();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+import com.everbit.everbit.marketdata.domain.OrderBook;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마켓별 호가 사본. SoT: docs/integrations/upbit.md §7.8.
+ * orderbook 이벤트만 구독해 마켓마다 {@link OrderBook} 하나를 덮어쓴다(쓰기는 이 소비자 스레드 하나).
+ * 다른 모듈(리스크 게이트, 주문 가격 결정)은 {@link #find}로 받은 OrderBook을 어느 스레드에서든 락 없이 조회한다.
+ * 시세 수집이 꺼져 있거나 아직 호가를 받지 못한 마켓은 empty.
+ */
+@Component
+public class OrderBookReplica implements MarketDataListener {
+
+	private final Map<String, OrderBook> books = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean accepts(MarketDataEventType type) {
+		return type == MarketDataEventType.ORDERBOOK;
+	}
+
+	@Override
+	public void onEvent(MarketDataEvent event) {
+		OrderBook book = books.get(event.getCode());
+		if (book == null) {
+			book = books.computeIfAbsent(event.getCode(), OrderBook::new);
+		}
+		book.update(event);
+	}
+
+	public Optional<OrderBook> find(String market) {
+		return Optional.ofNullable(books.get(market));
+	}
+
+	/**
+	 * @param maxAgeMillis 마지막 갱신이 now보다 이만큼 이상 오래됐으면 empty(끊긴 연결의 호가로 가격을 정하지 않도록)
+	 */
+	public Optional<OrderBook> findFresh(String market, long nowMillis, long maxAgeMillis) {
+		OrderBook book = books.get(market);
+		if (book == null || nowMillis - book.timestamp() > maxAgeMillis) {
+			return Optional.empty();
+		}
+		return Optional.of(book);
+	}
+}
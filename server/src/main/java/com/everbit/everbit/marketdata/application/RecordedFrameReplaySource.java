@@ -0,0 +1,43 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.infrastructure.RecordedFrameReader;
+import com.everbit.everbit.marketdata.infrastructure.UpbitQuotationFrameDecoder;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * 기록된 원본 프레임(§7.11) → 재생 이벤트. SoT: docs/integrations/upbit.md §7.10.
+ * 실시간과 같은 디코더로 다시 디코딩하므로 재생 결과는 기록 당시 수신한 바이트와 같다. markets에 없는 code·깨진 프레임은 건너뛴다.
+ */
+public class RecordedFrameReplaySource implements MarketDataReplaySource {
+
+	private final RecordedFrameReader reader;
+	private final UpbitQuotationFrameDecoder decoder = new UpbitQuotationFrameDecoder();
+
+	public RecordedFrameReplaySource(RecordedFrameReader reader, Collection<String> markets) {
+		this.reader = reader;
+		decoder.setCodes(markets);
+	}
+
+	@Override
+	public boolean next(MarketDataEvent slot) throws IOException {
+		while (reader.next()) {
+			slot.reset();
+			try {
+				if (decoder.decode(reader.frame(), reader.offset(), reader.length(), slot)) {
+					return true;
+				}
+			} catch (IOException e) {
+				// 깨진 프레임은 실시간과 같이 건너뛴다
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
@@ -0,0 +1,17 @@
+package com.everbit.everbit.marketdata.domain;
+
+/**
+ * 호가 쪽. 매수 주문은 ASK를 소진하고 매도 주문은 BID를 소진한다.
+ */
+public enum BookSide {
+	BID,
+	ASK;
+
+	/**
+	 * @param buy 매수 주문이면 true
+	 * @return 그 주문이 소진하는 쪽
+	 */
+	public static BookSide consumedBy(boolean buy) {
+		return buy ? ASK : BID;
+	}
+}
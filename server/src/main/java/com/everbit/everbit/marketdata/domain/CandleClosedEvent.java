@@ -0,0 +1,27 @@
+package com.everbit.everbit.marketdata.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 체결 집계 캔들 확정(close) 이벤트. SoT: docs/integrations/upbit.md §7.7.
+ * (market, timeframe, candleTime)마다 정확히 한 번 발행된다. 구독 시작 전부터 이어진(일부 체결이 빠졌을 수 있는) 구간은 발행하지 않는다.
+ *
+ * @param timeframe  분 단위 문자열(candle_cache.timeframe과 같은 값, 예: "15", "60")
+ * @param candleTime 캔들 종료 시각(확정 close, candle_cache.candle_time)
+ * @param closedAt   확정을 결정한 시각(다음 구간 체결 또는 유예 만료 시점의 서버 시각)
+ * @param replayed   재생(docs/integrations/upbit.md §7.10)에서 나온 캔들. candle_cache 적재·구멍 검사는 건너뛴다
+ */
+public record CandleClosedEvent(
+	String market,
+	String timeframe,
+	Instant candleTime,
+	BigDecimal open,
+	BigDecimal high,
+	BigDecimal low,
+	BigDecimal close,
+	BigDecimal volume,
+	Instant closedAt,
+	boolean replayed
+) {
+}
@@ -0,0 +1,25 @@
+package com.everbit.everbit.marketdata.domain;
+
+/**
+ * 호가를 위에서부터 소진해 주어진 원화 금액을 채웠을 때의 추정치. SoT: docs/integrations/upbit.md §7.8.
+ *
+ * @param quantity   받을(내줄) 수량
+ * @param notional   실제로 채운 원화 금액. complete=false면 요청액보다 작다
+ * @param vwap       notional / quantity. 채운 것이 없으면 NaN
+ * @param worstPrice 마지막으로 건드린 호가(지정가로 즉시 체결하려면 이 가격)
+ * @param levels     건드린 호가 단위 수
+ * @param complete   보유 호가 안에서 요청액을 다 채웠는지
+ */
+public record FillEstimate(double quantity, double notional, double vwap, double worstPrice, int levels,
+	boolean complete) {
+
+	/**
+	 * 최우선 호가 대비 평균 체결가 불리함(bps). 매수면 vwap이 높을수록, 매도면 낮을수록 크다.
+	 */
+	public double slippageBps(double bestPrice) {
+		if (Double.isNaN(vwap) || bestPrice <= 0) {
+			return Double.NaN;
+		}
+		return Math.abs(vwap - bestPrice) / bestPrice * 10_000d;
+	}
+}
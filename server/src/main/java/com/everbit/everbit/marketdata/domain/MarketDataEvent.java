@@ -0,0 +1,154 @@
+package com.everbit.everbit.marketdata.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 공개 시세 이벤트 1건(ticker/trade/orderbook 공용). SoT: docs/integrations/upbit.md §7.6.
+ * 링 버퍼 슬롯으로 미리 만들어 두고 프레임마다 덮어쓰는 가변 객체다. 필드는 전부 원시형이고 code는 구독 마켓 문자열을 그대로 가리킨다.
+ * 소비자는 onEvent 안에서만 읽어야 하며, 보관하려면 {@link #copyFrom}으로 복사한다.
+ * 해당 타입에 없는 필드는 {@link #reset} 값(0)으로 남는다.
+ */
+@Getter
+@Setter
+public final class MarketDataEvent {
+
+	/** orderbook 호가 단위 최대 수(Upbit 기본 15, 여유 포함). */
+	public static final int MAX_ORDERBOOK_UNITS = 30;
+
+	public static final char SIDE_ASK = 'A';
+	public static final char SIDE_BID = 'B';
+
+	private MarketDataEventType type;
+	private String code;
+	/** 서버 메시지 생성 시각(tms, epoch ms). */
+	private long timestamp;
+	/** false면 SNAPSHOT(구독 직후 1회). */
+	private boolean realtime;
+	/** 수신(재생이면 내보낸) 시각 System.nanoTime. 프로세스 내 지연 측정용. */
+	private long receivedNanos;
+	/** 재생기가 내보낸 이벤트(§7.10). */
+	private boolean replayed;
+
+	// ticker/trade
+	private double tradePrice;
+	private double tradeVolume;
+	/** 매수/매도 구분. {@link #SIDE_ASK}/{@link #SIDE_BID}, 없으면 0. */
+	private char askBid;
+	/** 체결 시각(ttms, epoch ms). */
+	private long tradeTimestamp;
+	/** trade 체결 번호(sid). 중복 체결 제거용. */
+	private long sequentialId;
+
+	// ticker
+	private double openingPrice;
+	private double highPrice;
+	private double lowPrice;
+	private double prevClosingPrice;
+	private double signedChangeRate;
+	private double accTradeVolume24h;
+	private double accTradePrice24h;
+
+	// orderbook
+	private double totalAskSize;
+	private double totalBidSize;
+	private int unitCount;
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final double[] askPrices = new double[MAX_ORDERBOOK_UNITS];
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final double[] askSizes = new double[MAX_ORDERBOOK_UNITS];
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final double[] bidPrices = new double[MAX_ORDERBOOK_UNITS];
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private final double[] bidSizes = new double[MAX_ORDERBOOK_UNITS];
+
+	public double askPrice(int level) {
+		return askPrices[level];
+	}
+
+	public double askSize(int level) {
+		return askSizes[level];
+	}
+
+	public double bidPrice(int level) {
+		return bidPrices[level];
+	}
+
+	public double bidSize(int level) {
+		return bidSizes[level];
+	}
+
+	/**
+	 * 호가 단위 한 칸을 채운다. level이 {@link #MAX_ORDERBOOK_UNITS} 이상이면 무시(false).
+	 */
+	public boolean setUnit(int level, double askPrice, double askSize, double bidPrice, double bidSize) {
+		if (level < 0 || level >= MAX_ORDERBOOK_UNITS) {
+			return false;
+		}
+		askPrices[level] = askPrice;
+		askSizes[level] = askSize;
+		bidPrices[level] = bidPrice;
+		bidSizes[level] = bidSize;
+		return true;
+	}
+
+	/**
+	 * 슬롯 재사용 전 초기화. 배열은 unitCount로만 유효 범위를 판단하므로 지우지 않는다.
+	 */
+	public void reset() {
+		type = null;
+		code = null;
+		timestamp = 0;
+		realtime = false;
+		receivedNanos = 0;
+		replayed = false;
+		tradePrice = 0;
+		tradeVolume = 0;
+		askBid = 0;
+		tradeTimestamp = 0;
+		sequentialId = 0;
+		openingPrice = 0;
+		highPrice = 0;
+		lowPrice = 0;
+		prevClosingPrice = 0;
+		signedChangeRate = 0;
+		accTradeVolume24h = 0;
+		accTradePrice24h = 0;
+		totalAskSize = 0;
+		totalBidSize = 0;
+		unitCount = 0;
+	}
+
+	public void copyFrom(MarketDataEvent other) {
+		type = other.type;
+		code = other.code;
+		timestamp = other.timestamp;
+		realtime = other.realtime;
+		receivedNanos = other.receivedNanos;
+		replayed = other.replayed;
+		tradePrice = other.tradePrice;
+		tradeVolume = other.tradeVolume;
+		askBid = other.askBid;
+		tradeTimestamp = other.tradeTimestamp;
+		sequentialId = other.sequentialId;
+		openingPrice = other.openingPrice;
+		highPrice = other.highPrice;
+		lowPrice = other.lowPrice;
+		prevClosingPrice = other.prevClosingPrice;
+		signedChangeRate = other.signedChangeRate;
+		accTradeVolume24h = other.accTradeVolume24h;
+		accTradePrice24h = other.accTradePrice24h;
+		totalAskSize = other.totalAskSize;
+		totalBidSize = other.totalBidSize;
+		unitCount = other.unitCount;
+		System.arraycopy(other.askPrices, 0, askPrices, 0, other.unitCount);
+		System.arraycopy(other.askSizes, 0, askSizes, 0, other.unitCount);
+		System.arraycopy(other.bidPrices, 0, bidPrices, 0, other.unitCount);
+		System.arraycopy(other.bidSizes, 0, bidSizes, 0, other.unitCount);
+	}
+}
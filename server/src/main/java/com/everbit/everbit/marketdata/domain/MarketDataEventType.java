@@ -0,0 +1,32 @@
+package com.everbit.everbit.marketdata.domain;
+
+/**
+ * 공개 시세 이벤트 종류. SIMPLE 포맷 ty 값과 1:1.
+ */
+public enum MarketDataEventType {
+	TICKER("ticker"),
+	TRADE("trade"),
+	ORDERBOOK("orderbook");
+
+	private final String wireName;
+
+	MarketDataEventType(String wireName) {
+		this.wireName = wireName;
+	}
+
+	public String wireName() {
+		return wireName;
+	}
+
+	/**
+	 * @return 모르는 타입이면 null
+	 */
+	public static MarketDataEventType fromWireName(String wireName) {
+		for (MarketDataEventType type : values()) {
+			if (type.wireName.equals(wireName)) {
+				return type;
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,207 @@
+package com.everbit.everbit.marketdata.domain;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * 마켓 하나의 호가 사본. SoT: docs/integrations/upbit.md §7.8.
+ * Upbit orderbook 메시지는 매번 상위 N단 전체를 담으므로 증분 병합 없이 통째로 덮어쓴다.
+ * 호가는 원시형 배열에 두고 시퀀스 락(seqlock)으로 보호한다: 쓰기 스레드(시세 소비자 하나)는 version을 홀수로 올린 뒤 배열을 쓰고 다시 짝수로 올리며,
+ * 읽는 쪽은 락 없이 계산한 뒤 그 사이 version이 바뀌었으면 다시 계산한다. 갱신에도 조회에도 할당이 없다(결과 객체 제외).
+ * 읽는 도중 값이 섞일 수 있으므로 조회 계산은 배열 범위를 넘지 않고 예외를 던지지 않게 짠다(섞인 결과는 검증에서 버려진다).
+ */
+public final class OrderBook {
+
+	private static final int MAX_LEVELS = MarketDataEvent.MAX_ORDERBOOK_UNITS;
+
+	private final String market;
+	private final double[] askPrices = new double[MAX_LEVELS];
+	private final double[] askSizes = new double[MAX_LEVELS];
+	private final double[] bidPrices = new double[MAX_LEVELS];
+	private final double[] bidSizes = new double[MAX_LEVELS];
+	private int levels;
+	private long timestamp;
+	/** 짝수면 안정, 홀수면 쓰는 중. */
+	private volatile long version;
+
+	public OrderBook(String market) {
+		this.market = market;
+	}
+
+	public String market() {
+		return market;
+	}
+
+	/**
+	 * orderbook 이벤트로 덮어쓴다. 쓰기 스레드 하나에서만 호출한다.
+	 */
+	public void update(MarketDataEvent event) {
+		int n = Math.min(event.getUnitCount(), MAX_LEVELS);
+		long v = version;
+		version = v + 1;
+		VarHandle.storeStoreFence();
+		for (int i = 0; i < n; i++) {
+			askPrices[i] = event.askPrice(i);
+			askSizes[i] = event.askSize(i);
+			bidPrices[i] = event.bidPrice(i);
+			bidSizes[i] = event.bidSize(i);
+		}
+		levels = n;
+		timestamp = event.getTimestamp();
+		version = v + 2;
+	}
+
+	/**
+	 * 마지막 갱신의 서버 시각(epoch ms). 아직 없으면 0.
+	 */
+	public long timestamp() {
+		while (true) {
+			long v = beginRead();
+			long result = timestamp;
+			if (validate(v)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * @return 최우선 매수호가, 호가가 없으면 NaN
+	 */
+	public double bestBid() {
+		while (true) {
+			long v = beginRead();
+			double result = levels > 0 ? bidPrices[0] : Double.NaN;
+			if (validate(v)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * @return 최우선 매도호가, 호가가 없으면 NaN
+	 */
+	public double bestAsk() {
+		while (true) {
+			long v = beginRead();
+			double result = levels > 0 ? askPrices[0] : Double.NaN;
+			if (validate(v)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * @return (최우선 매수 + 최우선 매도) / 2, 호가가 없으면 NaN
+	 */
+	public double mid() {
+		while (true) {
+			long v = beginRead();
+			double result = levels > 0 ? (bidPrices[0] + askPrices[0]) / 2 : Double.NaN;
+			if (validate(v)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * @return 최우선 매도 - 최우선 매수(원), 호가가 없으면 NaN
+	 */
+	public double spread() {
+		while (true) {
+			long v = beginRead();
+			double result = levels > 0 ? askPrices[0] - bidPrices[0] : Double.NaN;
+			if (validate(v)) {
+				return result;
+			}
+		}
+	}
+
+	/**
+	 * 상위 maxLevels단까지 누적 원화 잔량(가격 × 수량).
+	 */
+	public double cumulativeNotional(BookSide side, int maxLevels) {
+		double[] prices = side == BookSide.ASK ? askPrices : bidPrices;
+		double[] sizes = side == BookSide.ASK ? askSizes : bidSizes;
+		while (true) {
+			long v = beginRead();
+			int n = Math.min(Math.min(levels, maxLevels), MAX_LEVELS);
+			double sum = 0;
+			for (int i = 0; i < n; i++) {
+				sum += prices[i] * sizes[i];
+			}
+			if (validate(v)) {
+				return sum;
+			}
+		}
+	}
+
+	/**
+	 * 원화 notional만큼 side 호가를 위에서부터 소진했을 때의 수량/VWAP/마지막 가격.
+	 * 매수 주문이면 {@link BookSide#ASK}, 매도 주문이면 {@link BookSide#BID}를 넘긴다({@link BookSide#consumedBy}).
+	 */
+	public FillEstimate estimateFill(BookSide side, double notional) {
+		double[] prices = side == BookSide.ASK ? askPrices : bidPrices;
+		double[] sizes = side == BookSide.ASK ? askSizes : bidSizes;
+		while (true) {
+			long v = beginRead();
+			int n = Math.min(levels, MAX_LEVELS);
+			double remaining = notional;
+			double quantity = 0;
+			double filled = 0;
+			double worst = Double.NaN;
+			int used = 0;
+			for (int i = 0; i < n && remaining > 0; i++) {
+				double price = prices[i];
+				double size = sizes[i];
+				if (price <= 0 || size <= 0) {
+					continue;
+				}
+				double levelNotional = price * size;
+				used++;
+				worst = price;
+				if (levelNotional >= remaining) {
+					quantity += remaining / price;
+					filled += remaining;
+					remaining = 0;
+				} else {
+					quantity += size;
+					filled += levelNotional;
+					remaining -= levelNotional;
+				}
+			}
+			if (validate(v)) {
+				return new FillEstimate(quantity, filled, quantity > 0 ? filled / quantity : Double.NaN, worst, used,
+					remaining <= 0);
+			}
+		}
+	}
+
+	/**
+	 * 일관된 시점의 복사본(할당 있음). 조회 API로 충분하지 않을 때(로그/디버그 화면 등)만 쓴다.
+	 */
+	public OrderBookSnapshot snapshot() {
+		while (true) {
+			long v = beginRead();
+			int n = Math.min(levels, MAX_LEVELS);
+			OrderBookSnapshot result = new OrderBookSnapshot(market, timestamp,
+				Arrays.copyOf(bidPrices, n), Arrays.copyOf(bidSizes, n),
+				Arrays.copyOf(askPrices, n), Arrays.copyOf(askSizes, n));
+			if (validate(v)) {
+				return result;
+			}
+		}
+	}
+
+	private long beginRead() {
+		long v;
+		while (((v = version) & 1) != 0) {
+			Thread.onSpinWait();
+		}
+		return v;
+	}
+
+	private boolean validate(long v) {
+		VarHandle.loadLoadFence();
+		return version == v;
+	}
+}
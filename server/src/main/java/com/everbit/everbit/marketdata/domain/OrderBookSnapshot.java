@@ -0,0 +1,13 @@
+package com.everbit.everbit.marketdata.domain;
+
+/**
+ * {@link OrderBook#snapshot()} 결과. 배열 인덱스 0이 최우선 호가.
+ */
+public record OrderBookSnapshot(
+	String market,
+	long timestamp,
+	double[] bidPrices,
+	double[] bidSizes,
+	double[] askPrices,
+	double[] askSizes
+) {}
@@ -0,0 +1,144 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import com.everbit.everbit.marketdata.FrameRecorderProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공개 WS 원본 프레임 기록기. SoT: docs/integrations/upbit.md §7.11.
+ * 수신 스레드는 {@link #record}에서 수신 시각과 바이트를 off-heap 전달 버퍼({@link FrameRingBuffer})에 복사만 하고 돌아간다(락·할당·I/O 없음).
+ * 기록 스레드가 DRAIN_INTERVAL마다 버퍼를 비워 {@link FrameSegmentWriter}로 압축·기록한다. 전달 버퍼가 차면 프레임을 버린다(실시간 경로 우선).
+ * marketdata.recorder.enabled=false면 record는 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class FrameRecorder {
+
+	private static final long DRAIN_INTERVAL_MILLIS = 10;
+	private static final int DRAIN_BATCH = 4096;
+
+	private final Clock clock;
+	private final long flushIntervalMillis;
+	private final FrameRingBuffer buffer;
+	private final FrameSegmentWriter writer;
+	private final ScheduledExecutorService executor;
+	private final Counter dropped;
+	private final Counter failures;
+	private volatile long recorded;
+	private long lastFlushMillis;
+
+	public FrameRecorder(FrameRecorderProperties properties, Clock clock, MeterRegistry meterRegistry) {
+		this.clock = clock;
+		this.flushIntervalMillis = properties.flushIntervalMillis();
+		this.dropped = Counter.builder("marketdata.recorder.dropped")
+			.description("전달 버퍼가 차서 기록하지 못한 프레임 수")
+			.register(meterRegistry);
+		this.failures = Counter.builder("marketdata.recorder.failures")
+			.description("세그먼트 쓰기 실패 수")
+			.register(meterRegistry);
+		if (!properties.enabled()) {
+			this.buffer = null;
+			this.writer = null;
+			this.executor = null;
+			return;
+		}
+		this.buffer = new FrameRingBuffer(properties.bufferBytes());
+		try {
+			this.writer = new FrameSegmentWriter(Path.of(properties.directory()), properties.blockBytes(),
+				buffer.capacity() / 2, properties.segmentBytes(), TimeUnit.MINUTES.toMillis(properties.segmentMinutes()),
+				properties.retentionBytes());
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to create frame recorder: " + properties.directory(), e);
+		}
+		FunctionCounter.builder("marketdata.recorder.frames", this, r -> r.recorded)
+			.description("세그먼트에 기록한 프레임 수")
+			.register(meterRegistry);
+		FunctionCounter.builder("marketdata.recorder.bytes", writer, FrameSegmentWriter::writtenBytes)
+			.description("세그먼트에 쓴 압축 바이트 수")
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		FunctionCounter.builder("marketdata.recorder.segments.deleted", writer, FrameSegmentWriter::deletedSegments)
+			.description("보존 한도로 지운 세그먼트 수")
+			.register(meterRegistry);
+		this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "marketdata-recorder");
+			t.setDaemon(true);
+			return t;
+		});
+		executor.scheduleWithFixedDelay(this::drain, DRAIN_INTERVAL_MILLIS, DRAIN_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		log.info("Frame recorder enabled: directory={} buffer={}B", properties.directory(), buffer.capacity());
+	}
+
+	/**
+	 * WS 수신 스레드(생산자 하나)에서 호출. 바이트는 반환 전에 복사되므로 호출자는 frame을 바로 재사용해도 된다.
+	 */
+	public void record(byte[] frame, int offset, int length) {
+		if (buffer != null && !buffer.offer(clock.millis(), frame, offset, length)) {
+			dropped.increment();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor == null) {
+			return;
+		}
+		executor.shutdown();
+		try {
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		drain();
+		try {
+			writer.close();
+		} catch (IOException e) {
+			log.warn("Failed to close frame recorder", e);
+		}
+	}
+
+	/**
+	 * 기록 스레드 전용(종료 시에는 스레드가 멈춘 뒤 호출).
+	 */
+	private void drain() {
+		try {
+			int drained;
+			do {
+				drained = buffer.drain(this::append, DRAIN_BATCH);
+				recorded += drained;
+			} while (drained == DRAIN_BATCH);
+			long now = clock.millis();
+			if (writer.hasPending() && now - lastFlushMillis >= flushIntervalMillis) {
+				writer.flush();
+				lastFlushMillis = now;
+			}
+		} catch (IOException | RuntimeException e) {
+			failures.increment();
+			log.warn("Failed to write frame segment", e);
+		}
+	}
+
+	/**
+	 * 프레임은 append 안에서 블록에 복사된 뒤에만 블록 쓰기가 실패할 수 있으므로, 실패해도 블록에 남아 다음 flush에서 다시 쓴다.
+	 */
+	private void append(long receivedMillis, ByteBuffer source, int offset, int length) {
+		try {
+			writer.append(receivedMillis, source, offset, length);
+		} catch (IOException e) {
+			failures.increment();
+			log.warn("Failed to write frame segment", e);
+		}
+	}
+}
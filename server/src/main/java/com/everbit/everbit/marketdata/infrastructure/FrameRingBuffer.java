@@ -0,0 +1,103 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가변 길이 프레임용 단일 생산자·단일 소비자 바이트 링 버퍼(off-heap). SoT: docs/integrations/upbit.md §7.11.
+ * 레코드는 [int 길이][long 수신 시각][본문]을 8바이트 정렬로 이어 쓰고, 끝에 자리가 모자라면 PAD 표시 후 처음으로 돌아간다.
+ * 위치는 단조 증가 바이트 수(head: 소비자, tail: 생산자)이며 둘 다 release 쓰기로만 공개한다.
+ * 생산자는 기다리지 않는다. 자리가 없으면 false를 돌려주고 프레임은 버린다.
+ */
+final class FrameRingBuffer {
+
+	static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+	private static final int PAD = -1;
+
+	private final ByteBuffer buffer;
+	private final int capacity;
+	private final int mask;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+	/** 생산자 전용 캐시. 매번 head를 읽지 않도록 마지막으로 본 값을 둔다. */
+	private long cachedHead;
+
+	interface FrameSink {
+		void accept(long receivedMillis, ByteBuffer buffer, int offset, int length);
+	}
+
+	FrameRingBuffer(int requestedCapacity) {
+		this.capacity = Integer.highestOneBit(Math.max(64, requestedCapacity - 1)) << 1;
+		this.mask = capacity - 1;
+		this.buffer = ByteBuffer.allocateDirect(capacity);
+	}
+
+	/**
+	 * 생산자 스레드에서만 호출.
+	 *
+	 * @return 자리가 없거나 프레임이 버퍼 절반보다 크면 false
+	 */
+	boolean offer(long receivedMillis, byte[] frame, int offset, int length) {
+		int record = align(HEADER_BYTES + length);
+		if (record > capacity / 2) {
+			return false;
+		}
+		long position = tail.get();
+		int index = (int) (position & mask);
+		int toEnd = capacity - index;
+		int needed = record > toEnd ? toEnd + record : record;
+		if (position + needed - cachedHead > capacity) {
+			cachedHead = head.get();
+			if (position + needed - cachedHead > capacity) {
+				return false;
+			}
+		}
+		if (record > toEnd) {
+			buffer.putInt(index, PAD);
+			position += toEnd;
+			index = 0;
+		}
+		buffer.putInt(index, length);
+		buffer.putLong(index + Integer.BYTES, receivedMillis);
+		buffer.put(index + HEADER_BYTES, frame, offset, length);
+		tail.lazySet(position + record);
+		return true;
+	}
+
+	/**
+	 * 소비자 스레드에서만 호출. 레코드를 최대 maxFrames개 sink에 넘긴다(buffer는 sink 반환 후 재사용된다).
+	 * sink는 예외를 던지지 않아야 한다.
+	 *
+	 * @return 넘긴 프레임 수
+	 */
+	int drain(FrameSink sink, int maxFrames) {
+		long position = head.get();
+		long available = tail.get();
+		int frames = 0;
+		while (position < available && frames < maxFrames) {
+			int index = (int) (position & mask);
+			int length = buffer.getInt(index);
+			if (length == PAD) {
+				position += capacity - index;
+				continue;
+			}
+			sink.accept(buffer.getLong(index + Integer.BYTES), buffer, index + HEADER_BYTES, length);
+			position += align(HEADER_BYTES + length);
+			frames++;
+		}
+		head.lazySet(position);
+		return frames;
+	}
+
+	boolean isEmpty() {
+		return head.get() == tail.get();
+	}
+
+	int capacity() {
+		return capacity;
+	}
+
+	private static int align(int bytes) {
+		return (bytes + 7) & ~7;
+	}
+}
@@ -0,0 +1,213 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 프레임 → 압축 블록 → 세그먼트 파일 쓰기. SoT: docs/integrations/upbit.md §7.11.
+ * 프레임을 원본 블록(heap)에 모았다가 block-bytes가 차거나 {@link #flush}가 불리면 raw deflate(BEST_SPEED)로 off-heap 버퍼에 압축해
+ * FileChannel로 붙이고 색인 항목을 남긴다. 세그먼트가 segment-bytes를 넘거나 segment-minutes가 지나면 새 파일로 넘어가며,
+ * 그때 전체 크기가 retention-bytes를 넘으면 오래된 세그먼트부터 지운다. 기록 스레드 하나에서만 쓴다.
+ */
+@Slf4j
+final class FrameSegmentWriter implements Closeable {
+
+	private final Path dir;
+	private final int blockBytes;
+	private final long segmentBytes;
+	private final long segmentMillis;
+	private final long retentionBytes;
+	private final byte[] raw;
+	private final ByteBuffer rawView;
+	private final ByteBuffer out;
+	private final ByteBuffer indexEntry = ByteBuffer.allocate(FrameSegments.INDEX_ENTRY_BYTES);
+	private final Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+	private final CRC32 crc = new CRC32();
+
+	private int rawLength;
+	private int frameCount;
+	private long firstMillis;
+	private long lastMillis;
+
+	private FileChannel segment;
+	private FileChannel index;
+	private long segmentStartMillis;
+	private long segmentSize;
+	private long writtenBytes;
+	private long deletedSegments;
+
+	/**
+	 * @param maxFrameBytes 한 프레임 최대 크기(전달 버퍼가 받아 주는 상한)
+	 */
+	FrameSegmentWriter(Path dir, int blockBytes, int maxFrameBytes, long segmentBytes, long segmentMillis,
+		long retentionBytes) throws IOException {
+		this.dir = Files.createDirectories(dir);
+		this.blockBytes = blockBytes;
+		this.segmentBytes = segmentBytes;
+		this.segmentMillis = segmentMillis;
+		this.retentionBytes = retentionBytes;
+		int rawCapacity = blockBytes + FrameSegments.FRAME_HEADER_BYTES + maxFrameBytes;
+		this.raw = new byte[rawCapacity];
+		this.rawView = ByteBuffer.wrap(raw);
+		this.out = ByteBuffer.allocateDirect(FrameSegments.BLOCK_HEADER_BYTES + FrameSegments.maxCompressedBytes(rawCapacity));
+	}
+
+	/**
+	 * 프레임을 블록에 복사한다. 블록이 차서 쓰다 실패하면 IOException이며, 복사 전에 실패했으면 그 프레임은 버려진다.
+	 */
+	void append(long receivedMillis, ByteBuffer source, int offset, int length) throws IOException {
+		if (rawLength + FrameSegments.FRAME_HEADER_BYTES + length > raw.length) {
+			// 앞선 블록 쓰기가 실패해 남아 있는 경우
+			flush();
+		}
+		if (frameCount == 0) {
+			firstMillis = receivedMillis;
+		}
+		lastMillis = receivedMillis;
+		rawView.putLong(rawLength, receivedMillis);
+		rawView.putInt(rawLength + Long.BYTES, length);
+		source.get(offset, raw, rawLength + FrameSegments.FRAME_HEADER_BYTES, length);
+		rawLength += FrameSegments.FRAME_HEADER_BYTES + length;
+		frameCount++;
+		if (rawLength >= blockBytes) {
+			flush();
+		}
+	}
+
+	boolean hasPending() {
+		return frameCount > 0;
+	}
+
+	/** 지금까지 세그먼트에 쓴 압축 바이트 수(블록 헤더 포함). */
+	long writtenBytes() {
+		return writtenBytes;
+	}
+
+	long deletedSegments() {
+		return deletedSegments;
+	}
+
+	/**
+	 * 모인 프레임을 블록 하나로 압축해 쓴다.
+	 */
+	void flush() throws IOException {
+		if (frameCount == 0) {
+			return;
+		}
+		if (segment == null || segmentSize >= segmentBytes || firstMillis - segmentStartMillis >= segmentMillis) {
+			roll(firstMillis);
+		}
+		out.clear();
+		out.position(FrameSegments.BLOCK_HEADER_BYTES);
+		deflater.reset();
+		deflater.setInput(raw, 0, rawLength);
+		deflater.finish();
+		while (!deflater.finished()) {
+			if (deflater.deflate(out) == 0 && !out.hasRemaining()) {
+				throw new IOException("Compressed block exceeds buffer: raw=" + rawLength);
+			}
+		}
+		int compressed = out.position() - FrameSegments.BLOCK_HEADER_BYTES;
+		crc.reset();
+		crc.update(out.slice(FrameSegments.BLOCK_HEADER_BYTES, compressed));
+		out.putInt(0, rawLength)
+			.putInt(Integer.BYTES, compressed)
+			.putLong(2 * Integer.BYTES, firstMillis)
+			.putLong(2 * Integer.BYTES + Long.BYTES, lastMillis)
+			.putInt(2 * Integer.BYTES + 2 * Long.BYTES, frameCount)
+			.putInt(3 * Integer.BYTES + 2 * Long.BYTES, (int) crc.getValue());
+		out.flip();
+		long blockPosition = segmentSize;
+		writeFully(segment, out);
+		indexEntry.clear();
+		indexEntry.putLong(firstMillis).putLong(lastMillis).putLong(blockPosition).flip();
+		writeFully(index, indexEntry);
+		long blockSize = FrameSegments.BLOCK_HEADER_BYTES + compressed;
+		segmentSize += blockSize;
+		writtenBytes += blockSize;
+		rawLength = 0;
+		frameCount = 0;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			closeSegment();
+			deflater.end();
+		}
+	}
+
+	private void roll(long startMillis) throws IOException {
+		closeSegment();
+		Path path = FrameSegments.segmentPath(dir, startMillis);
+		while (Files.exists(path)) {
+			// 재시작 직후 같은 ms에 시작한 이전 세그먼트
+			path = FrameSegments.segmentPath(dir, ++startMillis);
+		}
+		segment = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		index = FileChannel.open(FrameSegments.indexPath(path), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+		ByteBuffer header = ByteBuffer.allocate(FrameSegments.FILE_HEADER_BYTES)
+			.putLong(FrameSegments.MAGIC)
+			.putInt(FrameSegments.VERSION)
+			.flip();
+		writeFully(segment, header);
+		segmentStartMillis = startMillis;
+		segmentSize = FrameSegments.FILE_HEADER_BYTES;
+		enforceRetention(path);
+	}
+
+	private void closeSegment() throws IOException {
+		if (segment == null) {
+			return;
+		}
+		try (FileChannel s = segment; FileChannel i = index) {
+			s.force(false);
+			i.force(false);
+		} finally {
+			segment = null;
+			index = null;
+		}
+	}
+
+	private void enforceRetention(Path current) throws IOException {
+		List<Path> segments = FrameSegments.list(dir);
+		long total = 0;
+		for (Path path : segments) {
+			total += sizeOf(path);
+		}
+		for (Path oldest : segments) {
+			if (total <= retentionBytes || oldest.equals(current)) {
+				break;
+			}
+			long size = sizeOf(oldest);
+			Files.deleteIfExists(oldest);
+			Files.deleteIfExists(FrameSegments.indexPath(oldest));
+			total -= size;
+			deletedSegments++;
+			log.info("Deleted frame segment for retention: {}", oldest.getFileName());
+		}
+	}
+
+	private static long sizeOf(Path segment) throws IOException {
+		Path indexPath = FrameSegments.indexPath(segment);
+		return Files.size(segment) + (Files.exists(indexPath) ? Files.size(indexPath) : 0);
+	}
+
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+}
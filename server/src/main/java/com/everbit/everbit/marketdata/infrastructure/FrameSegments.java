@@ -0,0 +1,73 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 프레임 세그먼트 파일 형식(기록기·읽기 공용). SoT: docs/integrations/upbit.md §7.11.
+ * <pre>
+ * frames-&lt;시작 epoch ms 19자리&gt;.seg : [long MAGIC][int VERSION] 뒤로 블록 반복
+ *   블록 = [int 원본 길이][int 압축 길이][long 첫 수신 시각][long 마지막 수신 시각][int 프레임 수][int CRC32(압축본)] + raw deflate 압축본
+ *   원본 = ([long 수신 시각][int 길이][프레임 바이트]) 반복
+ * frames-&lt;...&gt;.idx : 블록마다 [long 첫 수신 시각][long 마지막 수신 시각][long 블록 위치]
+ * </pre>
+ * 모든 정수는 big-endian. 블록을 다 쓴 뒤에 색인을 붙이므로 색인이 모자라도 세그먼트를 순서대로 읽으면 된다.
+ */
+final class FrameSegments {
+
+	/** "EVFRM001" */
+	static final long MAGIC = 0x455646524D303031L;
+	static final int VERSION = 1;
+	static final int FILE_HEADER_BYTES = Long.BYTES + Integer.BYTES;
+	static final int BLOCK_HEADER_BYTES = 4 * Integer.BYTES + 2 * Long.BYTES;
+	static final int FRAME_HEADER_BYTES = Long.BYTES + Integer.BYTES;
+	static final int INDEX_ENTRY_BYTES = 3 * Long.BYTES;
+
+	private static final String PREFIX = "frames-";
+	static final String SEGMENT_SUFFIX = ".seg";
+	static final String INDEX_SUFFIX = ".idx";
+
+	private FrameSegments() {
+	}
+
+	static Path segmentPath(Path dir, long startMillis) {
+		return dir.resolve(PREFIX + String.format("%019d", startMillis) + SEGMENT_SUFFIX);
+	}
+
+	static Path indexPath(Path segment) {
+		String name = segment.getFileName().toString();
+		return segment.resolveSibling(name.substring(0, name.length() - SEGMENT_SUFFIX.length()) + INDEX_SUFFIX);
+	}
+
+	static long startMillis(Path segment) {
+		String name = segment.getFileName().toString();
+		return Long.parseLong(name.substring(PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+	}
+
+	/**
+	 * @return 시작 시각 오름차순 세그먼트 목록. 디렉터리가 없으면 빈 목록
+	 */
+	static List<Path> list(Path dir) throws IOException {
+		List<Path> segments = new ArrayList<>();
+		if (!Files.isDirectory(dir)) {
+			return segments;
+		}
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, PREFIX + "*" + SEGMENT_SUFFIX)) {
+			stream.forEach(segments::add);
+		}
+		segments.sort(Comparator.comparingLong(FrameSegments::startMillis));
+		return segments;
+	}
+
+	/**
+	 * zlib compressBound 기준 raw deflate 최대 크기(여유 포함).
+	 */
+	static int maxCompressedBytes(int rawBytes) {
+		return rawBytes + (rawBytes >> 12) + (rawBytes >> 14) + 64;
+	}
+}
@@ -0,0 +1,241 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 기록된 프레임을 수신 시각 순으로 읽는다. SoT: docs/integrations/upbit.md §7.11.
+ * from 이전 세그먼트는 파일명(시작 시각)으로, 첫 세그먼트 안에서는 색인(블록별 마지막 수신 시각)의 이진 탐색으로 건너뛴다.
+ * 끝이 잘린 블록(기록 중 종료)이나 CRC가 맞지 않는 블록을 만나면 그 세그먼트의 나머지를 건너뛴다.
+ * {@link #next} 후 frame()/offset()/length()는 다음 next 전까지만 유효하다(버퍼 재사용, 프레임마다 할당 없음).
+ */
+public final class RecordedFrameReader implements Closeable {
+
+	private final List<Path> segments;
+	private final long fromMillis;
+	private final long toMillis;
+	private final ByteBuffer blockHeader = ByteBuffer.allocate(FrameSegments.BLOCK_HEADER_BYTES);
+	private final Inflater inflater = new Inflater(true);
+	private final CRC32 crc = new CRC32();
+
+	private int segmentIndex = -1;
+	private FileChannel channel;
+	private long channelPosition;
+	private byte[] compressed = new byte[0];
+	private byte[] raw = new byte[0];
+	private ByteBuffer rawView = ByteBuffer.wrap(raw);
+	private int rawLength;
+	private int rawPosition;
+	private boolean finished;
+
+	private long receivedMillis;
+	private int frameOffset;
+	private int frameLength;
+
+	private RecordedFrameReader(List<Path> segments, long fromMillis, long toMillis) {
+		this.segments = segments;
+		this.fromMillis = fromMillis;
+		this.toMillis = toMillis;
+	}
+
+	/**
+	 * 수신 시각이 [from, to]인 프레임을 읽는다.
+	 */
+	public static RecordedFrameReader open(Path dir, Instant from, Instant to) throws IOException {
+		List<Path> all = FrameSegments.list(dir);
+		long fromMillis = from.toEpochMilli();
+		long toMillis = to.toEpochMilli();
+		int first = 0;
+		for (int i = 0; i < all.size(); i++) {
+			if (FrameSegments.startMillis(all.get(i)) <= fromMillis) {
+				first = i;
+			}
+		}
+		int last = all.size();
+		for (int i = first; i < all.size(); i++) {
+			if (FrameSegments.startMillis(all.get(i)) > toMillis) {
+				last = i;
+				break;
+			}
+		}
+		return new RecordedFrameReader(List.copyOf(all.subList(first, Math.max(first, last))), fromMillis, toMillis);
+	}
+
+	/**
+	 * @return 다음 프레임이 있으면 true
+	 */
+	public boolean next() throws IOException {
+		while (!finished) {
+			if (rawPosition < rawLength) {
+				receivedMillis = rawView.getLong(rawPosition);
+				frameLength = rawView.getInt(rawPosition + Long.BYTES);
+				frameOffset = rawPosition + FrameSegments.FRAME_HEADER_BYTES;
+				rawPosition = frameOffset + frameLength;
+				if (receivedMillis > toMillis) {
+					finished = true;
+					return false;
+				}
+				if (receivedMillis >= fromMillis) {
+					return true;
+				}
+			} else if (!readBlock()) {
+				if (!openNextSegment()) {
+					finished = true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public long receivedMillis() {
+		return receivedMillis;
+	}
+
+	public byte[] frame() {
+		return raw;
+	}
+
+	public int offset() {
+		return frameOffset;
+	}
+
+	public int length() {
+		return frameLength;
+	}
+
+	@Override
+	public void close() throws IOException {
+		finished = true;
+		inflater.end();
+		if (channel != null) {
+			channel.close();
+		}
+	}
+
+	private boolean openNextSegment() throws IOException {
+		if (channel != null) {
+			channel.close();
+			channel = null;
+		}
+		if (++segmentIndex >= segments.size()) {
+			return false;
+		}
+		Path path = segments.get(segmentIndex);
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		ByteBuffer header = ByteBuffer.allocate(FrameSegments.FILE_HEADER_BYTES);
+		if (!readFully(0, header) || header.getLong(0) != FrameSegments.MAGIC
+			|| header.getInt(Long.BYTES) != FrameSegments.VERSION) {
+			channelPosition = channel.size();
+			return true;
+		}
+		channelPosition = segmentIndex == 0 ? seek(path) : FrameSegments.FILE_HEADER_BYTES;
+		return true;
+	}
+
+	/**
+	 * 색인에서 마지막 수신 시각이 from 이상인 첫 블록 위치. 색인이 없으면 세그먼트 처음.
+	 */
+	private long seek(Path segment) throws IOException {
+		Path indexPath = FrameSegments.indexPath(segment);
+		if (!Files.exists(indexPath)) {
+			return FrameSegments.FILE_HEADER_BYTES;
+		}
+		ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+		int entries = index.capacity() / FrameSegments.INDEX_ENTRY_BYTES;
+		int lo = 0;
+		int hi = entries;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (index.getLong(mid * FrameSegments.INDEX_ENTRY_BYTES + Long.BYTES) < fromMillis) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		if (lo == entries) {
+			// 색인된 블록은 전부 from 이전. 색인 뒤에 쓰인 블록이 있을 수 있어 마지막 색인 블록부터 읽는다
+			return entries == 0 ? FrameSegments.FILE_HEADER_BYTES
+				: index.getLong((entries - 1) * FrameSegments.INDEX_ENTRY_BYTES + 2 * Long.BYTES);
+		}
+		return index.getLong(lo * FrameSegments.INDEX_ENTRY_BYTES + 2 * Long.BYTES);
+	}
+
+	private boolean readBlock() throws IOException {
+		if (channel == null) {
+			return false;
+		}
+		blockHeader.clear();
+		if (!readFully(channelPosition, blockHeader)) {
+			return false;
+		}
+		int rawBytes = blockHeader.getInt(0);
+		int compressedBytes = blockHeader.getInt(Integer.BYTES);
+		long lastMillis = blockHeader.getLong(2 * Integer.BYTES + Long.BYTES);
+		int checksum = blockHeader.getInt(3 * Integer.BYTES + 2 * Long.BYTES);
+		if (rawBytes < 0 || compressedBytes < 0) {
+			return false;
+		}
+		long dataPosition = channelPosition + FrameSegments.BLOCK_HEADER_BYTES;
+		channelPosition = dataPosition + compressedBytes;
+		if (lastMillis < fromMillis) {
+			rawLength = 0;
+			rawPosition = 0;
+			return true;
+		}
+		if (compressed.length < compressedBytes) {
+			compressed = new byte[compressedBytes];
+		}
+		if (!readFully(dataPosition, ByteBuffer.wrap(compressed, 0, compressedBytes))) {
+			return false;
+		}
+		crc.reset();
+		crc.update(compressed, 0, compressedBytes);
+		if ((int) crc.getValue() != checksum) {
+			return false;
+		}
+		if (raw.length < rawBytes) {
+			raw = new byte[rawBytes];
+			rawView = ByteBuffer.wrap(raw);
+		}
+		inflater.reset();
+		inflater.setInput(compressed, 0, compressedBytes);
+		try {
+			int inflated = 0;
+			while (inflated < rawBytes && !inflater.finished()) {
+				int n = inflater.inflate(raw, inflated, rawBytes - inflated);
+				if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				inflated += n;
+			}
+			if (inflated != rawBytes) {
+				return false;
+			}
+		} catch (DataFormatException e) {
+			return false;
+		}
+		rawLength = rawBytes;
+		rawPosition = 0;
+		return true;
+	}
+
+	private boolean readFully(long position, ByteBuffer buffer) throws IOException {
+		int start = buffer.position();
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, position + buffer.position() - start) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,149 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Upbit 공개 WS SIMPLE 포맷 프레임 디코더. SoT: docs/integrations/upbit.md §7.6.
+ * Jackson 스트리밍 파서로 수신 바이트 배열을 그대로 읽어 링 버퍼 슬롯에 원시형으로 채운다(트리/DTO/중간 문자열 없음).
+ * 필드명은 Jackson이 정규화(intern)한 문자열이라 switch 비교에 할당이 없고,
+ * ty/st/cd 같은 문자열 값은 파서 내부 char 버퍼와 직접 비교해 구독 마켓 문자열을 재사용한다.
+ * 구독하지 않은 code, 모르는 ty, 오류 응답({"error":...})은 false로 건너뛴다.
+ * 인스턴스는 생산자 스레드 하나에서만 쓴다(codes 교체만 다른 스레드에서 가능).
+ */
+public class UpbitQuotationFrameDecoder {
+
+	private static final String REALTIME = "REALTIME";
+
+	private final JsonFactory jsonFactory = JsonFactory.builder().build();
+	private volatile String[] codes = new String[0];
+
+	/**
+	 * 구독 마켓 목록을 교체한다. 디코딩된 이벤트의 code는 이 배열의 문자열 인스턴스를 가리킨다.
+	 */
+	public void setCodes(Collection<String> markets) {
+		this.codes = markets.toArray(String[]::new);
+	}
+
+	/**
+	 * @return 유효한 이벤트로 채웠으면 true. false면 out 내용은 의미 없다.
+	 * @throws IOException JSON 형식이 깨진 프레임
+	 */
+	public boolean decode(byte[] frame, int offset, int length, MarketDataEvent out) throws IOException {
+		try (JsonParser parser = jsonFactory.createParser(frame, offset, length)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return false;
+			}
+			boolean unknownCode = false;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (value == JsonToken.VALUE_NULL) {
+					continue;
+				}
+				switch (field) {
+					case "ty" -> out.setType(matchType(parser));
+					case "cd" -> {
+						String code = matchCode(parser);
+						out.setCode(code);
+						unknownCode = code == null;
+					}
+					case "tms" -> out.setTimestamp(parser.getLongValue());
+					case "st" -> out.setRealtime(textEquals(parser, REALTIME));
+					case "tp" -> out.setTradePrice(parser.getDoubleValue());
+					case "tv" -> out.setTradeVolume(parser.getDoubleValue());
+					case "ab" -> out.setAskBid(firstChar(parser));
+					case "ttms" -> out.setTradeTimestamp(parser.getLongValue());
+					case "sid" -> out.setSequentialId(parser.getLongValue());
+					case "op" -> out.setOpeningPrice(parser.getDoubleValue());
+					case "hp" -> out.setHighPrice(parser.getDoubleValue());
+					case "lp" -> out.setLowPrice(parser.getDoubleValue());
+					case "pcp" -> out.setPrevClosingPrice(parser.getDoubleValue());
+					case "scr" -> out.setSignedChangeRate(parser.getDoubleValue());
+					case "atv24h" -> out.setAccTradeVolume24h(parser.getDoubleValue());
+					case "atp24h" -> out.setAccTradePrice24h(parser.getDoubleValue());
+					case "tas" -> out.setTotalAskSize(parser.getDoubleValue());
+					case "tbs" -> out.setTotalBidSize(parser.getDoubleValue());
+					case "obu" -> readUnits(parser, out);
+					default -> parser.skipChildren();
+				}
+			}
+			return out.getType() != null && out.getCode() != null && !unknownCode;
+		}
+	}
+
+	/**
+	 * orderbook_units: [{ap, as, bp, bs}, ...]
+	 */
+	private static void readUnits(JsonParser parser, MarketDataEvent out) throws IOException {
+		if (parser.currentToken() != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return;
+		}
+		int level = 0;
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			double askPrice = 0;
+			double askSize = 0;
+			double bidPrice = 0;
+			double bidSize = 0;
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				parser.nextToken();
+				switch (field) {
+					case "ap" -> askPrice = parser.getDoubleValue();
+					case "as" -> askSize = parser.getDoubleValue();
+					case "bp" -> bidPrice = parser.getDoubleValue();
+					case "bs" -> bidSize = parser.getDoubleValue();
+					default -> parser.skipChildren();
+				}
+			}
+			if (out.setUnit(level, askPrice, askSize, bidPrice, bidSize)) {
+				level++;
+			}
+		}
+		out.setUnitCount(level);
+	}
+
+	private static MarketDataEventType matchType(JsonParser parser) throws IOException {
+		for (MarketDataEventType type : MarketDataEventType.values()) {
+			if (textEquals(parser, type.wireName())) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	private String matchCode(JsonParser parser) throws IOException {
+		for (String code : codes) {
+			if (textEquals(parser, code)) {
+				return code;
+			}
+		}
+		return null;
+	}
+
+	private static boolean textEquals(JsonParser parser, String expected) throws IOException {
+		int length = parser.getTextLength();
+		if (length != expected.length()) {
+			return false;
+		}
+		char[] buffer = parser.getTextCharacters();
+		int offset = parser.getTextOffset();
+		for (int i = 0; i < length; i++) {
+			if (buffer[offset + i] != expected.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static char firstChar(JsonParser parser) throws IOException {
+		return parser.getTextLength() > 0 ? parser.getTextCharacters()[parser.getTextOffset()] : 0;
+	}
+}
@@ -0,0 +1,93 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import com.everbit.everbit.integrations.upbit.UpbitWebSocketConnection;
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Upbit 공개 시세 WebSocket 연결 하나(ticker/trade/orderbook을 한 구독 메시지로 다중화). SoT: docs/integrations/upbit.md §7.
+ * 프레임 조립·ping/유휴 감지·재연결 백오프는 {@link UpbitWebSocketConnection}(§7.2)을 따르고, 여기서는 구독 마켓만 관리한다.
+ */
+public class UpbitQuotationWebSocket extends UpbitWebSocketConnection {
+
+	private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+
+	private final ObjectMapper objectMapper;
+	private final Counter reconnects;
+	private volatile List<String> markets = List.of();
+
+	public UpbitQuotationWebSocket(URI uri, HttpClient httpClient, TaskScheduler scheduler,
+		Duration pingInterval, FrameHandler handler, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		super("Quotation", uri, httpClient, scheduler, pingInterval, INITIAL_BUFFER_SIZE, handler);
+		this.objectMapper = objectMapper;
+		this.reconnects = Counter.builder("marketdata.ws.reconnects")
+			.description("공개 시세 WS 재연결 시도 수")
+			.register(meterRegistry);
+		Gauge.builder("marketdata.ws.connected", this, ws -> ws.isConnected() ? 1 : 0)
+			.description("공개 시세 WS 연결 여부")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 구독 마켓을 바꾼다. 연결돼 있으면 같은 연결로 새 구독 메시지를 보내고(Upbit는 마지막 요청으로 대체), 아니면 연결을 연다.
+	 */
+	public synchronized void subscribe(List<String> markets) {
+		this.markets = List.copyOf(markets);
+		WebSocket current = start();
+		if (current != null) {
+			sendSubscription(current);
+		}
+	}
+
+	/**
+	 * 구독 대상이 없어졌을 때. 연결을 닫고 다음 subscribe까지 다시 열지 않는다.
+	 */
+	public synchronized void disconnect() {
+		this.markets = List.of();
+		abortConnection();
+	}
+
+	@Override
+	protected boolean shouldConnect() {
+		return !markets.isEmpty();
+	}
+
+	@Override
+	protected void onReconnectScheduled() {
+		reconnects.increment();
+	}
+
+	@Override
+	protected void sendSubscription(WebSocket ws) {
+		List<String> codes = markets;
+		List<Object> request = new ArrayList<>();
+		request.add(Map.of("ticket", "everbit-quotation-" + UUID.randomUUID()));
+		for (MarketDataEventType type : MarketDataEventType.values()) {
+			Map<String, Object> entry = new LinkedHashMap<>();
+			entry.put("type", type.wireName());
+			entry.put("codes", codes);
+			request.add(entry);
+		}
+		request.add(Map.of("format", "SIMPLE"));
+		try {
+			ws.sendText(objectMapper.writeValueAsString(request), true);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to build quotation subscription", e);
+		}
+	}
+}
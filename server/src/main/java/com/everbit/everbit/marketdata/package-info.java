@@ -0,0 +1,5 @@
+/**
+ * MarketData 모듈: Upbit 공개 시세(ticker/trade/orderbook) WebSocket 수집, 프로세스 내 배포(링 버퍼).
+ * SoT: docs/architecture/modular-monolith.md, docs/integrations/upbit.md §7.6.
+ */
+package com.everbit.everbit.marketdata;
@@ -0,0 +1,30 @@
+package com.everbit.everbit.strategy;
+
+import com.everbit.everbit.strategy.domain.signal.ExtremeFlipStrategy;
+import com.everbit.everbit.strategy.domain.signal.PressureSurgeStrategy;
+import com.everbit.everbit.strategy.domain.signal.StructureLiftStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 기본 전략 등록. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ * 전략을 더하려면 {@link com.everbit.everbit.strategy.domain.signal.Strategy} 구현을 빈으로 등록한다(키가 겹치면 기동 실패).
+ */
+@Configuration
+public class BuiltInStrategies {
+
+	@Bean
+	public ExtremeFlipStrategy extremeFlipStrategy() {
+		return new ExtremeFlipStrategy();
+	}
+
+	@Bean
+	public StructureLiftStrategy structureLiftStrategy() {
+		return new StructureLiftStrategy();
+	}
+
+	@Bean
+	public PressureSurgeStrategy pressureSurgeStrategy() {
+		return new PressureSurgeStrategy();
+	}
+}
@@ -0,0 +1,242 @@
+package com.everbit.everbit.strategy.application;
+
+import com.everbit.everbit.backtest.application.CandleStoreService;
+import com.everbit.everbit.backtest.domain.CandleColumns;
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import com.everbit.everbit.strategy.domain.IndicatorSnapshot;
+import com.everbit.everbit.strategy.domain.IndicatorSnapshotId;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSpec;
+import com.everbit.everbit.strategy.repository.IndicatorSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시리즈(market, timeframe)별 실시간 지표 상태. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * 처음 보는 시리즈는 indicator_snapshot을 복원한 뒤 그 이후 캔들을, 스냅샷이 없으면 최근 WARMUP_CANDLES개를
+ * 열 저장소({@link CandleStoreService})에서 읽어 같은 {@link IndicatorSet}에 먼저 반영한다(시리즈당 한 번).
+ * SNAPSHOT_INTERVAL마다(실시간 시세 marketdata.enabled가 켜져 있을 때), 그리고 종료 때 바뀐 시리즈의 상태를 indicator_snapshot에 저장한다.
+ * 마켓 샤드가 밀려 반영하지 못한 실시간 캔들은 {@link #markSkipped}로 표시되고, 그 시리즈의 다음 캔들을 반영하기 전에
+ * 열 저장소(candle_cache와 맞춘 것)에서 빠진 캔들을 먼저 채운다(§3.2.5). 캔들을 건너뛴 채 지표가 이어지지 않는다.
+ * 재생(docs/integrations/upbit.md §7.10) 캔들은 저장하지 않는 별도 묶음에 반영한다.
+ */
+@Slf4j
+@Service
+public class IndicatorStateService {
+
+	private static final long SNAPSHOT_INTERVAL_SECONDS = 60;
+	/** 스냅샷이 없을 때의 워밍업 캔들 수. Wilder 평활이 시드 영향에서 충분히 벗어나도록 시드 구간보다 넉넉히 둔다. */
+	private static final int WARMUP_CANDLES = 500;
+
+	private final IndicatorSnapshotRepository snapshotRepository;
+	private final CandleStoreService candleStoreService;
+	private final MarketDataProperties marketDataProperties;
+	private final IndicatorSpec spec = IndicatorSpec.defaults();
+	private final Map<SeriesKey, Series> live = new ConcurrentHashMap<>();
+	private final Map<SeriesKey, IndicatorSet> replay = new ConcurrentHashMap<>();
+	/** 반영하지 못한 실시간 캔들 시각(ms). 어느 스레드나 넣고, 시리즈를 맡은 스레드가 채운 뒤 지운다. */
+	private final Map<SeriesKey, NavigableSet<Long>> skipped = new ConcurrentHashMap<>();
+	private final Counter warmupCandles;
+	private final Counter snapshotsSaved;
+	private final Counter catchUpCandles;
+
+	record SeriesKey(String market, String timeframe) {}
+
+	private record State(long timeMillis, byte[] bytes) {}
+
+	/**
+	 * set은 시리즈를 맡은 스레드만 쓴다. 그 스레드가 갱신마다 불변 스냅샷(latest)을 공개하고 저장은 그것만 읽으므로 갱신 경로에 락이 없다.
+	 * savedTimeMillis는 저장({@link #saveAll}, 락 안)에서만 쓴다.
+	 */
+	private static final class Series {
+		private final IndicatorSet set;
+		private volatile State latest;
+		private long savedTimeMillis;
+
+		private Series(IndicatorSet set) {
+			this.set = set;
+			this.savedTimeMillis = set.lastTimeMillis();
+		}
+	}
+
+	public IndicatorStateService(IndicatorSnapshotRepository snapshotRepository, CandleStoreService candleStoreService,
+		MarketDataProperties marketDataProperties, MeterRegistry meterRegistry) {
+		this.snapshotRepository = snapshotRepository;
+		this.candleStoreService = candleStoreService;
+		this.marketDataProperties = marketDataProperties;
+		this.warmupCandles = Counter.builder("indicator.warmup.candles")
+			.description("지표 워밍업으로 반영한 캔들 수")
+			.register(meterRegistry);
+		this.snapshotsSaved = Counter.builder("indicator.snapshot.saved")
+			.description("저장한 지표 상태 스냅샷 수")
+			.register(meterRegistry);
+		this.catchUpCandles = Counter.builder("indicator.catchup.candles")
+			.description("반영하지 못한 실시간 캔들을 열 저장소에서 다시 채운 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 백테스트용 새 묶음. 실시간과 같은 구성이므로 같은 캔들을 넣으면 같은 값이 나온다.
+	 */
+	public IndicatorSet newSet() {
+		return new IndicatorSet(spec);
+	}
+
+	public IndicatorSpec spec() {
+		return spec;
+	}
+
+	/**
+	 * 확정 캔들을 시리즈 지표에 반영하고 그 묶음을 돌려준다. 시리즈마다 한 스레드(마켓 샤드)에서만 호출해야 하며,
+	 * 돌려받은 묶음도 그 스레드에서만 읽는다. 이미 반영한 candle_time 이하 캔들은 무시된다.
+	 */
+	public IndicatorSet apply(CandleClosedEvent event) {
+		SeriesKey key = new SeriesKey(event.market(), event.timeframe());
+		long timeMillis = event.candleTime().toEpochMilli();
+		long high = IndicatorSet.scaled(event.high());
+		long low = IndicatorSet.scaled(event.low());
+		long close = IndicatorSet.scaled(event.close());
+		if (event.replayed()) {
+			IndicatorSet set = replay.computeIfAbsent(key, k -> new IndicatorSet(spec));
+			if (timeMillis <= set.lastTimeMillis()) {
+				// 새 재생이 앞 시각부터 다시 시작
+				set.reset();
+			}
+			set.update(timeMillis, high, low, close);
+			return set;
+		}
+		Series series = live.get(key);
+		NavigableSet<Long> gaps = skipped.get(key);
+		boolean behind = gaps != null && !gaps.isEmpty() && gaps.first() < timeMillis;
+		if (behind) {
+			gaps.headSet(timeMillis).clear();
+		}
+		if (series == null) {
+			// 시리즈는 한 스레드만 다루므로 경합이 없다. 워밍업 I/O를 맵 잠금 밖에서 하려고 computeIfAbsent를 쓰지 않는다
+			series = load(key, timeMillis);
+			live.put(key, series);
+		} else if (behind) {
+			catchUp(key, series.set, timeMillis);
+		}
+		if (series.set.update(timeMillis, high, low, close)) {
+			series.latest = new State(timeMillis, series.set.snapshot());
+		}
+		return series.set;
+	}
+
+	/**
+	 * 실시간 캔들을 반영하지 못했음을 표시한다(마켓 샤드가 가득 찬 경우). 어느 스레드에서 불러도 된다.
+	 * 그 시리즈의 이후 캔들을 반영하기 전에 candle_cache에서 이 캔들을 채운다.
+	 */
+	public void markSkipped(String market, String timeframe, Instant candleTime) {
+		skipped.computeIfAbsent(new SeriesKey(market, timeframe), k -> new ConcurrentSkipListSet<>())
+			.add(candleTime.toEpochMilli());
+	}
+
+	@Scheduled(initialDelay = SNAPSHOT_INTERVAL_SECONDS, fixedDelay = SNAPSHOT_INTERVAL_SECONDS,
+		timeUnit = TimeUnit.SECONDS)
+	void scheduledSave() {
+		if (marketDataProperties.enabled()) {
+			saveAll();
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		saveAll();
+	}
+
+	/**
+	 * 스냅샷 복원 후 beforeMillis 직전 캔들까지 열 저장소로 따라잡는다. 저장소를 못 읽으면 있는 상태로 시작한다.
+	 */
+	private Series load(SeriesKey key, long beforeMillis) {
+		IndicatorSet set = new IndicatorSet(spec);
+		try {
+			snapshotRepository.findById(new IndicatorSnapshotId(key.market(), key.timeframe()))
+				.filter(snapshot -> snapshot.getSpecKey().equals(spec.key()))
+				.ifPresent(snapshot -> {
+					if (!set.restore(snapshot.getState())) {
+						log.info("Ignored incompatible indicator snapshot: market={} timeframe={}", key.market(),
+							key.timeframe());
+					}
+				});
+		} catch (RuntimeException e) {
+			log.warn("Failed to load indicator snapshot: market={} timeframe={}", key.market(), key.timeframe(), e);
+		}
+		boolean restored = set.updates() > 0;
+		try {
+			CandleColumns columns = candleStoreService.load(key.market(), key.timeframe());
+			int end = columns.lowerBound(beforeMillis);
+			int start = restored ? columns.lowerBound(set.lastTimeMillis() + 1) : Math.max(0, end - WARMUP_CANDLES);
+			int candles = Math.max(0, end - start);
+			for (int i = start; i < end; i++) {
+				set.update(columns.timeMillis(i), columns.high(i), columns.low(i), columns.close(i));
+			}
+			warmupCandles.increment(candles);
+			log.info("Indicators warmed up: market={} timeframe={} restored={} candles={} ready={}", key.market(),
+				key.timeframe(), restored, candles, set.isReady());
+		} catch (RuntimeException e) {
+			log.warn("Indicator warm-up failed: market={} timeframe={}", key.market(), key.timeframe(), e);
+		}
+		return new Series(set);
+	}
+
+	/**
+	 * 마지막으로 반영한 캔들 이후 ~ beforeMillis 직전 캔들을 열 저장소에서 읽어 반영한다.
+	 */
+	private void catchUp(SeriesKey key, IndicatorSet set, long beforeMillis) {
+		try {
+			CandleColumns columns = candleStoreService.load(key.market(), key.timeframe());
+			int start = columns.lowerBound(set.lastTimeMillis() + 1);
+			int end = columns.lowerBound(beforeMillis);
+			int candles = Math.max(0, end - start);
+			for (int i = start; i < end; i++) {
+				set.update(columns.timeMillis(i), columns.high(i), columns.low(i), columns.close(i));
+			}
+			catchUpCandles.increment(candles);
+			log.info("Indicators caught up after skipped candles: market={} timeframe={} candles={}", key.market(),
+				key.timeframe(), candles);
+		} catch (RuntimeException e) {
+			log.warn("Indicator catch-up failed: market={} timeframe={}", key.market(), key.timeframe(), e);
+		}
+	}
+
+	synchronized void saveAll() {
+		live.forEach((key, series) -> {
+			State state = series.latest;
+			if (state == null || state.timeMillis() == series.savedTimeMillis) {
+				return;
+			}
+			try {
+				save(key, Instant.ofEpochMilli(state.timeMillis()), state.bytes());
+				series.savedTimeMillis = state.timeMillis();
+				snapshotsSaved.increment();
+			} catch (RuntimeException e) {
+				log.warn("Failed to save indicator snapshot: market={} timeframe={}", key.market(), key.timeframe(), e);
+			}
+		});
+	}
+
+	private void save(SeriesKey key, Instant candleTime, byte[] state) {
+		IndicatorSnapshotId id = new IndicatorSnapshotId(key.market(), key.timeframe());
+		IndicatorSnapshot snapshot = snapshotRepository.findById(id)
+			.map(existing -> {
+				existing.update(spec.key(), candleTime, state);
+				return existing;
+			})
+			.orElseGet(() -> IndicatorSnapshot.create(key.market(), key.timeframe(), spec.key(), candleTime, state));
+		snapshotRepository.save(snapshot);
+	}
+}
@@ -0,0 +1,27 @@
+package com.everbit.everbit.strategy.application;
+
+import com.everbit.everbit.strategy.repository.MarketConfigRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 마켓 설정 조회. 시세 수집(marketdata) 구독 대상 결정용.
+ * SoT: docs/architecture/modular-monolith.md §3.3 (공개 API).
+ */
+@Service
+@RequiredArgsConstructor
+public class MarketConfigQueryService {
+
+	private final MarketConfigRepository marketConfigRepository;
+
+	/**
+	 * 한 명 이상의 소유자가 활성화한 마켓 코드(중복 제거, 오름차순).
+	 */
+	@Transactional(readOnly = true)
+	public List<String> findEnabledMarkets() {
+		return marketConfigRepository.findDistinctEnabledMarkets();
+	}
+}
@@ -0,0 +1,147 @@
+package com.everbit.everbit.strategy.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마켓 해시로 나눈 단일 작성자 워커 묶음. SoT: docs/architecture/order-pipeline.md §3.2.5.
+ * 한 마켓은 항상 같은 샤드(스레드)에서 처리되므로 마켓별 상태는 그 스레드만 쓰고(락 없음), 마켓 안 순서는 제출 순서 그대로다.
+ * 샤드 큐는 크기가 정해져 있다. {@link #submit}은 샤드가 밀리면 offerTimeout까지 기다리고(역압), {@link #trySubmit}은 기다리지 않는다.
+ * 자리가 없어 넣지 못한 작업은 호출 측이 처리한다.
+ */
+@Slf4j
+final class MarketShards {
+
+	private static final long POLL_MILLIS = 100;
+
+	private final Shard[] shards;
+	private final long offerTimeoutMillis;
+	private final Counter backpressure;
+	private final Counter rejected;
+	private volatile boolean closed;
+
+	private final class Shard implements Runnable {
+		private final BlockingQueue<Runnable> queue;
+		private final Thread thread;
+
+		private Shard(String name, int capacity) {
+			this.queue = new ArrayBlockingQueue<>(capacity);
+			this.thread = new Thread(this, name);
+			thread.setDaemon(true);
+		}
+
+		@Override
+		public void run() {
+			while (true) {
+				Runnable task;
+				try {
+					task = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					return;
+				}
+				if (task == null) {
+					if (closed) {
+						return;
+					}
+					continue;
+				}
+				try {
+					task.run();
+				} catch (RuntimeException e) {
+					log.warn("Shard task failed: {}", thread.getName(), e);
+				}
+			}
+		}
+	}
+
+	MarketShards(String name, int count, int capacity, long offerTimeoutMillis, MeterRegistry meterRegistry) {
+		this.shards = new Shard[count];
+		this.offerTimeoutMillis = offerTimeoutMillis;
+		this.backpressure = Counter.builder(name + ".shard.backpressure")
+			.description("샤드 큐가 차서 제출 스레드가 기다린 횟수")
+			.register(meterRegistry);
+		this.rejected = Counter.builder(name + ".shard.rejected")
+			.description("샤드 큐에 자리가 없어 넣지 못한 작업 수")
+			.register(meterRegistry);
+		for (int i = 0; i < count; i++) {
+			Shard shard = new Shard(name + "-shard-" + i, capacity);
+			shards[i] = shard;
+			Gauge.builder(name + ".shard.queue", shard.queue, BlockingQueue::size)
+				.description("샤드 큐에 쌓인 작업 수")
+				.tag("shard", Integer.toString(i))
+				.register(meterRegistry);
+			shard.thread.start();
+		}
+	}
+
+	int size() {
+		return shards.length;
+	}
+
+	int shardOf(String market) {
+		int h = market.hashCode();
+		return Math.floorMod(h ^ (h >>> 16), shards.length);
+	}
+
+	/**
+	 * 마켓의 샤드에 작업을 넣는다. 큐가 차 있으면 offerTimeout까지 기다린다.
+	 *
+	 * @return 버렸으면 false(종료 중, 시간 초과, 인터럽트)
+	 */
+	boolean submit(String market, Runnable task) {
+		if (closed) {
+			return false;
+		}
+		BlockingQueue<Runnable> queue = shards[shardOf(market)].queue;
+		if (queue.offer(task)) {
+			return true;
+		}
+		backpressure.increment();
+		try {
+			if (queue.offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+				return true;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		rejected.increment();
+		return false;
+	}
+
+	/**
+	 * 기다리지 않고 마켓의 샤드에 작업을 넣는다. 한 샤드가 밀려도 제출 스레드(와 다른 마켓)를 세우지 않을 때 쓴다.
+	 *
+	 * @return 넣지 못했으면 false(종료 중, 큐가 참)
+	 */
+	boolean trySubmit(String market, Runnable task) {
+		if (closed) {
+			return false;
+		}
+		if (shards[shardOf(market)].queue.offer(task)) {
+			return true;
+		}
+		rejected.increment();
+		return false;
+	}
+
+	/**
+	 * 새 작업을 막고, 남은 작업을 처리할 때까지 샤드마다 최대 timeout 기다린다.
+	 */
+	void shutdown(long timeoutMillis) {
+		closed = true;
+		for (Shard shard : shards) {
+			try {
+				shard.thread.join(timeoutMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+}
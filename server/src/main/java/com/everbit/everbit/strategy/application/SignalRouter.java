@@ -0,0 +1,177 @@
+package com.everbit.everbit.strategy.application;
+
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.strategy.domain.signal.ArbitrationOutcome;
+import com.everbit.everbit.strategy.domain.signal.PositionBook;
+import com.everbit.everbit.strategy.domain.signal.SignalAcceptedEvent;
+import com.everbit.everbit.strategy.domain.signal.SignalArbiter;
+import com.everbit.everbit.strategy.domain.signal.SignalArbiter.Arbitration;
+import com.everbit.everbit.strategy.domain.signal.SignalCandidate;
+import com.everbit.everbit.trade.application.PositionQueryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전략 평가와 주문 의도 생성 사이의 국면 라우팅·중재 단계. SoT: docs/architecture/order-pipeline.md §3.2.4.
+ * 같은 캔들 close(timeframe, 캔들 종료 시각)에 기록된 신호를 모든 마켓에 걸쳐 한 라운드로 모았다가
+ * {@link SignalArbiter}로 한 번에 중재하고, 채택된 신호만 {@link SignalAcceptedEvent}로 넘긴다.
+ * 집계기는 한 경계의 캔들을 한 번에 닫으므로 라운드는 첫 신호 후 ROUND_GRACE 뒤에 닫고, 같은 timeframe의 다음 캔들 신호가 오면 바로 닫는다.
+ * 보유 마켓은 {@link PositionBook}(position OPEN + 채택 후 체결 전 예약)으로 본다.
+ * 라운드는 모든 마켓에 걸치므로 이 객체의 락 안에서만 다룬다. 샤드는 {@link #submit}으로 공용 {@link TaskScheduler}에 넘기기만 하고,
+ * 라운드 마감도 같은 스케줄러에 예약한다. 보유 동기화는 실시간 시세(marketdata.enabled)가 켜져 있을 때만 돈다.
+ * <p>
+ * 여기서 {@link com.everbit.everbit.trade.domain.OrderIntent}를 만들지 않고 이벤트에서 멈춘다. 의도는 리스크 게이트(§3.3)를 지나
+ * OrderAttempt·outbox 커맨드와 한 트랜잭션으로 저장해야 하는데(§3.4) 그 단계가 아직 없고, 진입 금액(risk.min/maxOrderKrw)과
+ * 전략 SELL에 맞는 청산 유형(OrderIntentType은 손절·익절·트레일링·시간뿐)도 정해지지 않았다. 팩토리로 의도 행만 만들면 실행되지 않는
+ * CREATED 의도가 남으므로, 의도 생성은 {@link SignalAcceptedEvent}를 구독하는 그 단계가 맡는다.
+ */
+@Slf4j
+@Component
+public class SignalRouter {
+
+	private static final long ROUND_GRACE_MILLIS = 2_000;
+	private static final long RESERVATION_MILLIS = TimeUnit.MINUTES.toMillis(10);
+	private static final long POSITION_SYNC_SECONDS = 30;
+
+	private record RoundKey(String timeframe, Instant candleCloseTime) {}
+
+	private final PositionQueryService positionQueryService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TaskScheduler taskScheduler;
+	private final MarketDataProperties marketDataProperties;
+	private final Clock clock;
+	private final PositionBook positions = new PositionBook(RESERVATION_MILLIS);
+	private final Map<RoundKey, List<SignalCandidate>> rounds = new LinkedHashMap<>();
+	private final Map<ArbitrationOutcome, Counter> outcomes = new EnumMap<>(ArbitrationOutcome.class);
+	private final Counter failures;
+
+	public SignalRouter(PositionQueryService positionQueryService, ApplicationEventPublisher eventPublisher,
+		TaskScheduler taskScheduler, MarketDataProperties marketDataProperties, Clock clock, MeterRegistry meterRegistry) {
+		this.positionQueryService = positionQueryService;
+		this.eventPublisher = eventPublisher;
+		this.taskScheduler = taskScheduler;
+		this.marketDataProperties = marketDataProperties;
+		this.clock = clock;
+		for (ArbitrationOutcome outcome : ArbitrationOutcome.values()) {
+			outcomes.put(outcome, Counter.builder("strategy.arbitration")
+				.description("중재 결과별 signal 수")
+				.tag("outcome", outcome.name())
+				.register(meterRegistry));
+		}
+		this.failures = Counter.builder("strategy.arbitration.failures")
+			.description("중재·보유 동기화 실패 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 샤드 스레드에서 호출. 새로 기록된 신호를 스케줄러 스레드에서 라운드에 넣는다.
+	 */
+	public void submit(String timeframe, Instant candleCloseTime, List<SignalCandidate> candidates) {
+		taskScheduler.schedule(() -> run(() -> {
+			if (offer(timeframe, candleCloseTime, candidates)) {
+				taskScheduler.schedule(() -> run(() -> flush(timeframe, candleCloseTime)),
+					taskScheduler.getClock().instant().plusMillis(ROUND_GRACE_MILLIS));
+			}
+		}), taskScheduler.getClock().instant());
+	}
+
+	/**
+	 * 보유 마켓을 DB로 다시 맞춘다. 조회는 락 밖에서 한다.
+	 */
+	@Scheduled(fixedDelay = POSITION_SYNC_SECONDS, timeUnit = TimeUnit.SECONDS)
+	void syncPositions() {
+		if (!marketDataProperties.enabled()) {
+			return;
+		}
+		run(() -> {
+			Map<Long, Set<String>> open = positionQueryService.findOpenMarkets();
+			synchronized (this) {
+				positions.sync(open, clock.millis());
+			}
+		});
+	}
+
+	/**
+	 * 마감을 기다리는 라운드는 종료 때 바로 중재한다(예약된 마감은 스케줄러와 함께 버려진다).
+	 */
+	@PreDestroy
+	synchronized void shutdown() {
+		List<List<SignalCandidate>> open = List.copyOf(rounds.values());
+		rounds.clear();
+		open.forEach(round -> run(() -> arbitrate(round)));
+	}
+
+	private void run(Runnable task) {
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			failures.increment();
+			log.warn("Signal routing failed", e);
+		}
+	}
+
+	/**
+	 * 라운드에 신호를 더한다. 같은 timeframe의 이전 캔들 라운드는 먼저 중재한다.
+	 *
+	 * @return 새 라운드를 열었으면 true
+	 */
+	private synchronized boolean offer(String timeframe, Instant candleCloseTime, List<SignalCandidate> candidates) {
+		for (Iterator<Map.Entry<RoundKey, List<SignalCandidate>>> it = rounds.entrySet().iterator(); it.hasNext(); ) {
+			Map.Entry<RoundKey, List<SignalCandidate>> round = it.next();
+			if (round.getKey().timeframe().equals(timeframe) && round.getKey().candleCloseTime().isBefore(candleCloseTime)) {
+				it.remove();
+				arbitrate(round.getValue());
+			}
+		}
+		RoundKey key = new RoundKey(timeframe, candleCloseTime);
+		List<SignalCandidate> round = rounds.get(key);
+		boolean opened = round == null;
+		if (opened) {
+			round = new ArrayList<>();
+			rounds.put(key, round);
+		}
+		round.addAll(candidates);
+		return opened;
+	}
+
+	/**
+	 * 라운드를 닫고 중재한다. 이미 닫혔으면 아무것도 하지 않는다.
+	 */
+	private synchronized void flush(String timeframe, Instant candleCloseTime) {
+		List<SignalCandidate> round = rounds.remove(new RoundKey(timeframe, candleCloseTime));
+		if (round != null) {
+			arbitrate(round);
+		}
+	}
+
+	private void arbitrate(List<SignalCandidate> round) {
+		for (Arbitration arbitration : SignalArbiter.arbitrate(round, positions, clock.millis())) {
+			SignalCandidate c = arbitration.candidate();
+			outcomes.get(arbitration.outcome()).increment();
+			if (!arbitration.accepted()) {
+				log.debug("Signal not routed: id={} owner={} strategy={} market={} side={} outcome={}", c.signalId(),
+					c.ownerId(), c.strategyKey(), c.market(), c.side(), arbitration.outcome());
+				continue;
+			}
+			eventPublisher.publishEvent(new SignalAcceptedEvent(c.signalId(), c.ownerId(), c.strategyKey(), c.market(),
+				c.timeframe(), c.candleCloseTime(), c.side(), c.strength(), c.reasonCode(), c.requiredRegime()));
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.everbit.everbit.strategy.application;
+
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.strategy.domain.MarketConfig;
+import com.everbit.everbit.strategy.domain.StrategyConfig;
+import com.everbit.everbit.strategy.domain.StrategyConfigId;
+import com.everbit.everbit.strategy.domain.signal.CompiledStrategy;
+import com.everbit.everbit.strategy.domain.signal.Strategy;
+import com.everbit.everbit.strategy.domain.signal.StrategyParameters;
+import com.everbit.everbit.strategy.repository.MarketConfigRepository;
+import com.everbit.everbit.strategy.repository.StrategyConfigRepository;
+import com.everbit.everbit.user.application.KillSwitchQueryService;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 캔들 close 때 평가할 대상(마켓 → owner → 전략)의 불변 스냅샷. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ * REFRESH_INTERVAL마다 strategy_config·market_config(enabled)·전략 Kill Switch를 다시 읽어 스냅샷을 통째로 바꾼다.
+ * 주기 갱신은 실시간 시세(marketdata.enabled)가 켜져 있을 때만 돌고, 꺼져 있으면(재생만 쓰는 경우) 조회할 때 REFRESH_INTERVAL보다
+ * 오래된 스냅샷을 그 자리에서 다시 읽는다.
+ * config_json은 설정 버전마다 한 번만 {@link StrategyParameters}·전략 파라미터로 파싱하고, 버전이 그대로면 앞서 만든 객체를 다시 쓴다.
+ * 파싱에 실패한 설정은 그 전략만 빼고 경고를 남긴다.
+ */
+@Slf4j
+@Component
+public class StrategyCatalog {
+
+	private static final long REFRESH_INTERVAL_SECONDS = 30;
+	private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(REFRESH_INTERVAL_SECONDS);
+
+	/**
+	 * owner 한 명의 전략 하나(설정 버전 기준 불변).
+	 */
+	public record ActiveStrategy(Long ownerId, String strategyKey, int configVersion, StrategyParameters parameters,
+		CompiledStrategy<?> compiled) {}
+
+	/**
+	 * 마켓을 켠 owner와 그 owner의 전략들. priority는 market_config.priority(동시 신호 tie-break).
+	 */
+	public record MarketBinding(Long ownerId, int priority, List<ActiveStrategy> strategies) {}
+
+	private final StrategyConfigRepository strategyConfigRepository;
+	private final MarketConfigRepository marketConfigRepository;
+	private final KillSwitchQueryService killSwitchQueryService;
+	private final Map<String, Strategy<?>> strategies;
+	private final MarketDataProperties marketDataProperties;
+	private final Counter parseFailures;
+	/** refresh 락 안에서만 쓴다. 설정 버전이 같으면 다시 파싱하지 않기 위한 이전 결과. */
+	private Map<StrategyConfigId, ActiveStrategy> compiled = Map.of();
+	private volatile Map<String, List<MarketBinding>> byMarket = Map.of();
+	/** refreshIfStale 락 안에서만 쓴다. 마지막으로 다시 읽기를 시도한 시각(실패 포함). */
+	private long refreshedNanos;
+	private boolean refreshed;
+
+	public StrategyCatalog(StrategyConfigRepository strategyConfigRepository, MarketConfigRepository marketConfigRepository,
+		KillSwitchQueryService killSwitchQueryService, List<Strategy<?>> strategies,
+		MarketDataProperties marketDataProperties, MeterRegistry meterRegistry) {
+		this.strategyConfigRepository = strategyConfigRepository;
+		this.marketConfigRepository = marketConfigRepository;
+		this.killSwitchQueryService = killSwitchQueryService;
+		this.strategies = strategies.stream().collect(Collectors.toUnmodifiableMap(Strategy::key, Function.identity()));
+		this.marketDataProperties = marketDataProperties;
+		this.parseFailures = Counter.builder("strategy.config.invalid")
+			.description("파싱에 실패해 평가에서 뺀 전략 설정 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * @return 마켓을 켠 owner별 전략(priority 내림차순). 없으면 빈 목록
+	 */
+	public List<MarketBinding> bindings(String market) {
+		if (!marketDataProperties.enabled()) {
+			refreshIfStale();
+		}
+		return byMarket.getOrDefault(market, List.of());
+	}
+
+	@Scheduled(fixedDelay = REFRESH_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+	void scheduledRefresh() {
+		if (marketDataProperties.enabled()) {
+			refreshSafely();
+		}
+	}
+
+	private synchronized void refreshIfStale() {
+		long now = System.nanoTime();
+		if (!refreshed || now - refreshedNanos >= REFRESH_INTERVAL_NANOS) {
+			refreshed = true;
+			refreshedNanos = now;
+			refreshSafely();
+		}
+	}
+
+	private void refreshSafely() {
+		try {
+			refresh();
+		} catch (RuntimeException e) {
+			log.warn("Failed to refresh strategy catalog", e);
+		}
+	}
+
+	synchronized void refresh() {
+		Map<StrategyConfigId, ActiveStrategy> next = new HashMap<>();
+		Map<Long, List<ActiveStrategy>> byOwner = new HashMap<>();
+		for (StrategyConfig config : strategyConfigRepository.findAll()) {
+			Long ownerId = config.getId().getOwnerId();
+			String key = config.getId().getStrategyKey();
+			Strategy<?> strategy = strategies.get(key);
+			if (strategy == null || !killSwitchQueryService.isStrategyEnabled(ownerId, key)) {
+				continue;
+			}
+			ActiveStrategy active = compiled.get(config.getId());
+			if (active == null || active.configVersion() != config.getConfigVersion()) {
+				active = compile(strategy, config);
+			}
+			if (active != null) {
+				next.put(config.getId(), active);
+				byOwner.computeIfAbsent(ownerId, id -> new ArrayList<>()).add(active);
+			}
+		}
+		Map<String, List<MarketBinding>> markets = new HashMap<>();
+		for (MarketConfig market : marketConfigRepository.findByEnabledTrue()) {
+			List<ActiveStrategy> owned = byOwner.get(market.getId().getOwnerId());
+			if (owned != null) {
+				markets.computeIfAbsent(market.getId().getMarket(), m -> new ArrayList<>())
+					.add(new MarketBinding(market.getId().getOwnerId(), market.getPriority(), List.copyOf(owned)));
+			}
+		}
+		markets.replaceAll((market, bindings) -> bindings.stream()
+			.sorted(Comparator.comparingInt(MarketBinding::priority).reversed())
+			.toList());
+		compiled = next;
+		byMarket = Map.copyOf(markets);
+	}
+
+	private ActiveStrategy compile(Strategy<?> strategy, StrategyConfig config) {
+		JsonNode json = config.getConfigJson();
+		try {
+			return new ActiveStrategy(config.getId().getOwnerId(), strategy.key(), config.getConfigVersion(),
+				StrategyParameters.parse(json), CompiledStrategy.compile(strategy, json.path("signal")));
+		} catch (IllegalArgumentException e) {
+			parseFailures.increment();
+			log.warn("Invalid strategy config skipped: owner={} strategy={} version={}: {}", config.getId().getOwnerId(),
+				strategy.key(), config.getConfigVersion(), e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,207 @@
+package com.everbit.everbit.strategy.application;
+
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import com.everbit.everbit.strategy.application.StrategyCatalog.ActiveStrategy;
+import com.everbit.everbit.strategy.application.StrategyCatalog.MarketBinding;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.everbit.everbit.strategy.domain.signal.RegimeAssessment;
+import com.everbit.everbit.strategy.domain.signal.SignalCandidate;
+import com.everbit.everbit.strategy.domain.signal.StrategyDecision;
+import com.everbit.everbit.trade.application.SignalService;
+import com.everbit.everbit.trade.application.SignalService.RecordedSignal;
+import com.everbit.everbit.trade.application.SignalService.SignalDraft;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캔들 close → 전략 평가 → signal 기록. SoT: docs/architecture/order-pipeline.md §3.2.3, §3.2.5.
+ * {@link CandleClosedEvent}는 시세 소비자 스레드에서 동기 발행되므로 마켓 해시로 정한 샤드({@link MarketShards})에 넘기기만 한다.
+ * 한 마켓은 늘 같은 샤드 스레드에서 처리되므로 마켓 안 순서가 지켜지고, 시리즈 지표는 그 스레드만 쓴다.
+ * 실시간 캔들은 샤드가 가득 차도 기다리지 않는다(한 샤드 때문에 시세 소비자와 다른 마켓이 서지 않게). 넣지 못한 캔들은 평가를 건너뛰되
+ * {@link IndicatorStateService#markSkipped}로 표시해 그 시리즈의 다음 캔들 전에 candle_cache에서 지표에 채운다. 재생 캔들은 샤드가 빌 때까지 기다린다.
+ * 샤드는 마켓·timeframe의 지표를 한 번 갱신하고({@link IndicatorStateService}), 그 마켓을 켠 owner의 전략을
+ * 같은 지표로 모두 평가한다. 파라미터는 {@link StrategyCatalog}가 미리 파싱해 둔 것을 쓴다(캔들마다 JSON을 읽지 않음).
+ * 기록은 signal 유니크 제약(owner, 전략, 마켓, timeframe, 캔들 종료 시각, side)에 맡기므로 같은 캔들을 다시 평가해도 중복이 생기지 않는다.
+ * 새로 기록된 신호는 {@link SignalRouter}의 캔들 close 라운드로 넘겨 국면·중재를 거친다(§3.2.4).
+ * 리플레이 이벤트는 평가만 하고 기록하지 않는다.
+ */
+@Slf4j
+@Component
+public class StrategyEngine {
+
+	private static final int SHARDS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+	private static final int SHARD_QUEUE_CAPACITY = 1024;
+	private static final long SHARD_OFFER_TIMEOUT_MILLIS = 10_000;
+
+	/** 기록 전 신호와 그 신호를 낸 전략. */
+	private record Pending(MarketBinding binding, ActiveStrategy strategy) {}
+
+	private final IndicatorStateService indicatorStateService;
+	private final StrategyCatalog catalog;
+	private final SignalService signalService;
+	private final SignalRouter router;
+	private final MarketShards shards;
+	private final Timer[] latency;
+	private final Counter evaluations;
+	private final Counter recordedSignals;
+	private final Counter duplicateSignals;
+	private final Counter failures;
+	private final Counter skipped;
+
+	public StrategyEngine(IndicatorStateService indicatorStateService, StrategyCatalog catalog,
+		SignalService signalService, SignalRouter router, MeterRegistry meterRegistry) {
+		this.indicatorStateService = indicatorStateService;
+		this.catalog = catalog;
+		this.signalService = signalService;
+		this.router = router;
+		this.evaluations = Counter.builder("strategy.evaluations")
+			.description("캔들 close마다 평가한 전략 수")
+			.register(meterRegistry);
+		this.recordedSignals = Counter.builder("strategy.signals.recorded")
+			.description("새로 기록한 signal 수")
+			.register(meterRegistry);
+		this.duplicateSignals = Counter.builder("strategy.signals.duplicate")
+			.description("이미 있어 건너뛴 signal 수")
+			.register(meterRegistry);
+		this.failures = Counter.builder("strategy.evaluation.failures")
+			.description("전략 평가·기록 실패 수")
+			.register(meterRegistry);
+		this.skipped = Counter.builder("strategy.candles.skipped")
+			.description("샤드가 가득 차 평가를 건너뛴 실시간 캔들 수(지표는 candle_cache에서 채움)")
+			.register(meterRegistry);
+		this.latency = new Timer[SHARDS];
+		for (int i = 0; i < SHARDS; i++) {
+			latency[i] = Timer.builder("strategy.signal.latency")
+				.description("캔들 close 발행부터 평가·signal 기록을 마칠 때까지(샤드 대기 포함)")
+				.tag("shard", Integer.toString(i))
+				.publishPercentiles(0.5, 0.99)
+				.register(meterRegistry);
+		}
+		this.shards = new MarketShards("strategy", SHARDS, SHARD_QUEUE_CAPACITY, SHARD_OFFER_TIMEOUT_MILLIS,
+			meterRegistry);
+	}
+
+	@EventListener
+	public void onCandleClosed(CandleClosedEvent event) {
+		long publishedNanos = System.nanoTime();
+		Timer timer = latency[shards.shardOf(event.market())];
+		Runnable task = () -> process(event, timer, publishedNanos);
+		if (event.replayed()) {
+			if (!shards.submit(event.market(), task)) {
+				log.warn("Strategy shard overloaded, replayed candle dropped: market={} timeframe={} candle={}",
+					event.market(), event.timeframe(), event.candleTime());
+			}
+			return;
+		}
+		if (!shards.trySubmit(event.market(), task)) {
+			skipped.increment();
+			indicatorStateService.markSkipped(event.market(), event.timeframe(), event.candleTime());
+			log.warn("Strategy shard full, candle skipped: market={} timeframe={} candle={}", event.market(),
+				event.timeframe(), event.candleTime());
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		shards.shutdown(5_000);
+	}
+
+	private void process(CandleClosedEvent event, Timer timer, long publishedNanos) {
+		try {
+			evaluate(event);
+			if (!event.replayed()) {
+				timer.record(System.nanoTime() - publishedNanos, TimeUnit.NANOSECONDS);
+			}
+		} catch (RuntimeException e) {
+			failures.increment();
+			log.warn("Failed to evaluate strategies: market={} timeframe={} candle={}", event.market(),
+				event.timeframe(), event.candleTime(), e);
+		}
+	}
+
+	/**
+	 * 마켓의 샤드 스레드 전용.
+	 *
+	 * @return 새로 기록한 signal(리플레이면 항상 빈 목록)
+	 */
+	List<RecordedSignal> evaluate(CandleClosedEvent event) {
+		IndicatorSet indicators = indicatorStateService.apply(event);
+		List<MarketBinding> bindings = catalog.bindings(event.market());
+		List<SignalDraft> drafts = new ArrayList<>();
+		Map<SignalDraft, Pending> pending = new IdentityHashMap<>();
+		for (MarketBinding binding : bindings) {
+			for (ActiveStrategy strategy : binding.strategies()) {
+				if (!strategy.parameters().timeframes().contains(event.timeframe())) {
+					continue;
+				}
+				evaluations.increment();
+				StrategyDecision decision = strategy.compiled().evaluate(indicators);
+				if (decision == null || decision.strength() < strategy.parameters().minSignalStrength()) {
+					continue;
+				}
+				SignalDraft draft = new SignalDraft(binding.ownerId(), strategy.strategyKey(), event.market(),
+					event.timeframe(), event.candleTime(), decision.side(),
+					BigDecimal.valueOf(decision.strength()).setScale(8, RoundingMode.HALF_UP), decision.reasonCode(),
+					signalJson(indicators, strategy.configVersion()));
+				drafts.add(draft);
+				pending.put(draft, new Pending(binding, strategy));
+			}
+		}
+		if (drafts.isEmpty() || event.replayed()) {
+			return List.of();
+		}
+		List<RecordedSignal> recorded = signalService.record(drafts);
+		recordedSignals.increment(recorded.size());
+		duplicateSignals.increment(drafts.size() - recorded.size());
+		if (!recorded.isEmpty()) {
+			RegimeAssessment regime = RegimeAssessment.of(indicators);
+			List<SignalCandidate> candidates = new ArrayList<>(recorded.size());
+			for (RecordedSignal signal : recorded) {
+				candidates.add(candidate(signal, pending.get(signal.draft()), regime));
+			}
+			router.submit(event.timeframe(), event.candleTime(), candidates);
+		}
+		return recorded;
+	}
+
+	private static SignalCandidate candidate(RecordedSignal signal, Pending pending, RegimeAssessment regime) {
+		SignalDraft draft = signal.draft();
+		ActiveStrategy strategy = pending.strategy();
+		return new SignalCandidate(signal.signalId(), draft.ownerId(), draft.strategyKey(), draft.market(),
+			draft.timeframe(), draft.candleCloseTime(), draft.side(), draft.strength(), draft.reasonCode(),
+			pending.binding().priority(), strategy.parameters().maxOpenMarkets(),
+			strategy.parameters().cooldownMinutes(), strategy.compiled().strategy().regime(),
+			strategy.parameters().regimeMinStrength(), regime);
+	}
+
+	/**
+	 * 신호 당시 지표값(signal.signal_json). 감사·리플레이 비교용.
+	 */
+	private static ObjectNode signalJson(IndicatorSet indicators, int configVersion) {
+		ObjectNode json = JsonNodeFactory.instance.objectNode();
+		json.put("configVersion", configVersion);
+		json.put("close", indicators.close());
+		json.put("rsi", indicators.rsi().value());
+		json.put("macdHistogram", indicators.macd().histogram());
+		json.put("percentB", indicators.bollinger().percentB());
+		json.put("bandwidth", indicators.bollinger().bandwidth());
+		json.put("atr", indicators.atr().value());
+		json.put("trendEma", indicators.trend().value());
+		return json;
+	}
+}
@@ -0,0 +1,51 @@
+package com.everbit.everbit.strategy.domain;
+
+import com.everbit.everbit.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 시리즈(market, timeframe)별 지표 상태 스냅샷. SoT: docs/architecture/data-model.md §2.17.
+ * 재시작 때 처음부터 다시 워밍업하지 않고 candle_time 이후 캔들만 이어 반영하기 위한 것이며, 지워도 열 저장소에서 다시 만든다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IndicatorSnapshot extends BaseEntity {
+
+	@EmbeddedId
+	private IndicatorSnapshotId id;
+
+	/** IndicatorSpec.key(). 다르면 스냅샷을 쓰지 않는다. */
+	@Column(nullable = false, length = 128)
+	private String specKey;
+
+	/** 마지막으로 반영한 캔들 종료 시각. */
+	@Column(nullable = false)
+	private Instant candleTime;
+
+	@Column(nullable = false)
+	private byte[] state;
+
+	private IndicatorSnapshot(String market, String timeframe, String specKey, Instant candleTime, byte[] state) {
+		this.id = new IndicatorSnapshotId(market, timeframe);
+		this.specKey = specKey;
+		this.candleTime = candleTime;
+		this.state = state;
+	}
+
+	public static IndicatorSnapshot create(String market, String timeframe, String specKey, Instant candleTime,
+		byte[] state) {
+		return new IndicatorSnapshot(market, timeframe, specKey, candleTime, state);
+	}
+
+	public void update(String specKey, Instant candleTime, byte[] state) {
+		this.specKey = specKey;
+		this.candleTime = candleTime;
+		this.state = state;
+	}
+}
@@ -0,0 +1,31 @@
+package com.everbit.everbit.strategy.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * indicator_snapshot 복합 PK. SoT: docs/architecture/data-model.md §2.17.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class IndicatorSnapshotId implements Serializable {
+
+	@Column(nullable = false, length = 32)
+	private String market;
+
+	@Column(nullable = false, length = 16)
+	private String timeframe;
+
+	public IndicatorSnapshotId(String market, String timeframe) {
+		this.market = market;
+		this.timeframe = timeframe;
+	}
+}
@@ -0,0 +1,80 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * Wilder ATR. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * TR = max(high − low, |high − 직전 close|, |low − 직전 close|)(첫 캔들은 high − low).
+ * 처음 period개 TR의 평균으로 시드하고, 이후 atr = (atr·(period−1) + TR) / period.
+ */
+public final class Atr implements Indicator {
+
+	private static final int STATE_SIZE = 3;
+
+	private final int period;
+
+	private double previousClose;
+	private double value;
+	private long bars;
+
+	public Atr(int period) {
+		if (period < 1) {
+			throw new IllegalArgumentException("period must be positive: " + period);
+		}
+		this.period = period;
+	}
+
+	public void update(double high, double low, double close) {
+		double range = high - low;
+		if (bars > 0) {
+			range = Math.max(range, Math.max(Math.abs(high - previousClose), Math.abs(low - previousClose)));
+		}
+		if (bars < period) {
+			value += range;
+			if (bars + 1 == period) {
+				value /= period;
+			}
+		} else {
+			value = (value * (period - 1) + range) / period;
+		}
+		previousClose = close;
+		bars++;
+	}
+
+	public double value() {
+		return value;
+	}
+
+	public int period() {
+		return period;
+	}
+
+	@Override
+	public boolean isReady() {
+		return bars >= period;
+	}
+
+	@Override
+	public void reset() {
+		previousClose = 0;
+		value = 0;
+		bars = 0;
+	}
+
+	@Override
+	public int stateSize() {
+		return STATE_SIZE;
+	}
+
+	@Override
+	public void writeState(double[] state, int offset) {
+		state[offset] = previousClose;
+		state[offset + 1] = value;
+		state[offset + 2] = bars;
+	}
+
+	@Override
+	public void readState(double[] state, int offset) {
+		previousClose = state[offset];
+		value = state[offset + 1];
+		bars = (long) state[offset + 2];
+	}
+}
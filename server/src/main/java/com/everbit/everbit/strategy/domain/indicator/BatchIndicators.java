@@ -0,0 +1,263 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+
+/**
+ * 백테스트용 배치 지표: double[] 열 전체를 한 번에 계산한다. SoT: docs/architecture/order-pipeline.md §3.2.2.
+ * 원소별 계산(창 평균·표준편차, 상승·하락폭, TR, RSI 변환)은 SIMD(jdk.incubator.vector, --add-modules 필요)로,
+ * 앞 값에 의존하는 평활(EMA, Wilder)만 스칼라로 돈다. 모듈이 없거나 SIMD 레인이 없으면 같은 결과의 스칼라 경로로 돈다.
+ * EMA·RSI·ATR은 O(1) 지표({@link Ema}, {@link WilderRsi}, {@link Atr})와 연산 순서가 같아 결과가 비트 단위로 같다.
+ * SMA·표준편차는 창마다 두 번 훑어 계산하므로 {@link Bollinger}(넣고 빼기)와 반올림 차이만큼 다를 수 있다.
+ * 결과 배열은 입력과 길이가 같고, 준비 전(시드 구간) 칸은 NaN이다.
+ */
+@Slf4j
+public final class BatchIndicators {
+
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+	private static final BatchIndicators DEFAULT = new BatchIndicators(loadKernels());
+	private static final BatchIndicators SCALAR = new BatchIndicators(ScalarBatchKernels.INSTANCE);
+
+	private final BatchKernels kernels;
+
+	private BatchIndicators(BatchKernels kernels) {
+		this.kernels = kernels;
+	}
+
+	/**
+	 * @return 가능하면 SIMD 경로
+	 */
+	public static BatchIndicators get() {
+		return DEFAULT;
+	}
+
+	/**
+	 * @return 항상 스칼라 경로(비교·검증용)
+	 */
+	public static BatchIndicators scalar() {
+		return SCALAR;
+	}
+
+	public boolean isVectorized() {
+		return !(kernels instanceof ScalarBatchKernels);
+	}
+
+	public double[] sma(double[] x, int period) {
+		requirePeriod(period, 1);
+		double[] out = nanFilled(x.length, period - 1);
+		kernels.windowMean(x, period, out);
+		return out;
+	}
+
+	/**
+	 * 모표준편차(볼린저와 같은 정의).
+	 *
+	 * @param mean 같은 period의 {@link #sma} 결과
+	 */
+	public double[] standardDeviation(double[] x, double[] mean, int period) {
+		requirePeriod(period, 2);
+		double[] out = nanFilled(x.length, period - 1);
+		kernels.windowStd(x, mean, period, out);
+		return out;
+	}
+
+	/**
+	 * 처음 period개 단순 평균으로 시드하는 EMA({@link Ema}와 같음).
+	 */
+	public double[] ema(double[] x, int period) {
+		requirePeriod(period, 1);
+		double[] out = nanFilled(x.length, period - 1);
+		if (x.length < period) {
+			return out;
+		}
+		double alpha = 2.0 / (period + 1);
+		double seed = 0;
+		for (int i = 0; i < period; i++) {
+			seed += x[i];
+		}
+		double value = seed / period;
+		out[period - 1] = value;
+		for (int i = period; i < x.length; i++) {
+			value += alpha * (x[i] - value);
+			out[i] = value;
+		}
+		return out;
+	}
+
+	/**
+	 * Wilder RSI({@link WilderRsi}와 같음). out[i]는 close[0..i]를 넣은 뒤의 값.
+	 */
+	public double[] rsi(double[] close, int period) {
+		requirePeriod(period, 1);
+		double[] out = nanFilled(close.length, period);
+		if (close.length <= period) {
+			return out;
+		}
+		double[] gain = new double[close.length];
+		double[] loss = new double[close.length];
+		kernels.changes(close, gain, loss);
+		// 평활 결과를 gain·loss 자리에 덮어쓴다(i번째 평활은 i번째 변화까지만 읽음)
+		double averageGain = 0;
+		double averageLoss = 0;
+		for (int i = 1; i <= period; i++) {
+			averageGain += gain[i];
+			averageLoss += loss[i];
+		}
+		averageGain /= period;
+		averageLoss /= period;
+		gain[period] = averageGain;
+		loss[period] = averageLoss;
+		for (int i = period + 1; i < close.length; i++) {
+			averageGain = (averageGain * (period - 1) + gain[i]) / period;
+			averageLoss = (averageLoss * (period - 1) + loss[i]) / period;
+			gain[i] = averageGain;
+			loss[i] = averageLoss;
+		}
+		kernels.rsi(gain, loss, period, out);
+		return out;
+	}
+
+	/**
+	 * Wilder ATR({@link Atr}와 같음).
+	 */
+	public double[] atr(double[] high, double[] low, double[] close, int period) {
+		requirePeriod(period, 1);
+		if (high.length != close.length || low.length != close.length) {
+			throw new IllegalArgumentException("column lengths differ");
+		}
+		double[] out = new double[close.length];
+		kernels.trueRange(high, low, close, out);
+		if (close.length < period) {
+			Arrays.fill(out, Double.NaN);
+			return out;
+		}
+		double value = 0;
+		for (int i = 0; i < period; i++) {
+			value += out[i];
+		}
+		value /= period;
+		Arrays.fill(out, 0, period - 1, Double.NaN);
+		out[period - 1] = value;
+		for (int i = period; i < close.length; i++) {
+			value = (value * (period - 1) + out[i]) / period;
+			out[i] = value;
+		}
+		return out;
+	}
+
+	/**
+	 * {@link IndicatorSet}과 같은 구성(SMA·표준편차 = 볼린저 기간, EMA = 추세 EMA 기간)의 열 전체를 한 번에 계산한다.
+	 * 원소별 준비를 먼저 끝낸 뒤 세 평활(EMA, RSI 상승·하락, ATR)을 한 루프에서 함께 돌려, 서로 독립인 의존 사슬이
+	 * 겹쳐 실행되게 한다(지표별 메서드를 차례로 부르는 것보다 빠르다). 값은 지표별 메서드와 같다.
+	 */
+	public Series series(double[] high, double[] low, double[] close, IndicatorSpec spec) {
+		int n = close.length;
+		if (high.length != n || low.length != n) {
+			throw new IllegalArgumentException("column lengths differ");
+		}
+		double[] sma = sma(close, spec.bollingerPeriod());
+		double[] std = standardDeviation(close, sma, spec.bollingerPeriod());
+		int emaPeriod = spec.trendEmaPeriod();
+		int rsiPeriod = spec.rsiPeriod();
+		int atrPeriod = spec.atrPeriod();
+		if (n <= Math.max(Math.max(emaPeriod, rsiPeriod), atrPeriod)) {
+			return new Series(sma, std, ema(close, emaPeriod), rsi(close, rsiPeriod), atr(high, low, close, atrPeriod));
+		}
+		double[] ema = nanFilled(n, emaPeriod - 1);
+		double[] rsi = nanFilled(n, rsiPeriod);
+		double[] atr = new double[n];
+		double[] gain = new double[n];
+		double[] loss = new double[n];
+		kernels.changes(close, gain, loss);
+		kernels.trueRange(high, low, close, atr);
+
+		double alpha = 2.0 / (emaPeriod + 1);
+		double emaValue = 0;
+		for (int i = 0; i < emaPeriod; i++) {
+			emaValue += close[i];
+		}
+		emaValue /= emaPeriod;
+		ema[emaPeriod - 1] = emaValue;
+		double averageGain = 0;
+		double averageLoss = 0;
+		for (int i = 1; i <= rsiPeriod; i++) {
+			averageGain += gain[i];
+			averageLoss += loss[i];
+		}
+		averageGain /= rsiPeriod;
+		averageLoss /= rsiPeriod;
+		gain[rsiPeriod] = averageGain;
+		loss[rsiPeriod] = averageLoss;
+		double atrValue = 0;
+		for (int i = 0; i < atrPeriod; i++) {
+			atrValue += atr[i];
+		}
+		atrValue /= atrPeriod;
+		Arrays.fill(atr, 0, atrPeriod - 1, Double.NaN);
+		atr[atrPeriod - 1] = atrValue;
+
+		// 각 평활을 공통 시작점까지 따로 진행한 뒤 함께 돈다
+		int start = Math.max(Math.max(emaPeriod, rsiPeriod + 1), atrPeriod);
+		for (int i = emaPeriod; i < start; i++) {
+			emaValue += alpha * (close[i] - emaValue);
+			ema[i] = emaValue;
+		}
+		for (int i = rsiPeriod + 1; i < start; i++) {
+			averageGain = (averageGain * (rsiPeriod - 1) + gain[i]) / rsiPeriod;
+			averageLoss = (averageLoss * (rsiPeriod - 1) + loss[i]) / rsiPeriod;
+			gain[i] = averageGain;
+			loss[i] = averageLoss;
+		}
+		for (int i = atrPeriod; i < start; i++) {
+			atrValue = (atrValue * (atrPeriod - 1) + atr[i]) / atrPeriod;
+			atr[i] = atrValue;
+		}
+		for (int i = start; i < n; i++) {
+			emaValue += alpha * (close[i] - emaValue);
+			ema[i] = emaValue;
+			averageGain = (averageGain * (rsiPeriod - 1) + gain[i]) / rsiPeriod;
+			averageLoss = (averageLoss * (rsiPeriod - 1) + loss[i]) / rsiPeriod;
+			gain[i] = averageGain;
+			loss[i] = averageLoss;
+			atrValue = (atrValue * (atrPeriod - 1) + atr[i]) / atrPeriod;
+			atr[i] = atrValue;
+		}
+		kernels.rsi(gain, loss, rsiPeriod, rsi);
+		return new Series(sma, std, ema, rsi, atr);
+	}
+
+	/**
+	 * {@link #series} 결과. 배열은 입력과 길이가 같다.
+	 */
+	public record Series(double[] sma, double[] standardDeviation, double[] ema, double[] rsi, double[] atr) {
+	}
+
+	private static double[] nanFilled(int length, int notReady) {
+		double[] out = new double[length];
+		Arrays.fill(out, 0, Math.min(length, notReady), Double.NaN);
+		return out;
+	}
+
+	private static void requirePeriod(int period, int min) {
+		if (period < min) {
+			throw new IllegalArgumentException("period must be at least " + min + ": " + period);
+		}
+	}
+
+	private static BatchKernels loadKernels() {
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+			log.info("Batch indicators use scalar kernels: {} not enabled (--add-modules {})", VECTOR_MODULE,
+				VECTOR_MODULE);
+			return ScalarBatchKernels.INSTANCE;
+		}
+		try {
+			return (BatchKernels) Class.forName(BatchIndicators.class.getPackageName() + ".VectorBatchKernels")
+				.getDeclaredConstructor()
+				.newInstance();
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			log.info("Batch indicators use scalar kernels: {}", e.toString());
+			return ScalarBatchKernels.INSTANCE;
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * 배치 지표의 원소별(캔들 사이 의존 없는) 계산. SoT: docs/architecture/order-pipeline.md §3.2.2.
+ * 구현(스칼라·SIMD)은 원소마다 같은 연산을 같은 순서로 하므로 결과가 비트 단위로 같다.
+ */
+interface BatchKernels {
+
+	/** out[i] = x[i−p+1..i]의 평균(오래된 값부터 더함), i ≥ p−1. */
+	void windowMean(double[] x, int period, double[] out);
+
+	/** out[i] = sqrt(Σ(x[j] − mean[i])² / p), j ∈ [i−p+1, i], i ≥ p−1. */
+	void windowStd(double[] x, double[] mean, int period, double[] out);
+
+	/** i ≥ 1: gain[i] = max(c[i] − c[i−1], 0), loss[i] = max(−(c[i] − c[i−1]), 0). */
+	void changes(double[] close, double[] gain, double[] loss);
+
+	/** out[0] = h[0] − l[0], i ≥ 1: out[i] = max(h − l, max(|h − c[i−1]|, |l − c[i−1]|)). */
+	void trueRange(double[] high, double[] low, double[] close, double[] out);
+
+	/** i ≥ from: out[i] = avgLoss가 0이면 (avgGain이 0이면 50, 아니면 100), 아니면 100 − 100 / (1 + avgGain / avgLoss). */
+	void rsi(double[] averageGain, double[] averageLoss, int from, double[] out);
+}
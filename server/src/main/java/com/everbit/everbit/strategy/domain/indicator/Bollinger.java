@@ -0,0 +1,147 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+import java.util.Arrays;
+
+/**
+ * 볼린저 밴드(모표준편차). SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * 최근 period개 close를 원시형 링에 두고 평균·제곱편차합(M2)을 Welford 식으로 넣고 빼며 갱신한다.
+ * 넣고 빼기를 반복하면 반올림 오차가 쌓이므로 링이 한 바퀴 돌 때마다 창 전체로 평균·M2를 다시 계산한다
+ * (period번에 한 번 O(period), 캔들당 분할 상환 O(1)). 다시 계산하는 시점도 상태로 정해지므로 복원 후에도 결과가 같다.
+ */
+public final class Bollinger implements Indicator {
+
+	private static final int FIXED_STATE_SIZE = 5;
+
+	private final int period;
+	private final double width;
+	private final double[] window;
+
+	private int index;
+	private long count;
+	private double mean;
+	private double m2;
+	private double last;
+
+	/**
+	 * @param width 밴드 폭(표준편차 배수, 보통 2)
+	 */
+	public Bollinger(int period, double width) {
+		if (period < 2) {
+			throw new IllegalArgumentException("period must be at least 2: " + period);
+		}
+		this.period = period;
+		this.width = width;
+		this.window = new double[period];
+	}
+
+	public void update(double close) {
+		last = close;
+		if (count < period) {
+			window[index] = close;
+			count++;
+			double delta = close - mean;
+			mean += delta / count;
+			m2 += delta * (close - mean);
+		} else {
+			double evicted = window[index];
+			window[index] = close;
+			double previousMean = mean;
+			mean += (close - evicted) / period;
+			m2 += (close - evicted) * (close - mean + evicted - previousMean);
+		}
+		if (++index == period) {
+			index = 0;
+			recompute();
+		}
+	}
+
+	public double middle() {
+		return mean;
+	}
+
+	public double standardDeviation() {
+		return Math.sqrt(Math.max(0, m2 / count));
+	}
+
+	public double upper() {
+		return mean + width * standardDeviation();
+	}
+
+	public double lower() {
+		return mean - width * standardDeviation();
+	}
+
+	/**
+	 * @return 밴드 안 위치(하단 0, 상단 1). 밴드 폭이 0이면 0.5
+	 */
+	public double percentB() {
+		double band = 2 * width * standardDeviation();
+		return band == 0 ? 0.5 : (last - lower()) / band;
+	}
+
+	/**
+	 * @return (상단 − 하단) / 중심선
+	 */
+	public double bandwidth() {
+		return mean == 0 ? 0 : 2 * width * standardDeviation() / mean;
+	}
+
+	public int period() {
+		return period;
+	}
+
+	@Override
+	public boolean isReady() {
+		return count >= period;
+	}
+
+	@Override
+	public void reset() {
+		Arrays.fill(window, 0);
+		index = 0;
+		count = 0;
+		mean = 0;
+		m2 = 0;
+		last = 0;
+	}
+
+	@Override
+	public int stateSize() {
+		return FIXED_STATE_SIZE + period;
+	}
+
+	@Override
+	public void writeState(double[] state, int offset) {
+		state[offset] = index;
+		state[offset + 1] = count;
+		state[offset + 2] = mean;
+		state[offset + 3] = m2;
+		state[offset + 4] = last;
+		System.arraycopy(window, 0, state, offset + FIXED_STATE_SIZE, period);
+	}
+
+	@Override
+	public void readState(double[] state, int offset) {
+		index = (int) state[offset];
+		count = (long) state[offset + 1];
+		mean = state[offset + 2];
+		m2 = state[offset + 3];
+		last = state[offset + 4];
+		System.arraycopy(state, offset + FIXED_STATE_SIZE, window, 0, period);
+	}
+
+	private void recompute() {
+		double sum = 0;
+		for (double x : window) {
+			sum += x;
+		}
+		double exactMean = sum / period;
+		double squares = 0;
+		for (double x : window) {
+			double d = x - exactMean;
+			squares += d * d;
+		}
+		mean = exactMean;
+		m2 = squares;
+	}
+}
@@ -0,0 +1,76 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * 지수 이동 평균. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * 처음 period개는 단순 평균으로 시드하고, 이후 value += α(x − value), α = 2/(period+1).
+ */
+public final class Ema implements Indicator {
+
+	private static final int STATE_SIZE = 3;
+
+	private final int period;
+	private final double alpha;
+
+	private double value;
+	private double seedSum;
+	private long count;
+
+	public Ema(int period) {
+		if (period < 1) {
+			throw new IllegalArgumentException("period must be positive: " + period);
+		}
+		this.period = period;
+		this.alpha = 2.0 / (period + 1);
+	}
+
+	public void update(double x) {
+		if (count < period) {
+			seedSum += x;
+			if (++count == period) {
+				value = seedSum / period;
+			}
+			return;
+		}
+		value += alpha * (x - value);
+		count++;
+	}
+
+	public double value() {
+		return value;
+	}
+
+	public int period() {
+		return period;
+	}
+
+	@Override
+	public boolean isReady() {
+		return count >= period;
+	}
+
+	@Override
+	public void reset() {
+		value = 0;
+		seedSum = 0;
+		count = 0;
+	}
+
+	@Override
+	public int stateSize() {
+		return STATE_SIZE;
+	}
+
+	@Override
+	public void writeState(double[] state, int offset) {
+		state[offset] = value;
+		state[offset + 1] = seedSum;
+		state[offset + 2] = count;
+	}
+
+	@Override
+	public void readState(double[] state, int offset) {
+		value = state[offset];
+		seedSum = state[offset + 1];
+		count = (long) state[offset + 2];
+	}
+}
@@ -0,0 +1,26 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * 캔들마다 O(1)로 갱신하는 지표의 공통 상태 계약. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * 상태는 모두 원시 필드이며 update는 할당하지 않는다. 상태를 double 배열로 그대로 옮겨 쓰고 읽을 수 있어
+ * 복원한 인스턴스는 복원 전 인스턴스와 이후 결과가 비트 단위로 같다. 한 인스턴스는 한 스레드에서만 갱신한다.
+ */
+public interface Indicator {
+
+	/**
+	 * @return 시드 구간을 채워 값이 의미 있으면 true
+	 */
+	boolean isReady();
+
+	/** 처음 상태로 돌린다. */
+	void reset();
+
+	/**
+	 * @return {@link #writeState}가 쓰는 double 개수(인스턴스마다 고정)
+	 */
+	int stateSize();
+
+	void writeState(double[] state, int offset);
+
+	void readState(double[] state, int offset);
+}
@@ -0,0 +1,179 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+/**
+ * 시리즈(market, timeframe) 하나의 지표 묶음. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * 실시간 신호 생성과 백테스트가 같은 클래스를 같은 입력으로 갱신한다. 입력은 1e-8 고정소수 가격
+ * (candle_cache·열 저장소와 같은 눈금)이고 여기서 한 번만 double로 바꾸므로, 두 경로의 결과가 비트 단위로 같다.
+ * candle_time이 마지막으로 반영한 캔들 이하인 입력은 무시한다(재시작·재전달에도 같은 캔들을 두 번 넣지 않음).
+ * 한 스레드에서만 갱신한다.
+ */
+public final class IndicatorSet {
+
+	/** 스냅샷 바이트 형식 버전. 지표 상태 구성이 바뀌면 올린다. */
+	public static final int FORMAT_VERSION = 2;
+	public static final int PRICE_SCALE_DIGITS = 8;
+	public static final double PRICE_SCALE = 100_000_000d;
+
+	private static final int HEADER_BYTES = Integer.BYTES + 2 * Long.BYTES;
+
+	private final IndicatorSpec spec;
+	private final WilderRsi rsi;
+	private final Macd macd;
+	private final Bollinger bollinger;
+	private final Atr atr;
+	private final Ema trend;
+	private final Indicator[] indicators;
+	private final double[] state;
+
+	private long lastTimeMillis = Long.MIN_VALUE;
+	private long updates;
+	private double close;
+
+	public IndicatorSet(IndicatorSpec spec) {
+		this.spec = spec;
+		this.rsi = new WilderRsi(spec.rsiPeriod());
+		this.macd = new Macd(spec.macdFast(), spec.macdSlow(), spec.macdSignal());
+		this.bollinger = new Bollinger(spec.bollingerPeriod(), spec.bollingerWidth());
+		this.atr = new Atr(spec.atrPeriod());
+		this.trend = new Ema(spec.trendEmaPeriod());
+		this.indicators = new Indicator[] {rsi, macd, bollinger, atr, trend};
+		int size = 1;
+		for (Indicator indicator : indicators) {
+			size += indicator.stateSize();
+		}
+		this.state = new double[size];
+	}
+
+	/**
+	 * BigDecimal 가격 → 1e-8 고정소수(HALF_UP, candle_cache 열 저장소 변환과 같은 반올림).
+	 */
+	public static long scaled(BigDecimal price) {
+		return price.movePointRight(PRICE_SCALE_DIGITS).setScale(0, RoundingMode.HALF_UP).longValueExact();
+	}
+
+	/**
+	 * @param timeMillis candle_time(종료 시각) epoch ms
+	 * @return 반영했으면 true. 마지막 반영 캔들 이하 시각이면 false
+	 */
+	public boolean update(long timeMillis, long high, long low, long close) {
+		if (timeMillis <= lastTimeMillis) {
+			return false;
+		}
+		double c = close / PRICE_SCALE;
+		rsi.update(c);
+		macd.update(c);
+		bollinger.update(c);
+		atr.update(high / PRICE_SCALE, low / PRICE_SCALE, c);
+		trend.update(c);
+		this.close = c;
+		lastTimeMillis = timeMillis;
+		updates++;
+		return true;
+	}
+
+	/**
+	 * @return 모든 지표가 준비되었으면 true
+	 */
+	public boolean isReady() {
+		for (Indicator indicator : indicators) {
+			if (!indicator.isReady()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void reset() {
+		for (Indicator indicator : indicators) {
+			indicator.reset();
+		}
+		lastTimeMillis = Long.MIN_VALUE;
+		updates = 0;
+		close = 0;
+	}
+
+	/**
+	 * 상태 전체를 바이트로 옮긴다(big-endian: [int 형식 버전][long 마지막 candle_time][long 반영 수][double 상태...]).
+	 */
+	public byte[] snapshot() {
+		state[0] = close;
+		int offset = 1;
+		for (Indicator indicator : indicators) {
+			indicator.writeState(state, offset);
+			offset += indicator.stateSize();
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + state.length * Double.BYTES)
+			.putInt(FORMAT_VERSION)
+			.putLong(lastTimeMillis)
+			.putLong(updates);
+		buffer.asDoubleBuffer().put(state);
+		return buffer.array();
+	}
+
+	/**
+	 * {@link #snapshot}으로 만든 상태를 되돌린다. 같은 {@link IndicatorSpec}으로 만든 스냅샷이어야 한다.
+	 *
+	 * @return 형식 버전이나 길이가 맞지 않으면 false(상태는 그대로)
+	 */
+	public boolean restore(byte[] snapshot) {
+		if (snapshot.length != HEADER_BYTES + state.length * Double.BYTES) {
+			return false;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+		if (buffer.getInt() != FORMAT_VERSION) {
+			return false;
+		}
+		lastTimeMillis = buffer.getLong();
+		updates = buffer.getLong();
+		buffer.asDoubleBuffer().get(state);
+		close = state[0];
+		int offset = 1;
+		for (Indicator indicator : indicators) {
+			indicator.readState(state, offset);
+			offset += indicator.stateSize();
+		}
+		return true;
+	}
+
+	public IndicatorSpec spec() {
+		return spec;
+	}
+
+	public WilderRsi rsi() {
+		return rsi;
+	}
+
+	public Macd macd() {
+		return macd;
+	}
+
+	public Bollinger bollinger() {
+		return bollinger;
+	}
+
+	public Atr atr() {
+		return atr;
+	}
+
+	public Ema trend() {
+		return trend;
+	}
+
+	/** 마지막으로 반영한 close. */
+	public double close() {
+		return close;
+	}
+
+	/** 마지막으로 반영한 candle_time epoch ms. 아직 없으면 Long.MIN_VALUE. */
+	public long lastTimeMillis() {
+		return lastTimeMillis;
+	}
+
+	public long updates() {
+		return updates;
+	}
+}
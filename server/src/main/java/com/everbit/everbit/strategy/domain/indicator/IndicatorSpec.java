@@ -0,0 +1,48 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * {@link IndicatorSet} 구성(기간·폭). SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * {@link #key()}는 스냅샷과 함께 저장되어, 구성이 바뀐 뒤에는 옛 스냅샷을 쓰지 않게 한다.
+ */
+public record IndicatorSpec(
+	int rsiPeriod,
+	int macdFast,
+	int macdSlow,
+	int macdSignal,
+	int bollingerPeriod,
+	double bollingerWidth,
+	int atrPeriod,
+	int trendEmaPeriod
+) {
+
+	private static final IndicatorSpec DEFAULTS = new IndicatorSpec(14, 12, 26, 9, 20, 2.0, 14, 50);
+
+	public IndicatorSpec {
+		if (rsiPeriod < 1 || macdSignal < 1 || atrPeriod < 1 || trendEmaPeriod < 1) {
+			throw new IllegalArgumentException("periods must be positive");
+		}
+		if (macdFast < 1 || macdFast >= macdSlow) {
+			throw new IllegalArgumentException("macd fast must be positive and shorter than slow: " + macdFast + "/" + macdSlow);
+		}
+		if (bollingerPeriod < 2 || !(bollingerWidth > 0)) {
+			throw new IllegalArgumentException("invalid bollinger: " + bollingerPeriod + "x" + bollingerWidth);
+		}
+	}
+
+	public static IndicatorSpec defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * @return 준비에 필요한 최소 캔들 수(가장 긴 시드 구간)
+	 */
+	public int warmupCandles() {
+		return Math.max(Math.max(rsiPeriod + 1, macdSlow + macdSignal - 1),
+			Math.max(Math.max(bollingerPeriod, atrPeriod), trendEmaPeriod));
+	}
+
+	public String key() {
+		return "rsi" + rsiPeriod + ":macd" + macdFast + "-" + macdSlow + "-" + macdSignal
+			+ ":bb" + bollingerPeriod + "x" + bollingerWidth + ":atr" + atrPeriod + ":ema" + trendEmaPeriod;
+	}
+}
@@ -0,0 +1,100 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * MACD. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * macd = EMA(fast) − EMA(slow), signal = macd의 EMA(signal)(slow가 준비된 뒤부터 갱신), histogram = macd − signal.
+ * 교차 판단용으로 직전 캔들의 histogram도 둔다.
+ */
+public final class Macd implements Indicator {
+
+	private final Ema fast;
+	private final Ema slow;
+	private final Ema signal;
+
+	private double previousHistogram;
+	private boolean previousReady;
+
+	public Macd(int fastPeriod, int slowPeriod, int signalPeriod) {
+		if (fastPeriod >= slowPeriod) {
+			throw new IllegalArgumentException("fast period must be shorter than slow: " + fastPeriod + "/" + slowPeriod);
+		}
+		this.fast = new Ema(fastPeriod);
+		this.slow = new Ema(slowPeriod);
+		this.signal = new Ema(signalPeriod);
+	}
+
+	public void update(double close) {
+		previousReady = signal.isReady();
+		previousHistogram = previousReady ? histogram() : 0;
+		fast.update(close);
+		slow.update(close);
+		if (slow.isReady()) {
+			signal.update(macd());
+		}
+	}
+
+	public double macd() {
+		return fast.value() - slow.value();
+	}
+
+	public double signal() {
+		return signal.value();
+	}
+
+	public double histogram() {
+		return macd() - signal.value();
+	}
+
+	/**
+	 * @return 직전 캔들의 histogram. {@link #hasPrevious}가 false면 0
+	 */
+	public double previousHistogram() {
+		return previousHistogram;
+	}
+
+	/**
+	 * @return 직전 캔들에서도 준비되어 있었으면 true(교차 판단 가능)
+	 */
+	public boolean hasPrevious() {
+		return previousReady;
+	}
+
+	@Override
+	public boolean isReady() {
+		return signal.isReady();
+	}
+
+	@Override
+	public void reset() {
+		fast.reset();
+		slow.reset();
+		signal.reset();
+		previousHistogram = 0;
+		previousReady = false;
+	}
+
+	@Override
+	public int stateSize() {
+		return fast.stateSize() + slow.stateSize() + signal.stateSize() + 2;
+	}
+
+	@Override
+	public void writeState(double[] state, int offset) {
+		fast.writeState(state, offset);
+		slow.writeState(state, offset + fast.stateSize());
+		int tail = offset + fast.stateSize() + slow.stateSize() + signal.stateSize();
+		signal.writeState(state, offset + fast.stateSize() + slow.stateSize());
+		state[tail] = previousHistogram;
+		state[tail + 1] = previousReady ? 1 : 0;
+	}
+
+	@Override
+	public void readState(double[] state, int offset) {
+		fast.readState(state, offset);
+		slow.readState(state, offset + fast.stateSize());
+		int tail = offset + fast.stateSize() + slow.stateSize() + signal.stateSize();
+		signal.readState(state, offset + fast.stateSize() + slow.stateSize());
+		previousHistogram = state[tail];
+		previousReady = state[tail + 1] != 0;
+	}
+}
@@ -0,0 +1,81 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * {@link BatchKernels} 스칼라 구현. SIMD 모듈이 없을 때 쓰고, SIMD 구현의 꼬리 구간 계산에도 쓴다.
+ */
+final class ScalarBatchKernels implements BatchKernels {
+
+	static final ScalarBatchKernels INSTANCE = new ScalarBatchKernels();
+
+	private ScalarBatchKernels() {
+	}
+
+	@Override
+	public void windowMean(double[] x, int period, double[] out) {
+		windowMean(x, period, out, period - 1);
+	}
+
+	@Override
+	public void windowStd(double[] x, double[] mean, int period, double[] out) {
+		windowStd(x, mean, period, out, period - 1);
+	}
+
+	@Override
+	public void changes(double[] close, double[] gain, double[] loss) {
+		changes(close, gain, loss, 1);
+	}
+
+	@Override
+	public void trueRange(double[] high, double[] low, double[] close, double[] out) {
+		if (out.length > 0) {
+			out[0] = high[0] - low[0];
+		}
+		trueRange(high, low, close, out, 1);
+	}
+
+	@Override
+	public void rsi(double[] averageGain, double[] averageLoss, int from, double[] out) {
+		for (int i = from; i < out.length; i++) {
+			double gain = averageGain[i];
+			double loss = averageLoss[i];
+			out[i] = loss == 0 ? (gain == 0 ? 50 : 100) : 100 - 100 / (1 + gain / loss);
+		}
+	}
+
+	static void windowMean(double[] x, int period, double[] out, int from) {
+		for (int i = from; i < out.length; i++) {
+			double sum = 0;
+			for (int j = i - period + 1; j <= i; j++) {
+				sum += x[j];
+			}
+			out[i] = sum / period;
+		}
+	}
+
+	static void windowStd(double[] x, double[] mean, int period, double[] out, int from) {
+		for (int i = from; i < out.length; i++) {
+			double m = mean[i];
+			double squares = 0;
+			for (int j = i - period + 1; j <= i; j++) {
+				double d = x[j] - m;
+				squares += d * d;
+			}
+			out[i] = Math.sqrt(squares / period);
+		}
+	}
+
+	static void changes(double[] close, double[] gain, double[] loss, int from) {
+		for (int i = from; i < close.length; i++) {
+			double change = close[i] - close[i - 1];
+			gain[i] = Math.max(change, 0);
+			loss[i] = Math.max(-change, 0);
+		}
+	}
+
+	static void trueRange(double[] high, double[] low, double[] close, double[] out, int from) {
+		for (int i = from; i < out.length; i++) {
+			double previous = close[i - 1];
+			out[i] = Math.max(high[i] - low[i], Math.max(Math.abs(high[i] - previous), Math.abs(low[i] - previous)));
+		}
+	}
+}
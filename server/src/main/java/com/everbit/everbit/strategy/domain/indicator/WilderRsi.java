@@ -0,0 +1,94 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+/**
+ * Wilder RSI. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ * 처음 period개 변화의 평균 상승·하락폭으로 시드하고, 이후 avg = (avg·(period−1) + x) / period로 평활한다.
+ * 평균 하락폭이 0이면 100(상승폭도 0이면 50).
+ */
+public final class WilderRsi implements Indicator {
+
+	private static final int STATE_SIZE = 4;
+
+	private final int period;
+
+	private double previousClose;
+	private double averageGain;
+	private double averageLoss;
+	private long closes;
+
+	public WilderRsi(int period) {
+		if (period < 1) {
+			throw new IllegalArgumentException("period must be positive: " + period);
+		}
+		this.period = period;
+	}
+
+	public void update(double close) {
+		if (closes > 0) {
+			double change = close - previousClose;
+			double gain = change > 0 ? change : 0;
+			double loss = change < 0 ? -change : 0;
+			if (closes <= period) {
+				averageGain += gain;
+				averageLoss += loss;
+				if (closes == period) {
+					averageGain /= period;
+					averageLoss /= period;
+				}
+			} else {
+				averageGain = (averageGain * (period - 1) + gain) / period;
+				averageLoss = (averageLoss * (period - 1) + loss) / period;
+			}
+		}
+		previousClose = close;
+		closes++;
+	}
+
+	/**
+	 * @return 0~100. 준비 전에는 의미 없음
+	 */
+	public double value() {
+		if (averageLoss == 0) {
+			return averageGain == 0 ? 50 : 100;
+		}
+		return 100 - 100 / (1 + averageGain / averageLoss);
+	}
+
+	public int period() {
+		return period;
+	}
+
+	@Override
+	public boolean isReady() {
+		return closes > period;
+	}
+
+	@Override
+	public void reset() {
+		previousClose = 0;
+		averageGain = 0;
+		averageLoss = 0;
+		closes = 0;
+	}
+
+	@Override
+	public int stateSize() {
+		return STATE_SIZE;
+	}
+
+	@Override
+	public void writeState(double[] state, int offset) {
+		state[offset] = previousClose;
+		state[offset + 1] = averageGain;
+		state[offset + 2] = averageLoss;
+		state[offset + 3] = closes;
+	}
+
+	@Override
+	public void readState(double[] state, int offset) {
+		previousClose = state[offset];
+		averageGain = state[offset + 1];
+		averageLoss = state[offset + 2];
+		closes = (long) state[offset + 3];
+	}
+}
@@ -0,0 +1,21 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+/**
+ * 신호 중재 결과. SoT: docs/architecture/order-pipeline.md §3.2.4.
+ */
+public enum ArbitrationOutcome {
+	/** 주문 의도 생성으로 넘김. */
+	ACCEPTED,
+	/** 전략에 맞는 국면 강도가 regime.minStrength 미만. */
+	REGIME_MISMATCH,
+	/** 같은 owner·마켓에서 더 높은 순위 신호가 이미 채택됨. */
+	LOWER_RANK,
+	/** 마켓을 이미 보유 중(BUY)이거나 다른 전략이 보유 중(SELL). */
+	MARKET_OWNED,
+	/** owner의 보유 마켓 수가 maxOpenMarkets에 도달. */
+	MAX_OPEN_MARKETS,
+	/** 보유하지 않은 마켓의 SELL. */
+	NO_POSITION,
+	/** 같은 owner·마켓에서 채택된 신호의 execution.cooldownMinutes가 아직 지나지 않은 BUY. */
+	COOLDOWN
+}
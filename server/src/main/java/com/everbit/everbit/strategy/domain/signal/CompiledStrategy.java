@@ -0,0 +1,25 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 전략과 한 번 파싱한 파라미터의 묶음. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ */
+public record CompiledStrategy<P>(Strategy<P> strategy, P parameters) {
+
+	/**
+	 * @param signal config_json의 "signal" 객체
+	 * @throws IllegalArgumentException 파라미터가 잘못됨
+	 */
+	public static <P> CompiledStrategy<P> compile(Strategy<P> strategy, JsonNode signal) {
+		return new CompiledStrategy<>(strategy, strategy.parse(signal));
+	}
+
+	/**
+	 * @return 신호가 없으면 null
+	 */
+	public StrategyDecision evaluate(IndicatorSet indicators) {
+		return strategy.evaluate(parameters, indicators);
+	}
+}
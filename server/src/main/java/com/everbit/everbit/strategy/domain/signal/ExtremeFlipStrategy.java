@@ -0,0 +1,66 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.indicator.Bollinger;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.everbit.everbit.strategy.domain.indicator.WilderRsi;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * EXTREME_FLIP: 과매도·과매수 극단에서의 되돌림. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ * BUY: RSI ≤ oversoldRsi 이고 %B ≤ bandBreach(하단 밴드 이탈). SELL: RSI ≥ overboughtRsi 이고 %B ≥ 1 − bandBreach.
+ * 강도 = 0.5 + RSI 극단 깊이/2 + 밴드 이탈폭/2.
+ */
+public final class ExtremeFlipStrategy implements Strategy<ExtremeFlipStrategy.Params> {
+
+	public static final String KEY = "EXTREME_FLIP";
+
+	/**
+	 * @param bandBreach %B 기준(0이면 밴드 선, 음수면 밴드 밖으로 더 나가야 함)
+	 */
+	public record Params(double oversoldRsi, double overboughtRsi, double bandBreach) {
+
+		public Params {
+			Parameters.requireRange("oversoldRsi", oversoldRsi, 1, 50);
+			Parameters.requireRange("overboughtRsi", overboughtRsi, 50, 99);
+			Parameters.requireRange("bandBreach", bandBreach, -1, 0.5);
+		}
+	}
+
+	@Override
+	public String key() {
+		return KEY;
+	}
+
+	@Override
+	public Regime regime() {
+		return Regime.RANGE;
+	}
+
+	@Override
+	public Params parse(JsonNode signal) {
+		return new Params(
+			Parameters.number(signal, "oversoldRsi", 30),
+			Parameters.number(signal, "overboughtRsi", 70),
+			Parameters.number(signal, "bandBreach", 0));
+	}
+
+	@Override
+	public StrategyDecision evaluate(Params p, IndicatorSet indicators) {
+		WilderRsi rsi = indicators.rsi();
+		Bollinger bollinger = indicators.bollinger();
+		if (!rsi.isReady() || !bollinger.isReady()) {
+			return null;
+		}
+		double value = rsi.value();
+		double percentB = bollinger.percentB();
+		if (value <= p.oversoldRsi() && percentB <= p.bandBreach()) {
+			return StrategyDecision.buy(0.5 + (p.oversoldRsi() - value) / (2 * p.oversoldRsi())
+				+ (p.bandBreach() - percentB) / 2, "RSI_OVERSOLD_BELOW_BAND");
+		}
+		if (value >= p.overboughtRsi() && percentB >= 1 - p.bandBreach()) {
+			return StrategyDecision.sell(0.5 + (value - p.overboughtRsi()) / (2 * (100 - p.overboughtRsi()))
+				+ (percentB - 1 + p.bandBreach()) / 2, "RSI_OVERBOUGHT_ABOVE_BAND");
+		}
+		return null;
+	}
+}
@@ -0,0 +1,39 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * config_json 숫자 읽기(파싱 시 한 번만 쓰임).
+ */
+final class Parameters {
+
+	private Parameters() {
+	}
+
+	/**
+	 * @return 필드가 없거나 null이면 기본값
+	 * @throws IllegalArgumentException 숫자가 아님
+	 */
+	static double number(JsonNode parent, String field, double defaultValue) {
+		JsonNode node = parent.path(field);
+		if (node.isMissingNode() || node.isNull()) {
+			return defaultValue;
+		}
+		if (!node.isNumber()) {
+			throw new IllegalArgumentException(field + " must be a number: " + node);
+		}
+		return node.doubleValue();
+	}
+
+	static void requireUnit(String field, double value) {
+		if (!(value >= 0 && value <= 1)) {
+			throw new IllegalArgumentException(field + " must be within [0, 1]: " + value);
+		}
+	}
+
+	static void requireRange(String field, double value, double min, double max) {
+		if (!(value >= min && value <= max)) {
+			throw new IllegalArgumentException(field + " must be within [" + min + ", " + max + "]: " + value);
+		}
+	}
+}
@@ -0,0 +1,115 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 중재용 owner별 보유 마켓 메모리 뷰. SoT: docs/architecture/order-pipeline.md §3.2.4.
+ * position(OPEN)을 주기적으로 {@link #sync}하고, 그 사이 채택한 BUY는 체결 전이라도 예약으로 보유 수에 넣는다.
+ * 예약은 position에 OPEN으로 보이거나 reservationMillis가 지나면 풀린다. 마켓을 연 전략 키를 기억해 같은 마켓은 한 전략만 소유한다
+ * (재시작 전 포지션처럼 연 전략을 모르면 null). 채택 후 재진입 쿨다운도 owner·마켓별로 들고 있다(메모리만, 재시작하면 잊음).
+ * 한 스레드에서만 쓴다.
+ */
+public final class PositionBook {
+
+	private final long reservationMillis;
+	/** owner → 보유(또는 예약) 마켓 → 연 전략 키. */
+	private final Map<Long, Map<String, Holding>> owners = new HashMap<>();
+	/** owner → 마켓 → 쿨다운 만료 시각(epoch ms). */
+	private final Map<Long, Map<String, Long>> cooldowns = new HashMap<>();
+
+	private static final class Holding {
+		private final String strategyKey;
+		private boolean open;
+		private long reservedUntil;
+
+		private Holding(String strategyKey) {
+			this.strategyKey = strategyKey;
+		}
+	}
+
+	public PositionBook(long reservationMillis) {
+		this.reservationMillis = reservationMillis;
+	}
+
+	/**
+	 * position(OPEN) 기준으로 보유 상태를 맞춘다. 없어진 보유는 지우고, 유효한 예약은 남긴다.
+	 *
+	 * @param openMarkets owner → OPEN 마켓
+	 */
+	public void sync(Map<Long, Set<String>> openMarkets, long nowMillis) {
+		for (Iterator<Map.Entry<Long, Map<String, Holding>>> owner = owners.entrySet().iterator(); owner.hasNext(); ) {
+			Map.Entry<Long, Map<String, Holding>> entry = owner.next();
+			Set<String> open = openMarkets.getOrDefault(entry.getKey(), Set.of());
+			entry.getValue().entrySet().removeIf(e -> !open.contains(e.getKey()) && e.getValue().reservedUntil <= nowMillis);
+			entry.getValue().forEach((market, holding) -> holding.open = open.contains(market));
+			if (entry.getValue().isEmpty()) {
+				owner.remove();
+			}
+		}
+		openMarkets.forEach((ownerId, markets) -> {
+			Map<String, Holding> holdings = owners.computeIfAbsent(ownerId, id -> new HashMap<>());
+			for (String market : markets) {
+				holdings.computeIfAbsent(market, m -> new Holding(null)).open = true;
+			}
+		});
+		cooldowns.values().forEach(markets -> markets.values().removeIf(until -> until <= nowMillis));
+		cooldowns.values().removeIf(Map::isEmpty);
+	}
+
+	public boolean holds(Long ownerId, String market, long nowMillis) {
+		Holding holding = holding(ownerId, market);
+		return holding != null && (holding.open || holding.reservedUntil > nowMillis);
+	}
+
+	/**
+	 * @return 마켓을 연 전략 키. 모르거나 보유하지 않으면 null
+	 */
+	public String holder(Long ownerId, String market, long nowMillis) {
+		Holding holding = holding(ownerId, market);
+		return holding != null && holds(ownerId, market, nowMillis) ? holding.strategyKey : null;
+	}
+
+	public int openCount(Long ownerId, long nowMillis) {
+		Map<String, Holding> holdings = owners.get(ownerId);
+		if (holdings == null) {
+			return 0;
+		}
+		int count = 0;
+		for (Holding holding : holdings.values()) {
+			if (holding.open || holding.reservedUntil > nowMillis) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 채택한 BUY를 체결 전까지 보유로 센다.
+	 */
+	public void reserve(Long ownerId, String market, String strategyKey, long nowMillis) {
+		Holding holding = new Holding(strategyKey);
+		holding.reservedUntil = nowMillis + reservationMillis;
+		owners.computeIfAbsent(ownerId, id -> new HashMap<>()).put(market, holding);
+	}
+
+	public boolean coolingDown(Long ownerId, String market, long nowMillis) {
+		Map<String, Long> markets = cooldowns.get(ownerId);
+		Long until = markets == null ? null : markets.get(market);
+		return until != null && until > nowMillis;
+	}
+
+	/**
+	 * 쿨다운을 untilMillis까지 건다. 이미 더 늦게 끝나는 쿨다운이 있으면 그대로 둔다.
+	 */
+	public void startCooldown(Long ownerId, String market, long untilMillis) {
+		cooldowns.computeIfAbsent(ownerId, id -> new HashMap<>()).merge(market, untilMillis, Math::max);
+	}
+
+	private Holding holding(Long ownerId, String market) {
+		Map<String, Holding> holdings = owners.get(ownerId);
+		return holdings == null ? null : holdings.get(market);
+	}
+}
@@ -0,0 +1,66 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.indicator.Bollinger;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * PRESSURE_SURGE: 변동성 확장 돌파. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ * BUY: %B ≥ breakoutPercentB, 밴드폭 ≥ minBandwidth, MACD histogram > 0, RSI ≥ minRsi.
+ * SELL: %B ≤ 1 − breakoutPercentB, 밴드폭 ≥ minBandwidth, histogram < 0, RSI ≤ 100 − minRsi.
+ * 강도 = 0.5 + 돌파폭(%B 초과분)/2 + 밴드폭 초과 비율/2.
+ */
+public final class PressureSurgeStrategy implements Strategy<PressureSurgeStrategy.Params> {
+
+	public static final String KEY = "PRESSURE_SURGE";
+
+	public record Params(double breakoutPercentB, double minBandwidth, double minRsi) {
+
+		public Params {
+			Parameters.requireRange("breakoutPercentB", breakoutPercentB, 0.5, 3);
+			Parameters.requireRange("minBandwidth", minBandwidth, 0.0001, 1);
+			Parameters.requireRange("minRsi", minRsi, 50, 100);
+		}
+	}
+
+	@Override
+	public String key() {
+		return KEY;
+	}
+
+	@Override
+	public Regime regime() {
+		return Regime.BREAKOUT;
+	}
+
+	@Override
+	public Params parse(JsonNode signal) {
+		return new Params(
+			Parameters.number(signal, "breakoutPercentB", 1),
+			Parameters.number(signal, "minBandwidth", 0.02),
+			Parameters.number(signal, "minRsi", 55));
+	}
+
+	@Override
+	public StrategyDecision evaluate(Params p, IndicatorSet indicators) {
+		Bollinger bollinger = indicators.bollinger();
+		if (!bollinger.isReady() || !indicators.macd().isReady() || !indicators.rsi().isReady()) {
+			return null;
+		}
+		double bandwidth = bollinger.bandwidth();
+		if (bandwidth < p.minBandwidth()) {
+			return null;
+		}
+		double percentB = bollinger.percentB();
+		double histogram = indicators.macd().histogram();
+		double rsi = indicators.rsi().value();
+		double expansion = (bandwidth - p.minBandwidth()) / (2 * p.minBandwidth());
+		if (percentB >= p.breakoutPercentB() && histogram > 0 && rsi >= p.minRsi()) {
+			return StrategyDecision.buy(0.5 + (percentB - p.breakoutPercentB()) / 2 + expansion, "BAND_BREAKOUT_UP");
+		}
+		if (percentB <= 1 - p.breakoutPercentB() && histogram < 0 && rsi <= 100 - p.minRsi()) {
+			return StrategyDecision.sell(0.5 + (1 - p.breakoutPercentB() - percentB) / 2 + expansion, "BAND_BREAKOUT_DOWN");
+		}
+		return null;
+	}
+}
@@ -0,0 +1,13 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+/**
+ * 시장 국면. 전략마다 맞는 국면이 하나 있다. SoT: docs/architecture/order-pipeline.md §3.2.4.
+ */
+public enum Regime {
+	/** 추세 EMA에서 ATR 단위로 멀어진 방향성 장세(STRUCTURE_LIFT). */
+	TREND,
+	/** 밴드 안에서 오가는 박스권(EXTREME_FLIP). */
+	RANGE,
+	/** 밴드를 벗어나는 변동성 확장(PRESSURE_SURGE). */
+	BREAKOUT
+}
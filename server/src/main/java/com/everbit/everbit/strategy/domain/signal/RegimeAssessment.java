@@ -0,0 +1,61 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.indicator.Atr;
+import com.everbit.everbit.strategy.domain.indicator.Bollinger;
+import com.everbit.everbit.strategy.domain.indicator.Ema;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.everbit.everbit.strategy.domain.indicator.Macd;
+
+/**
+ * 시리즈 지표로 매긴 국면별 강도(0~1). SoT: docs/architecture/order-pipeline.md §3.2.4.
+ * <ul>
+ *   <li>TREND = |close − 추세 EMA| / (2·ATR). MACD histogram 방향이 반대면 절반.</li>
+ *   <li>BREAKOUT = %B가 밴드 밖으로 나간 폭 × 2(밴드 안이면 0).</li>
+ *   <li>RANGE = 1 − max(TREND, BREAKOUT).</li>
+ * </ul>
+ * 지표가 준비되지 않았으면 {@link #UNKNOWN}(모두 0)이다.
+ */
+public record RegimeAssessment(double trend, double range, double breakout) {
+
+	public static final RegimeAssessment UNKNOWN = new RegimeAssessment(0, 0, 0);
+
+	public static RegimeAssessment of(IndicatorSet indicators) {
+		Ema ema = indicators.trend();
+		Atr atr = indicators.atr();
+		Bollinger bollinger = indicators.bollinger();
+		Macd macd = indicators.macd();
+		if (!ema.isReady() || !atr.isReady() || !bollinger.isReady() || !macd.isReady() || atr.value() <= 0) {
+			return UNKNOWN;
+		}
+		double distance = indicators.close() - ema.value();
+		double trend = unit(Math.abs(distance) / (2 * atr.value()));
+		if (distance * macd.histogram() < 0) {
+			trend /= 2;
+		}
+		double percentB = bollinger.percentB();
+		double breakout = unit(2 * Math.max(percentB - 1, -percentB));
+		return new RegimeAssessment(trend, 1 - Math.max(trend, breakout), breakout);
+	}
+
+	public double strength(Regime regime) {
+		return switch (regime) {
+			case TREND -> trend;
+			case RANGE -> range;
+			case BREAKOUT -> breakout;
+		};
+	}
+
+	/**
+	 * @return 강도가 가장 큰 국면(같으면 RANGE, TREND, BREAKOUT 순)
+	 */
+	public Regime dominant() {
+		if (range >= trend && range >= breakout) {
+			return Regime.RANGE;
+		}
+		return trend >= breakout ? Regime.TREND : Regime.BREAKOUT;
+	}
+
+	private static double unit(double value) {
+		return Math.max(0, Math.min(1, value));
+	}
+}
@@ -0,0 +1,24 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.trade.domain.SignalSide;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 중재를 통과한 signal. 주문 의도(OrderIntent) 생성 단계가 구독한다. SoT: docs/architecture/order-pipeline.md §3.2.4.
+ * 평가 스레드에서 동기 발행되므로 구독자는 오래 붙잡지 않는다.
+ */
+public record SignalAcceptedEvent(
+	long signalId,
+	Long ownerId,
+	String strategyKey,
+	String market,
+	String timeframe,
+	Instant candleCloseTime,
+	SignalSide side,
+	BigDecimal strength,
+	String reasonCode,
+	Regime regime
+) {
+}
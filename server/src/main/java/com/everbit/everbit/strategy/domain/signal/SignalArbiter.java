@@ -0,0 +1,91 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.trade.domain.SignalSide;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 국면 라우팅 + 신호 중재. SoT: docs/architecture/order-pipeline.md §3.2.4.
+ * 한 캔들 close의 모든 마켓 신호를 강도 내림차순(같으면 market_config.priority 내림차순, signal_id 오름차순)으로 한 번 훑으며,
+ * <ol>
+ *   <li>전략 국면 강도가 regime.minStrength 미만이면 버린다.</li>
+ *   <li>owner·마켓마다 채택은 하나(가장 강한 것)뿐이다. 그 뒤 같은 마켓 신호는 LOWER_RANK.</li>
+ *   <li>SELL은 그 마켓을 보유 중이고 연 전략이 같을 때(모르면 아무 전략) 채택한다.</li>
+ *   <li>BUY는 보유하지 않은 마켓이고 쿨다운 중이 아니며 보유 수가 maxOpenMarkets 미만일 때 채택하고, 바로 {@link PositionBook}에 예약한다.</li>
+ *   <li>채택하면 그 owner·마켓에 채택 신호 전략의 cooldownMinutes만큼 쿨다운을 건다(그동안 BUY는 COOLDOWN).</li>
+ * </ol>
+ * 강한 신호가 먼저 자리를 차지하므로 상한이 모자랄 때 약한 마켓이 밀린다.
+ */
+public final class SignalArbiter {
+
+	static final Comparator<SignalCandidate> RANK = Comparator
+		.comparing(SignalCandidate::strength).reversed()
+		.thenComparing(Comparator.comparingInt(SignalCandidate::priority).reversed())
+		.thenComparingLong(SignalCandidate::signalId);
+
+	public record Arbitration(SignalCandidate candidate, ArbitrationOutcome outcome) {
+
+		public boolean accepted() {
+			return outcome == ArbitrationOutcome.ACCEPTED;
+		}
+	}
+
+	private SignalArbiter() {
+	}
+
+	/**
+	 * @return 순위 순서의 후보별 결과
+	 */
+	public static List<Arbitration> arbitrate(List<SignalCandidate> candidates, PositionBook positions, long nowMillis) {
+		List<SignalCandidate> ranked = new ArrayList<>(candidates);
+		ranked.sort(RANK);
+		Set<String> decided = new HashSet<>();
+		List<Arbitration> result = new ArrayList<>(ranked.size());
+		for (SignalCandidate candidate : ranked) {
+			result.add(new Arbitration(candidate, decide(candidate, positions, decided, nowMillis)));
+		}
+		return result;
+	}
+
+	private static ArbitrationOutcome decide(SignalCandidate c, PositionBook positions, Set<String> decided,
+		long nowMillis) {
+		if (c.regime().strength(c.requiredRegime()) < c.regimeMinStrength()) {
+			return ArbitrationOutcome.REGIME_MISMATCH;
+		}
+		String key = c.ownerId() + "|" + c.market();
+		if (decided.contains(key)) {
+			return ArbitrationOutcome.LOWER_RANK;
+		}
+		boolean holds = positions.holds(c.ownerId(), c.market(), nowMillis);
+		if (c.side() == SignalSide.SELL) {
+			if (!holds) {
+				return ArbitrationOutcome.NO_POSITION;
+			}
+			String holder = positions.holder(c.ownerId(), c.market(), nowMillis);
+			if (holder != null && !holder.equals(c.strategyKey())) {
+				return ArbitrationOutcome.MARKET_OWNED;
+			}
+		} else {
+			if (holds) {
+				return ArbitrationOutcome.MARKET_OWNED;
+			}
+			if (positions.coolingDown(c.ownerId(), c.market(), nowMillis)) {
+				return ArbitrationOutcome.COOLDOWN;
+			}
+			if (positions.openCount(c.ownerId(), nowMillis) >= c.maxOpenMarkets()) {
+				return ArbitrationOutcome.MAX_OPEN_MARKETS;
+			}
+			positions.reserve(c.ownerId(), c.market(), c.strategyKey(), nowMillis);
+		}
+		if (c.cooldownMinutes() > 0) {
+			positions.startCooldown(c.ownerId(), c.market(), nowMillis + TimeUnit.MINUTES.toMillis(c.cooldownMinutes()));
+		}
+		decided.add(key);
+		return ArbitrationOutcome.ACCEPTED;
+	}
+}
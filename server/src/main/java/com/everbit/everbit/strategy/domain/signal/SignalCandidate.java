@@ -0,0 +1,34 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.trade.domain.SignalSide;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * 중재 대상 신호(기록된 signal 1건 + 중재에 필요한 설정값). SoT: docs/architecture/order-pipeline.md §3.2.4.
+ *
+ * @param priority          market_config.priority(같은 강도일 때 큰 쪽 우선)
+ * @param maxOpenMarkets    이 전략 설정의 entry.maxOpenMarkets
+ * @param cooldownMinutes   이 전략 설정의 execution.cooldownMinutes(채택 후 같은 마켓 BUY 금지 시간)
+ * @param regimeMinStrength 이 전략 설정의 regime.minStrength
+ * @param regime            신호 캔들 시점의 국면 강도
+ */
+public record SignalCandidate(
+	long signalId,
+	Long ownerId,
+	String strategyKey,
+	String market,
+	String timeframe,
+	Instant candleCloseTime,
+	SignalSide side,
+	BigDecimal strength,
+	String reasonCode,
+	int priority,
+	int maxOpenMarkets,
+	int cooldownMinutes,
+	Regime requiredRegime,
+	double regimeMinStrength,
+	RegimeAssessment regime
+) {
+}
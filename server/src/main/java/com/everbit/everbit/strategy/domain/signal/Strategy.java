@@ -0,0 +1,32 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 전략 SPI. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ * 설정(strategy_config.config_json)은 {@link #parse}로 설정 버전마다 한 번만 불변 파라미터 객체로 바꾸고,
+ * 캔들 close마다 {@link #evaluate}는 그 객체와 시리즈 지표만 읽는다(JsonNode를 다시 읽지 않음).
+ * 구현은 상태를 두지 않는다. 같은 입력이면 실시간·백테스트 결과가 같다.
+ *
+ * @param <P> 전략 전용 파라미터(불변)
+ */
+public interface Strategy<P> {
+
+	/** strategy_config.strategy_key(예: EXTREME_FLIP). */
+	String key();
+
+	/** 이 전략이 맞는 국면. 라우터는 그 국면 강도가 regime.minStrength 이상일 때만 신호를 넘긴다. */
+	Regime regime();
+
+	/**
+	 * @param signal config_json의 "signal" 객체(없으면 빈 객체). 값이 없으면 기본값
+	 * @throws IllegalArgumentException 값이 범위를 벗어남
+	 */
+	P parse(JsonNode signal);
+
+	/**
+	 * @return 신호가 없으면 null
+	 */
+	StrategyDecision evaluate(P parameters, IndicatorSet indicators);
+}
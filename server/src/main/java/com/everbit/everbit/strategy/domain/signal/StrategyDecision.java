@@ -0,0 +1,24 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.trade.domain.SignalSide;
+
+/**
+ * 전략 평가 결과. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ *
+ * @param strength   0~1 우선순위 점수(signal.strength)
+ * @param reasonCode signal.reason_code
+ */
+public record StrategyDecision(SignalSide side, double strength, String reasonCode) {
+
+	public static StrategyDecision buy(double strength, String reasonCode) {
+		return new StrategyDecision(SignalSide.BUY, clamp(strength), reasonCode);
+	}
+
+	public static StrategyDecision sell(double strength, String reasonCode) {
+		return new StrategyDecision(SignalSide.SELL, clamp(strength), reasonCode);
+	}
+
+	private static double clamp(double strength) {
+		return Math.max(0, Math.min(1, strength));
+	}
+}
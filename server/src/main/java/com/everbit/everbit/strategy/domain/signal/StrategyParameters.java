@@ -0,0 +1,59 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 전략 공통 파라미터(config_json의 timeframes·regime·entry·execution). SoT: docs/api/contracts.md §4.
+ *
+ * @param timeframes        평가할 timeframe(분 단위 문자열)
+ * @param regimeMinStrength 이 전략이 맞는 국면으로 볼 최소 국면 강도(0~1)
+ * @param minSignalStrength 이보다 약한 신호는 기록하지 않음(0~1)
+ * @param maxOpenMarkets    동시에 포지션을 가질 수 있는 마켓 수
+ * @param cooldownMinutes   채택된 신호 후 같은 마켓 BUY 금지 시간(분, 0이면 없음). {@link SignalArbiter}가 지킨다
+ */
+public record StrategyParameters(
+	Set<String> timeframes,
+	double regimeMinStrength,
+	double minSignalStrength,
+	int maxOpenMarkets,
+	int cooldownMinutes
+) {
+
+	private static final String DEFAULT_TIMEFRAME = "15";
+	private static final int DEFAULT_MAX_OPEN_MARKETS = 2;
+
+	public StrategyParameters {
+		timeframes = Set.copyOf(timeframes);
+		if (timeframes.isEmpty()) {
+			throw new IllegalArgumentException("timeframes must not be empty");
+		}
+		if (maxOpenMarkets < 1) {
+			throw new IllegalArgumentException("maxOpenMarkets must be at least 1: " + maxOpenMarkets);
+		}
+		if (cooldownMinutes < 0) {
+			throw new IllegalArgumentException("cooldownMinutes must not be negative: " + cooldownMinutes);
+		}
+		Parameters.requireUnit("regime.minStrength", regimeMinStrength);
+		Parameters.requireUnit("entry.minSignalStrength", minSignalStrength);
+	}
+
+	public static StrategyParameters parse(JsonNode config) {
+		Set<String> timeframes = new LinkedHashSet<>();
+		JsonNode node = config.path("timeframes");
+		if (node.isArray()) {
+			node.forEach(tf -> timeframes.add(tf.asText()));
+		}
+		if (timeframes.isEmpty()) {
+			timeframes.add(DEFAULT_TIMEFRAME);
+		}
+		return new StrategyParameters(
+			timeframes,
+			Parameters.number(config.path("regime"), "minStrength", 0),
+			Parameters.number(config.path("entry"), "minSignalStrength", 0),
+			(int) Parameters.number(config.path("entry"), "maxOpenMarkets", DEFAULT_MAX_OPEN_MARKETS),
+			(int) Parameters.number(config.path("execution"), "cooldownMinutes", 0));
+	}
+}
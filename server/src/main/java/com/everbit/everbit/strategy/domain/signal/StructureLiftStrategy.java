@@ -0,0 +1,67 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.everbit.everbit.strategy.domain.indicator.Macd;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * STRUCTURE_LIFT: 추세 방향 MACD 교차. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ * BUY: close > 추세 EMA, MACD histogram이 0 위로 교차, minRsi ≤ RSI ≤ maxRsi(과열 제외).
+ * SELL: close < 추세 EMA, histogram이 0 아래로 교차.
+ * 강도 = 0.5 + |close − 추세 EMA| / (2·trendAtr·ATR)(추세에서 trendAtr ATR 떨어지면 1).
+ */
+public final class StructureLiftStrategy implements Strategy<StructureLiftStrategy.Params> {
+
+	public static final String KEY = "STRUCTURE_LIFT";
+
+	public record Params(double minRsi, double maxRsi, double trendAtr) {
+
+		public Params {
+			Parameters.requireRange("minRsi", minRsi, 0, 100);
+			Parameters.requireRange("maxRsi", maxRsi, minRsi, 100);
+			Parameters.requireRange("trendAtr", trendAtr, 0.1, 20);
+		}
+	}
+
+	@Override
+	public String key() {
+		return KEY;
+	}
+
+	@Override
+	public Regime regime() {
+		return Regime.TREND;
+	}
+
+	@Override
+	public Params parse(JsonNode signal) {
+		return new Params(
+			Parameters.number(signal, "minRsi", 50),
+			Parameters.number(signal, "maxRsi", 70),
+			Parameters.number(signal, "trendAtr", 2));
+	}
+
+	@Override
+	public StrategyDecision evaluate(Params p, IndicatorSet indicators) {
+		Macd macd = indicators.macd();
+		if (!macd.hasPrevious() || !indicators.trend().isReady() || !indicators.atr().isReady()
+			|| !indicators.rsi().isReady()) {
+			return null;
+		}
+		double atr = indicators.atr().value();
+		if (atr <= 0) {
+			return null;
+		}
+		double distance = indicators.close() - indicators.trend().value();
+		double strength = 0.5 + Math.abs(distance) / (2 * p.trendAtr() * atr);
+		double rsi = indicators.rsi().value();
+		if (distance > 0 && macd.previousHistogram() <= 0 && macd.histogram() > 0
+			&& rsi >= p.minRsi() && rsi <= p.maxRsi()) {
+			return StrategyDecision.buy(strength, "MACD_CROSS_UP_ABOVE_TREND");
+		}
+		if (distance < 0 && macd.previousHistogram() >= 0 && macd.histogram() < 0) {
+			return StrategyDecision.sell(strength, "MACD_CROSS_DOWN_BELOW_TREND");
+		}
+		return null;
+	}
+}
@@ -0,0 +1,11 @@
+package com.everbit.everbit.strategy.repository;
+
+import com.everbit.everbit.strategy.domain.IndicatorSnapshot;
+import com.everbit.everbit.strategy.domain.IndicatorSnapshotId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 지표 상태 스냅샷 저장소. SoT: docs/architecture/data-model.md §2.17.
+ */
+public interface IndicatorSnapshotRepository extends JpaRepository<IndicatorSnapshot, IndicatorSnapshotId> {
+}
@@ -0,0 +1,19 @@
+package com.everbit.everbit.strategy.repository;
+
+import com.everbit.everbit.strategy.domain.MarketConfig;
+import com.everbit.everbit.strategy.domain.MarketConfigId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+/**
+ * 마켓 설정 저장소. SoT: docs/architecture/data-model.md §2.4.
+ */
+public interface MarketConfigRepository extends JpaRepository<MarketConfig, MarketConfigId> {
+
+	@Query("select distinct m.id.market from MarketConfig m where m.enabled = true order by m.id.market")
+	List<String> findDistinctEnabledMarkets();
+
+	List<MarketConfig> findByEnabledTrue();
+}
@@ -0,0 +1,39 @@
+package com.everbit.everbit.trade;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * private WS(myOrder/myAsset) 수집 설정. SoT: docs/integrations/upbit.md §7.3, §7.4.
+ * enabled: 수집 on/off(기본 off, 테스트/로컬에서 외부 연결 방지).
+ * ping-interval-seconds: WS ping 주기(§7.2). owner-refresh-seconds: 키 등록/삭제/교체 반영 주기.
+ * batch-size/flush-interval-millis: 체결·주문 상태 반영을 한 트랜잭션으로 묶는 최대 건수와 대기 시간.
+ */
+@ConfigurationProperties(prefix = "trade.private-stream")
+public record PrivateStreamProperties(
+	boolean enabled,
+	String url,
+	int pingIntervalSeconds,
+	int ownerRefreshSeconds,
+	int batchSize,
+	long flushIntervalMillis
+) {
+	public static final String DEFAULT_URL = "wss://api.upbit.com/websocket/v1/private";
+
+	public PrivateStreamProperties {
+		if (url == null || url.isBlank()) {
+			url = DEFAULT_URL;
+		}
+		if (pingIntervalSeconds <= 0) {
+			pingIntervalSeconds = 30;
+		}
+		if (ownerRefreshSeconds <= 0) {
+			ownerRefreshSeconds = 60;
+		}
+		if (batchSize <= 0) {
+			batchSize = 50;
+		}
+		if (flushIntervalMillis <= 0) {
+			flushIntervalMillis = 200;
+		}
+	}
+}
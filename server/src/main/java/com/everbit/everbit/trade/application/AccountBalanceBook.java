@@ -0,0 +1,76 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.integrations.upbit.dto.AccountResponse;
+import com.everbit.everbit.trade.infrastructure.UpbitPrivateFrame;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * owner별 잔고 사본(메모리). SoT: docs/integrations/upbit.md §7.4.
+ * private WS 연결 직후 /v1/accounts 스냅샷으로 통째로 맞추고, 이후 myAsset 증분으로 화폐별 값을 덮어쓴다.
+ * 스냅샷 요청 뒤에 도착한 myAsset이 스냅샷보다 먼저 반영됐을 수 있으므로, 스냅샷은 요청 시각 이후에 갱신된 화폐를 건드리지 않는다.
+ * 비교는 로컬 시계 하나로만 한다: 스냅샷은 요청 시각, myAsset은 수신 시각. 서버 시각(asset_timestamp)은 로컬 시계와 어긋날 수 있어 쓰지 않는다.
+ */
+@Component
+public class AccountBalanceBook {
+
+	public record Balance(String currency, BigDecimal balance, BigDecimal locked, Instant updatedAt) {}
+
+	private final Map<Long, Map<String, Balance>> balances = new ConcurrentHashMap<>();
+
+	/**
+	 * @param requestedAt /v1/accounts 요청 직전 시각
+	 */
+	public void applySnapshot(Long ownerId, List<AccountResponse> accounts, Instant requestedAt) {
+		Map<String, Balance> book = book(ownerId);
+		synchronized (book) {
+			book.values().removeIf(b -> !b.updatedAt().isAfter(requestedAt));
+			for (AccountResponse account : accounts) {
+				book.putIfAbsent(account.currency(), new Balance(account.currency(),
+					decimal(account.balance()), decimal(account.locked()), requestedAt));
+			}
+		}
+	}
+
+	/**
+	 * @param receivedAt 프레임을 받은 로컬 시각(스냅샷 requestedAt과 같은 시계)
+	 */
+	public void applyAssets(Long ownerId, UpbitPrivateFrame.MyAsset event, Instant receivedAt) {
+		Map<String, Balance> book = book(ownerId);
+		synchronized (book) {
+			for (UpbitPrivateFrame.Asset asset : event.assets()) {
+				Balance current = book.get(asset.currency());
+				if (current == null || !current.updatedAt().isAfter(receivedAt)) {
+					book.put(asset.currency(), new Balance(asset.currency(),
+						nonNull(asset.balance()), nonNull(asset.locked()), receivedAt));
+				}
+			}
+		}
+	}
+
+	public Optional<Balance> balance(Long ownerId, String currency) {
+		return Optional.ofNullable(book(ownerId).get(currency));
+	}
+
+	public void clear(Long ownerId) {
+		balances.remove(ownerId);
+	}
+
+	private Map<String, Balance> book(Long ownerId) {
+		return balances.computeIfAbsent(ownerId, id -> new ConcurrentHashMap<>());
+	}
+
+	private static BigDecimal decimal(String value) {
+		return value == null || value.isEmpty() ? BigDecimal.ZERO : new BigDecimal(value);
+	}
+
+	private static BigDecimal nonNull(BigDecimal value) {
+		return value != null ? value : BigDecimal.ZERO;
+	}
+}
@@ -0,0 +1,67 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.integrations.upbit.ClosedOrderCursor;
+import com.everbit.everbit.integrations.upbit.UpbitExchangeClient;
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import com.everbit.everbit.trade.domain.ReconcileCursor;
+import com.everbit.everbit.trade.domain.ReconcileCursorId;
+import com.everbit.everbit.trade.repository.ReconcileCursorRepository;
+import com.everbit.everbit.user.application.DecryptedUpbitCredentials;
+import com.everbit.everbit.user.application.UpbitKeyService;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * 종료 주문 이력 백필(reconcile). 마지막 reconcile_cursor 위치부터 현재까지 오래된 순으로 sink에 넘긴다.
+ * 위치는 페이지 단위로 저장하므로 중단되면 마지막 저장 이후 페이지만 다시 읽는다(sink는 멱등이어야 함).
+ * Upbit 호출이 길게 이어지므로 트랜잭션 밖에서 돌고, 위치 저장만 개별 트랜잭션으로 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ClosedOrderBackfillService {
+
+	private final UpbitExchangeClient upbitExchangeClient;
+	private final UpbitKeyService upbitKeyService;
+	private final ReconcileCursorRepository reconcileCursorRepository;
+	private final Clock clock;
+
+	/**
+	 * @param initialFrom 저장된 위치가 없을 때 시작 시각
+	 * @return sink에 넘긴 주문 수
+	 */
+	public long backfill(@NonNull Long ownerId, @NonNull String market, @NonNull Instant initialFrom,
+		Consumer<? super OrderResponse> sink) {
+		DecryptedUpbitCredentials credentials = upbitKeyService.getDecryptedCredentials(ownerId)
+			.orElseThrow(() -> new IllegalStateException("Upbit key not registered: ownerId=" + ownerId));
+		ReconcileCursorId id = new ReconcileCursorId(ownerId, market);
+		ClosedOrderCursor.Position start = reconcileCursorRepository.findById(id)
+			.map(c -> new ClosedOrderCursor.Position(c.getCursorTime(), c.boundaryUuidSet()))
+			.orElseGet(() -> ClosedOrderCursor.Position.startingAt(initialFrom));
+
+		ClosedOrderCursor cursor = upbitExchangeClient.closedOrderCursor(
+			credentials.accessKey(), credentials.secretKey(), market, start, clock.instant(),
+			position -> saveCheckpoint(id, position));
+		long count = 0;
+		while (cursor.hasNext()) {
+			sink.accept(cursor.next());
+			count++;
+		}
+		log.info("Closed order backfill done: ownerId={}, market={}, orders={}, position={}",
+			ownerId, market, count, cursor.position().from());
+		return count;
+	}
+
+	private void saveCheckpoint(ReconcileCursorId id, ClosedOrderCursor.Position position) {
+		ReconcileCursor saved = reconcileCursorRepository.findById(id)
+			.orElseGet(() -> ReconcileCursor.create(id.getOwnerId(), id.getMarket(), position.from()));
+		saved.advance(position.from(), position.boundaryUuids());
+		reconcileCursorRepository.save(saved);
+	}
+}
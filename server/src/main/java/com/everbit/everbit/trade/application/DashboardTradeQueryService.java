@@ -1,5 +1,6 @@
 package com.everbit.everbit.trade.application;
 
+import com.everbit.everbit.integrations.upbit.UpbitCircuitBreaker;
 import com.everbit.everbit.trade.domain.OrderAttemptStatus;
 import com.everbit.everbit.trade.repository.OrderAttemptRepository;
 import com.everbit.everbit.trade.repository.PnlSnapshotRepository;
@@ -23,6 +24,7 @@ public class DashboardTradeQueryService {
 
 	private final OrderAttemptRepository orderAttemptRepository;
 	private final PnlSnapshotRepository pnlSnapshotRepository;
+	private final UpbitCircuitBreaker upbitCircuitBreaker;
 
 	@Transactional(readOnly = true)
 	public DashboardRiskSummary getRiskSummary(Long ownerId, List<String> suspendedMarkets) {
@@ -33,7 +35,7 @@ public class DashboardTradeQueryService {
 			ownerId, OrderAttemptStatus.UNKNOWN, since);
 		return DashboardRiskSummary.builder()
 			.throttled429Count24h(throttled)
-			.blocked418Until(null)
+			.blocked418Until(upbitCircuitBreaker.haltedUntil().map(Instant::toString).orElse(null))
 			.unknownAttempts24h(unknown)
 			.suspendedMarkets(suspendedMarkets)
 			.build();
@@ -0,0 +1,35 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.trade.domain.Position;
+import com.everbit.everbit.trade.domain.PositionStatus;
+import com.everbit.everbit.trade.repository.PositionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 포지션 조회(신호 중재용 보유 마켓). SoT: docs/architecture/modular-monolith.md §3.3 (공개 API).
+ */
+@Service
+@RequiredArgsConstructor
+public class PositionQueryService {
+
+	private final PositionRepository positionRepository;
+
+	/**
+	 * @return owner → OPEN 포지션 마켓
+	 */
+	@Transactional(readOnly = true)
+	public Map<Long, Set<String>> findOpenMarkets() {
+		Map<Long, Set<String>> open = new HashMap<>();
+		for (Position position : positionRepository.findByStatus(PositionStatus.OPEN)) {
+			open.computeIfAbsent(position.getId().getOwnerId(), id -> new HashSet<>()).add(position.getId().getMarket());
+		}
+		return open;
+	}
+}
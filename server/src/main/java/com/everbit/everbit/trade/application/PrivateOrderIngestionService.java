@@ -0,0 +1,151 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.trade.PrivateStreamProperties;
+import com.everbit.everbit.trade.application.PrivateOrderUpdateWriter.PendingOrderUpdate;
+import com.everbit.everbit.trade.infrastructure.UpbitPrivateFrame;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * private WS myOrder → fill/upbit_order/position 묶음 반영. SoT: docs/integrations/upbit.md §7.3.
+ * WS 수신 스레드는 큐에 넣기만 하고, flush-interval마다 또는 batch-size가 차면 공용 {@link TaskScheduler} 스레드에서
+ * {@link PrivateOrderUpdateWriter}로 batch-size씩 한 트랜잭션에 쓴다.
+ * 묶음이 실패하면 같은 순서로 1건씩 다시 쓰고, 그래도 실패한 건은 버린다(종료 주문 백필 reconcile로 복구, §7.5).
+ * 쓰기가 밀려 큐가 MAX_PENDING을 넘으면 새 이벤트를 버린다(같은 방법으로 복구).
+ * 주기 flush는 trade.private-stream.enabled일 때만 돌고, 멈출 때 남은 큐를 비운다.
+ */
+@Slf4j
+@Service
+public class PrivateOrderIngestionService implements SmartLifecycle {
+
+	private static final int MAX_PENDING = 20_000;
+
+	private final PrivateStreamProperties properties;
+	private final PrivateOrderUpdateWriter writer;
+	private final TaskScheduler taskScheduler;
+	private final int batchSize;
+	private final ConcurrentLinkedQueue<PendingOrderUpdate> pending = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger pendingCount = new AtomicInteger();
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	private final Counter fills;
+	private final Counter updates;
+	private final Counter failures;
+	private final Counter dropped;
+	private final AtomicBoolean overflowLogged = new AtomicBoolean();
+
+	private ScheduledFuture<?> flushTask;
+	private volatile boolean running;
+
+	public PrivateOrderIngestionService(PrivateStreamProperties properties, PrivateOrderUpdateWriter writer,
+		TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.writer = writer;
+		this.taskScheduler = taskScheduler;
+		this.batchSize = properties.batchSize();
+		this.fills = Counter.builder("trade.private.fills")
+			.description("private WS로 새로 적재한 체결 수")
+			.register(meterRegistry);
+		this.updates = Counter.builder("trade.private.order.updates")
+			.description("반영한 myOrder 이벤트 수")
+			.register(meterRegistry);
+		this.failures = Counter.builder("trade.private.order.failures")
+			.description("단건 재시도까지 실패해 버린 myOrder 이벤트 수")
+			.register(meterRegistry);
+		this.dropped = Counter.builder("trade.private.order.dropped")
+			.description("적재 대기 초과로 버린 myOrder 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public synchronized void start() {
+		if (!properties.enabled()) {
+			return;
+		}
+		Duration interval = Duration.ofMillis(properties.flushIntervalMillis());
+		flushTask = taskScheduler.scheduleWithFixedDelay(this::flush,
+			taskScheduler.getClock().instant().plus(interval), interval);
+		running = true;
+	}
+
+	/**
+	 * private WS({@link PrivateStreamService})가 먼저 멈춘 뒤 호출되므로 남은 큐를 여기서 모두 쓴다.
+	 */
+	@Override
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		flushTask.cancel(false);
+		flush();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	public void enqueue(Long ownerId, UpbitPrivateFrame.MyOrder order) {
+		if (pendingCount.incrementAndGet() > MAX_PENDING) {
+			pendingCount.decrementAndGet();
+			dropped.increment();
+			if (overflowLogged.compareAndSet(false, true)) {
+				log.warn("Private order queue full, dropping updates until it drains: max={}", MAX_PENDING);
+			}
+			return;
+		}
+		pending.add(new PendingOrderUpdate(ownerId, order));
+		if (pendingCount.get() >= batchSize && flushRequested.compareAndSet(false, true)) {
+			taskScheduler.schedule(this::flush, taskScheduler.getClock().instant());
+		}
+	}
+
+
+	synchronized void flush() {
+		flushRequested.set(false);
+		while (true) {
+			List<PendingOrderUpdate> batch = new ArrayList<>(batchSize);
+			PendingOrderUpdate update;
+			while (batch.size() < batchSize && (update = pending.poll()) != null) {
+				batch.add(update);
+			}
+			if (batch.isEmpty()) {
+				overflowLogged.set(false);
+				return;
+			}
+			pendingCount.addAndGet(-batch.size());
+			try {
+				fills.increment(writer.apply(batch));
+				updates.increment(batch.size());
+			} catch (RuntimeException e) {
+				log.warn("Failed to apply private order batch, retrying one by one: size={}", batch.size(), e);
+				applyOneByOne(batch);
+			}
+		}
+	}
+
+	private void applyOneByOne(List<PendingOrderUpdate> batch) {
+		for (PendingOrderUpdate update : batch) {
+			try {
+				fills.increment(writer.apply(List.of(update)));
+				updates.increment();
+			} catch (RuntimeException e) {
+				failures.increment();
+				log.warn("Dropped private order update: ownerId={} uuid={} state={}",
+					update.ownerId(), update.order().upbitUuid(), update.order().state(), e);
+			}
+		}
+	}
+}
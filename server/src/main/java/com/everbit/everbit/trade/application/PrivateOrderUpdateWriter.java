@@ -0,0 +1,76 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.trade.domain.Fill;
+import com.everbit.everbit.trade.domain.Position;
+import com.everbit.everbit.trade.domain.PositionId;
+import com.everbit.everbit.trade.domain.UpbitOrder;
+import com.everbit.everbit.trade.infrastructure.UpbitPrivateFrame;
+import com.everbit.everbit.trade.repository.FillRepository;
+import com.everbit.everbit.trade.repository.PositionRepository;
+import com.everbit.everbit.trade.repository.UpbitOrderRepository;
+import com.everbit.everbit.user.domain.AppUser;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * private WS myOrder 묶음을 한 트랜잭션으로 반영. SoT: docs/integrations/upbit.md §7.3, docs/architecture/data-model.md §2.12~§2.14.
+ * 체결(state=trade)은 trade_uuid로 멱등 적재하고 처음 보는 체결만 포지션에 반영한다. 주문 상태/체결량은 되돌리지 않는다.
+ * 시스템 밖에서 낸 주문(upbit_order 없음)은 이벤트 값으로 만든다. 같은 묶음 안에서는 도착 순서대로 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PrivateOrderUpdateWriter {
+
+	/** 큐에 쌓인 myOrder 1건과 그 owner. */
+	public record PendingOrderUpdate(Long ownerId, UpbitPrivateFrame.MyOrder order) {}
+
+	private static final String SIDE_BID = "bid";
+
+	private final UpbitOrderRepository upbitOrderRepository;
+	private final FillRepository fillRepository;
+	private final PositionRepository positionRepository;
+	private final EntityManager entityManager;
+	private final Clock clock;
+
+	/**
+	 * @return 새로 적재한 체결 수
+	 */
+	@Transactional
+	public int apply(List<PendingOrderUpdate> updates) {
+		Set<UUID> seenTrades = new HashSet<>();
+		int inserted = 0;
+		for (PendingOrderUpdate update : updates) {
+			UpbitPrivateFrame.MyOrder event = update.order();
+			AppUser owner = entityManager.getReference(AppUser.class, update.ownerId());
+			UpbitOrder order = upbitOrderRepository.findByUpbitUuid(event.upbitUuid())
+				.orElseGet(() -> upbitOrderRepository.save(UpbitOrder.create(owner, event.upbitUuid(), event.identifier(),
+					event.market(), side(event), event.ordType(), UpbitOrder.STATE_WAIT, null, null)));
+			order.applyExecution(event.state(), event.executedVolume());
+			if (!event.isTrade() || event.price() == null || event.volume() == null
+				|| !seenTrades.add(event.tradeUuid()) || fillRepository.existsByTradeUuid(event.tradeUuid())) {
+				continue;
+			}
+			fillRepository.save(Fill.create(owner, order, event.tradeUuid(),
+				event.tradeTime() != null ? event.tradeTime() : clock.instant(),
+				event.price(), event.volume(), event.tradeFee()));
+			Position position = positionRepository.findById(new PositionId(update.ownerId(), order.getMarket()))
+				.orElseGet(() -> positionRepository.save(Position.flat(owner, order.getMarket())));
+			position.applyFill(SIDE_BID.equals(order.getSide()), event.price(), event.volume());
+			inserted++;
+		}
+		return inserted;
+	}
+
+	private static String side(UpbitPrivateFrame.MyOrder event) {
+		return event.side().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,217 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.integrations.upbit.UpbitExchangeClient;
+import com.everbit.everbit.integrations.upbit.UpbitJwtProvider;
+import com.everbit.everbit.integrations.upbit.dto.AccountResponse;
+import com.everbit.everbit.trade.PrivateStreamProperties;
+import com.everbit.everbit.trade.infrastructure.UpbitPrivateFrame;
+import com.everbit.everbit.trade.infrastructure.UpbitPrivateFrameDecoder;
+import com.everbit.everbit.trade.infrastructure.UpbitPrivateWebSocket;
+import com.everbit.everbit.user.application.DecryptedUpbitCredentials;
+import com.everbit.everbit.user.application.UpbitKeyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * private WS(myOrder/myAsset) 수집. SoT: docs/integrations/upbit.md §7.3, §7.4.
+ * Upbit 키가 등록된 owner마다 연결 하나를 유지한다(owner-refresh-seconds마다 키 등록/삭제/교체 반영, 공용 {@link TaskScheduler}).
+ * 연결(재연결 포함) 직후 /v1/accounts 스냅샷으로 잔고를 맞추고, 이후 myAsset 증분과 myOrder 체결로 갱신한다.
+ * myOrder는 {@link PrivateOrderIngestionService}로 넘겨 묶음 트랜잭션으로 반영하고,
+ * 잔고가 바뀌는 이벤트마다 REST 조회 캐시(/v1/accounts, /v1/orders/chance)를 버린다.
+ * trade.private-stream.enabled=false면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Service
+public class PrivateStreamService implements SmartLifecycle {
+
+	private final PrivateStreamProperties properties;
+	private final UpbitKeyService upbitKeyService;
+	private final UpbitExchangeClient upbitExchangeClient;
+	private final PrivateOrderIngestionService orderIngestionService;
+	private final AccountBalanceBook balanceBook;
+	private final Clock clock;
+	private final TaskScheduler taskScheduler;
+	private final UpbitPrivateFrameDecoder decoder = new UpbitPrivateFrameDecoder();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<Long, Connection> connections = new ConcurrentHashMap<>();
+	private final Counter frames;
+	private final Counter decodeErrors;
+	private final Counter snapshots;
+
+	private HttpClient httpClient;
+	private ScheduledFuture<?> refreshTask;
+	private volatile boolean running;
+
+	public PrivateStreamService(PrivateStreamProperties properties, UpbitKeyService upbitKeyService,
+		UpbitExchangeClient upbitExchangeClient, PrivateOrderIngestionService orderIngestionService,
+		AccountBalanceBook balanceBook, Clock clock, TaskScheduler taskScheduler, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.upbitKeyService = upbitKeyService;
+		this.upbitExchangeClient = upbitExchangeClient;
+		this.orderIngestionService = orderIngestionService;
+		this.balanceBook = balanceBook;
+		this.clock = clock;
+		this.taskScheduler = taskScheduler;
+		this.frames = Counter.builder("trade.private.ws.frames")
+			.description("수신한 private WS 프레임 수")
+			.register(meterRegistry);
+		this.decodeErrors = Counter.builder("trade.private.decode.errors")
+			.description("디코딩 실패 private 프레임 수")
+			.register(meterRegistry);
+		this.snapshots = Counter.builder("trade.private.account.snapshots")
+			.description("연결 직후 /v1/accounts 스냅샷 동기화 수")
+			.register(meterRegistry);
+		Gauge.builder("trade.private.ws.connected", connections,
+				c -> c.values().stream().filter(conn -> conn.socket.isConnected()).count())
+			.description("연결된 private WS 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public synchronized void start() {
+		if (!properties.enabled()) {
+			log.info("Private stream disabled");
+			return;
+		}
+		running = true;
+		httpClient = HttpClient.newHttpClient();
+		refreshTask = taskScheduler.scheduleWithFixedDelay(this::refreshOwners,
+			Duration.ofSeconds(properties.ownerRefreshSeconds()));
+		log.info("Private stream started");
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		refreshTask.cancel(false);
+		connections.values().forEach(c -> c.socket.close());
+		connections.clear();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * 스케줄러 스레드에서 호출. stop과 같은 락을 잡아 멈춘 뒤에 연결을 새로 열지 않는다.
+	 */
+	private synchronized void refreshOwners() {
+		if (!running) {
+			return;
+		}
+		try {
+			Set<Long> ownerIds = new HashSet<>(upbitKeyService.findOwnerIdsWithKey());
+			for (Long ownerId : List.copyOf(connections.keySet())) {
+				if (!ownerIds.contains(ownerId)) {
+					log.info("Upbit key removed, closing private WS: ownerId={}", ownerId);
+					closeConnection(ownerId);
+				}
+			}
+			for (Long ownerId : ownerIds) {
+				upbitKeyService.getDecryptedCredentials(ownerId).ifPresent(credentials -> {
+					Connection current = connections.get(ownerId);
+					if (current != null && current.accessKey.equals(credentials.accessKey())) {
+						return;
+					}
+					if (current != null) {
+						log.info("Upbit key rotated, reconnecting private WS: ownerId={}", ownerId);
+						closeConnection(ownerId);
+					}
+					openConnection(ownerId, credentials.accessKey());
+				});
+			}
+		} catch (RuntimeException e) {
+			log.warn("Failed to refresh private stream owners", e);
+		}
+	}
+
+	private void openConnection(Long ownerId, String accessKey) {
+		UpbitPrivateWebSocket socket = new UpbitPrivateWebSocket("owner-" + ownerId, URI.create(properties.url()),
+			httpClient, taskScheduler, Duration.ofSeconds(properties.pingIntervalSeconds()),
+			() -> {
+				DecryptedUpbitCredentials credentials = credentials(ownerId);
+				return UpbitJwtProvider.createToken(credentials.accessKey(), credentials.secretKey(), null);
+			},
+			() -> syncAccounts(ownerId),
+			(frame, offset, length) -> onFrame(ownerId, accessKey, frame, offset, length),
+			objectMapper);
+		connections.put(ownerId, new Connection(accessKey, socket));
+		socket.connect();
+	}
+
+	private void closeConnection(Long ownerId) {
+		Connection removed = connections.remove(ownerId);
+		if (removed != null) {
+			removed.socket.close();
+		}
+		balanceBook.clear(ownerId);
+	}
+
+	/**
+	 * 연결 직후 잔고 스냅샷(§7.4). myAsset은 첫 이벤트까지 지연될 수 있어 REST로 1회 맞춘다.
+	 */
+	void syncAccounts(Long ownerId) {
+		DecryptedUpbitCredentials credentials = credentials(ownerId);
+		upbitExchangeClient.invalidateCachedReads(credentials.accessKey());
+		Instant requestedAt = clock.instant();
+		List<AccountResponse> accounts = upbitExchangeClient.getAccounts(credentials.accessKey(), credentials.secretKey());
+		balanceBook.applySnapshot(ownerId, accounts, requestedAt);
+		snapshots.increment();
+		log.info("Account snapshot synced: ownerId={} currencies={}", ownerId, accounts.size());
+	}
+
+	/**
+	 * WS 수신 스레드에서 호출. 디코딩만 하고 DB 쓰기는 큐로 넘긴다.
+	 */
+	void onFrame(Long ownerId, String accessKey, byte[] frame, int offset, int length) {
+		frames.increment();
+		UpbitPrivateFrame decoded;
+		try {
+			decoded = decoder.decode(frame, offset, length);
+		} catch (IOException | RuntimeException e) {
+			decodeErrors.increment();
+			log.debug("Failed to decode private frame: {}", e.getMessage());
+			return;
+		}
+		if (decoded instanceof UpbitPrivateFrame.MyOrder order) {
+			orderIngestionService.enqueue(ownerId, order);
+			if (order.isTrade()) {
+				upbitExchangeClient.invalidateCachedReads(accessKey);
+			}
+		} else if (decoded instanceof UpbitPrivateFrame.MyAsset asset) {
+			balanceBook.applyAssets(ownerId, asset, clock.instant());
+			upbitExchangeClient.invalidateCachedReads(accessKey);
+		}
+	}
+
+	private DecryptedUpbitCredentials credentials(Long ownerId) {
+		return upbitKeyService.getDecryptedCredentials(Objects.requireNonNull(ownerId))
+			.orElseThrow(() -> new IllegalStateException("Upbit key not registered: ownerId=" + ownerId));
+	}
+
+	private record Connection(String accessKey, UpbitPrivateWebSocket socket) {}
+}
@@ -0,0 +1,48 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.trade.domain.Signal;
+import com.everbit.everbit.trade.domain.SignalSide;
+import com.everbit.everbit.trade.repository.SignalRepository;
+import com.everbit.everbit.user.domain.AppUser;
+import com.fasterxml.jackson.databind.JsonNode;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Signal 기록(멱등). SoT: docs/architecture/order-pipeline.md §3.2, §4.1.
+ * 전략 엔진이 캔들 close마다 낸 신호를 한 트랜잭션으로 넣는다. 유니크 제약에 걸리는 신호(재시작·재전달로 같은 캔들을
+ * 다시 평가한 경우)는 건너뛰고, 새로 들어간 신호만 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SignalService {
+
+	/** 기록할 신호 하나. strength는 0~1. */
+	public record SignalDraft(Long ownerId, String strategyKey, String market, String timeframe, Instant candleCloseTime,
+		SignalSide side, BigDecimal strength, String reasonCode, JsonNode signalJson) {}
+
+	/** 새로 기록된 신호. */
+	public record RecordedSignal(Long signalId, SignalDraft draft) {}
+
+	private final SignalRepository signalRepository;
+	private final EntityManager entityManager;
+
+	@Transactional
+	public List<RecordedSignal> record(List<SignalDraft> drafts) {
+		List<RecordedSignal> recorded = new ArrayList<>(drafts.size());
+		for (SignalDraft draft : drafts) {
+			AppUser owner = entityManager.getReference(AppUser.class, draft.ownerId());
+			Signal signal = Signal.create(owner, draft.strategyKey(), draft.market(), draft.timeframe(),
+				draft.candleCloseTime(), draft.side(), draft.strength(), draft.reasonCode(), draft.signalJson());
+			signalRepository.insertIfAbsent(signal).ifPresent(id -> recorded.add(new RecordedSignal(id, draft)));
+		}
+		return recorded;
+	}
+}
@@ -9,6 +9,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 
 /**
  * Position(마켓별 포지션). SoT: docs/architecture/data-model.md §2.12.
@@ -19,6 +20,9 @@ import java.math.BigDecimal;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Position extends BaseEntity {
 
+	/** avg_price 컬럼 scale과 같다. */
+	private static final int AVG_PRICE_SCALE = 18;
+
 	@EmbeddedId
 	private PositionId id;
 
@@ -71,4 +75,27 @@ public class Position extends BaseEntity {
 		this.avgPrice = avgPrice;
 		this.status = status;
 	}
+
+	/**
+	 * 체결 1건 반영. 매수는 수량 가중 평균단가를 다시 계산하고(수수료 제외), 매도는 평균단가를 유지한 채 수량만 줄인다.
+	 * 추적 이전 보유분을 팔아 수량이 음수가 되면 0(FLAT)으로 맞춘다.
+	 */
+	public void applyFill(boolean bid, BigDecimal price, BigDecimal volume) {
+		if (bid) {
+			BigDecimal newQuantity = quantity.add(volume);
+			this.avgPrice = quantity.multiply(avgPrice).add(price.multiply(volume))
+				.divide(newQuantity, AVG_PRICE_SCALE, RoundingMode.HALF_UP);
+			this.quantity = newQuantity;
+			this.status = PositionStatus.OPEN;
+			return;
+		}
+		BigDecimal remaining = quantity.subtract(volume);
+		if (remaining.signum() <= 0) {
+			this.quantity = BigDecimal.ZERO;
+			this.avgPrice = BigDecimal.ZERO;
+			this.status = PositionStatus.FLAT;
+			return;
+		}
+		this.quantity = remaining;
+	}
 }
@@ -0,0 +1,52 @@
+package com.everbit.everbit.trade.domain;
+
+import com.everbit.everbit.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 종료 주문 이력 조회 재개 위치(owner, market). SoT: docs/architecture/data-model.md §2.16.
+ * cursor_time 이후 주문 중 boundary_uuids(같은 시각에 이미 처리한 uuid, 콤마 구분)는 건너뛴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconcileCursor extends BaseEntity {
+
+	@EmbeddedId
+	private ReconcileCursorId id;
+
+	@Column(nullable = false)
+	private Instant cursorTime;
+
+	@Column(columnDefinition = "text")
+	private String boundaryUuids;
+
+	private ReconcileCursor(Long ownerId, String market, Instant cursorTime) {
+		this.id = new ReconcileCursorId(ownerId, market);
+		this.cursorTime = cursorTime;
+	}
+
+	public static ReconcileCursor create(Long ownerId, String market, Instant cursorTime) {
+		return new ReconcileCursor(ownerId, market, cursorTime);
+	}
+
+	public void advance(Instant cursorTime, Set<String> boundaryUuids) {
+		this.cursorTime = cursorTime;
+		this.boundaryUuids = boundaryUuids.isEmpty() ? null : String.join(",", boundaryUuids);
+	}
+
+	public Set<String> boundaryUuidSet() {
+		if (boundaryUuids == null || boundaryUuids.isEmpty()) {
+			return Set.of();
+		}
+		return Arrays.stream(boundaryUuids.split(",")).collect(Collectors.toUnmodifiableSet());
+	}
+}
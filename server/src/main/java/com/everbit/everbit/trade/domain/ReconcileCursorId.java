@@ -0,0 +1,31 @@
+package com.everbit.everbit.trade.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * reconcile_cursor 복합 PK. SoT: docs/architecture/data-model.md §2.16.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class ReconcileCursorId implements Serializable {
+
+	@Column(nullable = false)
+	private Long ownerId;
+
+	@Column(nullable = false, length = 32)
+	private String market;
+
+	public ReconcileCursorId(Long ownerId, String market) {
+		this.ownerId = ownerId;
+		this.market = market;
+	}
+}
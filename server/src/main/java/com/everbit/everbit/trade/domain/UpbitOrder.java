@@ -19,6 +19,11 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class UpbitOrder extends BaseEntity {
 
+	public static final String STATE_WAIT = "wait";
+	public static final String STATE_TRADE = "trade";
+	public static final String STATE_DONE = "done";
+	public static final String STATE_CANCEL = "cancel";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "upbit_order_id")
@@ -89,6 +94,23 @@ public class UpbitOrder extends BaseEntity {
 			.build();
 	}
 
+	/**
+	 * private WS myOrder 반영. 이벤트가 순서를 바꿔 와도 종료 상태(done/cancel)를 되돌리거나 체결량을 줄이지 않는다.
+	 * state=trade는 Upbit 주문 상태가 아니라 체결 알림이므로 상태는 그대로 두고 체결량만 올린다.
+	 */
+	public void applyExecution(String state, BigDecimal executedVolume) {
+		if (executedVolume != null && executedVolume.compareTo(this.executedVolume) > 0) {
+			this.executedVolume = executedVolume;
+		}
+		if (state != null && !STATE_TRADE.equals(state) && !isTerminal()) {
+			this.state = state;
+		}
+	}
+
+	public boolean isTerminal() {
+		return STATE_DONE.equals(state) || STATE_CANCEL.equals(state);
+	}
+
 	public void updateState(String state, BigDecimal executedVolume) {
 		this.state = state;
 		if (executedVolume != null) {
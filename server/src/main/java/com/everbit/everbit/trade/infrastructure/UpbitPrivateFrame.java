@@ -0,0 +1,45 @@
+package com.everbit.everbit.trade.infrastructure;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * private WS에서 디코딩한 프레임 1개. SoT: docs/integrations/upbit.md §7.3.
+ */
+public sealed interface UpbitPrivateFrame {
+
+	/**
+	 * myOrder. state=trade면 체결 1건이고 tradeUuid/price/volume/tradeFee가 그 체결 값이다.
+	 * 그 외 state(wait/watch/done/cancel)는 주문 상태 변경이며 tradeUuid는 null.
+	 */
+	record MyOrder(
+		UUID upbitUuid,
+		String identifier,
+		String market,
+		String side,
+		String ordType,
+		String state,
+		UUID tradeUuid,
+		BigDecimal price,
+		BigDecimal volume,
+		BigDecimal executedVolume,
+		BigDecimal tradeFee,
+		Instant tradeTime
+	) implements UpbitPrivateFrame {
+
+		public static final String STATE_TRADE = "trade";
+
+		public boolean isTrade() {
+			return STATE_TRADE.equals(state) && tradeUuid != null;
+		}
+	}
+
+	/**
+	 * myAsset. 바뀐 화폐의 잔고만 담긴다(증분).
+	 */
+	record MyAsset(List<Asset> assets, Instant assetTime) implements UpbitPrivateFrame {}
+
+	record Asset(String currency, BigDecimal balance, BigDecimal locked) {}
+}
@@ -0,0 +1,114 @@
+package com.everbit.everbit.trade.infrastructure;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Upbit private WS SIMPLE 포맷 프레임 디코더. SoT: docs/integrations/upbit.md §7.3.
+ * 주문/체결은 빈도가 낮아 트리로 읽고, 숫자는 BigDecimal로 그대로 받는다(가격·수량이 DB에 double 오차 없이 들어가도록).
+ * myOrder: ty, cd, uid, id, ab, ot, s, tuid, p, v, ev, tf, ttms, tms / myAsset: ty, ast[{cu, b, l}], asttms, tms.
+ * 모르는 ty, 오류 응답({"error":...}), 필수 값(uid, cd, ab, ot, s)이 없는 프레임은 null.
+ */
+public class UpbitPrivateFrameDecoder {
+
+	private static final String TYPE_MY_ORDER = "myOrder";
+	private static final String TYPE_MY_ASSET = "myAsset";
+
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+		.enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+		.build();
+
+	/**
+	 * @return 디코딩한 프레임, 처리 대상이 아니면 null
+	 * @throws IOException JSON 형식이 깨진 프레임
+	 */
+	public UpbitPrivateFrame decode(byte[] frame, int offset, int length) throws IOException {
+		JsonNode root = objectMapper.readTree(frame, offset, length);
+		if (root == null || !root.isObject()) {
+			return null;
+		}
+		String type = root.path("ty").asText(null);
+		if (TYPE_MY_ORDER.equals(type)) {
+			return decodeOrder(root);
+		}
+		if (TYPE_MY_ASSET.equals(type)) {
+			return decodeAsset(root);
+		}
+		return null;
+	}
+
+	private static UpbitPrivateFrame.MyOrder decodeOrder(JsonNode root) {
+		UUID upbitUuid = uuid(root, "uid");
+		String market = text(root, "cd");
+		String side = text(root, "ab");
+		String ordType = text(root, "ot");
+		String state = text(root, "s");
+		if (upbitUuid == null || market == null || side == null || ordType == null || state == null) {
+			return null;
+		}
+		return new UpbitPrivateFrame.MyOrder(
+			upbitUuid,
+			text(root, "id"),
+			market,
+			side,
+			ordType,
+			state,
+			uuid(root, "tuid"),
+			decimal(root, "p"),
+			decimal(root, "v"),
+			decimal(root, "ev"),
+			decimal(root, "tf"),
+			instant(root, root.hasNonNull("ttms") ? "ttms" : "tms"));
+	}
+
+	private static UpbitPrivateFrame.MyAsset decodeAsset(JsonNode root) {
+		JsonNode units = root.path("ast");
+		List<UpbitPrivateFrame.Asset> assets = new ArrayList<>(units.size());
+		for (JsonNode unit : units) {
+			String currency = text(unit, "cu");
+			if (currency != null) {
+				assets.add(new UpbitPrivateFrame.Asset(currency, decimal(unit, "b"), decimal(unit, "l")));
+			}
+		}
+		return new UpbitPrivateFrame.MyAsset(assets, instant(root, root.hasNonNull("asttms") ? "asttms" : "tms"));
+	}
+
+	private static String text(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		return value == null || value.isNull() ? null : value.asText();
+	}
+
+	private static BigDecimal decimal(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		if (value == null || value.isNull()) {
+			return null;
+		}
+		return value.isNumber() ? value.decimalValue() : new BigDecimal(value.asText());
+	}
+
+	private static UUID uuid(JsonNode node, String field) {
+		String value = text(node, field);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return UUID.fromString(value);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static Instant instant(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		return value == null || !value.canConvertToLong() ? null : Instant.ofEpochMilli(value.asLong());
+	}
+}
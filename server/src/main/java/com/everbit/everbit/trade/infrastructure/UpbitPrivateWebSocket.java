@@ -0,0 +1,67 @@
+package com.everbit.everbit.trade.infrastructure;
+
+import com.everbit.everbit.integrations.upbit.UpbitWebSocketConnection;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Upbit private WebSocket 연결 하나(키 하나당 하나, myOrder + myAsset). SoT: docs/integrations/upbit.md §3.2, §7.
+ * 연결할 때마다 tokenSupplier로 새 JWT를 받아 Authorization 헤더에 싣고, 구독 메시지를 보낸 뒤 onConnected를 호출한다
+ * (호출 측은 여기서 /v1/accounts 스냅샷을 맞춘다, §7.4).
+ * ping/유휴 감지/재연결 백오프는 공개 시세 연결과 같은 {@link UpbitWebSocketConnection}을 쓴다(§7.2).
+ */
+public class UpbitPrivateWebSocket extends UpbitWebSocketConnection {
+
+	private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+	private final Supplier<String> tokenSupplier;
+	private final Runnable connectedCallback;
+	private final ObjectMapper objectMapper;
+
+	public UpbitPrivateWebSocket(String name, URI uri, HttpClient httpClient, TaskScheduler scheduler,
+		Duration pingInterval, Supplier<String> tokenSupplier, Runnable onConnected, FrameHandler handler,
+		ObjectMapper objectMapper) {
+		super("Private " + name, uri, httpClient, scheduler, pingInterval, INITIAL_BUFFER_SIZE, handler);
+		this.tokenSupplier = tokenSupplier;
+		this.connectedCallback = onConnected;
+		this.objectMapper = objectMapper;
+	}
+
+	public void connect() {
+		start();
+	}
+
+	@Override
+	protected void configure(WebSocket.Builder builder) {
+		builder.header("Authorization", "Bearer " + tokenSupplier.get());
+	}
+
+	@Override
+	protected void onConnected() {
+		connectedCallback.run();
+	}
+
+	@Override
+	protected void sendSubscription(WebSocket ws) {
+		List<Object> request = List.of(
+			Map.of("ticket", "everbit-private-" + UUID.randomUUID()),
+			Map.of("type", "myOrder", "codes", List.of()),
+			Map.of("type", "myAsset"),
+			Map.of("format", "SIMPLE"));
+		try {
+			ws.sendText(objectMapper.writeValueAsString(request), true);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Failed to build private subscription", e);
+		}
+	}
+}
@@ -0,0 +1,14 @@
+package com.everbit.everbit.trade.repository;
+
+import com.everbit.everbit.trade.domain.Fill;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+/**
+ * 체결 저장소. SoT: docs/architecture/data-model.md §2.13. trade_uuid가 멱등키.
+ */
+public interface FillRepository extends JpaRepository<Fill, Long> {
+
+	boolean existsByTradeUuid(UUID tradeUuid);
+}
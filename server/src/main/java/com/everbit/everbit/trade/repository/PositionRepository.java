@@ -0,0 +1,16 @@
+package com.everbit.everbit.trade.repository;
+
+import com.everbit.everbit.trade.domain.Position;
+import com.everbit.everbit.trade.domain.PositionId;
+import com.everbit.everbit.trade.domain.PositionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 마켓별 포지션 저장소. SoT: docs/architecture/data-model.md §2.14.
+ */
+public interface PositionRepository extends JpaRepository<Position, PositionId> {
+
+	List<Position> findByStatus(PositionStatus status);
+}
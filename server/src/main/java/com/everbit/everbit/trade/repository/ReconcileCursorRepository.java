@@ -0,0 +1,11 @@
+package com.everbit.everbit.trade.repository;
+
+import com.everbit.everbit.trade.domain.ReconcileCursor;
+import com.everbit.everbit.trade.domain.ReconcileCursorId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * 종료 주문 이력 조회 재개 위치 저장소. SoT: docs/architecture/data-model.md §2.16.
+ */
+public interface ReconcileCursorRepository extends JpaRepository<ReconcileCursor, ReconcileCursorId> {
+}
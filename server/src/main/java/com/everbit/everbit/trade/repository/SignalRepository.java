@@ -0,0 +1,11 @@
+package com.everbit.everbit.trade.repository;
+
+import com.everbit.everbit.trade.domain.Signal;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Signal 저장소. SoT: docs/architecture/data-model.md §2.9.
+ * UNIQUE(owner_id, strategy_key, market, timeframe, candle_close_time, side)가 멱등키.
+ */
+public interface SignalRepository extends JpaRepository<Signal, Long>, SignalRepositoryCustom {
+}
@@ -0,0 +1,18 @@
+package com.everbit.everbit.trade.repository;
+
+import com.everbit.everbit.trade.domain.Signal;
+
+import java.util.Optional;
+
+/**
+ * 멱등 키 충돌을 예외 없이 건너뛰는 Signal 적재. SoT: docs/architecture/order-pipeline.md §4.1.
+ */
+public interface SignalRepositoryCustom {
+
+	/**
+	 * 같은 (owner, strategy_key, market, timeframe, candle_close_time, side)가 이미 있으면 아무것도 하지 않는다.
+	 *
+	 * @return 새로 넣었으면 signal_id
+	 */
+	Optional<Long> insertIfAbsent(Signal signal);
+}
@@ -0,0 +1,54 @@
+package com.everbit.everbit.trade.repository;
+
+import com.everbit.everbit.trade.domain.Signal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.time.Clock;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JdbcTemplate 기반 Signal 적재(INSERT ... ON CONFLICT DO NOTHING RETURNING).
+ * 유니크 제약 위반을 예외로 받으면 Postgres 트랜잭션이 중단되므로, 충돌은 SQL에서 건너뛰고 새 행일 때만 id를 돌려받는다.
+ * SoT: docs/architecture/spring-boot-conventions.md §8.1.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SignalRepositoryCustomImpl implements SignalRepositoryCustom {
+
+	private static final String INSERT_SQL = """
+		insert into signal (public_id, owner_id, strategy_key, market, timeframe, candle_close_time, side, strength,
+		  reason_code, signal_json, created_at, updated_at)
+		values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?)
+		on conflict (owner_id, strategy_key, market, timeframe, candle_close_time, side) do nothing
+		returning signal_id
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final Clock clock;
+
+	@Override
+	public Optional<Long> insertIfAbsent(Signal signal) {
+		OffsetDateTime now = OffsetDateTime.now(clock.withZone(ZoneOffset.UTC));
+		List<Long> ids = jdbcTemplate.query(INSERT_SQL, ps -> {
+			ps.setObject(1, signal.getPublicId());
+			ps.setLong(2, signal.getOwner().getId());
+			ps.setString(3, signal.getStrategyKey());
+			ps.setString(4, signal.getMarket());
+			ps.setString(5, signal.getTimeframe());
+			ps.setObject(6, signal.getCandleCloseTime().atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+			ps.setString(7, signal.getSide().name());
+			ps.setBigDecimal(8, signal.getStrength());
+			ps.setString(9, signal.getReasonCode());
+			ps.setString(10, signal.getSignalJson() == null ? null : signal.getSignalJson().toString());
+			ps.setObject(11, now, Types.TIMESTAMP_WITH_TIMEZONE);
+			ps.setObject(12, now, Types.TIMESTAMP_WITH_TIMEZONE);
+		}, (rs, rowNum) -> rs.getLong(1));
+		return ids.stream().findFirst();
+	}
+}
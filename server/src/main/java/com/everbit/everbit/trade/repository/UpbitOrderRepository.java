@@ -0,0 +1,15 @@
+package com.everbit.everbit.trade.repository;
+
+import com.everbit.everbit.trade.domain.UpbitOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Upbit 주문 실체 저장소. SoT: docs/architecture/data-model.md §2.12.
+ */
+public interface UpbitOrderRepository extends JpaRepository<UpbitOrder, Long> {
+
+	Optional<UpbitOrder> findByUpbitUuid(UUID upbitUuid);
+}
@@ -1,6 +1,8 @@
 package com.everbit.everbit.user.application;
 
 import com.everbit.everbit.global.crypto.AesGcmUpbitKeyCrypto;
+import com.everbit.everbit.integrations.upbit.UpbitJwtSignerCache;
+import com.everbit.everbit.integrations.upbit.UpbitReadCoalescer;
 import com.everbit.everbit.user.domain.AppUser;
 import com.everbit.everbit.user.domain.UpbitKey;
 import com.everbit.everbit.user.repository.AppUserRepository;
@@ -10,6 +12,7 @@ import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -22,6 +25,8 @@ public class UpbitKeyService {
 	private final UpbitKeyRepository upbitKeyRepository;
 	private final AppUserRepository appUserRepository;
 	private final AesGcmUpbitKeyCrypto upbitKeyCrypto;
+	private final UpbitJwtSignerCache upbitJwtSignerCache;
+	private final UpbitReadCoalescer upbitReadCoalescer;
 
 	public Optional<DecryptedUpbitCredentials> getDecryptedCredentials(@NonNull Long ownerId) {
 		return upbitKeyRepository.findById(ownerId)
@@ -31,6 +36,13 @@ public class UpbitKeyService {
 			));
 	}
 
+	/**
+	 * 키가 등록된 owner 전체. private WS처럼 키마다 연결을 유지하는 쪽에서 주기적으로 읽는다.
+	 */
+	public List<Long> findOwnerIdsWithKey() {
+		return upbitKeyRepository.findAllOwnerIds();
+	}
+
 	public boolean hasKey(@NonNull Long ownerId) {
 		return upbitKeyRepository.findById(ownerId).isPresent();
 	}
@@ -43,13 +55,28 @@ public class UpbitKeyService {
 		byte[] secretEnc = upbitKeyCrypto.encrypt(secretKeyPlain);
 		upbitKeyRepository.findById(ownerId)
 			.ifPresentOrElse(
-				k -> k.rotate(accessEnc, secretEnc, KEY_VERSION),
+				k -> {
+					invalidateCaches(upbitKeyCrypto.decrypt(k.getAccessKeyEnc()));
+					k.rotate(accessEnc, secretEnc, KEY_VERSION);
+				},
 				() -> upbitKeyRepository.save(Objects.requireNonNull(UpbitKey.create(owner, accessEnc, secretEnc, KEY_VERSION)))
 			);
+		// 같은 access key로 secret만 바꿔 등록한 경우 이전 secret으로 캐시된 조회 결과를 쓰지 않도록
+		invalidateCaches(accessKeyPlain);
 	}
 
 	@Transactional
 	public void delete(@NonNull Long ownerId) {
+		upbitKeyRepository.findById(ownerId)
+			.ifPresent(k -> invalidateCaches(upbitKeyCrypto.decrypt(k.getAccessKeyEnc())));
 		upbitKeyRepository.deleteById(ownerId);
 	}
+
+	/**
+	 * 교체/삭제되는 키의 캐시된 JWT 서명기(Mac에 secret이 남지 않도록)와 조회 캐시를 버린다.
+	 */
+	private void invalidateCaches(String accessKey) {
+		upbitJwtSignerCache.invalidate(accessKey);
+		upbitReadCoalescer.invalidate(accessKey);
+	}
 }
@@ -2,11 +2,16 @@ package com.everbit.everbit.user.repository;
 
 import com.everbit.everbit.user.domain.UpbitKey;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UpbitKeyRepository extends JpaRepository<UpbitKey, Long> {
 
 	@Override
 	Optional<UpbitKey> findById(Long ownerId);
+
+	@Query("select k.ownerId from UpbitKey k")
+	List<Long> findAllOwnerIds();
 }
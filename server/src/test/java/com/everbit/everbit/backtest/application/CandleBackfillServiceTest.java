@@ -0,0 +1,121 @@
+package com.everbit.everbit.backtest.application;
+
+import com.everbit.everbit.backtest.domain.CandleBackfillCursor;
+import com.everbit.everbit.backtest.domain.CandleCache;
+import com.everbit.everbit.backtest.repository.CandleBackfillCursorRepository;
+import com.everbit.everbit.backtest.repository.CandleCacheRepository;
+import com.everbit.everbit.integrations.upbit.UpbitQuotationClient;
+import com.everbit.everbit.integrations.upbit.dto.CandleResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캔들 백필의 누락 구간 계산·진행 위치 검증. SoT: docs/architecture/data-model.md §5.3.
+ */
+class CandleBackfillServiceTest {
+
+	private static final String MARKET = "KRW-BTC";
+	private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+	private static final Duration M15 = Duration.ofMinutes(15);
+
+	private final UpbitQuotationClient quotationClient = mock(UpbitQuotationClient.class);
+	private final CandleCacheRepository candleCacheRepository = mock(CandleCacheRepository.class);
+	private final CandleBackfillCursorRepository cursorRepository = mock(CandleBackfillCursorRepository.class);
+	private final CandleBackfillService service = new CandleBackfillService(quotationClient, candleCacheRepository,
+		cursorRepository, Clock.fixed(T0.plus(Duration.ofDays(1)), ZoneOffset.UTC), new SimpleMeterRegistry());
+
+	@Test
+	void 이미_있는_캔들을_빼고_빠진_것만_쓰고_받은_구간을_남김() {
+		// (T0, T0+2h] → 종료 시각 8개, 그중 3개는 이미 있음
+		when(candleCacheRepository.findCandleTimes(eq(MARKET), eq("15"), any(), any()))
+			.thenReturn(List.of(T0.plus(M15), T0.plus(M15.multipliedBy(4)), T0.plus(M15.multipliedBy(8))));
+		when(cursorRepository.findById(any())).thenReturn(Optional.empty());
+		when(cursorRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+		when(quotationClient.streamCandles(eq(MARKET), eq(15), eq(T0.plus(Duration.ofHours(2))), eq(8), any()))
+			.thenAnswer(inv -> {
+				Consumer<CandleResponse> consumer = inv.getArgument(4);
+				// 최신순, 구간 밖(더 오래된) 캔들 1개 포함
+				for (int i = 7; i >= -1; i--) {
+					consumer.accept(candle(T0.plus(M15.multipliedBy(i))));
+				}
+				return 9;
+			});
+
+		CandleBackfillService.SeriesResult result = service.backfillSeries(MARKET, 15, T0, T0.plus(Duration.ofHours(2)));
+
+		assertThat(result.requests()).isEqualTo(1);
+		assertThat(result.written()).isEqualTo(5);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<CandleCache>> written = ArgumentCaptor.forClass(List.class);
+		verify(candleCacheRepository).upsertAll(written.capture());
+		assertThat(written.getValue()).extracting(c -> c.getId().getCandleTime())
+			.doesNotContain(T0, T0.plus(M15), T0.plus(M15.multipliedBy(4)), T0.plus(M15.multipliedBy(8)))
+			.hasSize(5);
+		ArgumentCaptor<CandleBackfillCursor> cursor = ArgumentCaptor.forClass(CandleBackfillCursor.class);
+		verify(cursorRepository).save(cursor.capture());
+		assertThat(cursor.getValue().getCoveredFrom()).isEqualTo(T0.plus(M15));
+		assertThat(cursor.getValue().getCoveredTo()).isEqualTo(T0.plus(Duration.ofHours(2)));
+	}
+
+	@Test
+	void 진행_위치가_덮는_구간은_다시_요청하지_않음() {
+		when(candleCacheRepository.findCandleTimes(eq(MARKET), eq("15"), any(), any())).thenReturn(List.of());
+		when(cursorRepository.findById(any())).thenReturn(Optional.of(
+			CandleBackfillCursor.create(MARKET, "15", T0, T0.plus(Duration.ofDays(1)))));
+
+		CandleBackfillService.SeriesResult result = service.backfillSeries(MARKET, 15, T0, T0.plus(Duration.ofHours(2)));
+
+		assertThat(result.requests()).isZero();
+		verify(quotationClient, never()).streamCandles(any(), anyInt(), any(), anyInt(), any());
+	}
+
+	@Test
+	void 이미_있는_캔들은_조각_구간만큼만_읽음() {
+		// (T0, T0+300*15m] → 조각 2개: 종료 시각 1..200, 201..300
+		when(candleCacheRepository.findCandleTimes(eq(MARKET), eq("15"), any(), any())).thenAnswer(inv -> {
+			List<Instant> times = new ArrayList<>();
+			for (Instant end = inv.getArgument(2); !end.isAfter(inv.getArgument(3)); end = end.plus(M15)) {
+				times.add(end);
+			}
+			return times;
+		});
+		when(cursorRepository.findById(any())).thenReturn(Optional.empty());
+		when(cursorRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+
+		CandleBackfillService.SeriesResult result = service.backfillSeries(MARKET, 15, T0, T0.plus(M15.multipliedBy(300)));
+
+		assertThat(result.requests()).isZero();
+		verify(candleCacheRepository).findCandleTimes(MARKET, "15", T0.plus(M15), T0.plus(M15.multipliedBy(200)));
+		verify(candleCacheRepository).findCandleTimes(MARKET, "15", T0.plus(M15.multipliedBy(201)),
+			T0.plus(M15.multipliedBy(300)));
+		verify(candleCacheRepository, times(2)).findCandleTimes(any(), any(), any(), any());
+	}
+
+	private static CandleResponse candle(Instant start) {
+		BigDecimal price = new BigDecimal("95000000");
+		return new CandleResponse(MARKET, LocalDateTime.ofInstant(start, ZoneOffset.UTC), price, price, price, price,
+			start.toEpochMilli(), new BigDecimal("1.5"));
+	}
+}
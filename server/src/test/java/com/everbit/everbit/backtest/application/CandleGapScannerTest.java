@@ -0,0 +1,118 @@
+package com.everbit.everbit.backtest.application;
+
+import com.everbit.everbit.backtest.domain.CandleBackfillCursor;
+import com.everbit.everbit.backtest.repository.CandleBackfillCursorRepository;
+import com.everbit.everbit.backtest.repository.CandleCacheRepository;
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캔들 구멍 검사의 체결 없음 확정·watermark 이동. SoT: docs/integrations/upbit.md §7.9.
+ */
+class CandleGapScannerTest {
+
+	private static final String MARKET = "KRW-BTC";
+	private static final Duration H1 = Duration.ofHours(1);
+	/** 마지막 실시간 캔들. 첫 검사 구간은 2일 전부터 이 시각까지(1시간봉 48개). */
+	private static final Instant LAST = Instant.parse("2024-01-03T00:00:00Z");
+	private static final Instant FIRST = LAST.minus(Duration.ofDays(2)).plus(H1);
+
+	private final CandleBackfillService backfillService = mock(CandleBackfillService.class);
+	private final CandleCacheRepository candleCacheRepository = mock(CandleCacheRepository.class);
+	private final CandleBackfillCursorRepository cursorRepository = mock(CandleBackfillCursorRepository.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CandleGapScanner scanner = new CandleGapScanner(backfillService, candleCacheRepository,
+		cursorRepository, meterRegistry, new MarketDataProperties(true, null, 0, 0, 0, null, 0),
+		Clock.fixed(LAST.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+
+	@Test
+	void 떨어진_두_무체결_구간을_확정하고_다시_조회하지_않음() {
+		// 슬롯 5..7, 20..21이 비어 있고 REST로 다시 받아도 없음(체결 없음)
+		List<Instant> present = new ArrayList<>();
+		for (int slot = 0; slot < 48; slot++) {
+			if (!(slot >= 5 && slot <= 7) && !(slot >= 20 && slot <= 21)) {
+				present.add(at(slot));
+			}
+		}
+		when(candleCacheRepository.findCandleTimes(eq(MARKET), eq("60"), any(), any())).thenReturn(present);
+		// 재조회는 받은 구간을 진행 위치에 남긴다(CandleBackfillService.saveProgress와 같음)
+		AtomicReference<CandleBackfillCursor> cursor = new AtomicReference<>();
+		when(backfillService.backfillSeries(anyString(), anyInt(), any(), any())).thenAnswer(inv -> {
+			Instant from = inv.<Instant>getArgument(2).plus(H1);
+			Instant to = inv.getArgument(3);
+			if (cursor.get() == null) {
+				cursor.set(CandleBackfillCursor.create(MARKET, "60", from, to));
+			} else {
+				cursor.get().extend(from, to, H1);
+			}
+			return new CandleBackfillService.SeriesResult(1, 0);
+		});
+		when(cursorRepository.findById(any())).thenAnswer(inv -> Optional.ofNullable(cursor.get()));
+
+		scanner.onCandleClosed(closed(LAST));
+		scanner.scan(new CandleGapScanner.Series(MARKET, 60));
+		scanner.scan(new CandleGapScanner.Series(MARKET, 60));
+
+		verify(backfillService, times(1)).backfillSeries(MARKET, 60, at(4), at(7));
+		verify(backfillService, times(1)).backfillSeries(MARKET, 60, at(19), at(21));
+		assertThat(meterRegistry.get("candle.series.completeness").tag("market", MARKET).gauge().value())
+			.isEqualTo(1.0);
+		assertThat(meterRegistry.get("candle.gap.refills").counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void 검사는_백필_스레드로_넘기고_끝나기_전_주기는_건너뜀() {
+		when(candleCacheRepository.findCandleTimes(eq(MARKET), eq("60"), any(), any())).thenReturn(List.of());
+		when(backfillService.backfillSeries(anyString(), anyInt(), any(), any()))
+			.thenReturn(new CandleBackfillService.SeriesResult(1, 0));
+		when(cursorRepository.findById(any())).thenReturn(Optional.empty());
+		scanner.onCandleClosed(closed(LAST));
+
+		scanner.scanAll();
+		scanner.scanAll();
+
+		ArgumentCaptor<Runnable> pass = ArgumentCaptor.forClass(Runnable.class);
+		verify(backfillService, times(1)).submit(pass.capture());
+		verify(backfillService, never()).backfillSeries(anyString(), anyInt(), any(), any());
+
+		pass.getValue().run();
+		scanner.scanAll();
+
+		verify(backfillService, times(1)).backfillSeries(MARKET, 60, FIRST.minus(H1), LAST);
+		verify(backfillService, times(2)).submit(any());
+	}
+
+	private static Instant at(int slot) {
+		return FIRST.plus(H1.multipliedBy(slot));
+	}
+
+	private static CandleClosedEvent closed(Instant candleTime) {
+		BigDecimal price = BigDecimal.valueOf(50_000_000);
+		return new CandleClosedEvent(MARKET, "60", candleTime, price, price, price, price, BigDecimal.ONE,
+			candleTime.plus(H1), false);
+	}
+}
@@ -0,0 +1,52 @@
+package com.everbit.everbit.backtest.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 백필 진행 위치의 여러 구간 기억·합치기. SoT: docs/architecture/data-model.md §5.3.
+ */
+class CandleBackfillCursorTest {
+
+	private static final Instant T0 = Instant.parse("2024-01-01T00:00:00Z");
+	private static final Duration M15 = Duration.ofMinutes(15);
+
+	@Test
+	void 떨어진_구간을_받아도_앞서_받은_구간을_잊지_않음() {
+		CandleBackfillCursor cursor = CandleBackfillCursor.create("KRW-BTC", "15", at(5), at(7));
+		cursor.extend(at(20), at(21), M15);
+
+		assertThat(cursor.rangeCount()).isEqualTo(2);
+		assertThat(cursor.covers(at(5), at(7))).isTrue();
+		assertThat(cursor.covers(at(20), at(21))).isTrue();
+		assertThat(cursor.covers(at(7), at(20))).isFalse();
+		assertThat(cursor.getCoveredFrom()).isEqualTo(at(5));
+		assertThat(cursor.getCoveredTo()).isEqualTo(at(21));
+		// 슬롯 0..30 중 5..7, 20..21
+		assertThat(cursor.coveredSlots(at(0), at(30), M15)).isEqualTo(5);
+		assertThat(cursor.coveredSlots(at(6), at(20), M15)).isEqualTo(3);
+	}
+
+	@Test
+	void 한_주기_안으로_붙은_구간은_하나로_합침() {
+		CandleBackfillCursor cursor = CandleBackfillCursor.create("KRW-BTC", "15", at(5), at(7));
+		cursor.extend(at(20), at(21), M15);
+		cursor.extend(at(0), at(1), M15);
+		// 8..19가 채워지면 앞뒤 구간과 붙음
+		cursor.extend(at(8), at(19), M15);
+
+		assertThat(cursor.rangeCount()).isEqualTo(2);
+		assertThat(cursor.covers(at(5), at(21))).isTrue();
+		assertThat(cursor.covers(at(0), at(1))).isTrue();
+		assertThat(cursor.covers(at(1), at(5))).isFalse();
+		assertThat(cursor.coveredSlots(at(0), at(21), M15)).isEqualTo(19);
+	}
+
+	private static Instant at(int slot) {
+		return T0.plus(M15.multipliedBy(slot));
+	}
+}
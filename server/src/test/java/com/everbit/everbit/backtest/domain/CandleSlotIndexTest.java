@@ -0,0 +1,62 @@
+package com.everbit.everbit.backtest.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캔들 슬롯 비트맵의 빈 구간·완전성 계산. SoT: docs/integrations/upbit.md §7.9.
+ */
+class CandleSlotIndexTest {
+
+	private static final Instant T0 = Instant.parse("2024-01-01T00:15:00Z");
+	private static final Duration M15 = Duration.ofMinutes(15);
+
+	@Test
+	void 빈_슬롯을_연속_구간으로_묶음() {
+		// 슬롯 0..9 중 0, 3, 4, 9만 있음
+		CandleSlotIndex index = new CandleSlotIndex(T0, at(9), M15);
+		index.mark(at(0));
+		index.mark(at(3));
+		index.mark(at(4));
+		index.mark(at(9));
+
+		assertThat(index.slots()).isEqualTo(10);
+		assertThat(index.presentCount()).isEqualTo(4);
+		assertThat(index.completeness()).isEqualTo(0.4);
+		assertThat(index.firstMissing()).isEqualTo(at(1));
+		assertThat(index.missingRuns()).containsExactly(
+			new CandleSlotIndex.MissingRun(at(1), at(2), 2),
+			new CandleSlotIndex.MissingRun(at(5), at(8), 4));
+	}
+
+	@Test
+	void 구간_밖이나_정렬되지_않은_시각은_무시하고_끝까지_빈_구간도_잡음() {
+		CandleSlotIndex index = new CandleSlotIndex(T0, at(3), M15);
+		index.mark(at(-1));
+		index.mark(at(4));
+		index.mark(at(1).plusSeconds(1));
+		index.mark(at(0));
+
+		assertThat(index.presentCount()).isEqualTo(1);
+		assertThat(index.missingRuns()).containsExactly(new CandleSlotIndex.MissingRun(at(1), at(3), 3));
+	}
+
+	@Test
+	void 빠진_슬롯이_없으면_완전성_1() {
+		CandleSlotIndex index = new CandleSlotIndex(T0, at(1), M15);
+		index.mark(at(0));
+		index.mark(at(1));
+
+		assertThat(index.completeness()).isEqualTo(1d);
+		assertThat(index.missingRuns()).isEmpty();
+		assertThat(index.firstMissing()).isNull();
+	}
+
+	private static Instant at(int slot) {
+		return T0.plus(M15.multipliedBy(slot));
+	}
+}
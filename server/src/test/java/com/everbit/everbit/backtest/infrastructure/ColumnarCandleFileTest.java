@@ -0,0 +1,88 @@
+package com.everbit.everbit.backtest.infrastructure;
+
+import com.everbit.everbit.backtest.domain.CandleColumns;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 열 파일 추가·다시 열기·검증. SoT: docs/architecture/data-model.md §5.4.
+ */
+class ColumnarCandleFileTest {
+
+	private static final long T0 = 1_704_067_200_000L;
+	private static final long M15 = 900_000L;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void 추가한_행을_다시_열어도_같은_값으로_읽음() {
+		ColumnarCandleFile file = ColumnarCandleFile.open(dir);
+		file.append(batch(0, 3));
+		file.append(batch(3, 2));
+
+		ColumnarCandleFile reopened = ColumnarCandleFile.open(dir);
+		CandleColumns columns = reopened.columns();
+
+		assertThat(reopened.isValid()).isTrue();
+		assertThat(reopened.checksum()).isEqualTo(file.checksum());
+		assertThat(reopened.lastTimeMillis()).isEqualTo(T0 + 4 * M15);
+		assertThat(columns.size()).isEqualTo(5);
+		assertThat(columns.timeMillis(4)).isEqualTo(T0 + 4 * M15);
+		assertThat(columns.close(2)).isEqualTo(9_500_000_200_000_000L);
+		assertThat(columns.closePrice(2)).isEqualTo(95_000_002d);
+		assertThat(columns.volume(1)).isEqualTo(1.25);
+		assertThat(columns.lowerBound(T0 + 2 * M15)).isEqualTo(2);
+		assertThat(columns.lowerBound(T0 + 2 * M15 + 1)).isEqualTo(3);
+		assertThat(columns.lowerBound(T0 + 10 * M15)).isEqualTo(5);
+	}
+
+	@Test
+	void 커밋되지_않은_꼬리는_자르고_값이_바뀌면_무효() throws Exception {
+		ColumnarCandleFile file = ColumnarCandleFile.open(dir);
+		file.append(batch(0, 2));
+		try (FileChannel channel = FileChannel.open(dir.resolve("close"), StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(8), 16);
+		}
+
+		assertThat(ColumnarCandleFile.open(dir).isValid()).isTrue();
+		assertThat(Files.size(dir.resolve("close"))).isEqualTo(16);
+
+		try (FileChannel channel = FileChannel.open(dir.resolve("close"), StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.allocate(8), 8);
+		}
+		ColumnarCandleFile corrupted = ColumnarCandleFile.open(dir);
+		assertThat(corrupted.isValid()).isFalse();
+
+		corrupted.reset();
+		assertThat(corrupted.count()).isZero();
+		assertThat(corrupted.columns().size()).isZero();
+	}
+
+	@Test
+	void 마지막_시각_이전_행은_붙이지_않음() {
+		ColumnarCandleFile file = ColumnarCandleFile.open(dir);
+		file.append(batch(0, 2));
+
+		assertThatThrownBy(() -> file.append(batch(1, 1))).isInstanceOf(IllegalArgumentException.class);
+		assertThat(file.count()).isEqualTo(2);
+	}
+
+	private static ColumnarCandleFile.Batch batch(int fromSlot, int rows) {
+		ColumnarCandleFile.Batch batch = new ColumnarCandleFile.Batch(rows);
+		for (int i = fromSlot; i < fromSlot + rows; i++) {
+			long price = 9_500_000_000_000_000L + i * 100_000_000L;
+			batch.add(T0 + i * M15, price, price, price, price, 1 + i * 0.25);
+		}
+		return batch;
+	}
+}
@@ -0,0 +1,41 @@
+package com.everbit.everbit.global.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재생 속도 조절·가상 시계. SoT: docs/integrations/upbit.md §7.10.
+ */
+class ReplayPacerTest {
+
+	private static final long T0 = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+
+	@Test
+	void 가상_시계를_이벤트_시각으로_옮기고_뒤로는_가지_않음() {
+		VirtualClock clock = new VirtualClock(Instant.EPOCH);
+		ReplayPacer pacer = new ReplayPacer(ReplayPacer.MAX_SPEED, clock);
+
+		pacer.await(T0);
+		pacer.await(T0 + 60_000);
+		pacer.await(T0 + 30_000);
+
+		assertThat(clock.millis()).isEqualTo(T0 + 60_000);
+		assertThat(clock.withZone(ZoneId.of("Asia/Seoul")).millis()).isEqualTo(T0 + 60_000);
+	}
+
+	@Test
+	void 배속이면_기록_간격을_나눈_만큼_기다림() {
+		ReplayPacer pacer = new ReplayPacer(1000, Clock.systemUTC());
+
+		long started = System.nanoTime();
+		pacer.await(T0);
+		pacer.await(T0 + 50_000);
+
+		assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(50_000_000L);
+	}
+}
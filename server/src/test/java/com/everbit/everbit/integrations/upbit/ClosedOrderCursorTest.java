@@ -0,0 +1,122 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 종료 주문 커서 페이지/창 순회 검증. SoT: docs/integrations/upbit.md §5.1.3.
+ * 가짜 PageSource가 start_time~end_time(양끝 포함, Upbit처럼 초 단위) 범위를 오래된 순으로 limit만큼 돌려준다.
+ */
+class ClosedOrderCursorTest {
+
+	private static final Instant T0 = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final List<OrderResponse> history = new ArrayList<>();
+	private int requests;
+
+	private final ClosedOrderCursor.PageSource source = (query, sink) -> {
+		requests++;
+		List<OrderResponse> page = history.stream()
+			.filter(o -> !o.createdAt().toInstant().isBefore(query.startTime().truncatedTo(ChronoUnit.SECONDS))
+				&& !o.createdAt().toInstant().isAfter(query.endTime()))
+			.sorted(Comparator.comparing(OrderResponse::createdAt))
+			.limit(query.limit())
+			.toList();
+		page.forEach(sink);
+		return page.size();
+	};
+
+	@Test
+	void 가득_찬_페이지_경계의_같은_초_주문을_중복_누락_없이_순회() {
+		order("a", T0.plusSeconds(1));
+		order("b", T0.plusSeconds(2));
+		order("c", T0.plusSeconds(2));
+		order("d", T0.plusSeconds(3));
+
+		List<String> uuids = new ClosedOrderCursor(source, "KRW-BTC", ClosedOrderCursor.Position.startingAt(T0),
+			T0.plusSeconds(60), 2, p -> { })
+			.stream().map(OrderResponse::uuid).toList();
+
+		assertThat(uuids).containsExactly("a", "b", "c", "d");
+	}
+
+	@Test
+	void 칠일_창을_넘어_진행() {
+		order("a", T0.plusSeconds(10));
+		order("b", T0.plus(ClosedOrderCursor.MAX_WINDOW).plusSeconds(10));
+
+		List<String> uuids = new ClosedOrderCursor(source, "KRW-BTC", ClosedOrderCursor.Position.startingAt(T0),
+			T0.plus(ClosedOrderCursor.MAX_WINDOW.multipliedBy(2)), 10, p -> { })
+			.stream().map(OrderResponse::uuid).toList();
+
+		assertThat(uuids).containsExactly("a", "b");
+		assertThat(requests).isEqualTo(2);
+	}
+
+	@Test
+	void 저장된_위치에서_재개() {
+		order("a", T0.plusSeconds(1));
+		order("b", T0.plusSeconds(2));
+		order("c", T0.plusSeconds(2));
+		order("d", T0.plusSeconds(3));
+		List<ClosedOrderCursor.Position> checkpoints = new ArrayList<>();
+		ClosedOrderCursor first = new ClosedOrderCursor(source, "KRW-BTC", ClosedOrderCursor.Position.startingAt(T0),
+			T0.plusSeconds(60), 2, checkpoints::add);
+		first.next();
+		first.next();
+		first.hasNext();
+
+		ClosedOrderCursor.Position saved = checkpoints.get(checkpoints.size() - 1);
+		List<String> resumed = new ClosedOrderCursor(source, "KRW-BTC", saved, T0.plusSeconds(60), 2, p -> { })
+			.stream().map(OrderResponse::uuid).toList();
+
+		assertThat(saved.boundaryUuids()).containsExactly("b");
+		assertThat(resumed).containsExactly("c", "d");
+	}
+
+	@Test
+	void 창_끝과_같은_시각의_주문을_다음_창에서_다시_넘기지_않음() {
+		Instant windowEnd = T0.plus(ClosedOrderCursor.MAX_WINDOW);
+		order("a", T0.plusSeconds(10));
+		order("b", windowEnd);
+		order("c", windowEnd.plusSeconds(10));
+
+		List<String> uuids = new ClosedOrderCursor(source, "KRW-BTC", ClosedOrderCursor.Position.startingAt(T0),
+			T0.plus(ClosedOrderCursor.MAX_WINDOW.multipliedBy(2)), 10, p -> { })
+			.stream().map(OrderResponse::uuid).toList();
+
+		assertThat(uuids).containsExactly("a", "b", "c");
+	}
+
+	@Test
+	void 초_중간에_끝난_순회를_재개해도_마지막_초_주문을_다시_넘기지_않음() {
+		order("a", T0.plusSeconds(10));
+		order("b", T0.plusSeconds(20));
+		List<ClosedOrderCursor.Position> checkpoints = new ArrayList<>();
+		List<String> first = new ClosedOrderCursor(source, "KRW-BTC", ClosedOrderCursor.Position.startingAt(T0),
+			T0.plusMillis(10_500), 10, checkpoints::add)
+			.stream().map(OrderResponse::uuid).toList();
+
+		ClosedOrderCursor.Position saved = checkpoints.get(checkpoints.size() - 1);
+		List<String> resumed = new ClosedOrderCursor(source, "KRW-BTC", saved, T0.plusSeconds(60), 10, p -> { })
+			.stream().map(OrderResponse::uuid).toList();
+
+		assertThat(first).containsExactly("a");
+		assertThat(saved.boundaryUuids()).containsExactly("a");
+		assertThat(resumed).containsExactly("b");
+	}
+
+	private void order(String uuid, Instant createdAt) {
+		history.add(new OrderResponse(uuid, "bid", "limit", "1", "done", "KRW-BTC", createdAt.atOffset(ZoneOffset.UTC),
+			"1", "0", "0", "0", "0", "0", "1", "1", 1, null, null, null, null, null));
+	}
+}
@@ -0,0 +1,78 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.OrderRequest;
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import com.everbit.everbit.integrations.upbit.dto.ReplaceOrderRequest;
+import com.everbit.everbit.integrations.upbit.dto.ReplaceOrderResponse;
+import com.everbit.everbit.integrations.upbit.sim.UpbitSimulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ReactiveUpbitExchangeClient ↔ 로컬 시뮬레이터. 시뮬레이터는 이미 쓴 nonce를 401 nonce_used로 거절하므로,
+ * 같은 Mono를 다시 구독해도 성공하면 구독마다 JWT가 새로 서명된 것이다.
+ */
+class ReactiveUpbitExchangeClientSimulatorTest {
+
+	private UpbitSimulator simulator;
+	private ReactiveUpbitExchangeClient client;
+	private String accessKey;
+	private String secretKey;
+
+	@BeforeEach
+	void setUp() {
+		UpbitSimulator.Builder builder = UpbitSimulator.builder().fillStep(0);
+		accessKey = builder.accessKey();
+		secretKey = builder.secretKey();
+		simulator = builder.start();
+		UpbitProperties properties = new UpbitProperties(simulator.baseUrl(), 0, 0, 0, UpbitHttpTransport.SIMPLE,
+			0, 0, 0, 0, 0, 0, 0, 0, 0);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		client = new ReactiveUpbitExchangeClient(properties, WebClient.builder(),
+			new UpbitRateLimiter(properties, registry), new UpbitJwtSignerCache(),
+			new UpbitCircuitBreaker(properties, Clock.systemUTC(), event -> { }, registry));
+	}
+
+	@AfterEach
+	void tearDown() {
+		simulator.close();
+	}
+
+	@Test
+	void 주문_생성을_재구독하면_새_nonce로_다시_서명() {
+		Mono<OrderResponse> create = client.createOrder(accessKey, secretKey,
+			OrderRequest.createLimit("KRW-BTC", OrderRequest.SIDE_BID, "0.01", "50000000", null));
+
+		OrderResponse first = create.block();
+		OrderResponse second = create.block();
+
+		assertThat(first.uuid()).isNotEqualTo(second.uuid());
+	}
+
+	@Test
+	void 정정_주문을_재구독하면_새_nonce로_다시_서명() {
+		OrderResponse prev = client.createOrder(accessKey, secretKey,
+			OrderRequest.createLimit("KRW-BTC", OrderRequest.SIDE_BID, "0.01", "50000000", null)).block();
+		Mono<ReplaceOrderResponse> replace = client.replaceOrder(accessKey, secretKey,
+			new ReplaceOrderRequest(prev.uuid(), null, "limit", "remain_only", "49000000", null, null, null));
+
+		ReplaceOrderResponse replaced = replace.block();
+
+		// 이미 취소된 원주문이라 거절되지만, nonce 재사용(401)이 아니라 주문 상태 검사(400)까지 간다
+		assertThat(replaced).isNotNull();
+		assertThatThrownBy(replace::block)
+			.isInstanceOfSatisfying(UpbitApiException.class, e -> {
+				assertThat(e.getStatusCode().value()).isEqualTo(400);
+				assertThat(e.getResponseBody()).contains("order_not_cancelable");
+			});
+	}
+}
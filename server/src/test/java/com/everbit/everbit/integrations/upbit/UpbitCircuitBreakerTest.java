@@ -0,0 +1,180 @@
+package com.everbit.everbit.integrations.upbit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 그룹 회로와 418 전역 차단 검증. SoT: docs/integrations/upbit.md §4.3, §4.5.
+ * 임계치 5회, 열림 10초, 418 기본 차단 600초(UpbitProperties 기본값).
+ */
+class UpbitCircuitBreakerTest {
+
+	private final List<Object> events = new ArrayList<>();
+	private MutableClock clock;
+	private UpbitCircuitBreaker breaker;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		UpbitProperties properties = new UpbitProperties(null, 0, 0, 1, null, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+		breaker = new UpbitCircuitBreaker(properties, clock, events::add, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void 연속_5xx가_임계치에_닿으면_열리고_시험_호출_성공시_닫힘() {
+		for (int i = 0; i < 5; i++) {
+			breaker.beforeCall(UpbitRateLimitGroup.DEFAULT);
+			breaker.onResponse(UpbitRateLimitGroup.DEFAULT, 503, null);
+		}
+
+		assertThat(breaker.state(UpbitRateLimitGroup.DEFAULT)).isEqualTo(UpbitCircuitState.OPEN);
+		assertThatThrownBy(() -> breaker.beforeCall(UpbitRateLimitGroup.DEFAULT))
+			.isInstanceOf(UpbitCircuitOpenException.class);
+		breaker.beforeCall(UpbitRateLimitGroup.ORDER);
+
+		clock.advance(Duration.ofSeconds(10));
+		breaker.beforeCall(UpbitRateLimitGroup.DEFAULT);
+		assertThatThrownBy(() -> breaker.beforeCall(UpbitRateLimitGroup.DEFAULT))
+			.isInstanceOf(UpbitCircuitOpenException.class);
+		breaker.onResponse(UpbitRateLimitGroup.DEFAULT, 200, null);
+
+		assertThat(breaker.state(UpbitRateLimitGroup.DEFAULT)).isEqualTo(UpbitCircuitState.CLOSED);
+		assertThat(events).filteredOn(UpbitCircuitStateChangedEvent.class::isInstance)
+			.extracting(e -> ((UpbitCircuitStateChangedEvent) e).to())
+			.containsExactly(UpbitCircuitState.OPEN, UpbitCircuitState.HALF_OPEN, UpbitCircuitState.CLOSED);
+	}
+
+	@Test
+	void 클라이언트_오류는_실패로_세지_않음() {
+		for (int i = 0; i < 10; i++) {
+			breaker.beforeCall(UpbitRateLimitGroup.DEFAULT);
+			breaker.onResponse(UpbitRateLimitGroup.DEFAULT, i % 2 == 0 ? 400 : 429, null);
+		}
+
+		assertThat(breaker.state(UpbitRateLimitGroup.DEFAULT)).isEqualTo(UpbitCircuitState.CLOSED);
+	}
+
+	@Test
+	void 응답_418이면_모든_그룹을_수동_해제까지_막음() {
+		breaker.beforeCall(UpbitRateLimitGroup.ORDER);
+		breaker.onResponse(UpbitRateLimitGroup.ORDER, 418, "120");
+
+		assertThat(breaker.haltedUntil()).contains(clock.instant().plusSeconds(120));
+		assertThatThrownBy(() -> breaker.beforeCall(UpbitRateLimitGroup.DEFAULT))
+			.isInstanceOfSatisfying(UpbitCircuitOpenException.class, e -> assertThat(e.isHalted()).isTrue());
+
+		clock.advance(Duration.ofSeconds(120));
+		assertThatThrownBy(() -> breaker.beforeCall(UpbitRateLimitGroup.DEFAULT))
+			.isInstanceOfSatisfying(UpbitCircuitOpenException.class, e -> assertThat(e.isHalted()).isTrue());
+
+		breaker.clearHalt();
+		breaker.beforeCall(UpbitRateLimitGroup.DEFAULT);
+		assertThat(events).filteredOn(UpbitHaltChangedEvent.class::isInstance)
+			.extracting(e -> ((UpbitHaltChangedEvent) e).halted())
+			.containsExactly(true, false);
+	}
+
+	@Test
+	void 본문을_읽다_끊기는_응답이_이어지면_회로_열림() {
+		UpbitRestExecutor executor = executor(() -> new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("connection reset");
+			}
+		});
+
+		for (int i = 0; i < 5; i++) {
+			assertThatThrownBy(() -> executor.execute(UpbitRateLimitGroup.DEFAULT, HttpMethod.GET, this::prepared,
+				InputStream::readAllBytes, "Failed", false))
+				.isInstanceOf(UpbitException.class);
+		}
+
+		assertThat(breaker.state(UpbitRateLimitGroup.DEFAULT)).isEqualTo(UpbitCircuitState.OPEN);
+	}
+
+	@Test
+	void 응답_2xx_본문_해석_실패는_응답받은_호출로_기록() {
+		for (int i = 0; i < 5; i++) {
+			breaker.beforeCall(UpbitRateLimitGroup.DEFAULT);
+			breaker.onFailure(UpbitRateLimitGroup.DEFAULT);
+		}
+		clock.advance(Duration.ofSeconds(10));
+		UpbitRestExecutor executor = executor(() -> new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+
+		assertThatThrownBy(() -> executor.execute(UpbitRateLimitGroup.DEFAULT, HttpMethod.GET, this::prepared,
+			body -> {
+				throw new UpbitException("Unexpected Upbit response: expected JSON array");
+			}, "Failed", false))
+			.isInstanceOf(UpbitException.class)
+			.hasMessageContaining("expected JSON array");
+
+		// 시험 호출이 응답으로 기록되어 닫힌다(onNotSent였다면 HALF_OPEN에 머묾)
+		assertThat(breaker.state(UpbitRateLimitGroup.DEFAULT)).isEqualTo(UpbitCircuitState.CLOSED);
+	}
+
+	private UpbitRestExecutor executor(Supplier<InputStream> body) {
+		UpbitProperties properties = new UpbitProperties(null, 0, 0, 1000, null, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+		RestTemplate restTemplate = new RestTemplate((uri, method) -> {
+			MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+			request.setResponse(new MockClientHttpResponse(body.get(), HttpStatus.OK));
+			return request;
+		});
+		return new UpbitRestExecutor(restTemplate, new UpbitRateLimiter(properties, new SimpleMeterRegistry()), breaker);
+	}
+
+	private UpbitRestExecutor.Prepared prepared() {
+		return new UpbitRestExecutor.Prepared(URI.create("http://localhost/v1/accounts"), HttpEntity.EMPTY);
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.OrderRequest;
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import com.everbit.everbit.integrations.upbit.sim.UpbitSimulator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * UpbitExchangeClient ↔ 로컬 시뮬레이터 end-to-end. 서명/query_hash, 부분 체결, 418 차단 경로를 확인한다.
+ */
+class UpbitExchangeClientSimulatorTest {
+
+	private UpbitSimulator simulator;
+	private UpbitExchangeClient client;
+	private String accessKey;
+	private String secretKey;
+
+	@AfterEach
+	void tearDown() {
+		simulator.close();
+	}
+
+	@Test
+	void 지정가_주문이_조회마다_부분_체결되어_완료() {
+		start(UpbitSimulator.builder().fillStep(0.5));
+
+		OrderResponse created = client.createOrder(accessKey, secretKey,
+			OrderRequest.createLimit("KRW-BTC", OrderRequest.SIDE_BID, "0.01", "50000000", "intent-1"));
+		OrderResponse partial = client.getOrder(accessKey, secretKey, created.uuid(), null);
+		OrderResponse done = client.getOrder(accessKey, secretKey, null, "intent-1");
+
+		assertThat(partial.state()).isEqualTo("wait");
+		assertThat(new BigDecimal(partial.executedVolume())).isEqualByComparingTo("0.005");
+		assertThat(partial.trades()).hasSize(1);
+		assertThat(done.state()).isEqualTo("done");
+		assertThat(simulator.balance("BTC")).isEqualByComparingTo("0.01");
+		assertThat(client.getAccounts(accessKey, secretKey))
+			.anySatisfy(a -> assertThat(a.currency()).isEqualTo("BTC"));
+	}
+
+	@Test
+	void 배열_파라미터와_취소_이력_조회() {
+		start(UpbitSimulator.builder().fillStep(0));
+
+		OrderResponse first = client.createOrder(accessKey, secretKey,
+			OrderRequest.createLimit("KRW-BTC", OrderRequest.SIDE_BID, "0.01", "50000000", null));
+		OrderResponse second = client.createOrder(accessKey, secretKey,
+			OrderRequest.createLimit("KRW-BTC", OrderRequest.SIDE_BID, "0.01", "49000000", null));
+		client.cancelOrder(accessKey, secretKey, first.uuid(), null);
+
+		assertThat(client.getOrdersByUuids(accessKey, secretKey, null, List.of(first.uuid(), second.uuid())))
+			.extracting(OrderResponse::state)
+			.containsExactlyInAnyOrder("cancel", "wait");
+		assertThat(client.getOpenOrders(accessKey, secretKey, "KRW-BTC", List.of("wait", "watch")))
+			.extracting(OrderResponse::uuid)
+			.containsExactly(second.uuid());
+		assertThat(client.getClosedOrders(accessKey, secretKey, "KRW-BTC", null))
+			.extracting(OrderResponse::uuid)
+			.containsExactly(first.uuid());
+	}
+
+	@Test
+	void 응답_418_이후_호출은_로컬에서_차단() {
+		start(UpbitSimulator.builder());
+		simulator.blockFor(Duration.ofMinutes(5));
+
+		assertThatThrownBy(() -> client.getAccounts(accessKey, secretKey))
+			.isInstanceOfSatisfying(UpbitApiException.class, e -> assertThat(e.is418()).isTrue());
+		int requests = simulator.requestCount();
+
+		assertThatThrownBy(() -> client.getOrderChance(accessKey, secretKey, "KRW-BTC"))
+			.isInstanceOfSatisfying(UpbitCircuitOpenException.class, e -> assertThat(e.isHalted()).isTrue());
+		assertThat(simulator.requestCount()).isEqualTo(requests);
+	}
+
+	private void start(UpbitSimulator.Builder builder) {
+		accessKey = builder.accessKey();
+		secretKey = builder.secretKey();
+		simulator = builder.start();
+		UpbitProperties properties = new UpbitProperties(simulator.baseUrl(), 0, 0, 0, UpbitHttpTransport.SIMPLE,
+			0, 0, 0, 0, 0, 0, 0, 0, 0);
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		client = new UpbitExchangeClient(properties, new RestTemplate(), new UpbitRateLimiter(properties, registry),
+			new UpbitJwtSignerCache(), new UpbitReadCoalescer(registry),
+			new UpbitCircuitBreaker(properties, Clock.systemUTC(), event -> { }, registry));
+	}
+}
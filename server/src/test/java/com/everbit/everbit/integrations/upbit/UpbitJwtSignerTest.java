@@ -0,0 +1,73 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 캐시 서명기가 UpbitJwtProvider와 같은 규격의 토큰을 만드는지 검증. SoT: docs/integrations/upbit.md §3.1.
+ */
+class UpbitJwtSignerTest {
+
+	private static final String ACCESS = "access-key";
+	private static final String SECRET = "secret-key";
+
+	@Test
+	void query_hash_포함_토큰이_HS256으로_검증됨() {
+		String token = UpbitJwtSigner.of(ACCESS, SECRET).sign("market=KRW-BTC&side=bid");
+
+		DecodedJWT jwt = JWT.require(Algorithm.HMAC256(SECRET)).build().verify(token);
+
+		assertThat(jwt.getClaim("access_key").asString()).isEqualTo(ACCESS);
+		assertThat(jwt.getClaim("nonce").asString()).isNotBlank();
+		assertThat(jwt.getClaim("query_hash").asString())
+			.isEqualTo(UpbitJwtProvider.makeQueryHash("market=KRW-BTC&side=bid"));
+		assertThat(jwt.getClaim("query_hash_alg").asString()).isEqualTo("SHA512");
+	}
+
+	@Test
+	void query_없으면_query_hash_생략() {
+		DecodedJWT jwt = JWT.require(Algorithm.HMAC256(SECRET)).build()
+			.verify(UpbitJwtSigner.of(ACCESS, SECRET).sign(""));
+
+		assertThat(jwt.getClaim("query_hash").isMissing()).isTrue();
+	}
+
+	@Test
+	void 가상_스레드_동시_서명도_모두_검증됨() throws Exception {
+		UpbitJwtSigner signer = UpbitJwtSigner.of(ACCESS, SECRET);
+		List<Future<String>> tokens = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 200; i++) {
+				String query = "uuid=" + i;
+				tokens.add(executor.submit(() -> signer.sign(query)));
+			}
+		}
+
+		for (int i = 0; i < tokens.size(); i++) {
+			DecodedJWT jwt = JWT.require(Algorithm.HMAC256(SECRET)).build().verify(tokens.get(i).get());
+			assertThat(jwt.getClaim("query_hash").asString()).isEqualTo(UpbitJwtProvider.makeQueryHash("uuid=" + i));
+		}
+	}
+
+	@Test
+	void 캐시는_같은_키면_재사용하고_secret이_바뀌면_교체() {
+		UpbitJwtSignerCache cache = new UpbitJwtSignerCache();
+		UpbitJwtSigner first = cache.signerFor(ACCESS, SECRET);
+
+		assertThat(cache.signerFor(ACCESS, SECRET)).isSameAs(first);
+		assertThat(cache.signerFor(ACCESS, "rotated")).isNotSameAs(first);
+
+		cache.invalidate(ACCESS);
+		assertThat(cache.size()).isZero();
+	}
+}
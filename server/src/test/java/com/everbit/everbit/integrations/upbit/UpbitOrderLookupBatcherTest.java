@@ -0,0 +1,88 @@
+package com.everbit.everbit.integrations.upbit;
+
+import com.everbit.everbit.integrations.upbit.dto.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단건 주문 조회 묶음 처리 검증. SoT: docs/integrations/upbit.md §5.1.4.
+ */
+class UpbitOrderLookupBatcherTest {
+
+	private final List<List<String>> calls = new CopyOnWriteArrayList<>();
+	private UpbitOrderLookupBatcher batcher;
+
+	@AfterEach
+	void tearDown() {
+		batcher.shutdown();
+	}
+
+	@Test
+	void 창_안의_조회를_한_번에_보내고_uuid별로_분배() {
+		batcher = batcher(1000, 3, (a, s, uuids) -> {
+			calls.add(uuids);
+			return uuids.stream().filter(u -> !u.equals("missing")).map(this::order).toList();
+		});
+
+		CompletableFuture<Optional<OrderResponse>> a = batcher.lookup("ak", "sk", "a");
+		CompletableFuture<Optional<OrderResponse>> dup = batcher.lookup("ak", "sk", "a");
+		CompletableFuture<Optional<OrderResponse>> b = batcher.lookup("ak", "sk", "b");
+		CompletableFuture<Optional<OrderResponse>> missing = batcher.lookup("ak", "sk", "missing");
+
+		assertThat(a.join()).map(OrderResponse::uuid).contains("a");
+		assertThat(dup.join()).map(OrderResponse::uuid).contains("a");
+		assertThat(b.join()).map(OrderResponse::uuid).contains("b");
+		assertThat(missing.join()).isEmpty();
+		assertThat(calls).containsExactly(List.of("a", "b", "missing"));
+	}
+
+	@Test
+	void 호출_실패는_묶음_전체에_전달() {
+		batcher = batcher(10, 100, (a, s, uuids) -> {
+			throw new UpbitException("boom");
+		});
+
+		CompletableFuture<Optional<OrderResponse>> first = batcher.lookup("ak", "sk", "a");
+
+		assertThatThrownBy(() -> batcher.getOrder("ak", "sk", "b")).isInstanceOf(UpbitException.class);
+		assertThat(first).isCompletedExceptionally();
+	}
+
+	@Test
+	void 전송은_타이머_스레드가_아닌_별도_실행기에서() {
+		List<String> threads = new CopyOnWriteArrayList<>();
+		batcher = batcher(10, 2, (a, s, uuids) -> {
+			threads.add(Thread.currentThread().getName());
+			return List.of();
+		});
+
+		// 창 만료로 보내는 묶음, 가득 차서 보내는 묶음
+		batcher.lookup("ak", "sk", "a").join();
+		CompletableFuture<Optional<OrderResponse>> b = batcher.lookup("ak", "sk", "b");
+		batcher.lookup("ak", "sk", "c").join();
+		b.join();
+
+		assertThat(threads).hasSize(2).allMatch(name -> name.startsWith("dispatch-"));
+	}
+
+	private UpbitOrderLookupBatcher batcher(long windowMillis, int batchSize, UpbitOrderLookupBatcher.OrderLookup lookup) {
+		return new UpbitOrderLookupBatcher(lookup, windowMillis, batchSize, new SimpleMeterRegistry(),
+			Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("timer-", 0).factory()),
+			Executors.newCachedThreadPool(Thread.ofPlatform().name("dispatch-", 0).factory()));
+	}
+
+	private OrderResponse order(String uuid) {
+		return new OrderResponse(uuid, "bid", "limit", "1", "done", "KRW-BTC", null,
+			"1", "0", "0", "0", "0", "0", "1", "1", 1, null, null, null, null, null);
+	}
+}
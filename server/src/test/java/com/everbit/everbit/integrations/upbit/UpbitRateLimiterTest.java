@@ -0,0 +1,81 @@
+package com.everbit.everbit.integrations.upbit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Remaining-Req 기반 레이트리미터 검증. SoT: docs/integrations/upbit.md §4.
+ * 가짜 nano clock으로 시간을 진행시키며, 대기 상한 1ms로 두어 대기 대신 즉시 실패를 확인한다.
+ */
+class UpbitRateLimiterTest {
+
+	private final AtomicLong now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+	private UpbitRateLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		UpbitProperties properties = new UpbitProperties(null, 0, 0, 1, null, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+		limiter = new UpbitRateLimiter(properties, new SimpleMeterRegistry(), now::get);
+	}
+
+	@Test
+	void 그룹_용량만큼_연속_허용_후_거절() {
+		for (int i = 0; i < UpbitRateLimitGroup.ORDER.capacity(); i++) {
+			limiter.acquire(UpbitRateLimitGroup.ORDER);
+		}
+
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.ORDER)).isZero();
+		assertThatThrownBy(() -> limiter.acquire(UpbitRateLimitGroup.ORDER))
+			.isInstanceOf(UpbitRateLimitException.class);
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.DEFAULT)).isEqualTo(30);
+	}
+
+	@Test
+	void 시간이_지나면_토큰_재충전() {
+		for (int i = 0; i < UpbitRateLimitGroup.ORDER.capacity(); i++) {
+			limiter.acquire(UpbitRateLimitGroup.ORDER);
+		}
+
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(250));
+
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.ORDER)).isEqualTo(2);
+	}
+
+	@Test
+	void remaining_req_sec_값으로_버킷_보정() {
+		limiter.onResponse(UpbitRateLimitGroup.DEFAULT, "group=default; min=1799; sec=3");
+
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.DEFAULT)).isEqualTo(3);
+	}
+
+	@Test
+	void 헤더의_group이_호출_그룹보다_우선() {
+		limiter.onResponse(UpbitRateLimitGroup.DEFAULT, "group=order; min=100; sec=0");
+
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.ORDER)).isZero();
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.DEFAULT)).isEqualTo(30);
+	}
+
+	@Test
+	void 파싱_실패시_보수적으로_잔여_1회() {
+		limiter.onResponse(UpbitRateLimitGroup.DEFAULT, "garbage");
+
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.DEFAULT)).isEqualTo(1);
+	}
+
+	@Test
+	void throttled_수신시_백오프_동안_토큰_없음() {
+		limiter.onThrottled(UpbitRateLimitGroup.DEFAULT);
+
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.DEFAULT)).isZero();
+		now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+		assertThat(limiter.availablePermits(UpbitRateLimitGroup.DEFAULT)).isEqualTo(1);
+	}
+}
@@ -0,0 +1,82 @@
+package com.everbit.everbit.integrations.upbit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동일 GET 합치기/TTL 캐시 검증. SoT: docs/integrations/upbit.md §5.1.5.
+ */
+class UpbitReadCoalescerTest {
+
+	private static final UpbitReadCoalescer.Key ACCOUNTS = new UpbitReadCoalescer.Key("ak", "/v1/accounts", "");
+	private static final Duration TTL = Duration.ofSeconds(1);
+
+	private final AtomicLong now = new AtomicLong();
+	private final AtomicInteger loads = new AtomicInteger();
+	private final UpbitReadCoalescer coalescer = new UpbitReadCoalescer(new SimpleMeterRegistry(), now::get);
+
+	@Test
+	void 진행_중인_같은_요청은_한_번만_보냄() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> coalescer.get(ACCOUNTS, TTL, () -> {
+			loads.incrementAndGet();
+			started.countDown();
+			await(release);
+			return "v1";
+		}));
+		started.await(1, TimeUnit.SECONDS);
+		CompletableFuture<String> follower = CompletableFuture.supplyAsync(() -> coalescer.get(ACCOUNTS, TTL, this::load));
+		release.countDown();
+
+		assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("v1");
+		assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("v1");
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void ttl_동안_재사용하고_만료나_무효화_후_다시_조회() {
+		coalescer.get(ACCOUNTS, TTL, this::load);
+		coalescer.get(ACCOUNTS, TTL, this::load);
+		assertThat(loads).hasValue(1);
+
+		now.addAndGet(TTL.toNanos());
+		coalescer.get(ACCOUNTS, TTL, this::load);
+		assertThat(loads).hasValue(2);
+
+		coalescer.invalidate("ak");
+		coalescer.get(ACCOUNTS, TTL, this::load);
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	void 실패는_캐시하지_않음() {
+		assertThatThrownBy(() -> coalescer.get(ACCOUNTS, TTL, () -> {
+			throw new UpbitException("boom");
+		})).isInstanceOf(UpbitException.class);
+
+		assertThat(coalescer.<String>get(ACCOUNTS, TTL, this::load)).isEqualTo("v1");
+	}
+
+	private String load() {
+		return "v" + loads.incrementAndGet();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
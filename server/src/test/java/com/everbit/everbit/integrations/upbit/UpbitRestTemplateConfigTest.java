@@ -0,0 +1,70 @@
+package com.everbit.everbit.integrations.upbit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * upbit.api.transport 설정별 전송 계층 선택 검증. SoT: docs/integrations/upbit.md §5.
+ */
+class UpbitRestTemplateConfigTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withUserConfiguration(UpbitRestTemplateConfig.class)
+		.withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+	@Test
+	void 설정이_없으면_커넥션_풀() {
+		contextRunner.run(context -> {
+			assertThat(context).hasNotFailed();
+			assertThat(factory(context)).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+			assertThat(context.getBean(MeterRegistry.class).find("httpcomponents.httpclient.pool.total.max").gauge())
+				.isNotNull();
+		});
+	}
+
+	@Test
+	void POOLED는_커넥션_풀() {
+		contextRunner.withPropertyValues("upbit.api.transport=POOLED")
+			.run(context -> assertThat(factory(context)).isInstanceOf(HttpComponentsClientHttpRequestFactory.class));
+	}
+
+	@Test
+	void JDK는_JDK_HttpClient() {
+		contextRunner.withPropertyValues("upbit.api.transport=JDK")
+			.run(context -> assertThat(factory(context)).isInstanceOf(JdkClientHttpRequestFactory.class));
+	}
+
+	@Test
+	void SIMPLE은_HttpURLConnection() {
+		contextRunner.withPropertyValues("upbit.api.transport=SIMPLE")
+			.run(context -> assertThat(factory(context)).isInstanceOf(SimpleClientHttpRequestFactory.class));
+	}
+
+	@Test
+	void 소문자_값도_같은_전송_계층() {
+		contextRunner.withPropertyValues("upbit.api.transport=jdk")
+			.run(context -> assertThat(factory(context)).isInstanceOf(JdkClientHttpRequestFactory.class));
+	}
+
+	@Test
+	void 알_수_없는_값이면_부팅_실패() {
+		contextRunner.withPropertyValues("upbit.api.transport=OKHTTP")
+			.run(context -> {
+				assertThat(context).hasFailed();
+				assertThat(context.getStartupFailure()).hasStackTraceContaining("upbit.api.transport");
+			});
+	}
+
+	private static ClientHttpRequestFactory factory(ApplicationContext context) {
+		return context.getBean("upbitClientHttpRequestFactory", ClientHttpRequestFactory.class);
+	}
+}
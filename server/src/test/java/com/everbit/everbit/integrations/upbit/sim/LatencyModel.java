@@ -0,0 +1,32 @@
+package com.everbit.everbit.integrations.upbit.sim;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 시뮬레이터 응답 지연 분포(ms).
+ */
+@FunctionalInterface
+public interface LatencyModel {
+
+	long sampleMillis(RandomGenerator random);
+
+	static LatencyModel none() {
+		return random -> 0;
+	}
+
+	static LatencyModel fixed(long millis) {
+		return random -> millis;
+	}
+
+	static LatencyModel uniform(long minMillis, long maxMillis) {
+		return random -> minMillis + random.nextLong(maxMillis - minMillis + 1);
+	}
+
+	/**
+	 * 꼬리가 긴 실제 API 지연에 가까운 로그정규 분포. median=중앙값, sigma=로그 표준편차(0.3~0.8 정도).
+	 */
+	static LatencyModel logNormal(double medianMillis, double sigma) {
+		double mu = Math.log(medianMillis);
+		return random -> Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+	}
+}
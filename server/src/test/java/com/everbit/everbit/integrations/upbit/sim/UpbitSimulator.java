@@ -0,0 +1,652 @@
+package com.everbit.everbit.integrations.upbit.sim;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 테스트 전용 Upbit Exchange REST 시뮬레이터. 임의 포트에서 JDK HttpServer로 뜬다.
+ * 실계정 없이 UpbitExchangeClient·주문 실행 경로를 로컬에서 부하/지연 테스트하기 위한 것.
+ *
+ * <ul>
+ *   <li>엔드포인트: /v1/accounts, /v1/orders(POST), /v1/order(GET/DELETE), /v1/orders/open|closed|uuids, /v1/orders/cancel_and_new</li>
+ *   <li>JWT 서명과 query_hash를 검증하고 불일치 시 401, 이미 쓴 nonce면 401 nonce_used</li>
+ *   <li>그룹별(default 30/s, order 8/s) 초 단위 창으로 Remaining-Req를 내려주고 초과 시 429</li>
+ *   <li>지연 분포(LatencyModel), 429/5xx 확률 주입, 418 차단</li>
+ *   <li>체결: 시장가는 즉시 전량, 지정가는 조회될 때마다 fillStep 비율씩 부분 체결</li>
+ * </ul>
+ * 수수료는 0, 잔고 lock은 모델링하지 않는다.
+ */
+public final class UpbitSimulator implements AutoCloseable {
+
+	private static final ZoneOffset KST = ZoneOffset.ofHours(9);
+	private static final String KRW = "KRW";
+	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Builder config;
+	private final Random random;
+	private final Map<String, SimOrder> orders = new ConcurrentHashMap<>();
+	private final Map<String, String> uuidByIdentifier = new ConcurrentHashMap<>();
+	private final Map<String, BigDecimal> balances = new ConcurrentHashMap<>();
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+	private final Set<String> usedNonces = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger requestCount = new AtomicInteger();
+	private volatile Instant blockedUntil;
+
+	private UpbitSimulator(Builder config) throws IOException {
+		this.config = config;
+		this.random = new Random(config.seed);
+		this.balances.putAll(config.balances);
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.executor = Executors.newVirtualThreadPerTaskExecutor();
+		server.setExecutor(executor);
+		server.createContext("/v1/", this::handle);
+		server.start();
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	public int requestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * 지금부터 duration 동안 모든 요청에 418(Retry-After)로 응답한다.
+	 */
+	public void blockFor(Duration duration) {
+		blockedUntil = config.clock.instant().plus(duration);
+	}
+
+	public BigDecimal balance(String currency) {
+		return balances.getOrDefault(currency, BigDecimal.ZERO);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	// --- request handling ---
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+		try {
+			sleep(config.latency.sampleMillis(random));
+			String method = exchange.getRequestMethod();
+			String path = exchange.getRequestURI().getPath();
+			String group = "POST".equals(method) && path.startsWith("/v1/orders") ? "order" : "default";
+
+			Instant until = blockedUntil;
+			if (until != null && config.clock.instant().isBefore(until)) {
+				exchange.getResponseHeaders().add("Retry-After",
+					Long.toString(Math.max(1, Duration.between(config.clock.instant(), until).toSeconds())));
+				error(exchange, 418, "blocked", "temporarily blocked");
+				return;
+			}
+			int remaining = consume(group);
+			exchange.getResponseHeaders().add("Remaining-Req",
+				"group=" + group + "; min=1800; sec=" + Math.max(remaining, 0));
+			if (remaining < 0 || chance(config.throttleRate)) {
+				error(exchange, 429, "too_many_requests", "Too many API requests.");
+				return;
+			}
+			if (chance(config.serverErrorRate)) {
+				error(exchange, 500, "server_error", "Internal server error");
+				return;
+			}
+
+			Map<String, List<String>> params;
+			String queryString;
+			if ("POST".equals(method)) {
+				Map<String, Object> body = readBody(exchange.getRequestBody());
+				params = new LinkedHashMap<>();
+				body.forEach((k, v) -> params.put(k, List.of(String.valueOf(v))));
+				queryString = joinQuery(params);
+			} else {
+				params = parseQuery(exchange.getRequestURI().getRawQuery());
+				queryString = joinQuery(params);
+			}
+			if (!authorized(exchange, queryString)) {
+				return;
+			}
+			route(exchange, method, path, params);
+		} catch (RuntimeException e) {
+			error(exchange, 500, "server_error", e.getClass().getSimpleName());
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void route(HttpExchange exchange, String method, String path, Map<String, List<String>> params)
+		throws IOException {
+		switch (method + " " + path) {
+			case "GET /v1/accounts" -> json(exchange, 200, accounts());
+			case "POST /v1/orders" -> createOrder(exchange, params);
+			case "GET /v1/order" -> withOrder(exchange, params, order -> {
+				order.advanceFill();
+				return order.toJson(true);
+			});
+			case "DELETE /v1/order" -> withOrder(exchange, params, order -> {
+				if (!order.cancel()) {
+					return null;
+				}
+				return order.toJson(false);
+			});
+			case "GET /v1/orders/open" -> json(exchange, 200, listOrders(params, true));
+			case "GET /v1/orders/closed" -> json(exchange, 200, listOrders(params, false));
+			case "GET /v1/orders/uuids" -> json(exchange, 200, ordersByUuids(params));
+			case "POST /v1/orders/cancel_and_new" -> replaceOrder(exchange, params);
+			default -> error(exchange, 404, "not_found", "Unknown endpoint");
+		}
+	}
+
+	private boolean authorized(HttpExchange exchange, String queryString) throws IOException {
+		String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+		if (authorization == null || !authorization.startsWith("Bearer ")) {
+			error(exchange, 401, "jwt_verification", "missing token");
+			return false;
+		}
+		DecodedJWT jwt;
+		try {
+			jwt = JWT.require(Algorithm.HMAC256(config.secretKey)).build().verify(authorization.substring(7));
+		} catch (JWTVerificationException e) {
+			error(exchange, 401, "jwt_verification", "invalid signature");
+			return false;
+		}
+		if (!config.accessKey.equals(jwt.getClaim("access_key").asString())) {
+			error(exchange, 401, "invalid_access_key", "unknown access key");
+			return false;
+		}
+		String expectedHash = queryString.isEmpty() ? null : sha512Hex(queryString);
+		if (!Objects.equals(expectedHash, jwt.getClaim("query_hash").asString())) {
+			error(exchange, 401, "invalid_query_payload", "query_hash mismatch");
+			return false;
+		}
+		if (!usedNonces.add(Objects.toString(jwt.getClaim("nonce").asString()))) {
+			error(exchange, 401, "nonce_used", "already used nonce");
+			return false;
+		}
+		return true;
+	}
+
+	// --- endpoints ---
+
+	private List<Map<String, Object>> accounts() {
+		List<Map<String, Object>> result = new ArrayList<>();
+		balances.forEach((currency, balance) -> {
+			Map<String, Object> account = new LinkedHashMap<>();
+			account.put("currency", currency);
+			account.put("balance", balance.toPlainString());
+			account.put("locked", "0");
+			account.put("avg_buy_price", "0");
+			account.put("avg_buy_price_modified", false);
+			account.put("unit_currency", KRW);
+			result.add(account);
+		});
+		return result;
+	}
+
+	private void createOrder(HttpExchange exchange, Map<String, List<String>> params) throws IOException {
+		SimOrder order;
+		try {
+			order = newOrder(first(params, "market"), first(params, "side"), first(params, "ord_type"),
+				first(params, "volume"), first(params, "price"), first(params, "identifier"));
+		} catch (IllegalArgumentException e) {
+			error(exchange, 400, e.getMessage(), "invalid order");
+			return;
+		}
+		json(exchange, 201, order.toJson(false));
+	}
+
+	private void replaceOrder(HttpExchange exchange, Map<String, List<String>> params) throws IOException {
+		SimOrder prev = find(first(params, "prev_order_uuid"), first(params, "prev_order_identifier"));
+		if (prev == null) {
+			error(exchange, 404, "order_not_found", "order not found");
+			return;
+		}
+		if (!prev.cancel()) {
+			error(exchange, 400, "order_not_cancelable", "order is not in wait state");
+			return;
+		}
+		SimOrder next;
+		try {
+			String volume = first(params, "new_volume");
+			next = newOrder(prev.market, prev.side, first(params, "new_ord_type"),
+				"remain_only".equals(volume) ? prev.remainingVolume().toPlainString() : volume,
+				first(params, "new_price"), first(params, "new_identifier"));
+		} catch (IllegalArgumentException e) {
+			error(exchange, 400, e.getMessage(), "invalid order");
+			return;
+		}
+		Map<String, Object> body = prev.toJson(false);
+		body.put("new_order_uuid", next.uuid);
+		json(exchange, 201, body);
+	}
+
+	private List<Map<String, Object>> listOrders(Map<String, List<String>> params, boolean open) {
+		String market = first(params, "market");
+		List<String> states = params.getOrDefault("states[]", open ? List.of("wait", "watch") : List.of("done", "cancel"));
+		Instant start = parseTime(first(params, "start_time"));
+		Instant end = parseTime(first(params, "end_time"));
+		int limit = first(params, "limit") != null ? Integer.parseInt(first(params, "limit")) : 100;
+		Comparator<SimOrder> order = Comparator.comparing((SimOrder o) -> o.createdAt);
+		if (!"asc".equals(first(params, "order_by"))) {
+			order = order.reversed();
+		}
+		Stream<SimOrder> stream = orders.values().stream();
+		if (open) {
+			stream = stream.peek(SimOrder::advanceFill);
+		}
+		return stream
+			.filter(o -> market == null || market.equals(o.market))
+			.filter(o -> states.contains(o.state))
+			.filter(o -> start == null || !o.createdAt.isBefore(start))
+			.filter(o -> end == null || !o.createdAt.isAfter(end))
+			.sorted(order)
+			.limit(limit)
+			.map(o -> o.toJson(false))
+			.toList();
+	}
+
+	private List<Map<String, Object>> ordersByUuids(Map<String, List<String>> params) {
+		return params.getOrDefault("uuids[]", List.of()).stream()
+			.map(orders::get)
+			.filter(Objects::nonNull)
+			.peek(SimOrder::advanceFill)
+			.map(o -> o.toJson(false))
+			.toList();
+	}
+
+	private void withOrder(HttpExchange exchange, Map<String, List<String>> params,
+		java.util.function.Function<SimOrder, Map<String, Object>> action) throws IOException {
+		SimOrder order = find(first(params, "uuid"), first(params, "identifier"));
+		if (order == null) {
+			error(exchange, 404, "order_not_found", "order not found");
+			return;
+		}
+		Map<String, Object> body = action.apply(order);
+		if (body == null) {
+			error(exchange, 400, "order_not_cancelable", "order is not in wait state");
+			return;
+		}
+		json(exchange, 200, body);
+	}
+
+	private SimOrder newOrder(String market, String side, String ordType, String volume, String price,
+		String identifier) {
+		if (market == null || !market.contains("-") || side == null || ordType == null) {
+			throw new IllegalArgumentException("invalid_parameter");
+		}
+		if (identifier != null && uuidByIdentifier.putIfAbsent(identifier, "") != null) {
+			throw new IllegalArgumentException("duplicate_identifier");
+		}
+		BigDecimal marketPrice = config.prices.getOrDefault(market, new BigDecimal("100000000"));
+		SimOrder order = switch (ordType) {
+			case "limit" -> new SimOrder(market, side, ordType, new BigDecimal(price), new BigDecimal(volume));
+			// 시장가 매수: price=주문 총액
+			case "price" -> new SimOrder(market, side, ordType, marketPrice,
+				new BigDecimal(price).divide(marketPrice, 8, RoundingMode.DOWN));
+			case "market" -> new SimOrder(market, side, ordType, marketPrice, new BigDecimal(volume));
+			default -> throw new IllegalArgumentException("invalid_ord_type");
+		};
+		order.identifier = identifier;
+		String quote = market.substring(0, market.indexOf('-'));
+		String base = market.substring(market.indexOf('-') + 1);
+		BigDecimal need = "bid".equals(side) ? order.price.multiply(order.volume) : order.volume;
+		if (balance("bid".equals(side) ? quote : base).compareTo(need) < 0) {
+			if (identifier != null) {
+				uuidByIdentifier.remove(identifier);
+			}
+			throw new IllegalArgumentException("bid".equals(side) ? "insufficient_funds_bid" : "insufficient_funds_ask");
+		}
+		orders.put(order.uuid, order);
+		if (identifier != null) {
+			uuidByIdentifier.put(identifier, order.uuid);
+		}
+		if (!"limit".equals(ordType)) {
+			order.fill(order.remainingVolume());
+		}
+		return order;
+	}
+
+	private SimOrder find(String uuid, String identifier) {
+		if (uuid != null) {
+			return orders.get(uuid);
+		}
+		String mapped = identifier != null ? uuidByIdentifier.get(identifier) : null;
+		return mapped != null ? orders.get(mapped) : null;
+	}
+
+	// --- helpers ---
+
+	/**
+	 * 그룹의 현재 초 창에서 1회 소비. 남은 횟수, 초과면 음수.
+	 */
+	private int consume(String group) {
+		int capacity = "order".equals(group) ? 8 : 30;
+		long second = config.clock.millis() / 1000;
+		Window window = windows.compute(group, (g, w) -> w == null || w.second != second ? new Window(second, 1) : w.next());
+		return capacity - window.count;
+	}
+
+	private boolean chance(double rate) {
+		if (rate <= 0) {
+			return false;
+		}
+		synchronized (random) {
+			return random.nextDouble() < rate;
+		}
+	}
+
+	private Map<String, Object> readBody(InputStream in) throws IOException {
+		@SuppressWarnings("unchecked")
+		Map<String, Object> body = objectMapper.readValue(in, LinkedHashMap.class);
+		return body;
+	}
+
+	private static Map<String, List<String>> parseQuery(String rawQuery) {
+		Map<String, List<String>> params = new LinkedHashMap<>();
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return params;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int eq = pair.indexOf('=');
+			String key = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+			String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			params.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+		}
+		return params;
+	}
+
+	private static String joinQuery(Map<String, List<String>> params) {
+		StringBuilder sb = new StringBuilder();
+		params.forEach((key, values) -> values.forEach(value -> {
+			if (!sb.isEmpty()) {
+				sb.append('&');
+			}
+			sb.append(key).append('=').append(value);
+		}));
+		return sb.toString();
+	}
+
+	private static String first(Map<String, List<String>> params, String key) {
+		List<String> values = params.get(key);
+		return values == null || values.isEmpty() ? null : values.get(0);
+	}
+
+	private static Instant parseTime(String value) {
+		if (value == null) {
+			return null;
+		}
+		if (value.chars().allMatch(Character::isDigit)) {
+			return Instant.ofEpochMilli(Long.parseLong(value));
+		}
+		return OffsetDateTime.parse(value).toInstant();
+	}
+
+	private static String sha512Hex(String value) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-512").digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void json(HttpExchange exchange, int status, Object body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private void error(HttpExchange exchange, int status, String name, String message) throws IOException {
+		json(exchange, status, Map.of("error", Map.of("name", name, "message", message)));
+	}
+
+	private static void sleep(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record Window(long second, int count) {
+		Window next() {
+			return new Window(second, count + 1);
+		}
+	}
+
+	/**
+	 * 주문 1건. 모든 상태 변경은 인스턴스 락으로 직렬화.
+	 */
+	private final class SimOrder {
+
+		private final String uuid = UUID.randomUUID().toString();
+		private final String market;
+		private final String side;
+		private final String ordType;
+		private final BigDecimal price;
+		private final BigDecimal volume;
+		private final Instant createdAt = config.clock.instant().truncatedTo(ChronoUnit.SECONDS);
+		private final List<Map<String, Object>> trades = new ArrayList<>();
+		private String identifier;
+		private BigDecimal executedVolume = BigDecimal.ZERO;
+		private String state = "wait";
+
+		SimOrder(String market, String side, String ordType, BigDecimal price, BigDecimal volume) {
+			this.market = market;
+			this.side = side;
+			this.ordType = ordType;
+			this.price = price;
+			this.volume = volume;
+		}
+
+		synchronized BigDecimal remainingVolume() {
+			return volume.subtract(executedVolume);
+		}
+
+		/**
+		 * 지정가 부분 체결 진행: 원주문 수량의 fillStep 비율(남은 수량 한도).
+		 */
+		synchronized void advanceFill() {
+			if (!"wait".equals(state) || !"limit".equals(ordType) || config.fillStep <= 0) {
+				return;
+			}
+			BigDecimal step = volume.multiply(BigDecimal.valueOf(config.fillStep)).setScale(8, RoundingMode.DOWN);
+			fill(step.min(remainingVolume()));
+		}
+
+		synchronized void fill(BigDecimal qty) {
+			if (qty.signum() <= 0) {
+				return;
+			}
+			BigDecimal funds = qty.multiply(price);
+			String quote = market.substring(0, market.indexOf('-'));
+			String base = market.substring(market.indexOf('-') + 1);
+			boolean bid = "bid".equals(side);
+			balances.merge(quote, bid ? funds.negate() : funds, BigDecimal::add);
+			balances.merge(base, bid ? qty : qty.negate(), BigDecimal::add);
+			executedVolume = executedVolume.add(qty);
+			Map<String, Object> trade = new LinkedHashMap<>();
+			trade.put("market", market);
+			trade.put("uuid", UUID.randomUUID().toString());
+			trade.put("price", price.toPlainString());
+			trade.put("volume", qty.toPlainString());
+			trade.put("funds", funds.toPlainString());
+			trade.put("side", side);
+			trade.put("created_at", TIME_FORMAT.format(OffsetDateTime.ofInstant(config.clock.instant(), KST)));
+			trades.add(trade);
+			if (remainingVolume().signum() == 0) {
+				state = "done";
+			}
+		}
+
+		synchronized boolean cancel() {
+			if (!"wait".equals(state)) {
+				return false;
+			}
+			state = "cancel";
+			return true;
+		}
+
+		synchronized Map<String, Object> toJson(boolean withTrades) {
+			Map<String, Object> json = new LinkedHashMap<>();
+			json.put("uuid", uuid);
+			json.put("side", side);
+			json.put("ord_type", ordType);
+			json.put("price", price.toPlainString());
+			json.put("state", state);
+			json.put("market", market);
+			json.put("created_at", TIME_FORMAT.format(OffsetDateTime.ofInstant(createdAt, KST)));
+			json.put("volume", volume.toPlainString());
+			json.put("remaining_volume", remainingVolume().toPlainString());
+			json.put("reserved_fee", "0");
+			json.put("remaining_fee", "0");
+			json.put("paid_fee", "0");
+			json.put("locked", "wait".equals(state) ? remainingVolume().multiply(price).toPlainString() : "0");
+			json.put("executed_volume", executedVolume.toPlainString());
+			json.put("executed_funds", executedVolume.multiply(price).toPlainString());
+			json.put("trades_count", trades.size());
+			if (identifier != null) {
+				json.put("identifier", identifier);
+			}
+			if (withTrades) {
+				json.put("trades", List.copyOf(trades));
+			}
+			return json;
+		}
+	}
+
+	public static final class Builder {
+
+		private String accessKey = "sim-access-key";
+		private String secretKey = "sim-secret-key";
+		private LatencyModel latency = LatencyModel.none();
+		private double throttleRate;
+		private double serverErrorRate;
+		private double fillStep = 0.5;
+		private long seed = 42;
+		private Clock clock = Clock.systemUTC();
+		private final Map<String, BigDecimal> balances = new LinkedHashMap<>(Map.of(KRW, new BigDecimal("10000000")));
+		private final Map<String, BigDecimal> prices = new LinkedHashMap<>();
+
+		public Builder credentials(String accessKey, String secretKey) {
+			this.accessKey = accessKey;
+			this.secretKey = secretKey;
+			return this;
+		}
+
+		public Builder latency(LatencyModel latency) {
+			this.latency = latency;
+			return this;
+		}
+
+		/** 정상 요청 중 무작위로 429를 돌려줄 비율(0~1). */
+		public Builder throttleRate(double throttleRate) {
+			this.throttleRate = throttleRate;
+			return this;
+		}
+
+		/** 정상 요청 중 무작위로 500을 돌려줄 비율(0~1). */
+		public Builder serverErrorRate(double serverErrorRate) {
+			this.serverErrorRate = serverErrorRate;
+			return this;
+		}
+
+		/** 지정가 주문이 조회될 때마다 체결되는 원주문 수량 비율. 0이면 체결 없음. */
+		public Builder fillStep(double fillStep) {
+			this.fillStep = fillStep;
+			return this;
+		}
+
+		public Builder balance(String currency, String amount) {
+			balances.put(currency, new BigDecimal(amount));
+			return this;
+		}
+
+		/** 시장가 주문 체결가. 기본 100,000,000. */
+		public Builder price(String market, String price) {
+			prices.put(market, new BigDecimal(price));
+			return this;
+		}
+
+		public Builder seed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		public Builder clock(Clock clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		public String accessKey() {
+			return accessKey;
+		}
+
+		public String secretKey() {
+			return secretKey;
+		}
+
+		public UpbitSimulator start() {
+			try {
+				return new UpbitSimulator(this);
+			} catch (IOException e) {
+				throw new IllegalStateException("Failed to start Upbit simulator", e);
+			}
+		}
+	}
+}
@@ -0,0 +1,99 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 체결 → 캔들 증분 집계 검증. SoT: docs/integrations/upbit.md §7.7.
+ */
+class CandleAggregatorTest {
+
+	/** 15분·60분 경계에 모두 정렬된 시각. */
+	private static final long H = 1_699_999_200_000L;
+	private static final long M15 = 15 * 60_000L;
+
+	private final List<Object> events = new ArrayList<>();
+	private CandleAggregator aggregator;
+	private long sid;
+
+	@BeforeEach
+	void setUp() {
+		MarketDataProperties properties = new MarketDataProperties(false, null, 0, 0, 0, List.of(15, 60), 2000);
+		aggregator = new CandleAggregator(properties, events::add, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void 경계를_넘는_체결에서_한_번만_확정하고_구독_전부터_이어진_구간은_건너뜀() {
+		trade(H - 1000, 100, 1);
+		trade(H + 1000, 101, 1);
+		trade(H + 60_000, 105, 2);
+		trade(H + 120_000, 99, 0.5);
+		trade(H + M15 + 10, 102, 1);
+		aggregator.closeExpired(H + M15 + 10);
+
+		assertThat(events).hasSize(1);
+		CandleClosedEvent candle = (CandleClosedEvent) events.get(0);
+		assertThat(candle.timeframe()).isEqualTo("15");
+		assertThat(candle.candleTime()).isEqualTo(Instant.ofEpochMilli(H + M15));
+		assertThat(candle.open()).isEqualByComparingTo("101");
+		assertThat(candle.high()).isEqualByComparingTo("105");
+		assertThat(candle.low()).isEqualByComparingTo("99");
+		assertThat(candle.close()).isEqualByComparingTo("99");
+		assertThat(candle.volume()).isEqualByComparingTo(new BigDecimal("3.5"));
+	}
+
+	@Test
+	void 체결_없으면_유예_후_시간으로_확정하고_늦은_체결은_버림() {
+		trade(H - 1, 10, 1);
+		trade(H + 5_000, 10.5, 1);
+
+		aggregator.closeExpired(H + M15 + 1999);
+		assertThat(events).isEmpty();
+
+		aggregator.closeExpired(H + M15 + 2000);
+		assertThat(events).hasSize(1);
+
+		trade(H + 14 * 60_000, 1, 1);
+		aggregator.closeExpired(H + 2 * M15 + 2000);
+		assertThat(events).hasSize(1);
+	}
+
+	@Test
+	void 같은_sid_체결은_한_번만_집계() {
+		trade(H - 1, 10, 1);
+		trade(H + 1_000, 10, 1);
+		MarketDataEvent duplicate = trade(H + 2_000, 20, 1);
+		aggregator.onEvent(duplicate);
+		trade(H + M15, 10, 1);
+
+		CandleClosedEvent candle = (CandleClosedEvent) events.get(0);
+		assertThat(candle.high()).isEqualByComparingTo("20");
+		assertThat(candle.volume()).isEqualByComparingTo("2");
+	}
+
+	private MarketDataEvent trade(long tradeTime, double price, double volume) {
+		MarketDataEvent event = new MarketDataEvent();
+		event.setType(MarketDataEventType.TRADE);
+		event.setCode("KRW-BTC");
+		event.setRealtime(true);
+		event.setTimestamp(tradeTime);
+		event.setTradeTimestamp(tradeTime);
+		event.setTradePrice(price);
+		event.setTradeVolume(volume);
+		event.setSequentialId(++sid);
+		aggregator.onEvent(event);
+		return event;
+	}
+}
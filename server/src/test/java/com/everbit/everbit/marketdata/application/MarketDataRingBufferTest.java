@@ -0,0 +1,60 @@
+package com.everbit.everbit.marketdata.application;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 링 버퍼 발행/구독 순서와 가득 찼을 때 버림 동작 검증. SoT: docs/integrations/upbit.md §7.6.
+ */
+class MarketDataRingBufferTest {
+
+	@Test
+	void 구독자는_발행_순서대로_받고_publish_안_한_슬롯은_보이지_않음() {
+		MarketDataRingBuffer ring = new MarketDataRingBuffer(8, new SimpleMeterRegistry());
+		MarketDataRingBuffer.Subscriber subscriber = ring.subscribe("test");
+
+		publish(ring, 1);
+		publish(ring, 2);
+		long abandoned = ring.tryClaim();
+		ring.slot(abandoned).setSequentialId(99);
+
+		List<Long> received = new ArrayList<>();
+		assertThat(subscriber.poll(e -> received.add(e.getSequentialId()), 10)).isEqualTo(2);
+		assertThat(received).containsExactly(1L, 2L);
+
+		publish(ring, 3);
+		subscriber.poll(e -> received.add(e.getSequentialId()), 10);
+		assertThat(received).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	void 가장_느린_구독자가_한_바퀴_밀리면_새_이벤트를_버림() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MarketDataRingBuffer ring = new MarketDataRingBuffer(4, registry);
+		MarketDataRingBuffer.Subscriber fast = ring.subscribe("fast");
+		MarketDataRingBuffer.Subscriber slow = ring.subscribe("slow");
+
+		for (int i = 0; i < ring.capacity(); i++) {
+			publish(ring, i);
+			fast.poll(e -> { }, 10);
+		}
+		assertThat(ring.tryClaim()).isEqualTo(-1);
+		assertThat(registry.get("marketdata.ring.dropped").counter().count()).isEqualTo(1.0);
+
+		slow.poll(e -> { }, 1);
+		assertThat(ring.tryClaim()).isEqualTo(ring.capacity());
+	}
+
+	private void publish(MarketDataRingBuffer ring, long id) {
+		long sequence = ring.tryClaim();
+		ring.slot(sequence).setType(MarketDataEventType.TRADE);
+		ring.slot(sequence).setSequentialId(id);
+		ring.publish(sequence);
+	}
+}
@@ -0,0 +1,83 @@
+package com.everbit.everbit.marketdata.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 호가 사본 조회와 seqlock 일관성 검증. SoT: docs/integrations/upbit.md §7.8.
+ */
+class OrderBookTest {
+
+	@Test
+	void 최우선_호가와_원화_금액_기준_VWAP() {
+		OrderBook book = new OrderBook("KRW-BTC");
+		book.update(orderbook(1_000L,
+			new double[] {101, 102, 103}, new double[] {1, 2, 3},
+			new double[] {100, 99, 98}, new double[] {1, 1, 1}));
+
+		assertThat(book.bestBid()).isEqualTo(100);
+		assertThat(book.bestAsk()).isEqualTo(101);
+		assertThat(book.mid()).isEqualTo(100.5);
+		assertThat(book.spread()).isEqualTo(1);
+		assertThat(book.cumulativeNotional(BookSide.ASK, 2)).isEqualTo(101 + 204);
+
+		// 매수 305원: 101 × 1 + 102 × 2 전부
+		FillEstimate full = book.estimateFill(BookSide.consumedBy(true), 305);
+		assertThat(full.complete()).isTrue();
+		assertThat(full.quantity()).isCloseTo(3, within(1e-12));
+		assertThat(full.vwap()).isCloseTo(305.0 / 3, within(1e-9));
+		assertThat(full.worstPrice()).isEqualTo(102);
+		assertThat(full.levels()).isEqualTo(2);
+
+		// 매도로 300원 이상은 보유 호가(297원)로 다 못 채움
+		FillEstimate partial = book.estimateFill(BookSide.consumedBy(false), 1_000);
+		assertThat(partial.complete()).isFalse();
+		assertThat(partial.notional()).isEqualTo(297);
+		assertThat(partial.worstPrice()).isEqualTo(98);
+	}
+
+	@Test
+	void 동시_갱신_중에도_한_시점의_호가만_읽음() throws Exception {
+		OrderBook book = new OrderBook("KRW-BTC");
+		// 두 상태를 번갈아 쓴다. 어느 쪽이든 bid < ask여야 하고, 섞이면 bid >= ask가 된다
+		MarketDataEvent low = orderbook(1L, new double[] {11}, new double[] {1}, new double[] {10}, new double[] {1});
+		MarketDataEvent high = orderbook(2L, new double[] {21}, new double[] {1}, new double[] {20}, new double[] {1});
+		book.update(low);
+		AtomicBoolean stop = new AtomicBoolean();
+		AtomicInteger inconsistent = new AtomicInteger();
+		Thread reader = Thread.ofPlatform().start(() -> {
+			while (!stop.get()) {
+				OrderBookSnapshot snapshot = book.snapshot();
+				if (snapshot.bidPrices()[0] >= snapshot.askPrices()[0]
+					|| (snapshot.timestamp() == 1L) != (snapshot.bidPrices()[0] == 10)) {
+					inconsistent.incrementAndGet();
+				}
+			}
+		});
+		for (int i = 0; i < 200_000; i++) {
+			book.update((i & 1) == 0 ? high : low);
+		}
+		stop.set(true);
+		reader.join();
+
+		assertThat(inconsistent.get()).isZero();
+	}
+
+	private static MarketDataEvent orderbook(long timestamp, double[] askPrices, double[] askSizes,
+		double[] bidPrices, double[] bidSizes) {
+		MarketDataEvent event = new MarketDataEvent();
+		event.setType(MarketDataEventType.ORDERBOOK);
+		event.setCode("KRW-BTC");
+		event.setTimestamp(timestamp);
+		for (int i = 0; i < askPrices.length; i++) {
+			event.setUnit(i, askPrices[i], askSizes[i], bidPrices[i], bidSizes[i]);
+		}
+		event.setUnitCount(askPrices.length);
+		return event;
+	}
+}
@@ -0,0 +1,90 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프레임 전달 버퍼 → 세그먼트 기록 → 시각 구간 읽기. SoT: docs/integrations/upbit.md §7.11.
+ */
+class FrameSegmentWriterTest {
+
+	private static final long T0 = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+	private static final long MINUTE = 60_000;
+
+	@TempDir
+	Path dir;
+
+	@Test
+	void 전달_버퍼가_감싸_돌아도_순서대로_꺼내고_가득_차면_버림() {
+		FrameRingBuffer buffer = new FrameRingBuffer(256);
+		byte[] frame = new byte[50];
+		List<Long> drained = new ArrayList<>();
+
+		for (int round = 0; round < 10; round++) {
+			assertThat(buffer.offer(round, frame, 0, frame.length)).isTrue();
+			assertThat(buffer.offer(round + 100, frame, 0, frame.length)).isTrue();
+			buffer.drain((millis, source, offset, length) -> drained.add(millis), 10);
+		}
+		assertThat(drained).hasSize(20).startsWith(0L, 100L, 1L, 101L).endsWith(9L, 109L);
+
+		int accepted = 0;
+		while (buffer.offer(0, frame, 0, frame.length)) {
+			accepted++;
+		}
+		assertThat(accepted).isEqualTo(256 / 64);
+		assertThat(buffer.offer(0, new byte[200], 0, 200)).isFalse();
+	}
+
+	@Test
+	void 세그먼트를_넘겨_기록하고_구간만_다시_읽음() throws IOException {
+		// 10분짜리 세그먼트, 작은 블록 → 세그먼트 3개, 블록 여러 개
+		try (FrameSegmentWriter writer = new FrameSegmentWriter(dir, 256, 1024, Long.MAX_VALUE, 10 * MINUTE,
+			Long.MAX_VALUE)) {
+			for (int i = 0; i < 30; i++) {
+				byte[] frame = frame(i);
+				writer.append(T0 + i * MINUTE, ByteBuffer.wrap(frame), 0, frame.length);
+			}
+		}
+		assertThat(FrameSegments.list(dir)).hasSize(3);
+
+		List<String> frames = new ArrayList<>();
+		try (RecordedFrameReader reader = RecordedFrameReader.open(dir, Instant.ofEpochMilli(T0 + 12 * MINUTE),
+			Instant.ofEpochMilli(T0 + 21 * MINUTE))) {
+			while (reader.next()) {
+				assertThat(reader.receivedMillis()).isBetween(T0 + 12 * MINUTE, T0 + 21 * MINUTE);
+				frames.add(new String(reader.frame(), reader.offset(), reader.length(), StandardCharsets.UTF_8));
+			}
+		}
+		assertThat(frames).hasSize(10).first().isEqualTo(new String(frame(12), StandardCharsets.UTF_8));
+		assertThat(frames).last().isEqualTo(new String(frame(21), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void 보존_한도를_넘으면_오래된_세그먼트부터_지움() throws IOException {
+		try (FrameSegmentWriter writer = new FrameSegmentWriter(dir, 64, 1024, Long.MAX_VALUE, MINUTE, 400)) {
+			for (int i = 0; i < 10; i++) {
+				byte[] frame = frame(i);
+				writer.append(T0 + i * MINUTE, ByteBuffer.wrap(frame), 0, frame.length);
+			}
+			assertThat(writer.deletedSegments()).isPositive();
+		}
+		List<Path> remaining = FrameSegments.list(dir);
+		assertThat(remaining).isNotEmpty().hasSizeLessThan(10);
+		assertThat(FrameSegments.startMillis(remaining.get(remaining.size() - 1))).isEqualTo(T0 + 9 * MINUTE);
+	}
+
+	private static byte[] frame(int i) {
+		return ("{\"ty\":\"trade\",\"cd\":\"KRW-BTC\",\"tms\":" + (T0 + i * MINUTE) + ",\"tp\":95000000,\"sid\":" + i + "}")
+			.getBytes(StandardCharsets.UTF_8);
+	}
+}
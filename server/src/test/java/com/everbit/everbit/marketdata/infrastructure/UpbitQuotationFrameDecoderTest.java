@@ -0,0 +1,75 @@
+package com.everbit.everbit.marketdata.infrastructure;
+
+import com.everbit.everbit.marketdata.domain.MarketDataEvent;
+import com.everbit.everbit.marketdata.domain.MarketDataEventType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SIMPLE 포맷 프레임 디코딩 검증. SoT: docs/integrations/upbit.md §7.6.
+ */
+class UpbitQuotationFrameDecoderTest {
+
+	private static final String MARKET = "KRW-BTC";
+
+	@Test
+	void trade_프레임을_원시형_필드로_채우고_code는_구독_문자열을_재사용() throws Exception {
+		UpbitQuotationFrameDecoder decoder = decoder();
+		MarketDataEvent event = new MarketDataEvent();
+
+		boolean decoded = decode(decoder, """
+			{"ty":"trade","cd":"KRW-BTC","tp":95000000.0,"tv":0.0123,"ab":"BID","pcp":94000000,
+			 "ttms":1700000000123,"tms":1700000000150,"sid":17000000001230000,"st":"REALTIME"}
+			""", event);
+
+		assertThat(decoded).isTrue();
+		assertThat(event.getType()).isEqualTo(MarketDataEventType.TRADE);
+		assertThat(event.getCode()).isSameAs(MARKET);
+		assertThat(event.getTradePrice()).isEqualTo(95_000_000.0);
+		assertThat(event.getTradeVolume()).isEqualTo(0.0123);
+		assertThat(event.getAskBid()).isEqualTo(MarketDataEvent.SIDE_BID);
+		assertThat(event.getTradeTimestamp()).isEqualTo(1_700_000_000_123L);
+		assertThat(event.getSequentialId()).isEqualTo(17_000_000_001_230_000L);
+		assertThat(event.isRealtime()).isTrue();
+	}
+
+	@Test
+	void orderbook_호가_단위를_읽음() throws Exception {
+		MarketDataEvent event = new MarketDataEvent();
+
+		boolean decoded = decode(decoder(), """
+			{"ty":"orderbook","cd":"KRW-BTC","tas":3.5,"tbs":4.25,"tms":1700000000000,"st":"SNAPSHOT",
+			 "obu":[{"ap":101,"bp":100,"as":1.5,"bs":2.0},{"ap":102,"bp":99,"as":2.0,"bs":2.25}]}
+			""", event);
+
+		assertThat(decoded).isTrue();
+		assertThat(event.isRealtime()).isFalse();
+		assertThat(event.getUnitCount()).isEqualTo(2);
+		assertThat(event.askPrice(1)).isEqualTo(102);
+		assertThat(event.bidSize(1)).isEqualTo(2.25);
+		assertThat(event.getTotalBidSize()).isEqualTo(4.25);
+	}
+
+	@Test
+	void 구독하지_않은_마켓과_오류_응답은_건너뜀() throws Exception {
+		UpbitQuotationFrameDecoder decoder = decoder();
+
+		assertThat(decode(decoder, "{\"ty\":\"trade\",\"cd\":\"KRW-ETH\",\"tp\":1}", new MarketDataEvent())).isFalse();
+		assertThat(decode(decoder, "{\"error\":{\"name\":\"INVALID_PARAM\"}}", new MarketDataEvent())).isFalse();
+	}
+
+	private UpbitQuotationFrameDecoder decoder() {
+		UpbitQuotationFrameDecoder decoder = new UpbitQuotationFrameDecoder();
+		decoder.setCodes(List.of(MARKET));
+		return decoder;
+	}
+
+	private boolean decode(UpbitQuotationFrameDecoder decoder, String json, MarketDataEvent out) throws Exception {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		return decoder.decode(bytes, 0, bytes.length, out);
+	}
+}
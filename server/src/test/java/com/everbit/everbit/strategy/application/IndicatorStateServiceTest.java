@@ -0,0 +1,106 @@
+package com.everbit.everbit.strategy.application;
+
+import com.everbit.everbit.backtest.application.CandleStoreService;
+import com.everbit.everbit.backtest.domain.CandleColumns;
+import com.everbit.everbit.marketdata.MarketDataProperties;
+import com.everbit.everbit.marketdata.domain.CandleClosedEvent;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.everbit.everbit.strategy.repository.IndicatorSnapshotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.LongBuffer;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 반영하지 못한 실시간 캔들을 candle_cache에서 채운 뒤 지표를 잇는지. SoT: docs/architecture/order-pipeline.md §3.2.5.
+ */
+class IndicatorStateServiceTest {
+
+	private static final String MARKET = "KRW-BTC";
+	private static final Instant T0 = Instant.parse("2024-01-01T00:15:00Z");
+	private static final Duration M15 = Duration.ofMinutes(15);
+	private static final int CANDLES = 40;
+
+	private final IndicatorSnapshotRepository snapshotRepository = mock(IndicatorSnapshotRepository.class);
+	private final CandleStoreService candleStoreService = mock(CandleStoreService.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final IndicatorStateService service = new IndicatorStateService(snapshotRepository, candleStoreService,
+		new MarketDataProperties(true, null, 0, 0, 0, null, 0), meterRegistry);
+
+	@Test
+	void 건너뛴_캔들을_다음_캔들_전에_채워_빠짐없이_반영() {
+		when(candleStoreService.load(MARKET, "15")).thenReturn(columns());
+		for (int i = 0; i < 30; i++) {
+			service.apply(closed(i));
+		}
+		// 30은 샤드에 못 넣음. 그보다 앞서 큐에 있던 캔들은 채우지 않고 그대로 반영
+		service.markSkipped(MARKET, "15", at(30));
+		IndicatorSet set = service.apply(closed(31));
+
+		IndicatorSet expected = service.newSet();
+		for (int i = 0; i <= 31; i++) {
+			expected.update(at(i).toEpochMilli(), price(i, 2), price(i, -2), price(i, 0));
+		}
+		assertThat(set.lastTimeMillis()).isEqualTo(at(31).toEpochMilli());
+		assertThat(set.updates()).isEqualTo(32);
+		assertThat(set.snapshot()).isEqualTo(expected.snapshot());
+		assertThat(meterRegistry.get("indicator.catchup.candles").counter().count()).isEqualTo(1.0);
+		// 처음 워밍업 1번 + 채우기 1번
+		verify(candleStoreService, times(2)).load(MARKET, "15");
+	}
+
+	@Test
+	void 건너뛴_캔들보다_앞선_캔들은_채우지_않음() {
+		when(candleStoreService.load(MARKET, "15")).thenReturn(columns());
+		service.apply(closed(0));
+		service.markSkipped(MARKET, "15", at(2));
+		service.apply(closed(1));
+
+		verify(candleStoreService, times(1)).load(MARKET, "15");
+		assertThat(meterRegistry.get("indicator.catchup.candles").counter().count()).isZero();
+	}
+
+	/** candle_cache와 맞춘 열 저장소: 0..CANDLES-1 모두 있음. */
+	private static CandleColumns columns() {
+		long[] time = new long[CANDLES];
+		long[] high = new long[CANDLES];
+		long[] low = new long[CANDLES];
+		long[] close = new long[CANDLES];
+		for (int i = 0; i < CANDLES; i++) {
+			time[i] = at(i).toEpochMilli();
+			high[i] = price(i, 2);
+			low[i] = price(i, -2);
+			close[i] = price(i, 0);
+		}
+		return new CandleColumns(CANDLES, LongBuffer.wrap(time), LongBuffer.wrap(close), LongBuffer.wrap(high),
+			LongBuffer.wrap(low), LongBuffer.wrap(close), LongBuffer.wrap(new long[CANDLES]));
+	}
+
+	private static CandleClosedEvent closed(int i) {
+		BigDecimal close = unscaled(price(i, 0));
+		return new CandleClosedEvent(MARKET, "15", at(i), close, unscaled(price(i, 2)), unscaled(price(i, -2)), close,
+			BigDecimal.ONE, at(i), false);
+	}
+
+	/** 톱니 모양 가격(원 단위 + offset) × 1e8. */
+	private static long price(int i, int offset) {
+		return (1_000L + (i % 7) * 10L - (i % 3) * 5L + offset) * 100_000_000L;
+	}
+
+	private static BigDecimal unscaled(long scaled) {
+		return BigDecimal.valueOf(scaled, 8);
+	}
+
+	private static Instant at(int i) {
+		return T0.plus(M15.multipliedBy(i));
+	}
+}
@@ -0,0 +1,96 @@
+package com.everbit.everbit.strategy.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마켓 샤드의 순서 보장·단일 작성자·역압. SoT: docs/architecture/order-pipeline.md §3.2.5.
+ */
+class MarketShardsTest {
+
+	@Test
+	void 마켓마다_같은_스레드에서_제출_순서대로_처리() throws Exception {
+		MarketShards shards = new MarketShards("test", 4, 64, 1_000, new SimpleMeterRegistry());
+		Map<String, List<Integer>> seen = new ConcurrentHashMap<>();
+		Map<String, String> threads = new ConcurrentHashMap<>();
+		List<String> markets = List.of("KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL", "KRW-DOGE", "KRW-ADA");
+
+		for (int i = 0; i < 200; i++) {
+			for (String market : markets) {
+				int n = i;
+				assertThat(shards.submit(market, () -> {
+					seen.computeIfAbsent(market, m -> new ArrayList<>()).add(n);
+					threads.merge(market, Thread.currentThread().getName(), (a, b) -> a.equals(b) ? a : "MIXED");
+				})).isTrue();
+			}
+		}
+		shards.shutdown(5_000);
+
+		for (String market : markets) {
+			assertThat(seen.get(market)).hasSize(200).isSorted();
+			assertThat(threads.get(market)).isEqualTo("test-shard-" + shards.shardOf(market));
+		}
+	}
+
+	@Test
+	void 샤드가_밀리면_기다렸다가_그래도_차_있으면_버림() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MarketShards shards = new MarketShards("test", 1, 1, 50, registry);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		shards.submit("KRW-BTC", () -> {
+			blocked.countDown();
+			await(release);
+		});
+		assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(shards.submit("KRW-BTC", () -> { })).isTrue();
+		assertThat(shards.submit("KRW-BTC", () -> { })).isFalse();
+
+		assertThat(registry.get("test.shard.backpressure").counter().count()).isEqualTo(1.0);
+		assertThat(registry.get("test.shard.rejected").counter().count()).isEqualTo(1.0);
+		assertThat(registry.get("test.shard.queue").gauge().value()).isEqualTo(1.0);
+		release.countDown();
+		shards.shutdown(1_000);
+	}
+
+	@Test
+	void trySubmit은_샤드가_차_있으면_기다리지_않고_거절() throws Exception {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		MarketShards shards = new MarketShards("test", 1, 1, 10_000, registry);
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		shards.submit("KRW-BTC", () -> {
+			blocked.countDown();
+			await(release);
+		});
+		assertThat(blocked.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(shards.trySubmit("KRW-BTC", () -> { })).isTrue();
+		long started = System.nanoTime();
+		assertThat(shards.trySubmit("KRW-BTC", () -> { })).isFalse();
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1_000);
+		assertThat(registry.get("test.shard.backpressure").counter().count()).isZero();
+		assertThat(registry.get("test.shard.rejected").counter().count()).isEqualTo(1.0);
+		release.countDown();
+		shards.shutdown(1_000);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 배치 지표와 O(1) 지표·스칼라 경로의 일치. SoT: docs/architecture/order-pipeline.md §3.2.2.
+ */
+class BatchIndicatorsTest {
+
+	private static final int SIZE = 1_003;
+
+	private final double[] close = randomWalk(SIZE, 17);
+	private final double[] high = shifted(close, 1.5);
+	private final double[] low = shifted(close, -1.5);
+
+	@Test
+	void EMA_RSI_ATR은_O1_지표와_비트_단위로_같음() {
+		BatchIndicators batch = BatchIndicators.get();
+		double[] ema = batch.ema(close, 12);
+		double[] rsi = batch.rsi(close, 14);
+		double[] atr = batch.atr(high, low, close, 14);
+
+		Ema incrementalEma = new Ema(12);
+		WilderRsi incrementalRsi = new WilderRsi(14);
+		Atr incrementalAtr = new Atr(14);
+		for (int i = 0; i < SIZE; i++) {
+			incrementalEma.update(close[i]);
+			incrementalRsi.update(close[i]);
+			incrementalAtr.update(high[i], low[i], close[i]);
+			assertSameOrNotReady(ema[i], incrementalEma.isReady(), incrementalEma.value());
+			assertSameOrNotReady(rsi[i], incrementalRsi.isReady(), incrementalRsi.value());
+			assertSameOrNotReady(atr[i], incrementalAtr.isReady(), incrementalAtr.value());
+		}
+	}
+
+	@Test
+	void SMA_표준편차는_볼린저와_반올림_차이_안에서_같음() {
+		BatchIndicators batch = BatchIndicators.get();
+		double[] sma = batch.sma(close, 20);
+		double[] std = batch.standardDeviation(close, sma, 20);
+
+		Bollinger bollinger = new Bollinger(20, 2.0);
+		for (int i = 0; i < SIZE; i++) {
+			bollinger.update(close[i]);
+			if (!bollinger.isReady()) {
+				assertThat(sma[i]).isNaN();
+				assertThat(std[i]).isNaN();
+				continue;
+			}
+			assertThat(sma[i]).isCloseTo(bollinger.middle(), within(1e-9));
+			assertThat(std[i]).isCloseTo(bollinger.standardDeviation(), within(1e-9));
+		}
+	}
+
+	@Test
+	void SIMD_경로와_스칼라_경로는_비트_단위로_같음() {
+		BatchIndicators vector = BatchIndicators.get();
+		BatchIndicators scalar = BatchIndicators.scalar();
+		double[] sma = scalar.sma(close, 20);
+
+		assertThat(vector.sma(close, 20)).isEqualTo(sma);
+		assertThat(vector.standardDeviation(close, sma, 20)).isEqualTo(scalar.standardDeviation(close, sma, 20));
+		assertThat(vector.rsi(close, 14)).isEqualTo(scalar.rsi(close, 14));
+		assertThat(vector.atr(high, low, close, 14)).isEqualTo(scalar.atr(high, low, close, 14));
+	}
+
+	@Test
+	void 묶음_계산은_지표별_계산과_같음() {
+		BatchIndicators batch = BatchIndicators.get();
+		BatchIndicators.Series series = batch.series(high, low, close, IndicatorSpec.defaults());
+
+		assertThat(series.sma()).isEqualTo(batch.sma(close, 20));
+		assertThat(series.standardDeviation()).isEqualTo(batch.standardDeviation(close, series.sma(), 20));
+		assertThat(series.ema()).isEqualTo(batch.ema(close, 50));
+		assertThat(series.rsi()).isEqualTo(batch.rsi(close, 14));
+		assertThat(series.atr()).isEqualTo(batch.atr(high, low, close, 14));
+	}
+
+	@Test
+	void 입력이_시드_구간보다_짧으면_전부_NaN() {
+		double[] shortInput = {1, 2, 3};
+
+		assertThat(BatchIndicators.get().sma(shortInput, 5)).containsOnly(Double.NaN);
+		assertThat(BatchIndicators.get().rsi(shortInput, 3)).containsOnly(Double.NaN);
+		assertThat(BatchIndicators.get().atr(shortInput, shortInput, shortInput, 5)).containsOnly(Double.NaN);
+	}
+
+	private static void assertSameOrNotReady(double batch, boolean ready, double incremental) {
+		if (ready) {
+			assertThat(Double.doubleToRawLongBits(batch)).isEqualTo(Double.doubleToRawLongBits(incremental));
+		} else {
+			assertThat(batch).isNaN();
+		}
+	}
+
+	private static double[] shifted(double[] x, double delta) {
+		double[] out = new double[x.length];
+		for (int i = 0; i < x.length; i++) {
+			out[i] = x[i] + delta;
+		}
+		return out;
+	}
+
+	private static double[] randomWalk(int size, long seed) {
+		Random random = new Random(seed);
+		double[] closes = new double[size];
+		double price = 1_000;
+		for (int i = 0; i < size; i++) {
+			// 같은 값이 이어지는 구간(변화 0)도 섞는다
+			price = random.nextInt(5) == 0 ? price : Math.max(10, price + random.nextGaussian() * 5);
+			closes[i] = Math.round(price * 100) / 100.0;
+		}
+		return closes;
+	}
+}
@@ -0,0 +1,167 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * O(1) 지표의 값·스냅샷 복원. SoT: docs/architecture/order-pipeline.md §3.2.1.
+ */
+class IndicatorSetTest {
+
+	private static final long MINUTE = 60_000L;
+
+	@Test
+	void 볼린저는_창_전체로_계산한_평균_표준편차와_같음() {
+		double[] closes = randomWalk(1_000, 7);
+		Bollinger bollinger = new Bollinger(20, 2.0);
+		for (int i = 0; i < closes.length; i++) {
+			bollinger.update(closes[i]);
+			if (i >= 19) {
+				double mean = 0;
+				for (int j = i - 19; j <= i; j++) {
+					mean += closes[j];
+				}
+				mean /= 20;
+				double squares = 0;
+				for (int j = i - 19; j <= i; j++) {
+					squares += (closes[j] - mean) * (closes[j] - mean);
+				}
+				assertThat(bollinger.middle()).isCloseTo(mean, within(1e-6));
+				assertThat(bollinger.standardDeviation()).isCloseTo(Math.sqrt(squares / 20), within(1e-6));
+			}
+		}
+	}
+
+	@Test
+	void RSI와_ATR은_Wilder_정의와_같음() {
+		double[] closes = randomWalk(300, 11);
+		WilderRsi rsi = new WilderRsi(14);
+		Atr atr = new Atr(14);
+		for (int i = 0; i < closes.length; i++) {
+			rsi.update(closes[i]);
+			atr.update(closes[i] + 1, closes[i] - 1, closes[i]);
+		}
+
+		double gain = 0;
+		double loss = 0;
+		double range = 0;
+		for (int i = 1; i <= 14; i++) {
+			double change = closes[i] - closes[i - 1];
+			gain += Math.max(change, 0);
+			loss += Math.max(-change, 0);
+		}
+		gain /= 14;
+		loss /= 14;
+		for (int i = 0; i < 14; i++) {
+			range += trueRange(closes, i);
+		}
+		range /= 14;
+		for (int i = 15; i < closes.length; i++) {
+			double change = closes[i] - closes[i - 1];
+			gain = (gain * 13 + Math.max(change, 0)) / 14;
+			loss = (loss * 13 + Math.max(-change, 0)) / 14;
+		}
+		for (int i = 14; i < closes.length; i++) {
+			range = (range * 13 + trueRange(closes, i)) / 14;
+		}
+
+		assertThat(rsi.isReady()).isTrue();
+		assertThat(rsi.value()).isEqualTo(100 - 100 / (1 + gain / loss));
+		assertThat(atr.value()).isEqualTo(range);
+	}
+
+	@Test
+	void 준비_전에는_isReady_false() {
+		IndicatorSet set = new IndicatorSet(IndicatorSpec.defaults());
+		double[] closes = randomWalk(IndicatorSpec.defaults().warmupCandles(), 3);
+		for (int i = 0; i < closes.length - 1; i++) {
+			feed(set, i, closes[i]);
+		}
+		assertThat(set.isReady()).isFalse();
+
+		feed(set, closes.length - 1, closes[closes.length - 1]);
+		assertThat(set.isReady()).isTrue();
+	}
+
+	@Test
+	void 스냅샷에서_복원하면_이어서_비트_단위로_같은_값() {
+		double[] closes = randomWalk(400, 5);
+		IndicatorSet original = new IndicatorSet(IndicatorSpec.defaults());
+		for (int i = 0; i < 250; i++) {
+			feed(original, i, closes[i]);
+		}
+		IndicatorSet restored = new IndicatorSet(IndicatorSpec.defaults());
+		assertThat(restored.restore(original.snapshot())).isTrue();
+
+		for (int i = 250; i < closes.length; i++) {
+			feed(original, i, closes[i]);
+			feed(restored, i, closes[i]);
+		}
+
+		assertThat(restored.lastTimeMillis()).isEqualTo(original.lastTimeMillis());
+		assertThat(restored.snapshot()).isEqualTo(original.snapshot());
+		assertThat(restored.rsi().value()).isEqualTo(original.rsi().value());
+		assertThat(restored.macd().histogram()).isEqualTo(original.macd().histogram());
+		assertThat(restored.bollinger().percentB()).isEqualTo(original.bollinger().percentB());
+	}
+
+	@Test
+	void 이미_반영한_시각_이하의_캔들은_무시() {
+		IndicatorSet set = new IndicatorSet(IndicatorSpec.defaults());
+		feed(set, 1, 100);
+
+		assertThat(set.update(MINUTE, scaled(200), scaled(200), scaled(200))).isFalse();
+		assertThat(set.update(0, scaled(200), scaled(200), scaled(200))).isFalse();
+		assertThat(set.updates()).isEqualTo(1);
+		assertThat(set.close()).isEqualTo(100);
+	}
+
+	@Test
+	void 다른_구성의_스냅샷은_복원하지_않음() {
+		IndicatorSet set = new IndicatorSet(IndicatorSpec.defaults());
+		feed(set, 1, 100);
+		IndicatorSet other = new IndicatorSet(new IndicatorSpec(14, 12, 26, 9, 30, 2.0, 14, 50));
+
+		assertThat(other.restore(set.snapshot())).isFalse();
+		assertThat(other.updates()).isZero();
+	}
+
+	@Test
+	void BigDecimal_가격은_1e8_고정소수로_반올림() {
+		assertThat(IndicatorSet.scaled(new BigDecimal("95000000"))).isEqualTo(9_500_000_000_000_000L);
+		assertThat(IndicatorSet.scaled(new BigDecimal("0.000000015"))).isEqualTo(2L);
+	}
+
+	private static void feed(IndicatorSet set, int minute, double close) {
+		set.update((minute + 1) * MINUTE, scaled(close + 1), scaled(close - 1), scaled(close));
+	}
+
+	private static long scaled(double price) {
+		return Math.round(price * IndicatorSet.PRICE_SCALE);
+	}
+
+	private static double trueRange(double[] closes, int i) {
+		if (i == 0) {
+			return 2;
+		}
+		double high = closes[i] + 1;
+		double low = closes[i] - 1;
+		return Math.max(high - low, Math.max(Math.abs(high - closes[i - 1]), Math.abs(low - closes[i - 1])));
+	}
+
+	private static double[] randomWalk(int size, long seed) {
+		Random random = new Random(seed);
+		double[] closes = new double[size];
+		double price = 1_000;
+		for (int i = 0; i < size; i++) {
+			price = Math.max(10, price + random.nextGaussian() * 5);
+			closes[i] = Math.round(price * 100) / 100.0;
+		}
+		return closes;
+	}
+}
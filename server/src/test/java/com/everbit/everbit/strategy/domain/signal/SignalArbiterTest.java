@@ -0,0 +1,134 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.signal.SignalArbiter.Arbitration;
+import com.everbit.everbit.trade.domain.SignalSide;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 국면 라우팅·신호 중재. SoT: docs/architecture/order-pipeline.md §3.2.4.
+ */
+class SignalArbiterTest {
+
+	private static final long NOW = 1_700_000_000_000L;
+	private static final RegimeAssessment TRENDING = new RegimeAssessment(0.8, 0.2, 0);
+
+	private long nextId;
+
+	@Test
+	void 보유_상한이_모자라면_강한_신호부터_채택() {
+		PositionBook positions = new PositionBook(60_000);
+		List<Arbitration> result = SignalArbiter.arbitrate(List.of(
+			buy("KRW-BTC", "0.9", 0, 2),
+			buy("KRW-ETH", "0.7", 0, 2),
+			buy("KRW-XRP", "0.8", 0, 2)), positions, NOW);
+
+		assertThat(result).extracting(a -> a.candidate().market(), Arbitration::outcome).containsExactly(
+			tuple("KRW-BTC", ArbitrationOutcome.ACCEPTED),
+			tuple("KRW-XRP", ArbitrationOutcome.ACCEPTED),
+			tuple("KRW-ETH", ArbitrationOutcome.MAX_OPEN_MARKETS));
+		assertThat(positions.openCount(1L, NOW)).isEqualTo(2);
+	}
+
+	@Test
+	void 강도가_같으면_마켓_우선순위가_높은_쪽() {
+		List<Arbitration> result = SignalArbiter.arbitrate(List.of(
+			buy("KRW-ETH", "0.8", 1, 1),
+			buy("KRW-BTC", "0.8", 5, 1)), new PositionBook(60_000), NOW);
+
+		assertThat(result.get(0).candidate().market()).isEqualTo("KRW-BTC");
+		assertThat(result.get(0).accepted()).isTrue();
+		assertThat(result.get(1).outcome()).isEqualTo(ArbitrationOutcome.MAX_OPEN_MARKETS);
+	}
+
+	@Test
+	void 같은_마켓은_한_전략만_소유() {
+		PositionBook positions = new PositionBook(60_000);
+		SignalCandidate strong = buy("KRW-BTC", "0.9", 0, 2);
+		SignalCandidate weak = candidate("STRUCTURE_LIFT", "KRW-BTC", SignalSide.BUY, "0.6", 0, 2, 0);
+
+		List<Arbitration> first = SignalArbiter.arbitrate(List.of(weak, strong), positions, NOW);
+		assertThat(first).extracting(Arbitration::outcome)
+			.containsExactly(ArbitrationOutcome.ACCEPTED, ArbitrationOutcome.LOWER_RANK);
+
+		List<Arbitration> next = SignalArbiter.arbitrate(List.of(
+			candidate("STRUCTURE_LIFT", "KRW-BTC", SignalSide.SELL, "0.9", 0, 2, 0),
+			candidate("PRESSURE_SURGE", "KRW-ETH", SignalSide.SELL, "0.9", 0, 2, 0),
+			candidate("EXTREME_FLIP", "KRW-BTC", SignalSide.SELL, "0.5", 0, 2, 0)), positions, NOW + 1);
+		assertThat(next).extracting(Arbitration::outcome).containsExactly(
+			ArbitrationOutcome.MARKET_OWNED, ArbitrationOutcome.NO_POSITION, ArbitrationOutcome.ACCEPTED);
+	}
+
+	@Test
+	void 국면_강도가_모자라면_버리고_다음_신호를_본다() {
+		List<Arbitration> result = SignalArbiter.arbitrate(List.of(
+			candidate("EXTREME_FLIP", "KRW-BTC", SignalSide.BUY, "0.9", 0, 2, 0.5),
+			candidate("STRUCTURE_LIFT", "KRW-BTC", SignalSide.BUY, "0.6", 0, 2, 0.5)), new PositionBook(60_000), NOW);
+
+		assertThat(result).extracting(Arbitration::outcome)
+			.containsExactly(ArbitrationOutcome.REGIME_MISMATCH, ArbitrationOutcome.ACCEPTED);
+	}
+
+	@Test
+	void 예약은_만료되거나_포지션으로_바뀐다() {
+		PositionBook positions = new PositionBook(60_000);
+		positions.reserve(1L, "KRW-BTC", "EXTREME_FLIP", NOW);
+		positions.reserve(1L, "KRW-ETH", "EXTREME_FLIP", NOW);
+
+		positions.sync(Map.of(1L, Set.of("KRW-BTC", "KRW-SOL")), NOW + 60_000);
+
+		assertThat(positions.holds(1L, "KRW-ETH", NOW + 60_000)).isFalse();
+		assertThat(positions.holder(1L, "KRW-BTC", NOW + 60_000)).isEqualTo("EXTREME_FLIP");
+		assertThat(positions.holder(1L, "KRW-SOL", NOW + 60_000)).isNull();
+		assertThat(positions.openCount(1L, NOW + 60_000)).isEqualTo(2);
+	}
+
+	@Test
+	void 채택_후_쿨다운_동안_같은_마켓_BUY는_막고_다른_마켓은_받는다() {
+		PositionBook positions = new PositionBook(60_000);
+		positions.sync(Map.of(1L, Set.of("KRW-BTC")), NOW);
+		List<Arbitration> exit = SignalArbiter.arbitrate(List.of(
+			candidate("EXTREME_FLIP", "KRW-BTC", SignalSide.SELL, "0.9", 0, 2, 0, 30)), positions, NOW);
+		assertThat(exit.get(0).accepted()).isTrue();
+		positions.sync(Map.of(), NOW + 1);
+
+		List<Arbitration> during = SignalArbiter.arbitrate(List.of(
+			buy("KRW-BTC", "0.9", 0, 2),
+			buy("KRW-ETH", "0.8", 0, 2)), positions, NOW + 29 * 60_000L);
+		assertThat(during).extracting(Arbitration::outcome)
+			.containsExactly(ArbitrationOutcome.COOLDOWN, ArbitrationOutcome.ACCEPTED);
+
+		List<Arbitration> after = SignalArbiter.arbitrate(List.of(buy("KRW-BTC", "0.9", 0, 2)), positions,
+			NOW + 30 * 60_000L);
+		assertThat(after.get(0).accepted()).isTrue();
+	}
+
+	private SignalCandidate buy(String market, String strength, int priority, int maxOpenMarkets) {
+		return candidate("EXTREME_FLIP", market, SignalSide.BUY, strength, priority, maxOpenMarkets, 0);
+	}
+
+	private SignalCandidate candidate(String strategyKey, String market, SignalSide side, String strength, int priority,
+		int maxOpenMarkets, double regimeMinStrength) {
+		return candidate(strategyKey, market, side, strength, priority, maxOpenMarkets, regimeMinStrength, 0);
+	}
+
+	private SignalCandidate candidate(String strategyKey, String market, SignalSide side, String strength, int priority,
+		int maxOpenMarkets, double regimeMinStrength, int cooldownMinutes) {
+		Regime required = switch (strategyKey) {
+			case "EXTREME_FLIP" -> Regime.RANGE;
+			case "STRUCTURE_LIFT" -> Regime.TREND;
+			default -> Regime.BREAKOUT;
+		};
+		return new SignalCandidate(++nextId, 1L, strategyKey, market, "15", Instant.ofEpochMilli(NOW), side,
+			new BigDecimal(strength), "TEST", priority, maxOpenMarkets, cooldownMinutes, required,
+			regimeMinStrength, TRENDING);
+	}
+}
@@ -0,0 +1,80 @@
+package com.everbit.everbit.strategy.domain.signal;
+
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSet;
+import com.everbit.everbit.strategy.domain.indicator.IndicatorSpec;
+import com.everbit.everbit.trade.domain.SignalSide;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 전략 파라미터 파싱·평가. SoT: docs/architecture/order-pipeline.md §3.2.3.
+ */
+class StrategyTest {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final long MINUTE = 60_000L;
+
+	@Test
+	void 공통_파라미터는_빈_설정이면_기본값() throws Exception {
+		StrategyParameters parameters = StrategyParameters.parse(MAPPER.readTree("{}"));
+
+		assertThat(parameters.timeframes()).isEqualTo(Set.of("15"));
+		assertThat(parameters.maxOpenMarkets()).isEqualTo(2);
+		assertThat(parameters.minSignalStrength()).isZero();
+	}
+
+	@Test
+	void 범위를_벗어난_파라미터는_파싱_실패() throws Exception {
+		assertThatThrownBy(() -> new ExtremeFlipStrategy().parse(MAPPER.readTree("{\"oversoldRsi\":80}")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> StrategyParameters.parse(MAPPER.readTree("{\"entry\":{\"minSignalStrength\":1.5}}")))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void 급락하면_EXTREME_FLIP은_BUY_PRESSURE_SURGE는_SELL() throws Exception {
+		CompiledStrategy<?> flip = CompiledStrategy.compile(new ExtremeFlipStrategy(), MAPPER.readTree("{}"));
+		CompiledStrategy<?> surge = CompiledStrategy.compile(new PressureSurgeStrategy(), MAPPER.readTree("{}"));
+		IndicatorSet indicators = new IndicatorSet(IndicatorSpec.defaults());
+		Random random = new Random(3);
+		long time = 0;
+		for (int i = 0; i < 110; i++) {
+			update(indicators, time += MINUTE, 100 * (1 + (random.nextDouble() - 0.5) * 0.004));
+			assertThat(flip.evaluate(indicators)).isNull();
+		}
+
+		update(indicators, time + MINUTE, 97);
+
+		StrategyDecision buy = flip.evaluate(indicators);
+		assertThat(buy.side()).isEqualTo(SignalSide.BUY);
+		assertThat(buy.reasonCode()).isEqualTo("RSI_OVERSOLD_BELOW_BAND");
+		assertThat(buy.strength()).isBetween(0.5, 1.0);
+		StrategyDecision sell = surge.evaluate(indicators);
+		assertThat(sell.side()).isEqualTo(SignalSide.SELL);
+		assertThat(sell.reasonCode()).isEqualTo("BAND_BREAKOUT_DOWN");
+	}
+
+	@Test
+	void 지표가_준비되기_전에는_신호_없음() throws Exception {
+		IndicatorSet indicators = new IndicatorSet(IndicatorSpec.defaults());
+		update(indicators, MINUTE, 100);
+		update(indicators, 2 * MINUTE, 50);
+
+		for (Strategy<?> strategy : new Strategy<?>[] {
+			new ExtremeFlipStrategy(), new StructureLiftStrategy(), new PressureSurgeStrategy()}) {
+			assertThat(CompiledStrategy.compile(strategy, MAPPER.readTree("{}")).evaluate(indicators)).isNull();
+		}
+	}
+
+	private static void update(IndicatorSet indicators, long time, double close) {
+		long scaled = IndicatorSet.scaled(BigDecimal.valueOf(close));
+		indicators.update(time, scaled + 1_000_000, scaled - 1_000_000, scaled);
+	}
+}
@@ -0,0 +1,52 @@
+package com.everbit.everbit.trade.application;
+
+import com.everbit.everbit.integrations.upbit.dto.AccountResponse;
+import com.everbit.everbit.trade.infrastructure.UpbitPrivateFrame;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 잔고 스냅샷과 myAsset 증분의 순서 판단(로컬 시계 기준). SoT: docs/integrations/upbit.md §7.4.
+ */
+class AccountBalanceBookTest {
+
+	private static final Long OWNER = 1L;
+	private static final Instant REQUESTED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+	private final AccountBalanceBook book = new AccountBalanceBook();
+
+	@Test
+	void 스냅샷_요청_뒤에_받은_myAsset은_서버_시각이_느려도_스냅샷이_덮지_않음() {
+		// 서버 시각이 로컬보다 10초 늦지만 요청 뒤에 받은 증분
+		book.applyAssets(OWNER, asset("KRW", "900", REQUESTED_AT.minusSeconds(10)), REQUESTED_AT.plusMillis(50));
+		book.applySnapshot(OWNER, List.of(account("KRW", "1000")), REQUESTED_AT);
+
+		assertThat(book.balance(OWNER, "KRW")).get()
+			.extracting(AccountBalanceBook.Balance::balance).isEqualTo(new BigDecimal("900"));
+	}
+
+	@Test
+	void 스냅샷_요청_전에_받은_myAsset은_서버_시각이_빨라도_스냅샷으로_교체() {
+		// 서버 시각이 로컬보다 10초 빠르지만 요청 전에 받은 증분
+		book.applyAssets(OWNER, asset("KRW", "900", REQUESTED_AT.plusSeconds(10)), REQUESTED_AT.minus(Duration.ofMillis(50)));
+		book.applySnapshot(OWNER, List.of(account("KRW", "1000")), REQUESTED_AT);
+
+		assertThat(book.balance(OWNER, "KRW")).get()
+			.extracting(AccountBalanceBook.Balance::balance).isEqualTo(new BigDecimal("1000"));
+	}
+
+	private static UpbitPrivateFrame.MyAsset asset(String currency, String balance, Instant assetTime) {
+		return new UpbitPrivateFrame.MyAsset(
+			List.of(new UpbitPrivateFrame.Asset(currency, new BigDecimal(balance), BigDecimal.ZERO)), assetTime);
+	}
+
+	private static AccountResponse account(String currency, String balance) {
+		return new AccountResponse(currency, balance, "0", "0", false, "KRW");
+	}
+}
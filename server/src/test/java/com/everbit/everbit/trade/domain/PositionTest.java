@@ -0,0 +1,41 @@
+package com.everbit.everbit.trade.domain;
+
+import com.everbit.everbit.user.domain.AppUser;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 체결 반영 시 포지션 수량/평균단가 계산 검증. SoT: docs/architecture/data-model.md §2.14.
+ */
+class PositionTest {
+
+	private final AppUser owner = AppUser.create("kakao-1", null);
+
+	@Test
+	void 매수_체결은_수량_가중_평균단가로_합침() {
+		Position position = Position.flat(owner, "KRW-BTC");
+
+		position.applyFill(true, new BigDecimal("100"), new BigDecimal("1"));
+		position.applyFill(true, new BigDecimal("130"), new BigDecimal("2"));
+
+		assertThat(position.getStatus()).isEqualTo(PositionStatus.OPEN);
+		assertThat(position.getQuantity()).isEqualByComparingTo("3");
+		assertThat(position.getAvgPrice()).isEqualByComparingTo("120");
+	}
+
+	@Test
+	void 매도_체결은_평균단가를_유지하고_전량이면_FLAT() {
+		Position position = Position.open(owner, "KRW-BTC", new BigDecimal("3"), new BigDecimal("120"));
+
+		position.applyFill(false, new BigDecimal("150"), new BigDecimal("1"));
+		assertThat(position.getQuantity()).isEqualByComparingTo("2");
+		assertThat(position.getAvgPrice()).isEqualByComparingTo("120");
+
+		position.applyFill(false, new BigDecimal("150"), new BigDecimal("2.5"));
+		assertThat(position.getStatus()).isEqualTo(PositionStatus.FLAT);
+		assertThat(position.getQuantity()).isEqualByComparingTo("0");
+	}
+}
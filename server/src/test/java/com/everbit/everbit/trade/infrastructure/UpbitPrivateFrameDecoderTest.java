@@ -0,0 +1,64 @@
+package com.everbit.everbit.trade.infrastructure;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * private WS SIMPLE 포맷 프레임 디코딩 검증. SoT: docs/integrations/upbit.md §7.3.
+ */
+class UpbitPrivateFrameDecoderTest {
+
+	private final UpbitPrivateFrameDecoder decoder = new UpbitPrivateFrameDecoder();
+
+	@Test
+	void myOrder_체결_프레임은_trade_uuid와_체결값을_BigDecimal로_읽음() throws Exception {
+		UpbitPrivateFrame frame = decode("""
+			{"ty":"myOrder","cd":"KRW-BTC","uid":"ac2dc2a3-fce9-40a2-a4f6-5987c25c438f","ab":"BID","ot":"limit",
+			 "s":"trade","tuid":"68315169-fba4-4175-ade3-aff14a616657","p":95000000.0,"v":0.00012345,"ev":0.00012345,
+			 "tf":5.86,"ttms":1700000000123,"tms":1700000000150,"st":"REALTIME"}
+			""");
+
+		assertThat(frame).isInstanceOf(UpbitPrivateFrame.MyOrder.class);
+		UpbitPrivateFrame.MyOrder order = (UpbitPrivateFrame.MyOrder) frame;
+		assertThat(order.isTrade()).isTrue();
+		assertThat(order.upbitUuid()).isEqualTo(UUID.fromString("ac2dc2a3-fce9-40a2-a4f6-5987c25c438f"));
+		assertThat(order.tradeUuid()).isEqualTo(UUID.fromString("68315169-fba4-4175-ade3-aff14a616657"));
+		assertThat(order.volume()).isEqualByComparingTo(new BigDecimal("0.00012345"));
+		assertThat(order.price()).isEqualByComparingTo(new BigDecimal("95000000"));
+		assertThat(order.tradeFee()).isEqualByComparingTo(new BigDecimal("5.86"));
+		assertThat(order.tradeTime()).isEqualTo(Instant.ofEpochMilli(1_700_000_000_123L));
+	}
+
+	@Test
+	void myAsset_프레임은_화폐별_잔고를_읽음() throws Exception {
+		UpbitPrivateFrame frame = decode("""
+			{"ty":"myAsset","ast":[{"cu":"KRW","b":1000000.5,"l":0},{"cu":"BTC","b":0.1,"l":0.02}],
+			 "asttms":1700000000200,"tms":1700000000210,"st":"REALTIME"}
+			""");
+
+		assertThat(frame).isInstanceOf(UpbitPrivateFrame.MyAsset.class);
+		UpbitPrivateFrame.MyAsset asset = (UpbitPrivateFrame.MyAsset) frame;
+		assertThat(asset.assets()).hasSize(2);
+		assertThat(asset.assets().get(1).currency()).isEqualTo("BTC");
+		assertThat(asset.assets().get(1).locked()).isEqualByComparingTo(new BigDecimal("0.02"));
+		assertThat(asset.assetTime()).isEqualTo(Instant.ofEpochMilli(1_700_000_000_200L));
+	}
+
+	@Test
+	void 오류_응답과_필수값_없는_주문은_건너뜀() throws Exception {
+		assertThat(decode("{\"error\":{\"name\":\"INVALID_AUTH\",\"message\":\"...\"}}")).isNull();
+		assertThat(decode("{\"ty\":\"myOrder\",\"cd\":\"KRW-BTC\",\"uid\":\"not-a-uuid\",\"ab\":\"BID\",\"ot\":\"limit\",\"s\":\"wait\"}"))
+			.isNull();
+	}
+
+	private UpbitPrivateFrame decode(String json) throws Exception {
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+		return decoder.decode(bytes, 0, bytes.length);
+	}
+}
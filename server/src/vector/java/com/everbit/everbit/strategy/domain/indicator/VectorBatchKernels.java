@@ -0,0 +1,102 @@
+package com.everbit.everbit.strategy.domain.indicator;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link BatchKernels} SIMD 구현(jdk.incubator.vector). 이웃한 출력 L개(레인 수)를 한 벡터로 계산한다.
+ * 창 합은 레인 사이 리덕션 없이 창 안 위치별로 벡터를 더하므로 레인마다 스칼라와 같은 순서의 덧셈이 된다.
+ * FMA는 쓰지 않는다(스칼라 Java 연산과 비트 단위로 맞추기 위해). 남는 꼬리는 {@link ScalarBatchKernels}로 계산한다.
+ * 모듈이 없는 런타임에서 이 클래스를 읽지 않도록 {@link BatchIndicators}가 리플렉션으로만 만든다.
+ */
+final class VectorBatchKernels implements BatchKernels {
+
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+	VectorBatchKernels() {
+		if (SPECIES.length() < 2) {
+			throw new UnsupportedOperationException("No SIMD lanes for double: " + SPECIES);
+		}
+	}
+
+	@Override
+	public void windowMean(double[] x, int period, double[] out) {
+		int first = period - 1;
+		int i = first;
+		int bound = first + SPECIES.loopBound(Math.max(0, out.length - first));
+		for (; i < bound; i += SPECIES.length()) {
+			DoubleVector sum = DoubleVector.zero(SPECIES);
+			for (int j = i - first; j <= i; j++) {
+				sum = sum.add(DoubleVector.fromArray(SPECIES, x, j));
+			}
+			sum.div(period).intoArray(out, i);
+		}
+		ScalarBatchKernels.windowMean(x, period, out, i);
+	}
+
+	@Override
+	public void windowStd(double[] x, double[] mean, int period, double[] out) {
+		int first = period - 1;
+		int i = first;
+		int bound = first + SPECIES.loopBound(Math.max(0, out.length - first));
+		for (; i < bound; i += SPECIES.length()) {
+			DoubleVector m = DoubleVector.fromArray(SPECIES, mean, i);
+			DoubleVector squares = DoubleVector.zero(SPECIES);
+			for (int j = i - first; j <= i; j++) {
+				DoubleVector d = DoubleVector.fromArray(SPECIES, x, j).sub(m);
+				squares = squares.add(d.mul(d));
+			}
+			squares.div(period).lanewise(VectorOperators.SQRT).intoArray(out, i);
+		}
+		ScalarBatchKernels.windowStd(x, mean, period, out, i);
+	}
+
+	@Override
+	public void changes(double[] close, double[] gain, double[] loss) {
+		int i = 1;
+		int bound = 1 + SPECIES.loopBound(Math.max(0, close.length - 1));
+		for (; i < bound; i += SPECIES.length()) {
+			DoubleVector change = DoubleVector.fromArray(SPECIES, close, i).sub(DoubleVector.fromArray(SPECIES, close, i - 1));
+			change.max(0).intoArray(gain, i);
+			change.neg().max(0).intoArray(loss, i);
+		}
+		ScalarBatchKernels.changes(close, gain, loss, i);
+	}
+
+	@Override
+	public void trueRange(double[] high, double[] low, double[] close, double[] out) {
+		if (out.length == 0) {
+			return;
+		}
+		out[0] = high[0] - low[0];
+		int i = 1;
+		int bound = 1 + SPECIES.loopBound(out.length - 1);
+		for (; i < bound; i += SPECIES.length()) {
+			DoubleVector h = DoubleVector.fromArray(SPECIES, high, i);
+			DoubleVector l = DoubleVector.fromArray(SPECIES, low, i);
+			DoubleVector previous = DoubleVector.fromArray(SPECIES, close, i - 1);
+			DoubleVector fromPrevious = h.sub(previous).abs().max(l.sub(previous).abs());
+			h.sub(l).max(fromPrevious).intoArray(out, i);
+		}
+		ScalarBatchKernels.trueRange(high, low, close, out, i);
+	}
+
+	@Override
+	public void rsi(double[] averageGain, double[] averageLoss, int from, double[] out) {
+		int i = from;
+		int bound = from + SPECIES.loopBound(Math.max(0, out.length - from));
+		DoubleVector fifty = DoubleVector.broadcast(SPECIES, 50);
+		DoubleVector hundred = DoubleVector.broadcast(SPECIES, 100);
+		for (; i < bound; i += SPECIES.length()) {
+			DoubleVector gain = DoubleVector.fromArray(SPECIES, averageGain, i);
+			DoubleVector loss = DoubleVector.fromArray(SPECIES, averageLoss, i);
+			DoubleVector value = hundred.sub(hundred.div(gain.div(loss).add(1)));
+			VectorMask<Double> flat = loss.eq(0);
+			DoubleVector bounded = hundred.blend(fifty, gain.eq(0));
+			value.blend(bounded, flat).intoArray(out, i);
+		}
+		ScalarBatchKernels.INSTANCE.rsi(averageGain, averageLoss, i, out);
+	}
+}